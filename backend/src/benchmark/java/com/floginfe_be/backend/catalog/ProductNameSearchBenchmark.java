@@ -0,0 +1,166 @@
+package com.floginfe_be.backend.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.event.ProductState;
+import com.floginfe_be.backend.util.SearchText;
+
+/**
+ * Compares the name search through {@link ProductNameIndex} (trigram lookup,
+ * then {@code id IN (...)}) with the plain {@code LIKE '%term%'} scan of the
+ * folded {@code search_name} column over an in-memory H2 table.
+ * <p>
+ * Compiled and run only under the {@code benchmark} profile:
+ * {@code mvn -P benchmark test -Dtest=ProductNameSearchBenchmark [-Dbenchmark.rows=1000000]}
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("Product Name Search - Trigram Index vs SQL LIKE Benchmark")
+class ProductNameSearchBenchmark {
+
+	private static final String[] BRANDS = { "Dell", "HP", "Asus", "Lenovo", "Acer", "Apple", "Samsung", "Xiaomi",
+			"Sony", "LG", "Oppo", "Logitech", "Canon", "Epson", "TP-Link" };
+
+	private static final String[] LINES = { "Laptop", "Máy tính", "Điện thoại", "Màn hình", "Tai nghe", "Bàn phím",
+			"Chuột", "Máy in", "Đồng hồ", "Router", "Máy tính bảng", "Loa" };
+
+	private static final String[] TERMS = { "laptop dell", "samsung", "router tp-link", "x-4821", "khong ton tai" };
+
+	private static final int WARMUP = 3;
+
+	private static final int RUNS = 10;
+
+	private final int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+
+	private final ProductNameIndex index = new ProductNameIndex(Integer.MAX_VALUE);
+
+	private Connection connection;
+
+	@BeforeAll
+	void load() throws SQLException {
+		connection = DriverManager.getConnection("jdbc:h2:mem:name-bench;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+		try (Statement st = connection.createStatement()) {
+			st.execute("CREATE TABLE products (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL UNIQUE, "
+					+ "search_name VARCHAR(255) NOT NULL)");
+		}
+
+		Random random = new Random(42);
+		ProductCatalogIndex.Rebuild rebuild = index.rebuild();
+		connection.setAutoCommit(false);
+		try (PreparedStatement insert = connection.prepareStatement(
+				"INSERT INTO products (id, name, search_name) VALUES (?, ?, ?)")) {
+			for (long id = 1; id <= rows; id++) {
+				String name = LINES[random.nextInt(LINES.length)] + " " + BRANDS[random.nextInt(BRANDS.length)]
+						+ " X-" + random.nextInt(10_000) + " #" + id;
+				insert.setLong(1, id);
+				insert.setString(2, name);
+				insert.setString(3, SearchText.fold(name));
+				insert.addBatch();
+				rebuild.add(new ProductState(id, name, 1.0, 1, Categories.LAPTOP));
+				if (id % 10_000 == 0) {
+					insert.executeBatch();
+				}
+			}
+			insert.executeBatch();
+		}
+		connection.commit();
+		rebuild.complete();
+	}
+
+	@AfterAll
+	void close() throws SQLException {
+		connection.close();
+	}
+
+	@Test
+	void compare() throws SQLException {
+		System.out.printf("%n%d products%n%-16s %10s %14s %14s%n", rows, "term", "matches", "LIKE (ms)", "index (ms)");
+		for (String term : TERMS) {
+			String folded = SearchText.fold(term);
+			List<Long> viaLike = like(folded);
+			List<Long> viaIndex = indexed(term);
+			// Both paths match folded names, so they agree on accented terms too
+			assertEquals(viaLike, viaIndex, term);
+
+			double likeMs = median(() -> like(folded));
+			double indexMs = median(() -> indexed(term));
+			System.out.printf("%-16s %10d %14.2f %14.2f%n", term, viaIndex.size(), likeMs, indexMs);
+		}
+	}
+
+	private List<Long> like(String term) throws SQLException {
+		try (PreparedStatement ps = connection
+				.prepareStatement("SELECT id FROM products WHERE search_name LIKE ? ORDER BY id")) {
+			ps.setString(1, "%" + term + "%");
+			return ids(ps);
+		}
+	}
+
+	private List<Long> indexed(String term) throws SQLException {
+		List<Long> ids = index.search(term).orElseThrow();
+		if (ids.isEmpty()) {
+			return ids;
+		}
+		List<Long> result = new ArrayList<>(ids.size());
+		// Chunk the IN list the way a JDBC driver would be fed in practice
+		for (int from = 0; from < ids.size(); from += 1_000) {
+			List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + 1_000));
+			String in = String.join(",", Collections.nCopies(chunk.size(), "?"));
+			try (PreparedStatement ps = connection
+					.prepareStatement("SELECT id FROM products WHERE id IN (" + in + ") ORDER BY id")) {
+				for (int i = 0; i < chunk.size(); i++) {
+					ps.setLong(i + 1, chunk.get(i));
+				}
+				result.addAll(ids(ps));
+			}
+		}
+		return result;
+	}
+
+	private static List<Long> ids(PreparedStatement ps) throws SQLException {
+		List<Long> ids = new ArrayList<>();
+		try (ResultSet rs = ps.executeQuery()) {
+			while (rs.next()) {
+				ids.add(rs.getLong(1));
+			}
+		}
+		return ids;
+	}
+
+	private static double median(Query query) throws SQLException {
+		for (int i = 0; i < WARMUP; i++) {
+			query.run();
+		}
+		double[] times = new double[RUNS];
+		for (int i = 0; i < RUNS; i++) {
+			long start = System.nanoTime();
+			query.run();
+			times[i] = (System.nanoTime() - start) / 1e6;
+		}
+		Arrays.sort(times);
+		return times[RUNS / 2];
+	}
+
+	@FunctionalInterface
+	private interface Query {
+		List<Long> run() throws SQLException;
+	}
+}
@@ -0,0 +1,140 @@
+package com.floginfe_be.backend.controller;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.floginfe_be.backend.BackendApplication;
+
+/**
+ * Throughput and latency of the servlet stack on platform threads against
+ * the {@code virtual-threads} profile. Each mode boots the application on a
+ * random port and is driven by {@code benchmark.concurrency} closed-loop
+ * clients for {@code benchmark.seconds}, after a warm-up of the same length.
+ * Every tenth request is a login (user lookup + BCrypt), the rest are
+ * product listings with an exact count, so most time is spent waiting on
+ * the database. Both modes get the same connection pool, so the difference
+ * is the request threads only.
+ * <p>
+ * Runs against the database configured for the application; numbers against
+ * the in-memory H2 barely block and understate the gap, use MySQL.
+ * <p>
+ * Compiled and run only under the {@code benchmark} profile:
+ * {@code mvn -P benchmark test -Dtest=ThreadingModeBenchmark [-Dbenchmark.concurrency=400] [-Dbenchmark.seconds=15]}
+ */
+@DisplayName("Servlet Stack - Platform vs Virtual Threads Benchmark")
+class ThreadingModeBenchmark {
+
+	private final int concurrency = Integer.getInteger("benchmark.concurrency", 400);
+
+	private final Duration duration = Duration.ofSeconds(Integer.getInteger("benchmark.seconds", 15));
+
+	private final HttpClient client = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.executor(Executors.newVirtualThreadPerTaskExecutor())
+			.build();
+
+	@Test
+	void compare() throws Exception {
+		Result platform = run("platform threads");
+		Result virtual = run("virtual threads", "virtual-threads");
+
+		System.out.printf("%n%d clients, %ds%n%-18s %10s %8s %10s %10s %10s%n", concurrency, duration.toSeconds(),
+				"mode", "req/s", "errors", "p50 (ms)", "p99 (ms)", "max (ms)");
+		for (Result result : List.of(platform, virtual)) {
+			System.out.printf("%-18s %10.0f %8d %10.1f %10.1f %10.1f%n", result.mode, result.throughput(),
+					result.errors, result.percentile(50), result.percentile(99), result.percentile(100));
+		}
+	}
+
+	private Result run(String mode, String... profiles) throws Exception {
+		try (ConfigurableApplicationContext app = new SpringApplicationBuilder(BackendApplication.class)
+				.profiles(profiles)
+				.run("--server.port=0", "--management.server.port=0", "--spring.jpa.show-sql=false",
+						"--app.listing-cache.enabled=false", "--app.auth.rate-limit.enabled=false",
+						"--spring.datasource.hikari.maximum-pool-size=20",
+						"--spring.datasource.hikari.minimum-idle=20")) {
+			int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+			URI listing = URI.create("http://localhost:" + port + "/api/products?page=0&size=20&count=exact");
+			URI login = URI.create("http://localhost:" + port + "/api/auth/login");
+			load(listing, login);
+			return load(listing, login).named(mode);
+		}
+	}
+
+	private Result load(URI listing, URI login) throws Exception {
+		HttpRequest listingRequest = HttpRequest.newBuilder(listing).GET().build();
+		HttpRequest loginRequest = HttpRequest.newBuilder(login)
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"admin\",\"password\":\"abc123\"}"))
+				.build();
+		LongAdder errors = new LongAdder();
+		long deadline = System.nanoTime() + duration.toNanos();
+		List<Future<long[]>> clients = new ArrayList<>(concurrency);
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int c = 0; c < concurrency; c++) {
+				clients.add(executor.submit(() -> {
+					long[] latencies = new long[1024];
+					int count = 0;
+					while (System.nanoTime() < deadline) {
+						HttpRequest request = count % 10 == 9 ? loginRequest : listingRequest;
+						long started = System.nanoTime();
+						try {
+							if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+								errors.increment();
+							}
+						} catch (IOException e) {
+							errors.increment();
+						}
+						if (count == latencies.length) {
+							latencies = Arrays.copyOf(latencies, count * 2);
+						}
+						latencies[count++] = System.nanoTime() - started;
+					}
+					return Arrays.copyOf(latencies, count);
+				}));
+			}
+		}
+		List<long[]> all = new ArrayList<>();
+		for (Future<long[]> c : clients) {
+			all.add(c.get());
+		}
+		long[] latencies = all.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+		return new Result(null, latencies, errors.sum(), duration);
+	}
+
+	private record Result(String mode, long[] latencies, long errors, Duration duration) {
+
+		Result named(String mode) {
+			return new Result(mode, latencies, errors, duration);
+		}
+
+		double throughput() {
+			return latencies.length / (duration.toNanos() / 1e9);
+		}
+
+		double percentile(int p) {
+			if (latencies.length == 0) {
+				return 0;
+			}
+			int index = Math.min(latencies.length - 1, (int) Math.ceil(latencies.length * p / 100.0) - 1);
+			return latencies[Math.max(0, index)] / 1e6;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package com.floginfe_be.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.request.ProductFilterRequest;
+import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.entity.Product;
+import com.floginfe_be.backend.mapper.ProductMapper;
+import com.floginfe_be.backend.spec.ProductSpec;
+
+/**
+ * Latency and allocation per call of the product read path, before and after
+ * DTO projections: a managed-entity query mapped with {@link ProductMapper}
+ * in a read-write transaction, against {@code select new ProductDto(...)}
+ * in a read-only transaction. Runs against the database configured for the
+ * application; rows are inserted under ids starting at {@value #FIRST_ID}
+ * and removed afterwards.
+ * <p>
+ * Allocation is the calling thread's allocated bytes
+ * ({@code com.sun.management.ThreadMXBean}), so it covers Hibernate,
+ * mapping and the JDBC driver, but not work done on other threads.
+ * <p>
+ * Compiled and run only under the {@code benchmark} profile:
+ * {@code mvn -P benchmark test -Dtest=ProductReadPathBenchmark [-Dbenchmark.rows=100000]}
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@DisplayName("Product Read Path - Entity vs DTO Projection Benchmark")
+class ProductReadPathBenchmark {
+
+	private static final long FIRST_ID = 60_000_000L;
+
+	private static final int PAGE_SIZE = 100;
+
+	private static final int WARMUP = 1_000;
+
+	private static final int ITERATIONS = 3_000;
+
+	private final int rows = Integer.getInteger("benchmark.rows", 100_000);
+
+	private final com.sun.management.ThreadMXBean threads =
+			(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	@Autowired
+	private ProductRepository repository;
+
+	@Autowired
+	private ProductMapper mapper;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate readWrite;
+
+	private TransactionTemplate readOnly;
+
+	@BeforeAll
+	void load() {
+		readWrite = new TransactionTemplate(transactionManager);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		List<Object[]> batch = new ArrayList<>();
+		for (int i = 0; i < rows; i++) {
+			batch.add(new Object[] { FIRST_ID + i, "Read bench " + i, 1_000.0 + i % 10_000, i % 1_000,
+					Categories.values()[i % 4].name(), "Sản phẩm dùng cho benchmark đọc dữ liệu",
+					"read bench " + i, "read bench " + i });
+			if (batch.size() == 10_000) {
+				insert(batch);
+			}
+		}
+		insert(batch);
+	}
+
+	private void insert(List<Object[]> batch) {
+		jdbcTemplate.batchUpdate("INSERT INTO products (id, name, price, quantity, category, description, name_key, "
+				+ "search_name, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)", batch);
+		batch.clear();
+	}
+
+	@AfterAll
+	void cleanUp() {
+		jdbcTemplate.update("DELETE FROM products WHERE id >= ?", FIRST_ID);
+	}
+
+	@Test
+	void readPath() {
+		Specification<Product> laptops = ProductSpec.byFilter(
+				ProductFilterRequest.builder().category(Categories.LAPTOP).build());
+		IntFunction<Pageable> page = i -> PageRequest.of(i % 50, PAGE_SIZE, Sort.by("price", "id"));
+		IntFunction<Long> id = i -> FIRST_ID + (i * 7919L) % rows;
+
+		// Same rows either way
+		List<ProductDto> before = readWrite.execute(
+				s -> repository.findAll(laptops, page.apply(3)).map(mapper::toDto).getContent());
+		List<ProductDto> after = readOnly.execute(s -> repository.findAllDtos(laptops, page.apply(3)).getContent());
+		assertEquals(before, after);
+
+		System.out.printf("%n%d products, page size %d%n%-28s %10s %10s %14s%n", rows, PAGE_SIZE, "query",
+				"p50 (us)", "p99 (us)", "alloc/op (KB)");
+		measure("page  entity + mapper (rw)",
+				i -> readWrite.execute(s -> repository.findAll(laptops, page.apply(i)).map(mapper::toDto)));
+		measure("page  dto projection (ro)",
+				i -> readOnly.execute(s -> repository.findAllDtos(laptops, page.apply(i))));
+		measure("byId  entity + mapper (rw)",
+				i -> readWrite.execute(s -> repository.findById(id.apply(i)).map(mapper::toDto)));
+		measure("byId  dto projection (ro)",
+				i -> readOnly.execute(s -> repository.findDtoById(id.apply(i))));
+	}
+
+	private void measure(String label, IntFunction<Object> call) {
+		for (int i = 0; i < WARMUP; i++) {
+			call.apply(i);
+		}
+		long[] nanos = new long[ITERATIONS];
+		long allocated = threads.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < ITERATIONS; i++) {
+			long started = System.nanoTime();
+			call.apply(i);
+			nanos[i] = System.nanoTime() - started;
+		}
+		allocated = threads.getCurrentThreadAllocatedBytes() - allocated;
+		Arrays.sort(nanos);
+		System.out.printf("%-28s %10.0f %10.0f %14.1f%n", label, nanos[ITERATIONS / 2] / 1e3,
+				nanos[ITERATIONS * 99 / 100] / 1e3, allocated / 1024.0 / ITERATIONS);
+	}
+}
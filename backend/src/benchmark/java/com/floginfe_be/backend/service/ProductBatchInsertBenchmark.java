@@ -0,0 +1,84 @@
+package com.floginfe_be.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.dto.response.BatchResponse;
+
+/**
+ * Insert throughput of {@link ProductBatchService#createProducts} compared
+ * with one {@link ProductService#createProduct} call per product, against the
+ * database configured for the application (e.g. a local MySQL from
+ * {@code .env}). SQL logging is turned off so it does not dominate.
+ * <p>
+ * Compiled and run only under the {@code benchmark} profile:
+ * {@code mvn -P benchmark test -Dtest=ProductBatchInsertBenchmark [-Dbenchmark.rows=100000]}
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@DisplayName("Product Batch Insert - Batch API vs Single Inserts Benchmark")
+class ProductBatchInsertBenchmark {
+
+	private static final int BATCH = 5_000;
+
+	private static final int SINGLE = 2_000;
+
+	private final int rows = Integer.getInteger("benchmark.rows", 100_000);
+
+	@Autowired
+	private ProductBatchService batchService;
+
+	@Autowired
+	private ProductService productService;
+
+	@Test
+	void compare() {
+		long prefix = System.currentTimeMillis();
+
+		long started = System.nanoTime();
+		for (int i = 0; i < SINGLE; i++) {
+			productService.createProduct(product("Single " + prefix + "-" + i, i));
+		}
+		double singleRate = SINGLE / seconds(started);
+
+		// The first batches warm up the JIT and the id allocator
+		int inserted = 0;
+		for (int i = 0; i < 4; i++) {
+			inserted += insertBatch("Warmup " + prefix + "-" + i + "-");
+		}
+		started = System.nanoTime();
+		for (int done = 0; done < rows; done += BATCH) {
+			inserted += insertBatch("Batch " + prefix + "-" + done + "-");
+		}
+		double batchRate = (inserted - 4 * BATCH) / seconds(started);
+
+		System.out.printf("%n%-24s %12s%n%-24s %12.0f%n%-24s %12.0f%n", "mode", "inserts/s",
+				"POST /api/products", singleRate, "POST /api/products/batch", batchRate);
+	}
+
+	private int insertBatch(String prefix) {
+		List<ProductRequest> requests = new ArrayList<>(BATCH);
+		for (int i = 0; i < BATCH; i++) {
+			requests.add(product(prefix + i, i));
+		}
+		BatchResponse response = batchService.createProducts(requests);
+		assertEquals(BATCH, response.getSucceeded());
+		return response.getSucceeded();
+	}
+
+	private static ProductRequest product(String name, int i) {
+		return new ProductRequest(name, 1_000.0 + i, i % 1_000, Categories.values()[i % 4], "benchmark");
+	}
+
+	private static double seconds(long started) {
+		return (System.nanoTime() - started) / 1e9;
+	}
+}
@@ -0,0 +1,140 @@
+package com.floginfe_be.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.constants.ExportFormat;
+import com.floginfe_be.backend.dto.request.ProductFilterRequest;
+
+/**
+ * Throughput and heap use of {@link ProductExportService} over a large
+ * catalog, against the database configured for the application. The rows
+ * are inserted with plain JDBC under ids starting at {@value #FIRST_ID} and
+ * removed afterwards.
+ * <p>
+ * Heap is sampled after a forced GC every {@value #SAMPLE_EVERY} rows of a
+ * separate pass, so it shows whether live memory grows with the export.
+ * <p>
+ * Compiled and run only under the {@code benchmark} profile:
+ * {@code mvn -P benchmark test -Dtest=ProductExportBenchmark [-Dbenchmark.rows=1000000]}
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@DisplayName("Product Export - Streaming NDJSON / CSV Benchmark")
+class ProductExportBenchmark {
+
+	private static final long FIRST_ID = 50_000_000L;
+
+	private static final int SAMPLE_EVERY = 100_000;
+
+	private final int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+
+	@Autowired
+	private ProductExportService exportService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeAll
+	void load() {
+		List<Object[]> batch = new ArrayList<>();
+		for (int i = 0; i < rows; i++) {
+			batch.add(new Object[] { FIRST_ID + i, "Export bench " + i, 1_000.0 + i % 10_000, i % 1_000,
+					Categories.values()[i % 4].name(), "Sản phẩm dùng cho benchmark xuất dữ liệu",
+					"export bench " + i, "export bench " + i });
+			if (batch.size() == 10_000) {
+				insert(batch);
+			}
+		}
+		insert(batch);
+	}
+
+	private void insert(List<Object[]> batch) {
+		jdbcTemplate.batchUpdate("INSERT INTO products (id, name, price, quantity, category, description, name_key, "
+				+ "search_name, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)", batch);
+		batch.clear();
+	}
+
+	@AfterAll
+	void cleanUp() {
+		jdbcTemplate.update("DELETE FROM products WHERE id >= ?", FIRST_ID);
+	}
+
+	@Test
+	void export() throws IOException {
+		ProductFilterRequest all = new ProductFilterRequest();
+		System.out.printf("%n%d products%n%-8s %10s %12s %10s %14s%n", rows, "format", "rows", "MB", "seconds",
+				"rows/s");
+		for (ExportFormat format : ExportFormat.values()) {
+			// Warm-up pass
+			exportService.exportProducts(all, format, OutputStream.nullOutputStream());
+
+			CountingStream out = new CountingStream(0);
+			long started = System.nanoTime();
+			long written = exportService.exportProducts(all, format, out);
+			double seconds = (System.nanoTime() - started) / 1e9;
+			assertTrue(written >= rows);
+			System.out.printf("%-8s %10d %12.1f %10.2f %14.0f%n", format.getValue(), written,
+					out.bytes / 1e6, seconds, written / seconds);
+		}
+
+		CountingStream sampling = new CountingStream(SAMPLE_EVERY);
+		long before = usedHeapAfterGc();
+		exportService.exportProducts(all, ExportFormat.NDJSON, sampling);
+		System.out.printf("%nlive heap after GC (MB): before %.1f, during %s%n", before / 1e6, sampling.samples);
+	}
+
+	private static long usedHeapAfterGc() {
+		System.gc();
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/** Discards the export, counting bytes and lines and optionally sampling the heap. */
+	private static final class CountingStream extends OutputStream {
+		private final int sampleEvery;
+
+		private final List<String> samples = new ArrayList<>();
+
+		private long bytes;
+
+		private long lines;
+
+		CountingStream(int sampleEvery) {
+			this.sampleEvery = sampleEvery;
+		}
+
+		@Override
+		public void write(int b) {
+			bytes++;
+			if (b == '\n' && sampleEvery > 0 && ++lines % sampleEvery == 0) {
+				samples.add(String.format("%.1f", usedHeapAfterGc() / 1e6));
+			}
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			if (sampleEvery == 0) {
+				bytes += len;
+				return;
+			}
+			for (int i = off; i < off + len; i++) {
+				write(b[i]);
+			}
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.floginfe_be.backend;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.entity.Product;
+
+/**
+ * Benchmark payloads built from the seed rows in {@code data.sql}, so names
+ * and descriptions carry the same Vietnamese text the application serves.
+ * Rows are repeated with a numbered suffix to reach the requested size.
+ */
+public final class SampleCatalog {
+
+	private static final Pattern ROW = Pattern
+			.compile("\\('((?:[^']|'')*)', (\\d+(?:\\.\\d+)?), (\\d+), '(\\w+)', '((?:[^']|'')*)'");
+
+	private static final List<ProductRequest> SEED = load();
+
+	private SampleCatalog() {
+	}
+
+	public static List<ProductRequest> requests(int count) {
+		List<ProductRequest> requests = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			ProductRequest seed = SEED.get(i % SEED.size());
+			String name = i < SEED.size() ? seed.getName() : seed.getName() + " " + (i / SEED.size() + 1);
+			requests.add(new ProductRequest(name, seed.getPrice(), seed.getQuantity(), seed.getCategory(),
+					seed.getDescription()));
+		}
+		return requests;
+	}
+
+	public static List<Product> products(int count) {
+		List<ProductRequest> requests = requests(count);
+		List<Product> products = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			ProductRequest request = requests.get(i);
+			products.add(new Product(i + 1L, request.getName(), request.getPrice(), request.getQuantity(),
+					request.getCategory(), request.getDescription(), 3L));
+		}
+		return products;
+	}
+
+	private static List<ProductRequest> load() {
+		try (InputStream in = SampleCatalog.class.getResourceAsStream("/data.sql")) {
+			Matcher row = ROW.matcher(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+			List<ProductRequest> seed = new ArrayList<>();
+			while (row.find()) {
+				seed.add(new ProductRequest(unquote(row.group(1)), Double.valueOf(row.group(2)),
+						Integer.valueOf(row.group(3)), Categories.valueOf(row.group(4)), unquote(row.group(5))));
+			}
+			if (seed.isEmpty()) {
+				throw new IllegalStateException("No product rows found in data.sql");
+			}
+			return List.copyOf(seed);
+		} catch (IOException e) {
+			throw new IllegalStateException("Cannot read data.sql", e);
+		}
+	}
+
+	private static String unquote(String value) {
+		return value.replace("''", "'");
+	}
+}
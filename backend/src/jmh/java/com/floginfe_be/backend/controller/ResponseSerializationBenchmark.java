@@ -0,0 +1,62 @@
+package com.floginfe_be.backend.controller;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.floginfe_be.backend.SampleCatalog;
+import com.floginfe_be.backend.dto.response.ApiResponse;
+import com.floginfe_be.backend.dto.response.PagedResponse;
+import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.mapper.ProductMapperImpl;
+import com.floginfe_be.backend.util.PagedResponseMapper;
+
+/**
+ * JSON body of {@code GET /api/products}: an
+ * {@code ApiResponse<PagedResponse<ProductDto>>} written to UTF-8 bytes with
+ * an {@link ObjectMapper} configured like the one Spring MVC uses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+
+	@Param({ "10", "100" })
+	private int pageSize;
+
+	private ObjectMapper objectMapper;
+
+	private ApiResponse<PagedResponse<ProductDto>> response;
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		PagedResponse<ProductDto> page = PagedResponseMapper.fromPage(
+				new PageImpl<>(SampleCatalog.products(pageSize), PageRequest.of(0, pageSize), 1_500),
+				new ProductMapperImpl()::toDto);
+		response = ApiResponse.success("Lấy danh sách sản phẩm thành công", page);
+	}
+
+	@Benchmark
+	public byte[] listingPage() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(response);
+	}
+}
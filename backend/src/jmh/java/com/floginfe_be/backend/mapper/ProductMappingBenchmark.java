@@ -0,0 +1,65 @@
+package com.floginfe_be.backend.mapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.floginfe_be.backend.SampleCatalog;
+import com.floginfe_be.backend.dto.response.PagedResponse;
+import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.entity.Product;
+import com.floginfe_be.backend.util.PagedResponseMapper;
+
+/**
+ * Entity to DTO mapping: one product through the generated
+ * {@link ProductMapper}, and a whole listing page through
+ * {@link PagedResponseMapper#fromPage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductMappingBenchmark {
+
+	@Param({ "10", "100" })
+	private int pageSize;
+
+	private final ProductMapper mapper = new ProductMapperImpl();
+
+	private Product product;
+
+	private Page<Product> page;
+
+	@Setup
+	public void setUp() {
+		List<Product> products = SampleCatalog.products(pageSize);
+		product = products.get(2);
+		page = new PageImpl<>(products, PageRequest.of(3, pageSize), 1_500);
+	}
+
+	@Benchmark
+	public ProductDto toDto() {
+		return mapper.toDto(product);
+	}
+
+	@Benchmark
+	public PagedResponse<ProductDto> fromPage() {
+		return PagedResponseMapper.fromPage(page, mapper::toDto);
+	}
+}
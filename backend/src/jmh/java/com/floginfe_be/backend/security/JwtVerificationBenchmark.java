@@ -0,0 +1,59 @@
+package com.floginfe_be.backend.security;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per-request cost of {@link JwtTokenService#verify}: a token seen within
+ * {@code verified-cache-ttl} (one cache lookup) against a full parse and
+ * HMAC check, as for the first request after login.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+	private JwtTokenService memoized;
+
+	private JwtTokenService uncached;
+
+	private String token;
+
+	@Setup
+	public void setUp() {
+		JwtProperties.Key key = new JwtProperties.Key();
+		key.setId("k1");
+		key.setSecret("YWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWFhYWE=");
+		JwtProperties properties = new JwtProperties();
+		properties.getKeys().add(key);
+		properties.setActiveKeyId("k1");
+		memoized = new JwtTokenService(properties);
+		properties.setVerifiedCacheTtl(Duration.ZERO);
+		uncached = new JwtTokenService(properties);
+		token = memoized.issue("admin").token();
+	}
+
+	@Benchmark
+	public Object verifyMemoized() {
+		return memoized.verify(token);
+	}
+
+	@Benchmark
+	public Object verifyParsed() {
+		return uncached.verify(token);
+	}
+}
@@ -0,0 +1,119 @@
+package com.floginfe_be.backend.security;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.floginfe_be.backend.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * The login rate limiter under credential stuffing, on four threads.
+ * <ul>
+ * <li>{@code distinctKeys}: a {@link TokenBucketTable} sized for one million
+ * keys sees a new key on every call (tens of millions per run), so it is
+ * full and evicting throughout. Its memory is fixed at construction; keys
+ * tracked, evictions and table size are printed after each iteration.</li>
+ * <li>{@code rotatingCredentials}: {@link LoginRateLimiter#acquire} cycling
+ * through 65,536 usernames and addresses, hashing included.</li>
+ * <li>{@code hotKey}: one username and address that are refused almost every
+ * time, the cost of turning away a brute-force loop.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoginRateLimiterBenchmark {
+
+	private static final int NAMES = 1 << 16;
+
+	private final AtomicLong threads = new AtomicLong();
+
+	private TokenBucketTable table;
+
+	private LoginRateLimiter limiter;
+
+	private String[] usernames;
+
+	private String[] addresses;
+
+	@Setup
+	public void setUp() {
+		table = new TokenBucketTable(64, 1_000_000, 5, Duration.ofMinutes(5).toNanos());
+		LoginRateLimitProperties properties = new LoginRateLimitProperties();
+		properties.setUsername(new LoginRateLimitProperties.Limit(5, Duration.ofMinutes(5)));
+		properties.setAddress(new LoginRateLimitProperties.Limit(20, Duration.ofMinutes(1)));
+		limiter = new LoginRateLimiter(properties, new SimpleMeterRegistry(), System::nanoTime);
+		usernames = new String[NAMES];
+		addresses = new String[NAMES];
+		for (int i = 0; i < NAMES; i++) {
+			usernames[i] = "user" + i;
+			addresses[i] = "10." + (i >>> 12) + "." + (i >>> 4 & 0xFF) + "." + (i & 0xF);
+		}
+	}
+
+	@TearDown(Level.Iteration)
+	public void report() {
+		System.out.printf("%n  table: %,d keys tracked, %,d evicted, %,d MB%n", table.size(), table.evictions(),
+				table.memoryBytes() >> 20);
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Caller {
+
+		private long next;
+
+		public long refused;
+
+		@Setup
+		public void setUp(LoginRateLimiterBenchmark benchmark) {
+			// Disjoint key ranges per thread
+			next = benchmark.threads.incrementAndGet() << 48;
+		}
+	}
+
+	@Benchmark
+	public long distinctKeys(Caller caller) {
+		return table.acquire(++caller.next * 0x9E3779B97F4A7C15L, System.nanoTime());
+	}
+
+	@Benchmark
+	public void rotatingCredentials(Caller caller) {
+		int i = (int) ++caller.next;
+		try {
+			limiter.acquire(usernames[i & (NAMES - 1)], addresses[i * 31 & (NAMES - 1)]);
+		} catch (TooManyRequestsException e) {
+			caller.refused++;
+		}
+	}
+
+	@Benchmark
+	public void hotKey(Caller caller) {
+		try {
+			limiter.acquire("admin", "203.0.113.7");
+		} catch (TooManyRequestsException e) {
+			caller.refused++;
+		}
+	}
+}
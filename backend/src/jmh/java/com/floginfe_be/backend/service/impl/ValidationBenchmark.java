@@ -0,0 +1,67 @@
+package com.floginfe_be.backend.service.impl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.floginfe_be.backend.SampleCatalog;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.validation.RequestRules;
+
+/**
+ * Request checks run on every write and login: {@link RequestRules#PRODUCT}
+ * over the seed products (valid and a name that is too short) and
+ * {@link AuthServiceImpl#validateLogin}. Valid requests are expected to
+ * allocate nothing; previously a product write also went through a Bean
+ * Validation pass (about 4 KB/op) and a login compiled two patterns
+ * (about 2.5 KB/op).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+
+	private List<ProductRequest> requests;
+
+	private ProductRequest invalid;
+
+	private AuthServiceImpl authService;
+
+	private int next;
+
+	@Setup
+	public void setUp() {
+		requests = SampleCatalog.requests(64);
+		invalid = new ProductRequest("TV", 100.0, 1, requests.get(0).getCategory(), null);
+		// validateLogin only looks at its arguments
+		authService = new AuthServiceImpl(null, null, null);
+	}
+
+	@Benchmark
+	public String validateProduct() {
+		return RequestRules.PRODUCT.validate(requests.get(next++ & 63));
+	}
+
+	@Benchmark
+	public String validateInvalidProduct() {
+		return RequestRules.PRODUCT.validate(invalid);
+	}
+
+	@Benchmark
+	public String validateLogin() {
+		return authService.validateLogin("admin", "abc123");
+	}
+}
@@ -0,0 +1,93 @@
+package com.floginfe_be.backend.spec;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.H2Dialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.request.ProductFilterRequest;
+import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.entity.Product;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria predicate built by {@link ProductSpec#byFilter} for a listing
+ * request with every filter set, with the search term as {@code LIKE} and
+ * as the {@code id IN (...)} list the name index resolves it to. Uses a
+ * Hibernate session factory over the {@link Product} mapping, without a
+ * database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductSpecBenchmark {
+
+	private SessionFactory sessionFactory;
+
+	private CriteriaBuilder cb;
+
+	private ProductFilterRequest filter;
+
+	private List<Long> searchIds;
+
+	@Setup
+	public void setUp() {
+		sessionFactory = new Configuration()
+				.addAnnotatedClass(Product.class)
+				.setProperty(AvailableSettings.DIALECT, H2Dialect.class.getName())
+				.setProperty(AvailableSettings.ALLOW_METADATA_ON_BOOT, "false")
+				.buildSessionFactory();
+		cb = sessionFactory.getCriteriaBuilder();
+		filter = ProductFilterRequest.builder()
+				.search("Điện thoại")
+				.category(Categories.SMARTPHONE)
+				.minPrice(100_000.0)
+				.maxPrice(2_000_000.0)
+				.minQuantity(1)
+				.maxQuantity(500)
+				.build();
+		searchIds = LongStream.rangeClosed(1, 200).boxed().toList();
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+	}
+
+	@Benchmark
+	public Predicate filterWithLikeSearch() {
+		CriteriaQuery<ProductDto> query = cb.createQuery(ProductDto.class);
+		Root<Product> root = query.from(Product.class);
+		return ProductSpec.byFilter(filter).toPredicate(root, query, cb);
+	}
+
+	@Benchmark
+	public Predicate filterWithIndexedSearch() {
+		CriteriaQuery<ProductDto> query = cb.createQuery(ProductDto.class);
+		Root<Product> root = query.from(Product.class);
+		return ProductSpec.byFilter(filter, searchIds).toPredicate(root, query, cb);
+	}
+}
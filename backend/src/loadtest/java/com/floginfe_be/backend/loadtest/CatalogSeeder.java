@@ -0,0 +1,53 @@
+package com.floginfe_be.backend.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.util.ProductNames;
+import com.floginfe_be.backend.util.SearchText;
+
+/**
+ * Bulk-inserts the {@link SyntheticCatalog} with JDBC batches, bypassing the
+ * service layer, then moves {@code product_seq} past the new ids so products
+ * created during the run do not collide with them.
+ */
+final class CatalogSeeder {
+
+	private static final int BATCH_SIZE = 10_000;
+
+	private final JdbcTemplate jdbcTemplate;
+
+	CatalogSeeder(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/** @return the first seeded id; the rest follow consecutively */
+	long seed(SyntheticCatalog catalog, int count) {
+		long firstId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM products", Long.class);
+		List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+		for (long id = firstId; id < firstId + count; id++) {
+			ProductRequest product = catalog.product(id);
+			batch.add(new Object[] { id, product.getName(), product.getPrice(), product.getQuantity(),
+					product.getCategory().name(), product.getDescription(), ProductNames.key(product.getName()),
+					SearchText.fold(product.getName()) });
+			if (batch.size() == BATCH_SIZE) {
+				insert(batch);
+			}
+		}
+		insert(batch);
+		jdbcTemplate.update("UPDATE product_seq SET next_val = ?", firstId + count);
+		return firstId;
+	}
+
+	private void insert(List<Object[]> batch) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO products (id, name, price, quantity, category, description, name_key, "
+				+ "search_name, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)", batch);
+		batch.clear();
+	}
+}
@@ -0,0 +1,103 @@
+package com.floginfe_be.backend.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * HDR latency histogram (microseconds, 3 significant digits) and outcome
+ * counters per {@link Operation}. Only 2xx responses are recorded as
+ * latency; {@code 409} conflicts from concurrent updates are counted apart
+ * from other errors.
+ */
+final class LatencyReport {
+
+	private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+
+	LatencyReport() {
+		for (Operation operation : Operation.values()) {
+			stats.put(operation, new Stats());
+		}
+	}
+
+	void record(Operation operation, long nanos, int status) {
+		Stats s = stats.get(operation);
+		if (status >= 200 && status < 300) {
+			s.latency.recordValue(Math.max(1, nanos / 1_000));
+		} else if (status == 409) {
+			s.conflicts.increment();
+		} else {
+			s.errors.increment();
+		}
+	}
+
+	void dropped(Operation operation) {
+		stats.get(operation).dropped.increment();
+	}
+
+	void print(PrintStream out, Duration measured) {
+		double seconds = measured.toNanos() / 1e9;
+		out.printf(Locale.ROOT, "%n%-30s %9s %9s %7s %7s %7s %9s %9s %9s %9s %9s%n", "endpoint", "ok", "req/s",
+				"errors", "409", "dropped", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms");
+		Histogram total = new Histogram(3);
+		long errors = 0;
+		long conflicts = 0;
+		long dropped = 0;
+		for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+			Stats s = entry.getValue();
+			if (s.latency.getTotalCount() + s.errors.sum() + s.conflicts.sum() + s.dropped.sum() == 0) {
+				continue;
+			}
+			print(out, entry.getKey().endpoint(), s.latency, s.errors.sum(), s.conflicts.sum(), s.dropped.sum(),
+					seconds);
+			total.add(s.latency);
+			errors += s.errors.sum();
+			conflicts += s.conflicts.sum();
+			dropped += s.dropped.sum();
+		}
+		print(out, "all", total, errors, conflicts, dropped, seconds);
+	}
+
+	private static void print(PrintStream out, String label, Histogram latency, long errors, long conflicts,
+			long dropped, double seconds) {
+		out.printf(Locale.ROOT, "%-30s %9d %9.1f %7d %7d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n", label,
+				latency.getTotalCount(), latency.getTotalCount() / seconds, errors, conflicts, dropped,
+				millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+				latency.getMaxValue() / 1_000.0);
+	}
+
+	private static double millis(Histogram latency, double percentile) {
+		return latency.getValueAtPercentile(percentile) / 1_000.0;
+	}
+
+	/** One {@code <operation>.hgrm} percentile distribution per operation, in milliseconds. */
+	void writeHistograms(Path directory) throws IOException {
+		Files.createDirectories(directory);
+		for (Map.Entry<Operation, Stats> entry : stats.entrySet()) {
+			Histogram latency = entry.getValue().latency;
+			if (latency.getTotalCount() == 0) {
+				continue;
+			}
+			Path file = directory.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+			try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, "UTF-8")) {
+				latency.outputPercentileDistribution(out, 1_000.0);
+			}
+		}
+	}
+
+	private static final class Stats {
+		private final ConcurrentHistogram latency = new ConcurrentHistogram(3);
+		private final LongAdder errors = new LongAdder();
+		private final LongAdder conflicts = new LongAdder();
+		private final LongAdder dropped = new LongAdder();
+	}
+}
@@ -0,0 +1,171 @@
+package com.floginfe_be.backend.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.floginfe_be.backend.BackendApplication;
+import com.floginfe_be.backend.catalog.ProductCatalogMaintainer;
+
+/**
+ * End-to-end load test: boots the application on a random local port over an
+ * in-memory H2 database (MySQL mode, the production schema.sql), seeds a
+ * {@link SyntheticCatalog}, then drives the {@code --mix} of requests and
+ * prints throughput and latency percentiles per endpoint. Needs no network
+ * or outside services. See {@link LoadTestOptions} for the options.
+ * <p>
+ * Run with {@code mvn -P load-test integration-test -Dloadtest.args="--products=100000 --mode=open --rate=2000"}.
+ */
+public final class LoadTest {
+
+	private static final String[] APPLICATION_ARGS = {
+			"--server.port=0",
+			"--management.server.port=0",
+			"--spring.datasource.url=jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+			"--spring.datasource.driver-class-name=org.h2.Driver",
+			"--spring.datasource.username=sa",
+			"--spring.datasource.password=",
+			"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect",
+			"--spring.jpa.hibernate.ddl-auto=validate",
+			"--spring.sql.init.mode=always",
+			"--spring.jpa.show-sql=false",
+			// Every simulated login comes from one address as one of a few users
+			"--app.auth.rate-limit.enabled=false",
+			"--logging.level.root=WARN" };
+
+	private final LoadTestOptions options;
+
+	private final HttpClient client = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.executor(Executors.newVirtualThreadPerTaskExecutor())
+			.build();
+
+	private final LatencyReport report = new LatencyReport();
+
+	private LoadTest(LoadTestOptions options) {
+		this.options = options;
+	}
+
+	public static void main(String[] args) throws Exception {
+		new LoadTest(LoadTestOptions.parse(args)).run();
+	}
+
+	private void run() throws IOException {
+		try (ConfigurableApplicationContext app = new SpringApplicationBuilder(BackendApplication.class)
+				.run(APPLICATION_ARGS)) {
+			SyntheticCatalog catalog = new SyntheticCatalog(options.seed());
+			long started = System.nanoTime();
+			long firstId = new CatalogSeeder(app.getBean(JdbcTemplate.class)).seed(catalog, options.products());
+			app.getBean(ProductCatalogMaintainer.class).rebuild();
+			System.out.printf("Seeded %d products in %d ms%n", options.products(),
+					(System.nanoTime() - started) / 1_000_000);
+
+			int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+			Workload workload = new Workload("http://localhost:" + port, catalog, firstId, options.products(),
+					options.mix());
+			System.out.printf("%s load for %ds after %ds warm-up...%n",
+					options.openLoop() ? "Open-loop, " + options.rate() + " req/s,"
+							: "Closed-loop, " + options.concurrency() + " clients,",
+					options.duration().toSeconds(), options.warmup().toSeconds());
+			if (options.openLoop()) {
+				openLoop(workload);
+			} else {
+				closedLoop(workload);
+			}
+			report.print(System.out, options.duration());
+			Path reportDir = Path.of(options.reportDir());
+			report.writeHistograms(reportDir);
+			System.out.println("Histograms written to " + reportDir.toAbsolutePath());
+		}
+	}
+
+	/** Each client sends its next request when the previous one returns. */
+	private void closedLoop(Workload workload) {
+		long measureFrom = System.nanoTime() + options.warmup().toNanos();
+		long end = measureFrom + options.duration().toNanos();
+		SplittableRandom seeds = new SplittableRandom(options.seed());
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int c = 0; c < options.concurrency(); c++) {
+				SplittableRandom random = seeds.split();
+				clients.submit(() -> {
+					for (long now = System.nanoTime(); now < end; now = System.nanoTime()) {
+						Operation operation = workload.next(random);
+						int status = send(workload.request(operation, random));
+						if (now >= measureFrom) {
+							report.record(operation, System.nanoTime() - now, status);
+						}
+					}
+				});
+			}
+		}
+	}
+
+	/**
+	 * Starts requests on a fixed schedule and times them from when they were
+	 * due, so a stalled server shows up in the percentiles instead of slowing
+	 * the generator down (no coordinated omission).
+	 */
+	private void openLoop(Workload workload) {
+		long interval = 1_000_000_000L / options.rate();
+		long start = System.nanoTime();
+		long measureFrom = start + options.warmup().toNanos();
+		long end = measureFrom + options.duration().toNanos();
+		SplittableRandom random = new SplittableRandom(options.seed());
+		Semaphore inFlight = new Semaphore(options.maxInFlight());
+		try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (long i = 0;; i++) {
+				long due = start + i * interval;
+				if (due >= end) {
+					break;
+				}
+				for (long wait = due - System.nanoTime(); wait > 0; wait = due - System.nanoTime()) {
+					LockSupport.parkNanos(wait);
+				}
+				Operation operation = workload.next(random);
+				HttpRequest request = workload.request(operation, random);
+				if (!inFlight.tryAcquire()) {
+					if (due >= measureFrom) {
+						report.dropped(operation);
+					}
+					continue;
+				}
+				requests.submit(() -> {
+					try {
+						int status = send(request);
+						if (due >= measureFrom) {
+							report.record(operation, System.nanoTime() - due, status);
+						}
+					} finally {
+						inFlight.release();
+					}
+				});
+			}
+		}
+	}
+
+	/** @return the HTTP status, or -1 when the request failed */
+	private int send(HttpRequest request) {
+		try {
+			return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+		} catch (IOException e) {
+			return -1;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return -1;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package com.floginfe_be.backend.loadtest;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Command line of {@link LoadTest}, as {@code --name=value} pairs:
+ * <ul>
+ * <li>{@code products} – synthetic products seeded before the run (default 10000)</li>
+ * <li>{@code mode} – {@code closed}: {@code concurrency} clients each send the next request as soon as the
+ * previous one returns; {@code open}: requests start at a fixed {@code rate} per second whatever the
+ * response times, and latency is measured from the intended start (default closed)</li>
+ * <li>{@code concurrency} – clients in closed mode (default 64)</li>
+ * <li>{@code rate} – requests per second in open mode (default 500)</li>
+ * <li>{@code max-in-flight} – open mode only; requests beyond it are counted as dropped (default 10000)</li>
+ * <li>{@code warmup}, {@code duration} – e.g. {@code 10s}, {@code 2m} (defaults 10s and 30s)</li>
+ * <li>{@code mix} – relative weights per operation (default {@value #DEFAULT_MIX})</li>
+ * <li>{@code seed} – makes the catalog and the request sequence reproducible (default 42)</li>
+ * <li>{@code report-dir} – where the per-operation {@code .hgrm} histograms go (default target/loadtest)</li>
+ * </ul>
+ */
+record LoadTestOptions(int products, boolean openLoop, int concurrency, int rate, int maxInFlight, Duration warmup,
+		Duration duration, Map<Operation, Integer> mix, long seed, String reportDir) {
+
+	static final String DEFAULT_MIX = "read:45,list:20,search:15,update:8,create:2,login:10";
+
+	static LoadTestOptions parse(String[] args) {
+		Map<String, String> values = new LinkedHashMap<>();
+		for (String arg : args) {
+			int eq = arg.indexOf('=');
+			if (!arg.startsWith("--") || eq < 0) {
+				throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+			}
+			values.put(arg.substring(2, eq), arg.substring(eq + 1));
+		}
+		LoadTestOptions options = new LoadTestOptions(
+				Integer.parseInt(values.getOrDefault("products", "10000")),
+				switch (values.getOrDefault("mode", "closed")) {
+					case "closed" -> false;
+					case "open" -> true;
+					default -> throw new IllegalArgumentException("mode must be closed or open");
+				},
+				Integer.parseInt(values.getOrDefault("concurrency", "64")),
+				Integer.parseInt(values.getOrDefault("rate", "500")),
+				Integer.parseInt(values.getOrDefault("max-in-flight", "10000")),
+				DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+				DurationStyle.detectAndParse(values.getOrDefault("duration", "30s")),
+				parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+				Long.parseLong(values.getOrDefault("seed", "42")),
+				values.getOrDefault("report-dir", "target/loadtest"));
+		values.keySet().removeAll(Set.of("products", "mode", "concurrency", "rate", "max-in-flight", "warmup",
+				"duration", "mix", "seed", "report-dir"));
+		if (!values.isEmpty()) {
+			throw new IllegalArgumentException("Unknown options: " + values.keySet());
+		}
+		return options;
+	}
+
+	private static Map<Operation, Integer> parseMix(String mix) {
+		Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+		for (String part : mix.split(",")) {
+			String[] pair = part.trim().split(":");
+			weights.put(Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(pair[1].trim()));
+		}
+		if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+			throw new IllegalArgumentException("mix needs at least one positive weight");
+		}
+		return weights;
+	}
+}
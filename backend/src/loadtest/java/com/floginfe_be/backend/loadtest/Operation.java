@@ -0,0 +1,27 @@
+package com.floginfe_be.backend.loadtest;
+
+/** One kind of request in the load mix, named in {@code --mix} by its lower-case name. */
+enum Operation {
+	/** Product by id; most lookups go to a hot fifth of the catalog. */
+	READ("GET  /api/products/{id}"),
+	/** A listing page filtered by a Zipf-distributed category. */
+	LIST("GET  /api/products?category="),
+	/** A listing page for one of {@link SyntheticCatalog#SEARCH_TERMS}. */
+	SEARCH("GET  /api/products?search="),
+	/** Price change of an existing product, without {@code If-Match}. */
+	UPDATE("PUT  /api/products/{id}"),
+	/** A new product with a name no other request uses. */
+	CREATE("POST /api/products"),
+	/** A successful login, BCrypt check included. */
+	LOGIN("POST /api/auth/login");
+
+	private final String endpoint;
+
+	Operation(String endpoint) {
+		this.endpoint = endpoint;
+	}
+
+	String endpoint() {
+		return endpoint;
+	}
+}
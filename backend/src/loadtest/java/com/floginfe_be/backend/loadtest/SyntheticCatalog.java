@@ -0,0 +1,98 @@
+package com.floginfe_be.backend.loadtest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+
+/**
+ * Products derived from their id and the run seed, so the seeder and the
+ * workload agree on every product without sharing state. Categories follow a
+ * Zipf distribution (laptops and phones dominate, network gear is rare) and
+ * prices are log-normal around a per-category median, which gives listings
+ * and price filters the uneven selectivity of a real shop.
+ */
+final class SyntheticCatalog {
+
+	private static final Categories[] CATEGORIES = Categories.values();
+
+	/** Median price (VND) per {@link Categories} ordinal. */
+	private static final double[] MEDIAN_PRICE = { 18_000_000, 15_000_000, 9_000_000, 8_000_000, 4_000_000,
+			5_000_000, 3_500_000, 600_000, 1_200_000 };
+
+	private static final String[][] TYPES = {
+			{ "Laptop", "Máy tính xách tay" },
+			{ "Máy tính để bàn", "PC đồng bộ" },
+			{ "Điện thoại", "Điện thoại thông minh" },
+			{ "Máy tính bảng", "Tablet" },
+			{ "Đồng hồ thông minh", "Vòng đeo tay" },
+			{ "Màn hình", "Màn hình cong" },
+			{ "Máy in", "Máy in laser" },
+			{ "Bàn phím cơ", "Chuột không dây", "Tai nghe" },
+			{ "Router", "Switch", "Bộ phát Wi-Fi" } };
+
+	private static final String[] BRANDS = { "Dell", "HP", "Lenovo", "Asus", "Acer", "Apple", "Samsung", "Xiaomi",
+			"LG", "Sony", "Canon", "Logitech", "Razer", "TP-Link", "Cisco" };
+
+	private static final String[] DESCRIPTIONS = { "Hiệu năng cao, thiết kế mỏng nhẹ.",
+			"Màn hình sắc nét, camera chất lượng.", "Pin lâu, sạc nhanh.", "Bảo hành chính hãng 24 tháng.",
+			"Tiết kiệm điện, vận hành êm ái." };
+
+	/** Search terms, from common to rare, matching the words used in names. */
+	static final List<String> SEARCH_TERMS = List.of("laptop", "điện thoại", "màn hình", "dell", "samsung",
+			"apple", "máy in", "bàn phím", "lenovo", "router", "tai nghe", "cisco");
+
+	private final long seed;
+
+	private final double[] categoryCdf;
+
+	SyntheticCatalog(long seed) {
+		this.seed = seed;
+		this.categoryCdf = zipfCdf(CATEGORIES.length, 1.1);
+	}
+
+	ProductRequest product(long id) {
+		SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + id);
+		int category = category(random.nextDouble());
+		String[] types = TYPES[category];
+		String name = types[random.nextInt(types.length)] + " " + BRANDS[random.nextInt(BRANDS.length)] + " "
+				+ Long.toString(id, 36).toUpperCase(Locale.ROOT);
+		return new ProductRequest(name, price(category, random), quantity(random), CATEGORIES[category],
+				DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]);
+	}
+
+	/** A category drawn with the same skew as the catalog, for listing filters. */
+	Categories category(SplittableRandom random) {
+		return CATEGORIES[category(random.nextDouble())];
+	}
+
+	private int category(double u) {
+		int index = Arrays.binarySearch(categoryCdf, u);
+		return Math.min(index < 0 ? -index - 1 : index, CATEGORIES.length - 1);
+	}
+
+	static double price(int category, SplittableRandom random) {
+		double price = MEDIAN_PRICE[category] * Math.exp(0.6 * random.nextGaussian());
+		return Math.min(999_000_000, Math.max(10_000, Math.round(price / 1_000) * 1_000.0));
+	}
+
+	private static int quantity(SplittableRandom random) {
+		return (int) Math.min(99_999, Math.exp(3 + 1.5 * random.nextGaussian()));
+	}
+
+	private static double[] zipfCdf(int n, double exponent) {
+		double[] cdf = new double[n];
+		double sum = 0;
+		for (int k = 0; k < n; k++) {
+			sum += 1 / Math.pow(k + 1, exponent);
+			cdf[k] = sum;
+		}
+		for (int k = 0; k < n; k++) {
+			cdf[k] /= sum;
+		}
+		return cdf;
+	}
+}
@@ -0,0 +1,108 @@
+package com.floginfe_be.backend.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+
+/** Picks operations by their {@code --mix} weight and builds the matching request. */
+final class Workload {
+
+	private static final String LOGIN_BODY = "{\"username\":\"admin\",\"password\":\"abc123\"}";
+
+	private final String baseUrl;
+
+	private final SyntheticCatalog catalog;
+
+	private final long firstId;
+
+	private final int count;
+
+	private final Operation[] operations;
+
+	private final int[] cumulativeWeights;
+
+	private final AtomicLong nextCreateId;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	Workload(String baseUrl, SyntheticCatalog catalog, long firstId, int count, Map<Operation, Integer> mix) {
+		this.baseUrl = baseUrl;
+		this.catalog = catalog;
+		this.firstId = firstId;
+		this.count = count;
+		this.operations = mix.keySet().toArray(new Operation[0]);
+		this.cumulativeWeights = new int[operations.length];
+		int sum = 0;
+		for (int i = 0; i < operations.length; i++) {
+			sum += mix.get(operations[i]);
+			cumulativeWeights[i] = sum;
+		}
+		// Created products take the synthetic names of the ids after the seeded ones
+		this.nextCreateId = new AtomicLong(firstId + count);
+	}
+
+	Operation next(SplittableRandom random) {
+		int pick = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+		for (int i = 0;; i++) {
+			if (pick < cumulativeWeights[i]) {
+				return operations[i];
+			}
+		}
+	}
+
+	HttpRequest request(Operation operation, SplittableRandom random) {
+		return switch (operation) {
+			case READ -> get("/api/products/" + hotId(random));
+			case LIST -> get("/api/products?category=" + catalog.category(random) + "&page=" + random.nextInt(5)
+					+ "&size=20");
+			case SEARCH -> get("/api/products?size=20&search=" + URLEncoder.encode(
+					SyntheticCatalog.SEARCH_TERMS.get(skewed(random, SyntheticCatalog.SEARCH_TERMS.size())),
+					StandardCharsets.UTF_8));
+			case UPDATE -> {
+				long id = hotId(random);
+				ProductRequest product = catalog.product(id);
+				product.setPrice(SyntheticCatalog.price(product.getCategory().ordinal(), random));
+				yield json("/api/products/" + id, "PUT", product);
+			}
+			case CREATE -> json("/api/products", "POST", catalog.product(nextCreateId.getAndIncrement()));
+			case LOGIN -> HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+					.header("Content-Type", "application/json")
+					.POST(HttpRequest.BodyPublishers.ofString(LOGIN_BODY))
+					.build();
+		};
+	}
+
+	/** 80% of picks land in the first fifth of the seeded ids. */
+	private long hotId(SplittableRandom random) {
+		int hot = Math.max(1, count / 5);
+		return firstId + (random.nextInt(10) < 8 ? random.nextInt(hot) : random.nextInt(count));
+	}
+
+	/** Index in {@code [0, size)} weighted towards the front. */
+	private static int skewed(SplittableRandom random, int size) {
+		return (int) (size * Math.pow(random.nextDouble(), 2));
+	}
+
+	private HttpRequest get(String path) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+	}
+
+	private HttpRequest json(String path, String method, ProductRequest body) {
+		try {
+			return HttpRequest.newBuilder(URI.create(baseUrl + path))
+					.header("Content-Type", "application/json")
+					.method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+					.build();
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+package com.floginfe_be.backend.cache;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+
+import com.floginfe_be.backend.constants.Categories;
+
+import lombok.NoArgsConstructor;
+
+/**
+ * Canonical form of a {@code GET /api/products} query string, so requests
+ * that bind to the same {@code ProductFilterRequest} and {@code Pageable}
+ * share one cache entry: parameter order does not matter, blank values are
+ * dropped, numbers are normalised ({@code 1e5} = {@code 100000.0}) and page
+ * defaults are filled in.
+ */
+@NoArgsConstructor
+public class ListingQueryKey {
+
+	static final int DEFAULT_PAGE_SIZE = 10;
+
+	static final int MAX_PAGE_SIZE = 2000;
+
+	/**
+	 * The canonical key, or empty when the query has parameters that are
+	 * unknown, repeated or do not parse. Those requests bypass the cache and
+	 * get the controller's normal handling (including its error responses).
+	 */
+	public static Optional<String> of(Map<String, String[]> params) {
+		Map<String, String> canonical = new TreeMap<>();
+		canonical.put("page", "0");
+		canonical.put("size", String.valueOf(DEFAULT_PAGE_SIZE));
+		canonical.put("count", "exact");
+		List<String> sort = new ArrayList<>();
+		try {
+			for (Map.Entry<String, String[]> param : params.entrySet()) {
+				String name = param.getKey();
+				String[] values = param.getValue();
+				if ("sort".equals(name)) {
+					for (String value : values) {
+						if (!value.isBlank()) {
+							sort.add(sortOrder(value));
+						}
+					}
+					continue;
+				}
+				if (values.length != 1) {
+					return Optional.empty();
+				}
+				String value = values[0].trim();
+				switch (name) {
+					// Matching is case-insensitive, but surrounding spaces are part of the LIKE pattern
+					case "search" -> putIfPresent(canonical, name,
+							value.isEmpty() ? "" : values[0].toLowerCase(Locale.ROOT));
+					case "category" -> putIfPresent(canonical, name, value.isEmpty() ? "" : Categories.valueOf(value).name());
+					case "minPrice", "maxPrice" ->
+						putIfPresent(canonical, name, value.isEmpty() ? "" : decimal(value));
+					case "minQuantity", "maxQuantity" ->
+						putIfPresent(canonical, name, value.isEmpty() ? "" : String.valueOf(Integer.parseInt(value)));
+					case "page" -> canonical.put(name, String.valueOf(Math.max(0, Integer.parseInt(value))));
+					case "size" -> canonical.put(name, String.valueOf(pageSize(Integer.parseInt(value))));
+					case "count" -> canonical.put(name, value);
+					case "after" -> canonical.put(name, value);
+					default -> {
+						return Optional.empty();
+					}
+				}
+			}
+		} catch (IllegalArgumentException ex) {
+			// NumberFormatException included: let the controller reject it
+			return Optional.empty();
+		}
+
+		StringJoiner key = new StringJoiner("&");
+		canonical.forEach((name, value) -> key.add(name + "=" + value));
+		sort.forEach(order -> key.add("sort=" + order));
+		return Optional.of(key.toString());
+	}
+
+	private static void putIfPresent(Map<String, String> canonical, String name, String value) {
+		if (!value.isEmpty()) {
+			canonical.put(name, value);
+		}
+	}
+
+	private static String decimal(String value) {
+		BigDecimal number = new BigDecimal(value).stripTrailingZeros();
+		return number.signum() == 0 ? "0" : number.toPlainString();
+	}
+
+	private static int pageSize(int size) {
+		return size < 1 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+	}
+
+	/** {@code "price"} and {@code "price,ASC"} both become {@code "price,asc"}. */
+	private static String sortOrder(String value) {
+		String[] parts = value.trim().split(",");
+		String last = parts[parts.length - 1].trim();
+		if (parts.length > 1 && ("asc".equalsIgnoreCase(last) || "desc".equalsIgnoreCase(last))) {
+			parts[parts.length - 1] = last.toLowerCase(Locale.ROOT);
+			return String.join(",", parts);
+		}
+		return value.trim() + ",asc";
+	}
+}
@@ -0,0 +1,174 @@
+package com.floginfe_be.backend.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.floginfe_be.backend.dto.response.CacheStatsDto;
+import com.floginfe_be.backend.dto.response.ProductDto;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Read-through cache of {@link ProductDto} keyed by product id.
+ * <p>
+ * Ids that do not exist are cached as well (with a shorter TTL) so repeated
+ * lookups of missing products do not reach the database.
+ * <p>
+ * Entries are futures so a miss is loaded by the calling thread outside the
+ * map's bin lock: a synchronous {@code Cache.get(key, loader)} runs the
+ * query inside {@code ConcurrentHashMap.compute}, whose monitor pins a
+ * virtual thread to its carrier for the whole round trip. Concurrent
+ * lookups of the same id still share one load.
+ */
+@Component
+public class ProductCache {
+
+	private final AsyncCache<Long, CachedProduct> async;
+
+	private final Cache<Long, CachedProduct> cache;
+
+	private final LongAdder negativeHits = new LongAdder();
+
+	public ProductCache(@Value("${app.product-cache.maximum-size:10000}") long maximumSize,
+			@Value("${app.product-cache.ttl:10m}") Duration ttl,
+			@Value("${app.product-cache.negative-ttl:30s}") Duration negativeTtl) {
+		this.async = Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfter(new ProductExpiry(ttl.toNanos(), negativeTtl.toNanos()))
+				.recordStats()
+				.buildAsync();
+		this.cache = async.synchronous();
+	}
+
+	/**
+	 * Returns the cached product, loading it with {@code loader} on a miss.
+	 * An empty result means the product does not exist.
+	 */
+	public Optional<ProductDto> get(Long id, Function<Long, Optional<ProductDto>> loader) {
+		CompletableFuture<CachedProduct> loading = new CompletableFuture<>();
+		CompletableFuture<CachedProduct> cached = async.get(id, (key, executor) -> loading);
+		if (cached == loading) {
+			try {
+				loading.complete(new CachedProduct(loader.apply(id).orElse(null)));
+			} catch (RuntimeException | Error e) {
+				// Also drops the entry, so the next lookup retries the load
+				loading.completeExceptionally(e);
+				throw e;
+			}
+		}
+		CachedProduct entry = join(cached);
+		if (entry.product() == null) {
+			negativeHits.increment();
+			return Optional.empty();
+		}
+		return Optional.of(entry.product());
+	}
+
+	/**
+	 * Returns the cached products for {@code ids}, loading all misses with one
+	 * call to {@code loader}. Ids that do not exist are left out of the result.
+	 */
+	public Map<Long, ProductDto> getAll(Collection<Long> ids, Function<Set<Long>, Map<Long, ProductDto>> loader) {
+		// The bulk loader already runs outside any map lock
+		Map<Long, CachedProduct> entries = join(async.getAll(ids, (missing, executor) -> {
+			Map<Long, ProductDto> loaded = loader.apply(Set.copyOf(missing));
+			Map<Long, CachedProduct> result = new HashMap<>();
+			missing.forEach(id -> result.put(id, new CachedProduct(loaded.get(id))));
+			return CompletableFuture.completedFuture(result);
+		}));
+		Map<Long, ProductDto> products = new HashMap<>();
+		entries.forEach((id, entry) -> {
+			if (entry.product() != null) {
+				products.put(id, entry.product());
+			}
+		});
+		return products;
+	}
+
+	/**
+	 * Drops the entry for {@code id} now and, when called inside a transaction,
+	 * once more after commit so a concurrent reader cannot re-cache the old row.
+	 */
+	public void evict(Long id) {
+		if (id == null) {
+			return;
+		}
+		cache.invalidate(id);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					cache.invalidate(id);
+				}
+			});
+		}
+	}
+
+	public void clear() {
+		cache.invalidateAll();
+	}
+
+	public CacheStatsDto stats() {
+		CacheStats stats = cache.stats();
+		return CacheStatsDto.builder()
+				.size(cache.estimatedSize())
+				.hitCount(stats.hitCount())
+				.missCount(stats.missCount())
+				.negativeHitCount(negativeHits.sum())
+				.evictionCount(stats.evictionCount())
+				.hitRate(stats.hitRate())
+				.build();
+	}
+
+	/** Rethrows the loader's own exception rather than a {@link CompletionException}. */
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private record CachedProduct(ProductDto product) {
+	}
+
+	private record ProductExpiry(long ttlNanos, long negativeTtlNanos) implements Expiry<Long, CachedProduct> {
+
+		@Override
+		public long expireAfterCreate(Long key, CachedProduct value, long currentTime) {
+			return value.product() == null ? negativeTtlNanos : ttlNanos;
+		}
+
+		@Override
+		public long expireAfterUpdate(Long key, CachedProduct value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(Long key, CachedProduct value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
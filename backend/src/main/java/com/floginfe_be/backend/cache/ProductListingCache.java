@@ -0,0 +1,90 @@
+package com.floginfe_be.backend.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.floginfe_be.backend.dto.response.CacheStatsDto;
+import com.floginfe_be.backend.catalog.CatalogVersion;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Serialized {@code GET /api/products} responses, stored as JSON plus a
+ * gzip copy and keyed by the {@link ListingQueryKey canonical query} and the
+ * catalog version they were rendered at. Bounded by total bytes.
+ * <p>
+ * Entries are never invalidated explicitly: once the {@link CatalogVersion}
+ * moves (a committed change, or its TTL window rolling over) they can no
+ * longer be looked up, and they expire after the same TTL, so the cache
+ * serves nothing older than {@code app.catalog.version-ttl} even for changes
+ * this instance did not make.
+ */
+@Component
+public class ProductListingCache {
+
+	private final Cache<Key, CachedListing> cache;
+
+	public ProductListingCache(@Value("${app.listing-cache.max-size:16MB}") DataSize maxSize,
+			@Value("${app.catalog.version-ttl:PT30S}") Duration ttl) {
+		this.cache = Caffeine.newBuilder()
+				.maximumWeight(maxSize.toBytes())
+				.expireAfterWrite(ttl)
+				.weigher((Key key, CachedListing listing) -> listing.weight() + key.query().length() * 2)
+				.recordStats()
+				.build();
+	}
+
+	public CachedListing get(String query, long version) {
+		return cache.getIfPresent(new Key(query, version));
+	}
+
+	public CachedListing put(String query, long version, byte[] json, Map<String, String> headers) {
+		CachedListing listing = new CachedListing(json, gzip(json), headers);
+		cache.put(new Key(query, version), listing);
+		return listing;
+	}
+
+	public CacheStatsDto stats() {
+		CacheStats stats = cache.stats();
+		return CacheStatsDto.builder()
+				.size(cache.estimatedSize())
+				.hitCount(stats.hitCount())
+				.missCount(stats.missCount())
+				.evictionCount(stats.evictionCount())
+				.hitRate(stats.hitRate())
+				.build();
+	}
+
+	private static byte[] gzip(byte[] json) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(json);
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return out.toByteArray();
+	}
+
+	private record Key(String query, long version) {
+	}
+
+	/**
+	 * A cached response body in both encodings, plus the response headers
+	 * to replay with it (content type, CORS, {@code Vary}).
+	 */
+	public record CachedListing(byte[] json, byte[] gzip, Map<String, String> headers) {
+
+		int weight() {
+			return json.length + gzip.length + 256;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+package com.floginfe_be.backend.cache;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.floginfe_be.backend.catalog.CatalogVersion;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Serves {@code GET /api/products} from {@link ProductListingCache}, skipping
+ * the query, mapping and JSON serialization on a hit. Clients that accept
+ * gzip get the precompressed body.
+ * <p>
+ * The {@code Origin} header is part of the key because CORS headers are
+ * added by Spring MVC, which a cache hit never reaches; they are captured
+ * with the body and replayed. So is the weak catalog {@code ETag}, and a hit
+ * whose {@code If-None-Match} matches it is answered with
+ * {@code 304 Not Modified} and no body.
+ */
+public class ProductListingCacheFilter extends OncePerRequestFilter {
+
+	static final String LISTING_PATH = "/api/products";
+
+	static final String CACHE_HEADER = "X-Cache";
+
+	private final ProductListingCache cache;
+
+	private final CatalogVersion catalogVersion;
+
+	public ProductListingCacheFilter(ProductListingCache cache, CatalogVersion catalogVersion) {
+		this.cache = cache;
+		this.catalogVersion = catalogVersion;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !HttpMethod.GET.matches(request.getMethod())
+				|| !LISTING_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()));
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		Optional<String> query = ListingQueryKey.of(request.getParameterMap());
+		if (query.isEmpty()) {
+			chain.doFilter(request, response);
+			return;
+		}
+		String origin = request.getHeader(HttpHeaders.ORIGIN);
+		String key = origin == null ? query.get() : query.get() + "#" + origin;
+		long version = catalogVersion.current();
+
+		ProductListingCache.CachedListing hit = cache.get(key, version);
+		if (hit != null) {
+			response.setHeader(CACHE_HEADER, "HIT");
+			if (!notModified(request, response, hit)) {
+				write(request, response, hit);
+			}
+			return;
+		}
+
+		ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+		chain.doFilter(request, wrapper);
+		if (wrapper.getStatus() == HttpStatus.OK.value() && isJson(wrapper.getContentType())) {
+			ProductListingCache.CachedListing listing = cache.put(key, version, wrapper.getContentAsByteArray(),
+					replayableHeaders(wrapper));
+			wrapper.resetBuffer();
+			response.setHeader(CACHE_HEADER, "MISS");
+			write(request, response, listing);
+			return;
+		}
+		wrapper.copyBodyToResponse();
+	}
+
+	private static void write(HttpServletRequest request, HttpServletResponse response,
+			ProductListingCache.CachedListing listing) throws IOException {
+		listing.headers().forEach(response::setHeader);
+		response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		byte[] body = listing.json();
+		if (acceptsGzip(request)) {
+			response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+			body = listing.gzip();
+		}
+		response.setContentLength(body.length);
+		response.getOutputStream().write(body);
+	}
+
+	private static boolean notModified(HttpServletRequest request, HttpServletResponse response,
+			ProductListingCache.CachedListing listing) {
+		String etag = listing.headers().get(HttpHeaders.ETAG);
+		if (etag == null || !new ServletWebRequest(request, response).checkNotModified(etag)) {
+			return false;
+		}
+		listing.headers().forEach((name, value) -> {
+			if (!HttpHeaders.CONTENT_TYPE.equals(name)) {
+				response.setHeader(name, value);
+			}
+		});
+		return true;
+	}
+
+	private static Map<String, String> replayableHeaders(HttpServletResponse response) {
+		Map<String, String> headers = new LinkedHashMap<>();
+		headers.put(HttpHeaders.CONTENT_TYPE, response.getContentType());
+		String etag = response.getHeader(HttpHeaders.ETAG);
+		if (etag != null) {
+			headers.put(HttpHeaders.ETAG, etag);
+		}
+		for (String name : response.getHeaderNames()) {
+			if (name.regionMatches(true, 0, "Access-Control-", 0, 15) || HttpHeaders.VARY.equalsIgnoreCase(name)) {
+				headers.put(name, String.join(", ", response.getHeaders(name)));
+			}
+		}
+		return headers;
+	}
+
+	private static boolean isJson(String contentType) {
+		return contentType != null && MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(contentType));
+	}
+
+	private static boolean acceptsGzip(HttpServletRequest request) {
+		String accept = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+		return accept != null && accept.toLowerCase(Locale.ROOT).contains("gzip");
+	}
+}
@@ -0,0 +1,53 @@
+package com.floginfe_be.backend.catalog;
+
+import java.util.Arrays;
+
+/**
+ * Fixed value ranges used for counters and facets. Bucket {@code i} covers
+ * {@code [bounds[i], bounds[i + 1])}; values past the last bound fall in the
+ * last bucket.
+ */
+public final class Buckets {
+
+	public static final Buckets PRICE = new Buckets(0, 100_000, 250_000, 500_000, 1_000_000, 2_500_000, 5_000_000,
+			10_000_000, 50_000_000, 100_000_000, 1_000_000_000);
+
+	public static final Buckets QUANTITY = new Buckets(0, 10, 50, 100, 500, 1_000, 5_000, 10_000, 100_000);
+
+	private final double[] bounds;
+
+	private Buckets(double... bounds) {
+		this.bounds = bounds;
+	}
+
+	public int count() {
+		return bounds.length - 1;
+	}
+
+	public double lower(int bucket) {
+		return bounds[bucket];
+	}
+
+	public double upper(int bucket) {
+		return bounds[bucket + 1];
+	}
+
+	public int indexOf(double value) {
+		int pos = Arrays.binarySearch(bounds, value);
+		int bucket = pos >= 0 ? pos : -pos - 2;
+		return Math.max(0, Math.min(bucket, count() - 1));
+	}
+
+	/**
+	 * Fraction of {@code bucket} covered by {@code [from, to)}, assuming values
+	 * are spread evenly inside the bucket.
+	 */
+	public double overlap(int bucket, double from, double to) {
+		double lo = Math.max(from, lower(bucket));
+		double hi = Math.min(to, upper(bucket));
+		if (hi <= lo) {
+			return 0;
+		}
+		return (hi - lo) / (upper(bucket) - lower(bucket));
+	}
+}
@@ -0,0 +1,68 @@
+package com.floginfe_be.backend.catalog;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductsChangedEvent;
+
+/**
+ * Catalog-wide version number. Anything derived from the whole catalog
+ * (cached listings, listing ETags) is valid only for the version it was
+ * computed at.
+ * <p>
+ * The version moves on every product change committed by this instance, and
+ * also every {@code app.catalog.version-ttl} of wall-clock time. Changes this
+ * instance cannot see (writes through other instances, SQL run outside the
+ * application, replica lag) therefore stay visible for at most that long.
+ * The time windows are aligned to the epoch, so all instances roll over
+ * together.
+ */
+@Component
+public class CatalogVersion {
+
+	private final AtomicLong changes = new AtomicLong();
+
+	private final long ttlMillis;
+
+	private final Clock clock;
+
+	/** Distinguishes versions from different runs, since the change counter restarts at zero. */
+	private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+	@Autowired
+	public CatalogVersion(@Value("${app.catalog.version-ttl:PT30S}") Duration ttl) {
+		this(ttl, Clock.systemUTC());
+	}
+
+	CatalogVersion(Duration ttl, Clock clock) {
+		this.ttlMillis = Math.max(1, ttl.toMillis());
+		this.clock = clock;
+	}
+
+	/** Both terms only grow, so the sum changes whenever either does. */
+	public long current() {
+		return changes.get() + clock.millis() / ttlMillis;
+	}
+
+	/** Weak ETag for responses computed from the whole catalog at the current version. */
+	public String etag() {
+		return "W/\"" + epoch + "-" + current() + "\"";
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		changes.incrementAndGet();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductsChanged(ProductsChangedEvent event) {
+		changes.incrementAndGet();
+	}
+}
@@ -0,0 +1,62 @@
+package com.floginfe_be.backend.catalog;
+
+import java.util.Arrays;
+
+/**
+ * Filter kernels over {@link ColumnSnapshot} columns. Every method clears the
+ * bits of {@code mask} (one bit per row) whose row does not satisfy the
+ * predicate, so successive calls combine with AND.
+ */
+interface ColumnFilter {
+
+	void priceBetween(double[] prices, int size, double min, double max, long[] mask);
+
+	void quantityBetween(int[] quantities, int size, int min, int max, long[] mask);
+
+	void categoryEquals(byte[] categories, int size, byte category, long[] mask);
+
+	/**
+	 * The vectorised implementation when the build included it (Maven profile
+	 * {@code vector}), the {@code jdk.incubator.vector} module is present (the
+	 * JVM was started with {@code --add-modules jdk.incubator.vector}) and
+	 * {@code preferVector} is set, otherwise plain loops.
+	 */
+	static ColumnFilter create(boolean preferVector) {
+		if (preferVector && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+			try {
+				return (ColumnFilter) Class.forName(ColumnFilter.class.getPackageName() + ".VectorColumnFilter")
+						.getDeclaredConstructor()
+						.newInstance();
+			} catch (ReflectiveOperationException e) {
+				// Built without the vector profile
+			}
+		}
+		return new ScalarColumnFilter();
+	}
+
+	/** Mask with the first {@code size} bits set. */
+	static long[] allRows(int size) {
+		long[] mask = new long[(size + 63) >>> 6];
+		Arrays.fill(mask, -1L);
+		if ((size & 63) != 0) {
+			mask[mask.length - 1] = (1L << size) - 1;
+		}
+		return mask;
+	}
+
+	static void clear(long[] mask, int row) {
+		mask[row >>> 6] &= ~(1L << row);
+	}
+
+	static boolean isSet(long[] mask, int row) {
+		return (mask[row >>> 6] & (1L << row)) != 0;
+	}
+
+	static long count(long[] mask) {
+		long count = 0;
+		for (long word : mask) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+}
@@ -0,0 +1,231 @@
+package com.floginfe_be.backend.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import com.floginfe_be.backend.entity.Product_;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+import com.floginfe_be.backend.util.SearchText;
+
+/**
+ * Immutable column-oriented copy of the product table used by
+ * {@link ProductColumnarEngine}. Row {@code i} is spread over the arrays at
+ * index {@code i}; rows are kept in ascending id order.
+ * <p>
+ * For price and quantity there is a permutation of row numbers ordered by
+ * {@code (key, id)}, so a sorted page is produced by walking the
+ * permutation instead of sorting per request. Names are not ordered here:
+ * their order is defined by the database collation, so name sorts stay in
+ * SQL. A batch of changes produces a new snapshot in one linear merge; the
+ * previous one is never modified.
+ */
+final class ColumnSnapshot {
+
+	/** Category column value for products without a category. */
+	static final byte NO_CATEGORY = -1;
+
+	static final ColumnSnapshot EMPTY = of(List.of());
+
+	final int size;
+
+	final long[] ids;
+
+	final double[] prices;
+
+	final int[] quantities;
+
+	final byte[] categories;
+
+	/** {@link SearchText#fold Folded} names, used for search. */
+	final String[] names;
+
+	final int[] byPrice;
+
+	final int[] byQuantity;
+
+	private ColumnSnapshot(long[] ids, double[] prices, int[] quantities, byte[] categories, String[] names,
+			int[] byPrice, int[] byQuantity) {
+		this.size = ids.length;
+		this.ids = ids;
+		this.prices = prices;
+		this.quantities = quantities;
+		this.categories = categories;
+		this.names = names;
+		this.byPrice = byPrice != null ? byPrice : sorted(size, priceOrder(prices, ids));
+		this.byQuantity = byQuantity != null ? byQuantity : sorted(size, quantityOrder(quantities, ids));
+	}
+
+	static ColumnSnapshot of(List<ProductState> products) {
+		ProductState[] rows = products.toArray(ProductState[]::new);
+		Arrays.sort(rows, Comparator.comparingLong(ProductState::id));
+		int n = rows.length;
+		long[] ids = new long[n];
+		double[] prices = new double[n];
+		int[] quantities = new int[n];
+		byte[] categories = new byte[n];
+		String[] names = new String[n];
+		for (int i = 0; i < n; i++) {
+			ids[i] = rows[i].id();
+			prices[i] = rows[i].price();
+			quantities[i] = rows[i].quantity();
+			categories[i] = category(rows[i]);
+			names[i] = SearchText.fold(rows[i].name());
+		}
+		return new ColumnSnapshot(ids, prices, quantities, categories, names, null, null);
+	}
+
+	/**
+	 * Row permutation for a sort property, or {@code null} for {@code id}
+	 * (rows are already in id order).
+	 */
+	int[] order(String property) {
+		return switch (property) {
+			case Product_.PRICE -> byPrice;
+			case Product_.QUANTITY -> byQuantity;
+			default -> null;
+		};
+	}
+
+	int rowOf(long id) {
+		return Arrays.binarySearch(ids, id);
+	}
+
+	/**
+	 * Snapshot with {@code events} applied in order. Only the last change to
+	 * each id matters: its old row is dropped and its final state, if any,
+	 * merged in. Columns and permutations are rebuilt in one merge pass, so
+	 * a batch of {@code k} changes costs {@code O(n + k log k)} rather than
+	 * one full copy per change.
+	 */
+	ColumnSnapshot with(List<ProductChangedEvent> events) {
+		if (events.isEmpty()) {
+			return this;
+		}
+		Map<Long, ProductState> last = new HashMap<>();
+		for (ProductChangedEvent event : events) {
+			last.put(event.id(), event.after());
+		}
+		boolean[] dropped = new boolean[size];
+		int kept = size;
+		List<ProductState> upserts = new ArrayList<>(last.size());
+		for (Map.Entry<Long, ProductState> change : last.entrySet()) {
+			int row = rowOf(change.getKey());
+			if (row >= 0) {
+				dropped[row] = true;
+				kept--;
+			}
+			if (change.getValue() != null) {
+				upserts.add(change.getValue());
+			}
+		}
+		upserts.sort(Comparator.comparingLong(ProductState::id));
+
+		int n = kept + upserts.size();
+		long[] nextIds = new long[n];
+		double[] nextPrices = new double[n];
+		int[] nextQuantities = new int[n];
+		byte[] nextCategories = new byte[n];
+		String[] nextNames = new String[n];
+		int[] oldToNew = new int[size];
+		int[] added = new int[upserts.size()];
+		int old = 0;
+		int k = 0;
+		int row = 0;
+		while (old < size || k < added.length) {
+			if (old < size && dropped[old]) {
+				oldToNew[old++] = -1;
+			} else if (k < added.length && (old == size || upserts.get(k).id() < ids[old])) {
+				ProductState product = upserts.get(k);
+				nextIds[row] = product.id();
+				nextPrices[row] = product.price();
+				nextQuantities[row] = product.quantity();
+				nextCategories[row] = category(product);
+				nextNames[row] = SearchText.fold(product.name());
+				added[k++] = row++;
+			} else {
+				nextIds[row] = ids[old];
+				nextPrices[row] = prices[old];
+				nextQuantities[row] = quantities[old];
+				nextCategories[row] = categories[old];
+				nextNames[row] = names[old];
+				oldToNew[old++] = row++;
+			}
+		}
+		return new ColumnSnapshot(nextIds, nextPrices, nextQuantities, nextCategories, nextNames,
+				merge(byPrice, oldToNew, added, priceOrder(nextPrices, nextIds)),
+				merge(byQuantity, oldToNew, added, quantityOrder(nextQuantities, nextIds)));
+	}
+
+	private static RowComparator priceOrder(double[] prices, long[] ids) {
+		return (a, b) -> {
+			int c = Double.compare(prices[a], prices[b]);
+			return c != 0 ? c : Long.compare(ids[a], ids[b]);
+		};
+	}
+
+	private static RowComparator quantityOrder(int[] quantities, long[] ids) {
+		return (a, b) -> {
+			int c = Integer.compare(quantities[a], quantities[b]);
+			return c != 0 ? c : Long.compare(ids[a], ids[b]);
+		};
+	}
+
+	private static byte category(ProductState product) {
+		return product.category() == null ? NO_CATEGORY : (byte) product.category().ordinal();
+	}
+
+	private static int[] sorted(int n, RowComparator comparator) {
+		return sorted(IntStream.range(0, n), comparator);
+	}
+
+	private static int[] sorted(IntStream rows, RowComparator comparator) {
+		return rows.boxed().sorted(comparator::compare).mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Carries a permutation over to the next snapshot: surviving rows keep
+	 * their relative order under their new numbers and the {@code added}
+	 * rows, sorted among themselves, are merged in.
+	 */
+	private static int[] merge(int[] perm, int[] oldToNew, int[] added, RowComparator comparator) {
+		int[] fresh = sorted(IntStream.of(added), comparator);
+		int[] next = new int[perm.length - countDropped(oldToNew) + fresh.length];
+		int a = 0;
+		int out = 0;
+		for (int old : perm) {
+			int row = oldToNew[old];
+			if (row < 0) {
+				continue;
+			}
+			while (a < fresh.length && comparator.compare(fresh[a], row) < 0) {
+				next[out++] = fresh[a++];
+			}
+			next[out++] = row;
+		}
+		while (a < fresh.length) {
+			next[out++] = fresh[a++];
+		}
+		return next;
+	}
+
+	private static int countDropped(int[] oldToNew) {
+		int dropped = 0;
+		for (int row : oldToNew) {
+			if (row < 0) {
+				dropped++;
+			}
+		}
+		return dropped;
+	}
+
+	@FunctionalInterface
+	private interface RowComparator {
+		int compare(int a, int b);
+	}
+}
@@ -0,0 +1,36 @@
+package com.floginfe_be.backend.catalog;
+
+import java.util.List;
+
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+
+/**
+ * In-memory structure derived from the {@code products} table. Implementations
+ * are loaded in full by {@link ProductCatalogMaintainer} and then kept up to
+ * date from committed {@link ProductChangedEvent}s.
+ */
+public interface ProductCatalogIndex {
+
+	/**
+	 * Starts a full rebuild. Every product is passed to {@link Rebuild#add},
+	 * then {@link Rebuild#complete()} replaces the current contents.
+	 */
+	Rebuild rebuild();
+
+	void apply(ProductChangedEvent event);
+
+	/**
+	 * Applies changes committed together, in order. Indexes whose updates
+	 * copy their contents override this to pay that cost once per batch.
+	 */
+	default void applyAll(List<ProductChangedEvent> events) {
+		events.forEach(this::apply);
+	}
+
+	interface Rebuild {
+		void add(ProductState product);
+
+		void complete();
+	}
+}
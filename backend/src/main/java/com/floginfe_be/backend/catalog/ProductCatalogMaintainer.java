@@ -0,0 +1,163 @@
+package com.floginfe_be.backend.catalog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+import com.floginfe_be.backend.event.ProductsChangedEvent;
+import com.floginfe_be.backend.repository.ProductRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads every {@link ProductCatalogIndex} from the database once the
+ * application is ready, applies committed product changes to them and
+ * periodically rebuilds them to correct any drift.
+ */
+@Slf4j
+@Component
+public class ProductCatalogMaintainer {
+
+	private final ProductRepository repository;
+
+	private final List<ProductCatalogIndex> indexes;
+
+	private final TransactionTemplate readOnlyTx;
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+	/**
+	 * Changes committed while a rebuild is streaming, replayed once it
+	 * completes (see {@link #replay}).
+	 */
+	private List<ProductChangedEvent> pending;
+
+	public ProductCatalogMaintainer(ProductRepository repository, List<ProductCatalogIndex> indexes,
+			PlatformTransactionManager transactionManager) {
+		this.repository = repository;
+		this.indexes = indexes;
+		this.readOnlyTx = new TransactionTemplate(transactionManager);
+		this.readOnlyTx.setReadOnly(true);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		rebuild();
+	}
+
+	@Scheduled(initialDelayString = "${app.catalog.resync-interval:PT15M}",
+			fixedDelayString = "${app.catalog.resync-interval:PT15M}")
+	public void resync() {
+		rebuild();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		apply(List.of(event));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductsChanged(ProductsChangedEvent event) {
+		apply(event.changes());
+	}
+
+	private void apply(List<ProductChangedEvent> events) {
+		lock.lock();
+		try {
+			if (pending != null) {
+				pending.addAll(events);
+			}
+			indexes.forEach(index -> index.applyAll(events));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void rebuild() {
+		if (!rebuilding.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			long started = System.nanoTime();
+			List<ProductCatalogIndex.Rebuild> rebuilds = indexes.stream().map(ProductCatalogIndex::rebuild).toList();
+			setPending(new ArrayList<>());
+			try {
+				Map<Long, ProductState> streamed = new HashMap<>();
+				readOnlyTx.executeWithoutResult(status -> {
+					try (Stream<ProductState> products = repository.streamAllStates()) {
+						products.forEach(product -> {
+							rebuilds.forEach(rebuild -> rebuild.add(product));
+							streamed.put(product.id(), product);
+						});
+					}
+				});
+				lock.lock();
+				try {
+					rebuilds.forEach(ProductCatalogIndex.Rebuild::complete);
+					List<ProductChangedEvent> replay = replay(pending, streamed);
+					indexes.forEach(index -> index.applyAll(replay));
+				} finally {
+					lock.unlock();
+				}
+				log.info("Loaded {} products into {} catalog indexes in {} ms", streamed.size(), indexes.size(),
+						(System.nanoTime() - started) / 1_000_000);
+			} finally {
+				setPending(null);
+			}
+		} catch (RuntimeException ex) {
+			log.warn("Product catalog rebuild failed", ex);
+		} finally {
+			rebuilding.set(false);
+		}
+	}
+
+	/**
+	 * Changes that take freshly rebuilt indexes from what the stream read to
+	 * the state after the {@code pending} events. The stream may or may not
+	 * have seen a pending change already, so replaying the events themselves
+	 * would count such a change twice; instead each touched product moves
+	 * from its streamed state (or absence) to the state its last pending
+	 * event left it in, which is a no-op when the stream already saw it.
+	 */
+	static List<ProductChangedEvent> replay(List<ProductChangedEvent> pending, Map<Long, ProductState> streamed) {
+		Map<Long, ProductState> last = new LinkedHashMap<>();
+		for (ProductChangedEvent event : pending) {
+			last.put(event.id(), event.after());
+		}
+		List<ProductChangedEvent> replay = new ArrayList<>();
+		last.forEach((id, after) -> {
+			ProductState before = streamed.get(id);
+			if (!Objects.equals(before, after)) {
+				replay.add(new ProductChangedEvent(id, before, after));
+			}
+		});
+		return replay;
+	}
+
+	private void setPending(List<ProductChangedEvent> events) {
+		lock.lock();
+		try {
+			pending = events;
+		} finally {
+			lock.unlock();
+		}
+	}
+}
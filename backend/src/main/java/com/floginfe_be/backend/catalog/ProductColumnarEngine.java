@@ -0,0 +1,181 @@
+package com.floginfe_be.backend.catalog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.floginfe_be.backend.dto.request.ProductFilterRequest;
+import com.floginfe_be.backend.entity.Product_;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+import com.floginfe_be.backend.util.SearchText;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Optional in-memory query engine for product listings. Evaluates the same
+ * filters as {@code ProductSpec.byFilter} over a {@link ColumnSnapshot} and
+ * returns the ids of the requested page plus the exact total, so listings
+ * need no SQL at all.
+ * <p>
+ * Enabled with {@code app.catalog.columnar.enabled=true}. The snapshot is
+ * immutable and replaced atomically once per committed batch of changes, so
+ * readers never lock.
+ */
+@Slf4j
+@Component
+public class ProductColumnarEngine implements ProductCatalogIndex {
+
+	private final boolean enabled;
+
+	private final ColumnFilter filter;
+
+	private final ProductNameIndex nameIndex;
+
+	private final AtomicReference<ColumnSnapshot> snapshot = new AtomicReference<>();
+
+	public ProductColumnarEngine(@Value("${app.catalog.columnar.enabled:false}") boolean enabled,
+			@Value("${app.catalog.columnar.vector:true}") boolean preferVector, ProductNameIndex nameIndex) {
+		this.enabled = enabled;
+		this.filter = ColumnFilter.create(preferVector);
+		this.nameIndex = nameIndex;
+		if (enabled) {
+			log.info("Columnar product engine enabled using {}", filter.getClass().getSimpleName());
+		}
+	}
+
+	public boolean isReady() {
+		return snapshot.get() != null;
+	}
+
+	/**
+	 * Ids of the products on the requested page, in page order, with the total
+	 * number of matches. Empty when the engine cannot answer the request and
+	 * it has to go to the database: the engine is disabled or not loaded, the
+	 * sort is not a single {@code id}, {@code price} or {@code quantity}
+	 * order (name order follows the database collation), or the search term
+	 * contains {@code LIKE} wildcards.
+	 */
+	public Optional<Result> query(ProductFilterRequest request, Pageable pageable) {
+		ColumnSnapshot s = snapshot.get();
+		if (s == null || pageable.isUnpaged() || pageable.getSort().stream().count() > 1) {
+			return Optional.empty();
+		}
+		Sort.Order order = pageable.getSort().isSorted()
+				? pageable.getSort().iterator().next()
+				: Sort.Order.asc(Product_.ID);
+		if (!Product_.ID.equals(order.getProperty()) && s.order(order.getProperty()) == null) {
+			return Optional.empty();
+		}
+
+		long[] mask = ColumnFilter.allRows(s.size);
+		if (request.getCategory() != null) {
+			filter.categoryEquals(s.categories, s.size, (byte) request.getCategory().ordinal(), mask);
+		}
+		if (request.getMinPrice() != null || request.getMaxPrice() != null) {
+			filter.priceBetween(s.prices, s.size,
+					request.getMinPrice() != null ? request.getMinPrice() : Double.NEGATIVE_INFINITY,
+					request.getMaxPrice() != null ? request.getMaxPrice() : Double.POSITIVE_INFINITY, mask);
+		}
+		if (request.getMinQuantity() != null || request.getMaxQuantity() != null) {
+			filter.quantityBetween(s.quantities, s.size,
+					request.getMinQuantity() != null ? request.getMinQuantity() : Integer.MIN_VALUE,
+					request.getMaxQuantity() != null ? request.getMaxQuantity() : Integer.MAX_VALUE, mask);
+		}
+		if (StringUtils.hasText(request.getSearch()) && !search(s, request.getSearch(), mask)) {
+			return Optional.empty();
+		}
+
+		long total = ColumnFilter.count(mask);
+		return Optional.of(new Result(page(s, mask, order, pageable), total));
+	}
+
+	/** Applies the search term to {@code mask}; {@code false} if it has to be evaluated by SQL. */
+	private boolean search(ColumnSnapshot s, String term, long[] mask) {
+		String folded = SearchText.fold(term);
+		if (folded.indexOf('%') >= 0 || folded.indexOf('_') >= 0) {
+			return false;
+		}
+		Optional<Roaring64NavigableMap> matches = nameIndex.match(term);
+		if (matches.isPresent()) {
+			long[] found = new long[mask.length];
+			matches.get().forEach(id -> {
+				int row = s.rowOf(id);
+				if (row >= 0) {
+					found[row >>> 6] |= 1L << row;
+				}
+			});
+			for (int i = 0; i < mask.length; i++) {
+				mask[i] &= found[i];
+			}
+			return true;
+		}
+		// Terms too short for the trigram index: scan the folded names directly
+		for (int i = 0; i < s.size; i++) {
+			if (ColumnFilter.isSet(mask, i) && !s.names[i].contains(folded)) {
+				ColumnFilter.clear(mask, i);
+			}
+		}
+		return true;
+	}
+
+	private static List<Long> page(ColumnSnapshot s, long[] mask, Sort.Order order, Pageable pageable) {
+		int[] perm = s.order(order.getProperty());
+		boolean asc = order.isAscending();
+		long skip = pageable.getOffset();
+		List<Long> ids = new ArrayList<>(pageable.getPageSize());
+		for (int i = 0; i < s.size && ids.size() < pageable.getPageSize(); i++) {
+			int pos = asc ? i : s.size - 1 - i;
+			int row = perm == null ? pos : perm[pos];
+			if (ColumnFilter.isSet(mask, row) && skip-- <= 0) {
+				ids.add(s.ids[row]);
+			}
+		}
+		return ids;
+	}
+
+	@Override
+	public Rebuild rebuild() {
+		List<ProductState> rows = new ArrayList<>();
+		return new Rebuild() {
+			@Override
+			public void add(ProductState product) {
+				if (enabled) {
+					rows.add(product);
+				}
+			}
+
+			@Override
+			public void complete() {
+				if (enabled) {
+					snapshot.set(ColumnSnapshot.of(rows));
+				}
+			}
+		};
+	}
+
+	@Override
+	public void apply(ProductChangedEvent event) {
+		applyAll(List.of(event));
+	}
+
+	@Override
+	public void applyAll(List<ProductChangedEvent> events) {
+		snapshot.updateAndGet(s -> s == null ? null : s.with(events));
+	}
+
+	/**
+	 * One page of a columnar query: the product ids in page order and the
+	 * total number of matching products.
+	 */
+	public record Result(List<Long> ids, long total) {
+	}
+}
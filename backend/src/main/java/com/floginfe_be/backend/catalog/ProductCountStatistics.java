@@ -0,0 +1,123 @@
+package com.floginfe_be.backend.catalog;
+
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.stereotype.Component;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.request.ProductFilterRequest;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+
+/**
+ * Product counters per category and per price / quantity {@link Buckets bucket},
+ * used to estimate listing totals without a {@code COUNT(*)} query.
+ * <p>
+ * Estimates assume the filtered dimensions are independent and values are
+ * spread evenly inside a bucket. The {@code search} term is not tracked, so
+ * for searches the estimate is an upper bound.
+ */
+@Component
+public class ProductCountStatistics implements ProductCatalogIndex {
+
+	private volatile Counters counters;
+
+	public boolean isReady() {
+		return counters != null;
+	}
+
+	public long total() {
+		Counters c = counters;
+		return c == null ? 0 : c.total.get();
+	}
+
+	/**
+	 * Estimated number of products matching {@code filter}, or empty while the
+	 * counters have not been loaded yet.
+	 */
+	public OptionalLong estimate(ProductFilterRequest filter) {
+		Counters c = counters;
+		if (c == null) {
+			return OptionalLong.empty();
+		}
+		long total = c.total.get();
+		if (total <= 0) {
+			return OptionalLong.of(0);
+		}
+
+		double selectivity = 1.0;
+		if (filter.getCategory() != null) {
+			selectivity *= (double) c.categories.get(filter.getCategory().ordinal()) / total;
+		}
+		if (filter.getMinPrice() != null || filter.getMaxPrice() != null) {
+			double from = filter.getMinPrice() != null ? filter.getMinPrice() : Double.NEGATIVE_INFINITY;
+			double to = filter.getMaxPrice() != null ? Math.nextUp(filter.getMaxPrice()) : Double.POSITIVE_INFINITY;
+			selectivity *= fraction(Buckets.PRICE, c.priceBuckets, from, to, total);
+		}
+		if (filter.getMinQuantity() != null || filter.getMaxQuantity() != null) {
+			double from = filter.getMinQuantity() != null ? filter.getMinQuantity() : Double.NEGATIVE_INFINITY;
+			double to = filter.getMaxQuantity() != null ? filter.getMaxQuantity() + 1.0 : Double.POSITIVE_INFINITY;
+			selectivity *= fraction(Buckets.QUANTITY, c.quantityBuckets, from, to, total);
+		}
+		return OptionalLong.of(Math.round(total * Math.min(1.0, selectivity)));
+	}
+
+	private static double fraction(Buckets buckets, AtomicLongArray counts, double from, double to, long total) {
+		double matched = 0;
+		for (int i = 0; i < buckets.count(); i++) {
+			long count = counts.get(i);
+			if (count > 0) {
+				matched += count * buckets.overlap(i, from, to);
+			}
+		}
+		return matched / total;
+	}
+
+	@Override
+	public Rebuild rebuild() {
+		Counters fresh = new Counters();
+		return new Rebuild() {
+			@Override
+			public void add(ProductState product) {
+				fresh.add(product, 1);
+			}
+
+			@Override
+			public void complete() {
+				counters = fresh;
+			}
+		};
+	}
+
+	@Override
+	public void apply(ProductChangedEvent event) {
+		Counters c = counters;
+		if (c == null) {
+			return;
+		}
+		if (event.before() != null) {
+			c.add(event.before(), -1);
+		}
+		if (event.after() != null) {
+			c.add(event.after(), 1);
+		}
+	}
+
+	private static final class Counters {
+		private final AtomicLong total = new AtomicLong();
+		private final AtomicLongArray categories = new AtomicLongArray(Categories.values().length);
+		private final AtomicLongArray priceBuckets = new AtomicLongArray(Buckets.PRICE.count());
+		private final AtomicLongArray quantityBuckets = new AtomicLongArray(Buckets.QUANTITY.count());
+
+		private void add(ProductState product, int delta) {
+			total.addAndGet(delta);
+			if (product.category() != null) {
+				categories.addAndGet(product.category().ordinal(), delta);
+			}
+			priceBuckets.addAndGet(Buckets.PRICE.indexOf(product.price()), delta);
+			quantityBuckets.addAndGet(Buckets.QUANTITY.indexOf(product.quantity()), delta);
+		}
+	}
+}
@@ -0,0 +1,270 @@
+package com.floginfe_be.backend.catalog;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.DoublePredicate;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.request.ProductFilterRequest;
+import com.floginfe_be.backend.dto.response.FacetCount;
+import com.floginfe_be.backend.dto.response.ProductFacetsResponse;
+import com.floginfe_be.backend.dto.response.RangeFacetCount;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+import com.floginfe_be.backend.util.SearchText;
+
+/**
+ * Compressed bitmaps of product ids, one per category and one per price and
+ * quantity {@link Buckets bucket}, used to count facets by intersecting
+ * bitmaps instead of running a {@code COUNT(*)} per facet.
+ * <p>
+ * Price and quantity filters are exact: buckets entirely inside the range are
+ * taken whole, and only the members of the edge buckets are checked one by one.
+ */
+@Component
+public class ProductFacetIndex implements ProductCatalogIndex {
+
+	private final ProductNameIndex nameIndex;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/** Guarded by {@link #lock}; {@code null} until the first rebuild completes. */
+	private Bitmaps bitmaps;
+
+	public ProductFacetIndex(ProductNameIndex nameIndex) {
+		this.nameIndex = nameIndex;
+	}
+
+	public boolean isReady() {
+		lock.readLock().lock();
+		try {
+			return bitmaps != null;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/** Facet counts for {@code filter}, or empty while the index has not been loaded. */
+	public Optional<ProductFacetsResponse> facets(ProductFilterRequest filter) {
+		String search = filter.getSearch();
+		Optional<Roaring64NavigableMap> matches = StringUtils.hasText(search)
+				? nameIndex.match(search).or(() -> nameIndex.scan(search))
+				: Optional.empty();
+		lock.readLock().lock();
+		try {
+			return bitmaps == null ? Optional.empty() : Optional.of(bitmaps.facets(filter, matches));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Facet counts computed from scratch over {@code products}, for when the
+	 * index is not loaded yet.
+	 */
+	public static ProductFacetsResponse facets(Stream<ProductState> products, ProductFilterRequest filter) {
+		Bitmaps scratch = new Bitmaps();
+		products.forEach(scratch::add);
+		return scratch.facets(filter, Optional.empty());
+	}
+
+	@Override
+	public Rebuild rebuild() {
+		Bitmaps fresh = new Bitmaps();
+		return new Rebuild() {
+			@Override
+			public void add(ProductState product) {
+				fresh.add(product);
+			}
+
+			@Override
+			public void complete() {
+				fresh.optimize();
+				lock.writeLock().lock();
+				try {
+					bitmaps = fresh;
+				} finally {
+					lock.writeLock().unlock();
+				}
+			}
+		};
+	}
+
+	@Override
+	public void apply(ProductChangedEvent event) {
+		lock.writeLock().lock();
+		try {
+			if (bitmaps == null) {
+				return;
+			}
+			if (event.before() != null) {
+				bitmaps.remove(event.before().id());
+			}
+			if (event.after() != null) {
+				bitmaps.add(event.after());
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private static final class Bitmaps {
+		private final Roaring64NavigableMap all = new Roaring64NavigableMap();
+		private final Roaring64NavigableMap[] categories = bitmaps(Categories.values().length);
+		private final Roaring64NavigableMap[] prices = bitmaps(Buckets.PRICE.count());
+		private final Roaring64NavigableMap[] quantities = bitmaps(Buckets.QUANTITY.count());
+		private final Map<Long, ProductState> products = new HashMap<>();
+
+		private static Roaring64NavigableMap[] bitmaps(int count) {
+			Roaring64NavigableMap[] result = new Roaring64NavigableMap[count];
+			for (int i = 0; i < count; i++) {
+				result[i] = new Roaring64NavigableMap();
+			}
+			return result;
+		}
+
+		private void add(ProductState product) {
+			long id = product.id();
+			products.put(id, product);
+			all.addLong(id);
+			if (product.category() != null) {
+				categories[product.category().ordinal()].addLong(id);
+			}
+			prices[Buckets.PRICE.indexOf(product.price())].addLong(id);
+			quantities[Buckets.QUANTITY.indexOf(product.quantity())].addLong(id);
+		}
+
+		private void remove(long id) {
+			ProductState product = products.remove(id);
+			if (product == null) {
+				return;
+			}
+			all.removeLong(id);
+			if (product.category() != null) {
+				categories[product.category().ordinal()].removeLong(id);
+			}
+			prices[Buckets.PRICE.indexOf(product.price())].removeLong(id);
+			quantities[Buckets.QUANTITY.indexOf(product.quantity())].removeLong(id);
+		}
+
+		private void optimize() {
+			all.runOptimize();
+			Stream.of(categories, prices, quantities).flatMap(Stream::of).forEach(Roaring64NavigableMap::runOptimize);
+		}
+
+		private ProductFacetsResponse facets(ProductFilterRequest filter, Optional<Roaring64NavigableMap> matches) {
+			Roaring64NavigableMap search = StringUtils.hasText(filter.getSearch())
+					? matches.orElseGet(() -> scan(filter.getSearch()))
+					: null;
+			Roaring64NavigableMap category = filter.getCategory() != null
+					? categories[filter.getCategory().ordinal()]
+					: null;
+			Roaring64NavigableMap price = filter.getMinPrice() != null || filter.getMaxPrice() != null
+					? range(Buckets.PRICE, prices,
+							filter.getMinPrice() != null ? filter.getMinPrice() : Double.NEGATIVE_INFINITY,
+							filter.getMaxPrice() != null ? filter.getMaxPrice() : Double.POSITIVE_INFINITY,
+							ProductState::price)
+					: null;
+			Roaring64NavigableMap quantity = filter.getMinQuantity() != null || filter.getMaxQuantity() != null
+					? range(Buckets.QUANTITY, quantities,
+							filter.getMinQuantity() != null ? filter.getMinQuantity() : Double.NEGATIVE_INFINITY,
+							filter.getMaxQuantity() != null ? filter.getMaxQuantity() : Double.POSITIVE_INFINITY,
+							ProductState::quantity)
+					: null;
+
+			return ProductFacetsResponse.builder()
+					.total(and(all, search, category, price, quantity).getLongCardinality())
+					.categories(categoryCounts(and(all, search, price, quantity)))
+					.prices(bucketCounts(Buckets.PRICE, prices, and(all, search, category, quantity)))
+					.quantities(bucketCounts(Buckets.QUANTITY, quantities, and(all, search, category, price)))
+					.build();
+		}
+
+		private List<FacetCount> categoryCounts(Roaring64NavigableMap base) {
+			List<FacetCount> counts = new ArrayList<>();
+			for (Categories c : Categories.values()) {
+				counts.add(new FacetCount(c.name(), and(base, categories[c.ordinal()]).getLongCardinality()));
+			}
+			return counts;
+		}
+
+		private static List<RangeFacetCount> bucketCounts(Buckets buckets, Roaring64NavigableMap[] members,
+				Roaring64NavigableMap base) {
+			List<RangeFacetCount> counts = new ArrayList<>();
+			for (int i = 0; i < buckets.count(); i++) {
+				counts.add(new RangeFacetCount(buckets.lower(i), buckets.upper(i),
+						and(base, members[i]).getLongCardinality()));
+			}
+			return counts;
+		}
+
+		/** Ids with {@code from <= value <= to}. */
+		private Roaring64NavigableMap range(Buckets buckets, Roaring64NavigableMap[] members, double from, double to,
+				ValueOf value) {
+			Roaring64NavigableMap result = new Roaring64NavigableMap();
+			DoublePredicate inRange = v -> v >= from && v <= to;
+			int last = buckets.count() - 1;
+			for (int i = 0; i <= last; i++) {
+				// The first and last bucket also hold the values clamped into them
+				double lo = i == 0 ? Double.NEGATIVE_INFINITY : buckets.lower(i);
+				double hi = i == last ? Double.POSITIVE_INFINITY : buckets.upper(i);
+				if (hi <= from || lo > to) {
+					continue;
+				}
+				if (from <= lo && (hi <= to || to == Double.POSITIVE_INFINITY)) {
+					result.or(members[i]);
+				} else {
+					members[i].forEach(id -> {
+						if (inRange.test(value.of(products.get(id)))) {
+							result.addLong(id);
+						}
+					});
+				}
+			}
+			return result;
+		}
+
+		/**
+		 * Search when the name index is not loaded, which keeps the folded
+		 * names; here every name is folded again.
+		 */
+		private Roaring64NavigableMap scan(String term) {
+			Predicate<String> matches = SearchText.like(term);
+			Roaring64NavigableMap result = new Roaring64NavigableMap();
+			products.values().forEach(p -> {
+				if (matches.test(SearchText.fold(p.name()))) {
+					result.addLong(p.id());
+				}
+			});
+			return result;
+		}
+
+		/** Intersection of the non-null bitmaps, as a new bitmap. */
+		private static Roaring64NavigableMap and(Roaring64NavigableMap first, Roaring64NavigableMap... others) {
+			Roaring64NavigableMap result = new Roaring64NavigableMap();
+			result.or(first);
+			for (Roaring64NavigableMap other : others) {
+				if (other != null) {
+					result.and(other);
+				}
+			}
+			return result;
+		}
+	}
+
+	@FunctionalInterface
+	private interface ValueOf {
+		double of(ProductState product);
+	}
+}
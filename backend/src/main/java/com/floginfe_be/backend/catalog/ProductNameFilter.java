@@ -0,0 +1,145 @@
+package com.floginfe_be.backend.catalog;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+import com.floginfe_be.backend.util.ProductNames;
+
+/**
+ * Bloom filter over the {@link ProductNames#key name keys} of all products,
+ * letting a create with a brand-new name skip the uniqueness query.
+ * <p>
+ * {@link #mightExist} never answers {@code false} for a name that was in the
+ * filter, but the filter can miss names committed by another instance or
+ * not yet applied here, so callers still rely on the unique constraint. Keys
+ * of deleted or renamed products cannot be removed and stay as false
+ * positives until the next rebuild. The filter is sized for twice the
+ * current product count so it keeps close to
+ * {@code app.catalog.name-filter.fpp} until then.
+ */
+@Component
+public class ProductNameFilter implements ProductCatalogIndex {
+
+	private static final int MIN_CAPACITY = 1024;
+
+	private final double fpp;
+
+	/** {@code null} until the first rebuild completes. */
+	private volatile Bits bits;
+
+	public ProductNameFilter(@Value("${app.catalog.name-filter.fpp:0.01}") double fpp) {
+		if (!(fpp > 0 && fpp < 1)) {
+			throw new IllegalArgumentException("app.catalog.name-filter.fpp must be in (0, 1): " + fpp);
+		}
+		this.fpp = fpp;
+	}
+
+	public boolean isReady() {
+		return bits != null;
+	}
+
+	/**
+	 * {@code false} only if no product has {@code nameKey}; {@code true} when
+	 * it may exist or the filter has not been loaded yet.
+	 */
+	public boolean mightExist(String nameKey) {
+		Bits b = bits;
+		return b == null || b.mightContain(hash(nameKey));
+	}
+
+	@Override
+	public Rebuild rebuild() {
+		return new Rebuild() {
+			private long[] hashes = new long[MIN_CAPACITY];
+			private int size;
+
+			@Override
+			public void add(ProductState product) {
+				if (size == hashes.length) {
+					hashes = Arrays.copyOf(hashes, size * 2);
+				}
+				hashes[size++] = hash(ProductNames.key(product.name()));
+			}
+
+			@Override
+			public void complete() {
+				Bits fresh = new Bits(Math.max(MIN_CAPACITY, 2L * size), fpp);
+				for (int i = 0; i < size; i++) {
+					fresh.put(hashes[i]);
+				}
+				bits = fresh;
+			}
+		};
+	}
+
+	@Override
+	public void apply(ProductChangedEvent event) {
+		Bits b = bits;
+		if (b != null && event.after() != null) {
+			b.put(hash(ProductNames.key(event.after().name())));
+		}
+	}
+
+	/** 64-bit FNV-1a over the UTF-16 chars, finished with the MurmurHash3 mixer to spread the bits. */
+	static long hash(String key) {
+		long h = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			h ^= key.charAt(i);
+			h *= 0x100000001b3L;
+		}
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	/**
+	 * Bit array probed at {@code k} positions derived from one 64-bit hash by
+	 * double hashing (Kirsch and Mitzenmacher).
+	 */
+	static final class Bits {
+		private final AtomicLongArray words;
+		private final long size;
+		private final int probes;
+
+		Bits(long capacity, double fpp) {
+			long optimal = (long) Math.ceil(-capacity * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+			this.words = new AtomicLongArray(Math.toIntExact((optimal + 63) / 64));
+			this.size = words.length() * 64L;
+			this.probes = Math.max(1, (int) Math.round((double) size / capacity * Math.log(2)));
+		}
+
+		void put(long hash) {
+			long h1 = hash;
+			long h2 = Long.rotateLeft(hash, 32) | 1;
+			for (int i = 0; i < probes; i++) {
+				long bit = Math.floorMod(h1 + i * h2, size);
+				int word = (int) (bit >>> 6);
+				long mask = 1L << bit;
+				long current = words.get(word);
+				while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask)) {
+					current = words.get(word);
+				}
+			}
+		}
+
+		boolean mightContain(long hash) {
+			long h1 = hash;
+			long h2 = Long.rotateLeft(hash, 32) | 1;
+			for (int i = 0; i < probes; i++) {
+				long bit = Math.floorMod(h1 + i * h2, size);
+				if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,224 @@
+package com.floginfe_be.backend.catalog;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+import com.floginfe_be.backend.util.SearchText;
+
+/**
+ * Trigram inverted index over {@link SearchText#fold folded} product names,
+ * used to answer the {@code search} filter without a {@code LIKE '%term%'}
+ * table scan.
+ * <p>
+ * Each trigram maps to a compressed bitmap of product ids. A term is resolved
+ * by intersecting the bitmaps of its trigrams and then checking the surviving
+ * candidates against their folded name, so results are exact.
+ */
+@Component
+public class ProductNameIndex implements ProductCatalogIndex {
+
+	public static final int GRAM = 3;
+
+	private final int maxCandidates;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	/** Guarded by {@link #lock}; {@code null} until the first rebuild completes. */
+	private Postings postings;
+
+	public ProductNameIndex(@Value("${app.catalog.name-index.max-candidates:2000}") int maxCandidates) {
+		this.maxCandidates = maxCandidates;
+	}
+
+	public boolean isReady() {
+		lock.readLock().lock();
+		try {
+			return postings != null;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Ids of the products whose name contains {@code term}, in ascending order.
+	 * Empty when the index cannot answer and the caller should fall back to
+	 * SQL: the index is not loaded yet, the folded term is shorter than
+	 * {@value #GRAM} characters or contains {@code LIKE} wildcards, or more
+	 * than {@code app.catalog.name-index.max-candidates} products match (an
+	 * {@code IN} list that long is no cheaper than the scan).
+	 */
+	public Optional<List<Long>> search(String term) {
+		return match(term, maxCandidates).map(ids -> {
+			List<Long> result = new ArrayList<>((int) ids.getLongCardinality());
+			ids.forEach(result::add);
+			return result;
+		});
+	}
+
+	/**
+	 * Same as {@link #search} but without the result size limit, returning the
+	 * matching ids as a bitmap owned by the caller.
+	 */
+	public Optional<Roaring64NavigableMap> match(String term) {
+		return match(term, Integer.MAX_VALUE);
+	}
+
+	private Optional<Roaring64NavigableMap> match(String term, int limit) {
+		String folded = SearchText.fold(term);
+		if (folded == null || folded.length() < GRAM || folded.indexOf('%') >= 0 || folded.indexOf('_') >= 0) {
+			return Optional.empty();
+		}
+		lock.readLock().lock();
+		try {
+			return postings == null ? Optional.empty() : Optional.ofNullable(postings.match(folded, limit));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Ids of the products whose name matches {@code term} as the SQL search
+	 * does ({@link SearchText#like}), wildcards and short terms included, by
+	 * scanning the folded names the index already keeps. For terms
+	 * {@link #match} cannot answer; empty while the index is not loaded.
+	 */
+	public Optional<Roaring64NavigableMap> scan(String term) {
+		Predicate<String> matches = SearchText.like(term);
+		lock.readLock().lock();
+		try {
+			if (postings == null) {
+				return Optional.empty();
+			}
+			Roaring64NavigableMap result = new Roaring64NavigableMap();
+			postings.names.forEach((id, name) -> {
+				if (matches.test(name)) {
+					result.addLong(id);
+				}
+			});
+			return Optional.of(result);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public Rebuild rebuild() {
+		Postings fresh = new Postings();
+		return new Rebuild() {
+			@Override
+			public void add(ProductState product) {
+				fresh.add(product.id(), SearchText.fold(product.name()));
+			}
+
+			@Override
+			public void complete() {
+				fresh.grams.values().forEach(Roaring64NavigableMap::runOptimize);
+				lock.writeLock().lock();
+				try {
+					postings = fresh;
+				} finally {
+					lock.writeLock().unlock();
+				}
+			}
+		};
+	}
+
+	@Override
+	public void apply(ProductChangedEvent event) {
+		lock.writeLock().lock();
+		try {
+			if (postings == null) {
+				return;
+			}
+			if (event.before() != null) {
+				postings.remove(event.before().id());
+			}
+			if (event.after() != null) {
+				postings.add(event.after().id(), SearchText.fold(event.after().name()));
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/** Packs the three characters starting at {@code i} into one key. */
+	private static long gram(String text, int i) {
+		return ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+	}
+
+	private static final class Postings {
+		private final Map<Long, Roaring64NavigableMap> grams = new HashMap<>();
+		private final Map<Long, String> names = new HashMap<>();
+
+		private void add(long id, String name) {
+			names.put(id, name);
+			for (int i = 0; i + GRAM <= name.length(); i++) {
+				grams.computeIfAbsent(gram(name, i), key -> new Roaring64NavigableMap()).addLong(id);
+			}
+		}
+
+		private void remove(long id) {
+			String name = names.remove(id);
+			if (name == null) {
+				return;
+			}
+			for (int i = 0; i + GRAM <= name.length(); i++) {
+				long key = gram(name, i);
+				Roaring64NavigableMap ids = grams.get(key);
+				if (ids != null) {
+					ids.removeLong(id);
+					if (ids.isEmpty()) {
+						grams.remove(key);
+					}
+				}
+			}
+		}
+
+		/** Exact matches for {@code term}, or {@code null} once more than {@code limit} are found. */
+		private Roaring64NavigableMap match(String term, int limit) {
+			List<Roaring64NavigableMap> lists = new ArrayList<>();
+			for (int i = 0; i + GRAM <= term.length(); i++) {
+				Roaring64NavigableMap ids = grams.get(gram(term, i));
+				if (ids == null) {
+					return new Roaring64NavigableMap();
+				}
+				lists.add(ids);
+			}
+			// Intersect smallest first so the working set shrinks as fast as possible
+			lists.sort(Comparator.comparingLong(Roaring64NavigableMap::getLongCardinality));
+			Roaring64NavigableMap candidates = new Roaring64NavigableMap();
+			candidates.or(lists.get(0));
+			for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+				candidates.and(lists.get(i));
+			}
+
+			// Trigrams only prove the pieces are present; confirm the whole term
+			Roaring64NavigableMap matches = new Roaring64NavigableMap();
+			long found = 0;
+			for (LongIterator it = candidates.getLongIterator(); it.hasNext();) {
+				long id = it.next();
+				if (names.get(id).contains(term)) {
+					if (++found > limit) {
+						return null;
+					}
+					matches.addLong(id);
+				}
+			}
+			return matches;
+		}
+	}
+}
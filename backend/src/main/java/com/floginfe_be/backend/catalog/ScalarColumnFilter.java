@@ -0,0 +1,44 @@
+package com.floginfe_be.backend.catalog;
+
+/** Plain-loop {@link ColumnFilter}, used when the Vector API is unavailable. */
+final class ScalarColumnFilter implements ColumnFilter {
+
+	@Override
+	public void priceBetween(double[] prices, int size, double min, double max, long[] mask) {
+		priceBetween(prices, size, min, max, mask, 0);
+	}
+
+	@Override
+	public void quantityBetween(int[] quantities, int size, int min, int max, long[] mask) {
+		quantityBetween(quantities, size, min, max, mask, 0);
+	}
+
+	@Override
+	public void categoryEquals(byte[] categories, int size, byte category, long[] mask) {
+		categoryEquals(categories, size, category, mask, 0);
+	}
+
+	void priceBetween(double[] prices, int size, double min, double max, long[] mask, int from) {
+		for (int i = from; i < size; i++) {
+			if (!(prices[i] >= min && prices[i] <= max)) {
+				ColumnFilter.clear(mask, i);
+			}
+		}
+	}
+
+	void quantityBetween(int[] quantities, int size, int min, int max, long[] mask, int from) {
+		for (int i = from; i < size; i++) {
+			if (quantities[i] < min || quantities[i] > max) {
+				ColumnFilter.clear(mask, i);
+			}
+		}
+	}
+
+	void categoryEquals(byte[] categories, int size, byte category, long[] mask, int from) {
+		for (int i = from; i < size; i++) {
+			if (categories[i] != category) {
+				ColumnFilter.clear(mask, i);
+			}
+		}
+	}
+}
@@ -6,6 +6,7 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.core.env.Environment;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class DataSeeder implements CommandLineRunner {
@@ -20,7 +21,9 @@ public class DataSeeder implements CommandLineRunner {
         this.env = env;
     }
 
+    // One read-write transaction, so the existence checks read the primary like the inserts
     @Override
+    @Transactional
     public void run(String... args) throws Exception {
         String defaultUser1 = env.getProperty("CYPRESS_E2E_USER", "admin");
         String defaultUser2 = env.getProperty("CYPRESS_E2E_USER_2", "user");
@@ -0,0 +1,71 @@
+package com.floginfe_be.backend.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import com.floginfe_be.backend.datasource.JdbcCounters;
+import com.floginfe_be.backend.datasource.JdbcCountingListener;
+import com.floginfe_be.backend.datasource.RowCountingResultSetProxyLogic;
+import com.floginfe_be.backend.metrics.JdbcBudgetFilter;
+import com.floginfe_be.backend.metrics.JdbcBudgetProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Wraps the application data source so every statement and fetched row is
+ * added to {@link JdbcCounters}. Only the {@code dataSource} bean is wrapped:
+ * with read replicas enabled the pools behind the router stay unwrapped, so
+ * nothing is counted twice. {@link JdbcBudgetFilter} turns the counters into
+ * per-request metrics and budget warnings.
+ * <p>
+ * Statements are counted once each by a query listener. Counting rows read
+ * needs a proxy around every result set and an extra call on every
+ * {@code next()}, so it is only done while {@code app.jdbc-budget.enabled}
+ * is set; otherwise the row counts only include rows written.
+ */
+@Configuration
+@EnableConfigurationProperties(JdbcBudgetProperties.class)
+public class JdbcMetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor jdbcCountingDataSourcePostProcessor(Environment environment) {
+        boolean countRowsRead = environment.getProperty("app.jdbc-budget.enabled", Boolean.class, true);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!beanName.equals("dataSource") || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(new JdbcCountingListener());
+                if (countRowsRead) {
+                    builder.proxyResultSet(RowCountingResultSetProxyLogic::new);
+                }
+                return builder.build();
+            }
+        };
+    }
+
+    /** Outermost, so listing-cache hits are counted (as no statements) too. */
+    @Bean
+    @ConditionalOnProperty(name = "app.jdbc-budget.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<JdbcBudgetFilter> jdbcBudgetFilter(JdbcBudgetProperties budget,
+            MeterRegistry registry) {
+        FilterRegistrationBean<JdbcBudgetFilter> registration = new FilterRegistrationBean<>(
+                new JdbcBudgetFilter(budget, registry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,24 @@
+package com.floginfe_be.backend.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.floginfe_be.backend.cache.ProductListingCache;
+import com.floginfe_be.backend.cache.ProductListingCacheFilter;
+import com.floginfe_be.backend.catalog.CatalogVersion;
+
+@Configuration
+@ConditionalOnProperty(name = "app.listing-cache.enabled", havingValue = "true", matchIfMissing = true)
+public class ListingCacheConfig {
+
+	@Bean
+	public FilterRegistrationBean<ProductListingCacheFilter> productListingCacheFilter(ProductListingCache cache,
+			CatalogVersion catalogVersion) {
+		FilterRegistrationBean<ProductListingCacheFilter> registration = new FilterRegistrationBean<>(
+				new ProductListingCacheFilter(cache, catalogVersion));
+		registration.addUrlPatterns("/api/products");
+		return registration;
+	}
+}
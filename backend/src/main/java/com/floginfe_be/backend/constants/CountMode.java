@@ -0,0 +1,32 @@
+package com.floginfe_be.backend.constants;
+
+/**
+ * How {@code GET /api/products} computes {@code totalElements}.
+ */
+public enum CountMode {
+	/** No total at all, only {@code hasNext} (no COUNT query). */
+	NONE("none"),
+	/** Exact total from a {@code SELECT COUNT(*)} over the filter. */
+	EXACT("exact"),
+	/** Total estimated from in-memory category / bucket counters. */
+	ESTIMATED("estimated");
+
+	private final String value;
+
+	CountMode(String value) {
+		this.value = value;
+	}
+
+	public String getValue() {
+		return value;
+	}
+
+	public static CountMode from(String value) {
+		for (CountMode mode : values()) {
+			if (mode.value.equals(value)) {
+				return mode;
+			}
+		}
+		throw new IllegalArgumentException("Chế độ đếm không hợp lệ: " + value);
+	}
+}
@@ -0,0 +1,37 @@
+package com.floginfe_be.backend.constants;
+
+/**
+ * File format of {@code GET /api/products/export} and {@code POST /api/products/import}.
+ */
+public enum ExportFormat {
+	/** One JSON product per line ({@code application/x-ndjson}). */
+	NDJSON("ndjson", "application/x-ndjson"),
+	/** RFC 4180 CSV with a header row. */
+	CSV("csv", "text/csv;charset=UTF-8");
+
+	private final String value;
+
+	private final String contentType;
+
+	ExportFormat(String value, String contentType) {
+		this.value = value;
+		this.contentType = contentType;
+	}
+
+	public String getValue() {
+		return value;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public static ExportFormat from(String value) {
+		for (ExportFormat format : values()) {
+			if (format.value.equals(value)) {
+				return format;
+			}
+		}
+		throw new IllegalArgumentException("Định dạng xuất không hợp lệ: " + value);
+	}
+}
@@ -1,9 +1,14 @@
 package com.floginfe_be.backend.controller;
 
 import com.floginfe_be.backend.dto.request.LoginRequest;
+import com.floginfe_be.backend.dto.response.ApiResponse;
 import com.floginfe_be.backend.dto.response.LoginResponse;
+import com.floginfe_be.backend.security.JwtTokenService;
+import com.floginfe_be.backend.security.LoginRateLimiter;
 import com.floginfe_be.backend.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -12,13 +17,17 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
     private final AuthService authService;
+    private final JwtTokenService tokenService;
+    private final LoginRateLimiter rateLimiter;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, JwtTokenService tokenService, LoginRateLimiter rateLimiter) {
         this.authService = authService;
+        this.tokenService = tokenService;
+        this.rateLimiter = rateLimiter;
     }
 
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
+    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request, HttpServletRequest servletRequest) {
         // Validate input
         String validationError = authService.validateLogin(request.getUsername(), request.getPassword());
         if (!validationError.isEmpty()) {
@@ -26,13 +35,27 @@ public class AuthController {
             return ResponseEntity.badRequest().body(errorResponse);
         }
 
+        // Refuse over-limit attempts before the user lookup and password hashing
+        rateLimiter.acquire(request.getUsername(), servletRequest.getRemoteAddr());
+
         // Authenticate user
         LoginResponse response = authService.authenticate(request);
         
         if (!response.isSuccess()) {
             return ResponseEntity.status(401).body(response);
         }
-        
+
+        // Issue the access token used by later requests
+        JwtTokenService.IssuedToken token = tokenService.issue(request.getUsername());
+        response.setAccessToken(token.token());
+        response.setTokenType("Bearer");
+        response.setExpiresIn(token.expiresIn().toSeconds());
         return ResponseEntity.ok(response);
     }
+
+    /** The user named by the request's access token. */
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<String>> me(Authentication authentication) {
+        return ResponseEntity.ok(ApiResponse.success("Lấy thông tin người dùng thành công", authentication.getName()));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.floginfe_be.backend.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.floginfe_be.backend.dto.request.ProductBatchUpdateRequest;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.dto.response.ApiResponse;
+import com.floginfe_be.backend.dto.response.BatchResponse;
+import com.floginfe_be.backend.service.ProductBatchService;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Bulk variants of the product write endpoints. Items are validated by the
+ * service rather than with {@code @Valid} so that one bad item is reported
+ * in the per-item results instead of rejecting the whole batch.
+ */
+@RestController
+@RequestMapping("/api/products/batch")
+@AllArgsConstructor
+public class ProductBatchController {
+
+    private final ProductBatchService batchService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<BatchResponse>> create(@RequestBody List<ProductRequest> requests) {
+        return ok(batchService.createProducts(requests));
+    }
+
+    @PutMapping
+    public ResponseEntity<ApiResponse<BatchResponse>> update(@RequestBody List<ProductBatchUpdateRequest> requests) {
+        return ok(batchService.updateProducts(requests));
+    }
+
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<BatchResponse>> delete(@RequestBody List<Long> ids) {
+        return ok(batchService.deleteProducts(ids));
+    }
+
+    private static ResponseEntity<ApiResponse<BatchResponse>> ok(BatchResponse response) {
+        return ResponseEntity.ok(ApiResponse.success("Xử lý lô sản phẩm: " + response.getSucceeded()
+                + " thành công, " + response.getFailed() + " thất bại", response));
+    }
+}
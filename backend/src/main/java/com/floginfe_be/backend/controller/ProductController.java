@@ -1,18 +1,26 @@
 package com.floginfe_be.backend.controller;
 
+import com.floginfe_be.backend.catalog.CatalogVersion;
+import com.floginfe_be.backend.constants.CountMode;
 import com.floginfe_be.backend.dto.request.ProductFilterRequest;
 import com.floginfe_be.backend.dto.request.ProductRequest;
 import com.floginfe_be.backend.dto.response.ApiResponse;
+import com.floginfe_be.backend.dto.response.CursorPagedResponse;
 import com.floginfe_be.backend.dto.response.PagedResponse;
+import com.floginfe_be.backend.dto.response.ProductFacetsResponse;
 import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.dto.response.SliceResponse;
+import com.floginfe_be.backend.exception.PreconditionFailedException;
 import com.floginfe_be.backend.service.ProductService;
 
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
@@ -24,36 +32,113 @@ public class ProductController {
 
     private final ProductService productService;
 
+    private final CatalogVersion catalogVersion;
+
     @PostMapping
-    public ResponseEntity<ApiResponse<ProductDto>> create(@Valid @RequestBody ProductRequest request) {
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.success("Tạo sản phẩm thành công", productService.createProduct(request)));
+    public ResponseEntity<ApiResponse<ProductDto>> create(@RequestBody ProductRequest request) {
+        ProductDto product = productService.createProduct(request);
+        return versioned(ResponseEntity.status(HttpStatus.CREATED), product)
+                .body(ApiResponse.success("Tạo sản phẩm thành công", product));
     }
 
+    /** Answers {@code 304 Not Modified} when {@code If-None-Match} holds the current ETag. */
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ProductDto>> getById(@PathVariable Long id) {
-        return ResponseEntity.ok(ApiResponse.success("Lấy sản phẩm với id " + id + " thành công",
-                productService.getProductById(id)));
+        ProductDto product = productService.getProductById(id);
+        return versioned(ResponseEntity.ok(), product)
+                .body(ApiResponse.success("Lấy sản phẩm với id " + id + " thành công", product));
     }
 
     @GetMapping
     public ResponseEntity<ApiResponse<PagedResponse<ProductDto>>> getAll(
             @Valid @ModelAttribute @ParameterObject ProductFilterRequest request,
-            @ParameterObject @PageableDefault(size = 10) Pageable pageable) {
-        PagedResponse<ProductDto> response = productService.getAllProducts(request, pageable);
-        return ResponseEntity.ok(ApiResponse.success("Lấy danh sách sản phẩm thành công", response));
+            @RequestParam(defaultValue = "exact") String count,
+            @ParameterObject @PageableDefault(size = 10) Pageable pageable, WebRequest webRequest) {
+        CountMode countMode = CountMode.from(count);
+        String etag = catalogVersion.etag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        PagedResponse<ProductDto> response = productService.getAllProducts(request, pageable, countMode);
+        return ResponseEntity.ok().eTag(etag)
+                .body(ApiResponse.success("Lấy danh sách sản phẩm thành công", response));
+    }
+
+    @GetMapping(params = { "count=none", "!after" })
+    public ResponseEntity<ApiResponse<SliceResponse<ProductDto>>> getAllWithoutCount(
+            @Valid @ModelAttribute @ParameterObject ProductFilterRequest request,
+            @ParameterObject @PageableDefault(size = 10) Pageable pageable, WebRequest webRequest) {
+        String etag = catalogVersion.etag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        SliceResponse<ProductDto> response = productService.getProductSlice(request, pageable);
+        return ResponseEntity.ok().eTag(etag)
+                .body(ApiResponse.success("Lấy danh sách sản phẩm thành công", response));
+    }
+
+    @GetMapping(params = "after")
+    public ResponseEntity<ApiResponse<CursorPagedResponse<ProductDto>>> getAllAfter(
+            @Valid @ModelAttribute @ParameterObject ProductFilterRequest request,
+            @RequestParam String after,
+            @ParameterObject @PageableDefault(size = 10) Pageable pageable, WebRequest webRequest) {
+        String etag = catalogVersion.etag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        CursorPagedResponse<ProductDto> response = productService.getProductsAfter(request, after, pageable);
+        return ResponseEntity.ok().eTag(etag)
+                .body(ApiResponse.success("Lấy danh sách sản phẩm thành công", response));
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<ProductFacetsResponse>> getFacets(
+            @Valid @ModelAttribute @ParameterObject ProductFilterRequest request, WebRequest webRequest) {
+        String etag = catalogVersion.etag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(etag).body(ApiResponse.success("Lấy thống kê bộ lọc sản phẩm thành công",
+                productService.getFacets(request)));
     }
 
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<ProductDto>> update(@PathVariable Long id,
-            @Valid @RequestBody ProductRequest request) {
-        return ResponseEntity.ok(ApiResponse.success("Cập nhật sản phẩm với id " + id + " thành công",
-                productService.updateProduct(id, request)));
+            @RequestBody ProductRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ProductDto product = productService.updateProduct(id, request, expectedVersion(ifMatch));
+        return versioned(ResponseEntity.ok(), product)
+                .body(ApiResponse.success("Cập nhật sản phẩm với id " + id + " thành công", product));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
-        productService.deleteProduct(id);
+    public ResponseEntity<Void> delete(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        productService.deleteProduct(id, expectedVersion(ifMatch));
         return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
+
+    private static ResponseEntity.BodyBuilder versioned(ResponseEntity.BodyBuilder builder, ProductDto product) {
+        return product.getVersion() == null ? builder : builder.eTag("\"" + product.getVersion() + "\"");
+    }
+
+    /**
+     * Version required by an {@code If-Match} header, or {@code null} when any
+     * version is acceptable (no header or {@code *}). Weak or foreign ETags
+     * can never match a strong comparison.
+     */
+    private static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            try {
+                return Long.valueOf(tag.substring(1, tag.length() - 1));
+            } catch (NumberFormatException ignored) {
+                // fall through
+            }
+        }
+        throw new PreconditionFailedException("If-Match không khớp với phiên bản hiện tại của sản phẩm");
+    }
 }
@@ -0,0 +1,60 @@
+package com.floginfe_be.backend.controller;
+
+import java.time.Duration;
+
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.floginfe_be.backend.constants.ExportFormat;
+import com.floginfe_be.backend.dto.request.ProductFilterRequest;
+import com.floginfe_be.backend.service.ProductExportService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+
+/**
+ * Full-catalog export. The body is written by the export service directly
+ * to the response stream from an async worker, after this method returns.
+ * Only this request gets the long {@code app.export.request-timeout}; other
+ * async requests keep the default.
+ */
+@RestController
+@RequestMapping("/api/products/export")
+public class ProductExportController {
+
+    private final ProductExportService exportService;
+
+    private final Duration timeout;
+
+    public ProductExportController(ProductExportService exportService,
+            @Value("${app.export.request-timeout:30m}") Duration timeout) {
+        this.exportService = exportService;
+        this.timeout = timeout;
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @Valid @ModelAttribute @ParameterObject ProductFilterRequest request,
+            @RequestParam(defaultValue = "ndjson") String format, HttpServletRequest servletRequest) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        WebAsyncUtils.getAsyncManager(servletRequest).getAsyncWebRequest().setTimeout(timeout.toMillis());
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("products." + exportFormat.getValue())
+                        .build()
+                        .toString())
+                .body(out -> exportService.exportProducts(request, exportFormat, out));
+    }
+}
@@ -0,0 +1,72 @@
+package com.floginfe_be.backend.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.floginfe_be.backend.constants.ExportFormat;
+import com.floginfe_be.backend.importer.ProductImportReader;
+import com.floginfe_be.backend.service.ProductImportService;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Bulk catalog import from the raw request body, in either export format
+ * selected by {@code Content-Type}. The CSV header is checked before the
+ * response starts, so a file that cannot be imported at all gets a 400;
+ * after that the body is read by the import service while the report
+ * streams back, under {@code app.import.request-timeout} rather than the
+ * default async timeout.
+ */
+@RestController
+@RequestMapping("/api/products/import")
+public class ProductImportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final ProductImportService importService;
+
+    private final ObjectMapper objectMapper;
+
+    private final Duration timeout;
+
+    public ProductImportController(ProductImportService importService, ObjectMapper objectMapper,
+            @Value("${app.import.request-timeout:30m}") Duration timeout) {
+        this.importService = importService;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+    }
+
+    @PostMapping(consumes = { NDJSON, "text/csv" })
+    public ResponseEntity<StreamingResponseBody> importProducts(InputStream body,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, HttpServletRequest servletRequest)
+            throws IOException {
+        ProductImportReader reader = ProductImportReader.create(formatOf(contentType), body, objectMapper);
+        WebAsyncUtils.getAsyncManager(servletRequest).getAsyncWebRequest().setTimeout(timeout.toMillis());
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON))
+                .body(out -> importService.importProducts(reader, out));
+    }
+
+    private static ExportFormat formatOf(String contentType) {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        for (ExportFormat format : ExportFormat.values()) {
+            if (MediaType.parseMediaType(format.getContentType()).isCompatibleWith(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Định dạng tệp không hợp lệ: " + contentType);
+    }
+}
@@ -0,0 +1,42 @@
+package com.floginfe_be.backend.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * {@code app.datasource.routing.*}: read replicas that read-only transactions
+ * are sent to. The primary is the regular {@code spring.datasource}.
+ */
+@Data
+@ConfigurationProperties("app.datasource.routing")
+public class DataSourceRoutingProperties {
+
+	private boolean enabled;
+
+	private ReplicaSelection selection = ReplicaSelection.ROUND_ROBIN;
+
+	/**
+	 * After a write commits, read-only transactions stay on the primary this
+	 * long so reads see it despite replication lag. Zero turns it off.
+	 */
+	private Duration readYourWrites = Duration.ofSeconds(2);
+
+	private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+	private List<Replica> replicas = new ArrayList<>();
+
+	@Data
+	public static class Replica {
+		private String url;
+		private String username;
+		private String password;
+		private int maximumPoolSize = 10;
+		/** Kept short so a dead replica falls back to the primary quickly. */
+		private Duration connectionTimeout = Duration.ofSeconds(2);
+	}
+}
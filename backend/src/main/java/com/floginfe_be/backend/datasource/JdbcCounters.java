@@ -0,0 +1,108 @@
+package com.floginfe_be.backend.datasource;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Running totals of the JDBC work done by the current thread, kept by
+ * {@link JdbcCountingListener}. Callers take a {@link #snapshot} before and
+ * after a unit of work and subtract, or {@link #open} a {@link Scope} that
+ * also counts executions per SQL string.
+ */
+public final class JdbcCounters {
+
+	private static final ThreadLocal<JdbcCounters> CURRENT = ThreadLocal.withInitial(JdbcCounters::new);
+
+	long statements;
+
+	long rows;
+
+	long nanos;
+
+	/** {@link System#nanoTime} when the statement in flight started. */
+	long started;
+
+	/** Executions per SQL string while a {@link Scope} is open, otherwise {@code null}. */
+	Map<String, Integer> executions;
+
+	private JdbcCounters() {
+	}
+
+	static JdbcCounters current() {
+		return CURRENT.get();
+	}
+
+	void executed(String sql) {
+		if (executions != null) {
+			executions.merge(sql, 1, Integer::sum);
+		}
+	}
+
+	public static Snapshot snapshot() {
+		JdbcCounters counters = CURRENT.get();
+		return new Snapshot(counters.statements, counters.rows, counters.nanos);
+	}
+
+	/**
+	 * Starts counting the statements of this thread per SQL string. Scopes
+	 * nest; the outermost one owns the per-statement counts.
+	 */
+	public static Scope open() {
+		JdbcCounters counters = CURRENT.get();
+		boolean outermost = counters.executions == null;
+		if (outermost) {
+			counters.executions = new HashMap<>();
+		}
+		return new Scope(counters, snapshot(), outermost);
+	}
+
+	/**
+	 * @param statements statements executed, a JDBC batch counting once
+	 * @param rows rows read from result sets plus rows reported changed
+	 * @param nanos time spent executing statements
+	 */
+	public record Snapshot(long statements, long rows, long nanos) {
+
+		public Snapshot minus(Snapshot earlier) {
+			return new Snapshot(statements - earlier.statements, rows - earlier.rows, nanos - earlier.nanos);
+		}
+	}
+
+	public static final class Scope implements AutoCloseable {
+
+		private final JdbcCounters counters;
+
+		private final Snapshot start;
+
+		private final boolean outermost;
+
+		private Scope(JdbcCounters counters, Snapshot start, boolean outermost) {
+			this.counters = counters;
+			this.start = start;
+			this.outermost = outermost;
+		}
+
+		/** Work done on this thread since the scope was opened. */
+		public Snapshot usage() {
+			return snapshot().minus(start);
+		}
+
+		/**
+		 * The SQL string executed most often in this scope and how often, or
+		 * {@code null} if nothing ran. Only the outermost scope knows.
+		 */
+		public Map.Entry<String, Integer> mostRepeated() {
+			if (!outermost) {
+				return null;
+			}
+			return counters.executions.entrySet().stream().max(Map.Entry.comparingByValue()).orElse(null);
+		}
+
+		@Override
+		public void close() {
+			if (outermost) {
+				counters.executions = null;
+			}
+		}
+	}
+}
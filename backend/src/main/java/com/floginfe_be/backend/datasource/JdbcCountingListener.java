@@ -0,0 +1,55 @@
+package com.floginfe_be.backend.datasource;
+
+import java.sql.Statement;
+import java.util.List;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Adds every statement run through a datasource-proxy data source to the
+ * executing thread's {@link JdbcCounters}: statements, time and the update
+ * counts the driver reports. Rows read are counted by
+ * {@link RowCountingResultSetProxyLogic} when result sets are proxied.
+ */
+public class JdbcCountingListener implements QueryExecutionListener {
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		JdbcCounters.current().started = System.nanoTime();
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		JdbcCounters counters = JdbcCounters.current();
+		counters.nanos += System.nanoTime() - counters.started;
+		counters.statements++;
+		counters.rows += updateCount(execInfo.getResult());
+		for (QueryInfo query : queryInfoList) {
+			counters.executed(query.getQuery());
+		}
+	}
+
+	private static long updateCount(Object result) {
+		if (result instanceof Number count) {
+			return Math.max(0, count.longValue());
+		}
+		long rows = 0;
+		if (result instanceof int[] counts) {
+			for (int count : counts) {
+				rows += batchCount(count);
+			}
+		} else if (result instanceof long[] counts) {
+			for (long count : counts) {
+				rows += batchCount(count);
+			}
+		}
+		return rows;
+	}
+
+	/** Drivers that rewrite batches report {@link Statement#SUCCESS_NO_INFO}; count the row as written. */
+	private static long batchCount(long count) {
+		return count == Statement.SUCCESS_NO_INFO ? 1 : Math.max(0, count);
+	}
+}
@@ -0,0 +1,255 @@
+package com.floginfe_be.backend.datasource;
+
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.floginfe_be.backend.dto.response.DataSourceStatsDto;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends connections for read-only transactions to a healthy read replica and
+ * everything else to the primary.
+ * <p>
+ * The decision is made when the connection is first used, so this must sit
+ * behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction's read-only flag is only published after the transaction
+ * manager has asked for a connection. After a write commits, read-only
+ * transactions stay on the primary for {@code readYourWrites} so this
+ * instance, and the caches it feeds, never read a row older than its own
+ * write. A replica that fails to hand out a connection is marked down and
+ * the read goes to the primary; {@link #checkReplicas} brings it back.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements Closeable, MeterBinder {
+
+	private final Pool primary;
+
+	private final List<Pool> replicas;
+
+	private final ReplicaSelection selection;
+
+	private final long readYourWritesNanos;
+
+	private final AtomicLong next = new AtomicLong();
+
+	/** {@link System#nanoTime} of the last write committed through this data source. */
+	private volatile long lastWriteNanos;
+
+	private volatile boolean written;
+
+	public ReadWriteRoutingDataSource(DataSource primary, Map<String, ? extends DataSource> replicas,
+			ReplicaSelection selection, Duration readYourWrites) {
+		this.primary = new Pool("primary", primary, true);
+		this.replicas = new ArrayList<>(replicas.size());
+		replicas.forEach((name, dataSource) -> this.replicas.add(new Pool(name, dataSource, false)));
+		this.selection = selection;
+		this.readYourWritesNanos = readYourWrites.toNanos();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (!recentlyWritten()) {
+				Pool replica = pickReplica();
+				if (replica != null) {
+					try {
+						return replica.open();
+					} catch (SQLException ex) {
+						markDown(replica, ex);
+					}
+				}
+			}
+		} else if (TransactionSynchronizationManager.isActualTransactionActive()
+				&& TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					lastWriteNanos = System.nanoTime();
+					written = true;
+				}
+			});
+		}
+		return primary.open();
+	}
+
+	/**
+	 * Explicit credentials can only be meant for the primary, so these
+	 * connections are never routed to a replica.
+	 */
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return primary.open(username, password);
+	}
+
+	private boolean recentlyWritten() {
+		return written && System.nanoTime() - lastWriteNanos < readYourWritesNanos;
+	}
+
+	/** A healthy replica chosen by {@link #selection}, or {@code null} if none is up. */
+	private Pool pickReplica() {
+		int size = replicas.size();
+		if (size == 0) {
+			return null;
+		}
+		int start = (int) Math.floorMod(next.getAndIncrement(), (long) size);
+		Pool chosen = null;
+		for (int i = 0; i < size; i++) {
+			Pool candidate = replicas.get((start + i) % size);
+			if (!candidate.healthy) {
+				continue;
+			}
+			if (selection == ReplicaSelection.ROUND_ROBIN) {
+				return candidate;
+			}
+			// Scanning from a rotating start spreads ties across the replicas
+			if (chosen == null || candidate.activeConnections() < chosen.activeConnections()) {
+				chosen = candidate;
+			}
+		}
+		return chosen;
+	}
+
+	private void markDown(Pool replica, SQLException ex) {
+		if (replica.healthy) {
+			replica.healthy = false;
+			log.warn("Replica {} is unavailable, reading from the primary until it recovers: {}", replica.name,
+					ex.getMessage());
+		}
+	}
+
+	@Scheduled(initialDelayString = "${app.datasource.routing.health-check-interval:PT5S}",
+			fixedDelayString = "${app.datasource.routing.health-check-interval:PT5S}")
+	public void checkReplicas() {
+		for (Pool replica : replicas) {
+			boolean healthy;
+			try (Connection connection = replica.dataSource.getConnection()) {
+				healthy = connection.isValid(1);
+			} catch (SQLException ex) {
+				healthy = false;
+			}
+			if (healthy && !replica.healthy) {
+				log.info("Replica {} is back, routing reads to it again", replica.name);
+			} else if (!healthy && replica.healthy) {
+				log.warn("Replica {} failed its health check, reading from the primary until it recovers",
+						replica.name);
+			}
+			replica.healthy = healthy;
+		}
+	}
+
+	/** The primary first, then the replicas in configuration order. */
+	public List<DataSourceStatsDto> stats() {
+		List<DataSourceStatsDto> stats = new ArrayList<>(replicas.size() + 1);
+		stats.add(primary.stats());
+		replicas.forEach(replica -> stats.add(replica.stats()));
+		return stats;
+	}
+
+	/**
+	 * Connections handed out and health per pool. Pool-level metrics (pending
+	 * threads, acquire time) come from Hikari itself.
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		List<Pool> pools = new ArrayList<>(replicas.size() + 1);
+		pools.add(primary);
+		pools.addAll(replicas);
+		for (Pool pool : pools) {
+			FunctionCounter.builder("datasource.routed", pool.routed, LongAdder::sum)
+					.description("Connections routed to the pool")
+					.tag("pool", pool.name)
+					.register(registry);
+			Gauge.builder("datasource.healthy", pool, p -> p.healthy ? 1 : 0)
+					.description("1 while the pool is routed to, 0 while marked down")
+					.tag("pool", pool.name)
+					.register(registry);
+		}
+	}
+
+	/** Closes the replica pools; the primary is a bean of its own. */
+	@Override
+	public void close() {
+		for (Pool replica : replicas) {
+			if (replica.dataSource instanceof Closeable closeable) {
+				try {
+					closeable.close();
+				} catch (Exception ex) {
+					log.warn("Failed to close replica {}", replica.name, ex);
+				}
+			}
+		}
+	}
+
+	private static final class Pool {
+		private final String name;
+		private final DataSource dataSource;
+		private final boolean primary;
+		private final LongAdder routed = new LongAdder();
+		private volatile boolean healthy = true;
+
+		Pool(String name, DataSource dataSource, boolean primary) {
+			this.name = name;
+			this.dataSource = dataSource;
+			this.primary = primary;
+		}
+
+		Connection open() throws SQLException {
+			Connection connection = dataSource.getConnection();
+			routed.increment();
+			return connection;
+		}
+
+		Connection open(String username, String password) throws SQLException {
+			Connection connection = dataSource.getConnection(username, password);
+			routed.increment();
+			return connection;
+		}
+
+		/** Connections in use; non-Hikari pools report 0, so they tie and rotate. */
+		int activeConnections() {
+			HikariPoolMXBean pool = poolBean();
+			return pool != null ? pool.getActiveConnections() : 0;
+		}
+
+		private HikariPoolMXBean poolBean() {
+			return dataSource instanceof HikariDataSource hikari ? hikari.getHikariPoolMXBean() : null;
+		}
+
+		DataSourceStatsDto stats() {
+			DataSourceStatsDto.DataSourceStatsDtoBuilder stats = DataSourceStatsDto.builder()
+					.pool(name)
+					.primary(primary)
+					.healthy(healthy)
+					.routed(routed.sum());
+			HikariPoolMXBean pool = poolBean();
+			if (pool != null) {
+				stats.activeConnections(pool.getActiveConnections())
+						.idleConnections(pool.getIdleConnections())
+						.totalConnections(pool.getTotalConnections())
+						.threadsAwaitingConnection(pool.getThreadsAwaitingConnection());
+			}
+			return stats.build();
+		}
+	}
+}
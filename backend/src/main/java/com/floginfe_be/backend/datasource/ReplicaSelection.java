@@ -0,0 +1,9 @@
+package com.floginfe_be.backend.datasource;
+
+/** How {@link ReadWriteRoutingDataSource} picks among the healthy replicas. */
+public enum ReplicaSelection {
+	/** Each read-only transaction takes the next replica in turn. */
+	ROUND_ROBIN,
+	/** The replica pool with the fewest connections in use. */
+	LEAST_LOADED
+}
@@ -0,0 +1,49 @@
+package com.floginfe_be.backend.datasource;
+
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.ProxyLogicSupport;
+import net.ttddyy.dsproxy.proxy.ResultSetProxyLogic;
+
+/**
+ * Result set proxy that adds a row to the thread's {@link JdbcCounters} each
+ * time {@link ResultSet#next} returns {@code true}. Unlike a method listener
+ * it adds nothing to connection and statement calls, and on result sets it
+ * skips the per-call listener context; use it as
+ * {@code proxyResultSet(RowCountingResultSetProxyLogic::new)}.
+ */
+public class RowCountingResultSetProxyLogic extends ProxyLogicSupport implements ResultSetProxyLogic {
+
+	private final ResultSet resultSet;
+
+	private final ProxyConfig proxyConfig;
+
+	public RowCountingResultSetProxyLogic(ResultSet resultSet, ConnectionInfo connectionInfo,
+			ProxyConfig proxyConfig) {
+		this.resultSet = resultSet;
+		this.proxyConfig = proxyConfig;
+	}
+
+	@Override
+	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+		return performProxyLogic(proxy, method, args, null);
+	}
+
+	@Override
+	protected Object performProxyLogic(Object proxy, Method method, Object[] args,
+			MethodExecutionContext methodContext) throws Throwable {
+		String name = method.getName();
+		if (isCommonMethod(name)) {
+			return handleCommonMethod(name, resultSet, proxyConfig, args);
+		}
+		Object result = proceedExecution(method, resultSet, args);
+		if (name.equals("next") && Boolean.TRUE.equals(result)) {
+			JdbcCounters.current().rows++;
+		}
+		return result;
+	}
+}
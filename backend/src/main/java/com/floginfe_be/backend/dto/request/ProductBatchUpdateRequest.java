@@ -0,0 +1,26 @@
+package com.floginfe_be.backend.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One item of {@code PUT /api/products/batch}: the product fields at the top
+ * level next to the {@code id} and, optionally, the {@code version} the
+ * client last read (same semantics as {@code If-Match}).
+ */
+@AllArgsConstructor
+@Data
+@Builder
+@NoArgsConstructor
+public class ProductBatchUpdateRequest {
+	private Long id;
+
+	private Long version;
+
+	@JsonUnwrapped
+	private ProductRequest product;
+}
@@ -0,0 +1,30 @@
+package com.floginfe_be.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one item of a batch request; {@code index} is its position in
+ * the request body.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BatchItemResult {
+    private int index;
+    private Long id;
+    private Long version;
+    private boolean success;
+    private String message;
+
+    public static BatchItemResult success(int index, Long id, Long version) {
+        return new BatchItemResult(index, id, version, true, null);
+    }
+
+    public static BatchItemResult failure(int index, Long id, String message) {
+        return new BatchItemResult(index, id, null, false, message);
+    }
+}
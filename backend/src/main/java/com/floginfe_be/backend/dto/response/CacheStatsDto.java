@@ -0,0 +1,19 @@
+package com.floginfe_be.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheStatsDto {
+	private long size;
+	private long hitCount;
+	private long missCount;
+	private long negativeHitCount;
+	private long evictionCount;
+	private double hitRate;
+}
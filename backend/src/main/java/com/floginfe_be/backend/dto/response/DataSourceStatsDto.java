@@ -0,0 +1,22 @@
+package com.floginfe_be.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DataSourceStatsDto {
+	private String pool;
+	private boolean primary;
+	private boolean healthy;
+	/** Connections handed out by the router since startup. */
+	private long routed;
+	private int activeConnections;
+	private int idleConnections;
+	private int totalConnections;
+	private int threadsAwaitingConnection;
+}
@@ -0,0 +1,20 @@
+package com.floginfe_be.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A record of an imported file that was not written; {@code line} is the
+ * line of the file it starts on.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportRowError {
+    private int line;
+    private String name;
+    private String message;
+}
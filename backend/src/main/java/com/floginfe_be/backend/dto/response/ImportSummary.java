@@ -0,0 +1,21 @@
+package com.floginfe_be.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Final line of an import report: records read, and how many of them created
+ * a product, updated an existing one (matched by name) or failed.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportSummary {
+    private long rows;
+    private long created;
+    private long updated;
+    private long failed;
+}
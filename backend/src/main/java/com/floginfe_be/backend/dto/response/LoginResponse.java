@@ -1,5 +1,7 @@
 package com.floginfe_be.backend.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -7,7 +9,18 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class LoginResponse {
     private boolean success;
     private String message;
-}
\ No newline at end of file
+    /** Signed access token, sent back as {@code Authorization: Bearer <token>}; only on success. */
+    private String accessToken;
+    private String tokenType;
+    /** Seconds until {@link #accessToken} expires. */
+    private Long expiresIn;
+
+    public LoginResponse(boolean success, String message) {
+        this.success = success;
+        this.message = message;
+    }
+}
@@ -19,4 +19,5 @@ public class PagedResponse<T> {
     private int totalPages;
     private boolean hasNext;
     private boolean hasPrevious;
+    private boolean estimated;
 }
@@ -18,4 +18,9 @@ public class ProductDto {
 	private int quantity;
 	private Categories category;
 	private String description;
+	private Long version;
+
+	public ProductDto(Long id, String name, double price, int quantity, Categories category, String description) {
+		this(id, name, price, quantity, category, description, null);
+	}
 }
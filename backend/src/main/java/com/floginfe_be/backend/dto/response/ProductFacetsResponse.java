@@ -0,0 +1,24 @@
+package com.floginfe_be.backend.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Facet counts for a product filter. {@code total} matches the full filter;
+ * each facet list ignores its own filter so the other choices keep their
+ * counts.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProductFacetsResponse {
+    private long total;
+    private List<FacetCount> categories;
+    private List<RangeFacetCount> prices;
+    private List<RangeFacetCount> quantities;
+}
@@ -0,0 +1,17 @@
+package com.floginfe_be.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** Number of products with a value in {@code [from, to)}. */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RangeFacetCount {
+    private double from;
+    private double to;
+    private long count;
+}
@@ -1,6 +1,8 @@
 package com.floginfe_be.backend.entity;
 
 import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.util.ProductNames;
+import com.floginfe_be.backend.util.SearchText;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -9,7 +11,10 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,8 +27,13 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @Builder
 public class Product {
+    /** Ids reserved per round trip to {@code product_seq}; keep in line with {@code hibernate.jdbc.batch_size}. */
+    public static final int ID_ALLOCATION_SIZE = 100;
+
+    // A pooled sequence (a table on MySQL) instead of IDENTITY so that inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id", nullable = false, updatable = false)
     private Long id;
 
@@ -42,4 +52,39 @@ public class Product {
 
     @Column(name = "description", nullable = false)
     private String description;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    /** {@link ProductNames#key} of {@link #name}; its unique index is what name uniqueness checks look up. */
+    @Column(name = "name_key", nullable = false, unique = true)
+    private String nameKey;
+
+    /** {@link SearchText#fold} of {@link #name}; the SQL search matches on it like the in-memory name index. */
+    @Column(name = "search_name", nullable = false)
+    private String searchName;
+
+    public Product(Long id, String name, Double price, Integer quantity, Categories category, String description) {
+        this(id, name, price, quantity, category, description, null);
+    }
+
+    public Product(Long id, String name, Double price, Integer quantity, Categories category, String description,
+            Long version) {
+        this(id, name, price, quantity, category, description, version, ProductNames.key(name),
+                SearchText.fold(name));
+    }
+
+    public void setName(String name) {
+        this.name = name;
+        this.nameKey = ProductNames.key(name);
+        this.searchName = SearchText.fold(name);
+    }
+
+    // The builder and the all-args constructor take nameKey and searchName as given
+    @PrePersist
+    void deriveNameKey() {
+        nameKey = ProductNames.key(name);
+        searchName = SearchText.fold(name);
+    }
 }
@@ -0,0 +1,20 @@
+package com.floginfe_be.backend.event;
+
+/**
+ * Published by product writes. {@code before} is {@code null} for a create,
+ * {@code after} is {@code null} for a delete.
+ */
+public record ProductChangedEvent(Long id, ProductState before, ProductState after) {
+
+	public static ProductChangedEvent created(ProductState after) {
+		return new ProductChangedEvent(after.id(), null, after);
+	}
+
+	public static ProductChangedEvent updated(ProductState before, ProductState after) {
+		return new ProductChangedEvent(after.id(), before, after);
+	}
+
+	public static ProductChangedEvent deleted(ProductState before) {
+		return new ProductChangedEvent(before.id(), before, null);
+	}
+}
@@ -0,0 +1,21 @@
+package com.floginfe_be.backend.event;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.entity.Product;
+
+/**
+ * Immutable copy of the product columns the in-memory catalog indexes need.
+ */
+public record ProductState(Long id, String name, double price, int quantity, Categories category) {
+
+	public static ProductState of(Product product) {
+		return new ProductState(product.getId(), product.getName(), product.getPrice(), product.getQuantity(),
+				product.getCategory());
+	}
+
+	public static ProductState of(ProductDto product) {
+		return new ProductState(product.getId(), product.getName(), product.getPrice(), product.getQuantity(),
+				product.getCategory());
+	}
+}
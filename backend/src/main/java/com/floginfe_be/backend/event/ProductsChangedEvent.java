@@ -0,0 +1,16 @@
+package com.floginfe_be.backend.event;
+
+import java.util.List;
+
+/**
+ * Published once by writes that change many products in one transaction
+ * (batch endpoints, one import chunk) instead of one
+ * {@link ProductChangedEvent} per product, so listeners can apply the whole
+ * set at once.
+ */
+public record ProductsChangedEvent(List<ProductChangedEvent> changes) {
+
+	public ProductsChangedEvent {
+		changes = List.copyOf(changes);
+	}
+}
@@ -0,0 +1,11 @@
+package com.floginfe_be.backend.exception;
+
+/**
+ * An {@code If-Match} precondition did not hold: the resource changed since
+ * the client last read it.
+ */
+public class PreconditionFailedException extends RuntimeException {
+	public PreconditionFailedException(String message) {
+		super(message);
+	}
+}
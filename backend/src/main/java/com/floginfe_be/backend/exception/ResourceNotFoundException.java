@@ -5,4 +5,11 @@ public class ResourceNotFoundException extends RuntimeException {
 		super(message);
 	}
 
+	/**
+	 * Variant without a stack trace, for lookups that are expected to miss
+	 * often (e.g. cached "not found" results).
+	 */
+	public ResourceNotFoundException(String message, boolean writableStackTrace) {
+		super(message, null, false, writableStackTrace);
+	}
 }
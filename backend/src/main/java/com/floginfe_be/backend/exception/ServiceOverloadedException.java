@@ -0,0 +1,21 @@
+package com.floginfe_be.backend.exception;
+
+import java.time.Duration;
+
+/**
+ * A bounded resource (such as the password verification pool) is saturated;
+ * the request was refused instead of queued. Answered with
+ * {@code 503 Service Unavailable} and {@code Retry-After}.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+	private final Duration retryAfter;
+
+	public ServiceOverloadedException(String message, Duration retryAfter) {
+		super(message);
+		this.retryAfter = retryAfter;
+	}
+
+	public Duration getRetryAfter() {
+		return retryAfter;
+	}
+}
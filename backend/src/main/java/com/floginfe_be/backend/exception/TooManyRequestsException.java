@@ -0,0 +1,21 @@
+package com.floginfe_be.backend.exception;
+
+import java.time.Duration;
+
+/**
+ * The client exceeded a rate limit; answered with
+ * {@code 429 Too Many Requests} and {@code Retry-After}. Thrown on every
+ * refused attempt of a brute-force loop, so it carries no stack trace.
+ */
+public class TooManyRequestsException extends RuntimeException {
+	private final Duration retryAfter;
+
+	public TooManyRequestsException(String message, Duration retryAfter) {
+		super(message, null, false, false);
+		this.retryAfter = retryAfter;
+	}
+
+	public Duration getRetryAfter() {
+		return retryAfter;
+	}
+}
@@ -0,0 +1,76 @@
+package com.floginfe_be.backend.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import com.floginfe_be.backend.dto.response.ProductDto;
+
+/**
+ * RFC 4180 CSV: a header row, CRLF line endings, and fields quoted only when
+ * they contain a comma, quote or line break.
+ */
+class CsvProductWriter implements ProductExportWriter {
+
+	static final String HEADER = "id,name,price,quantity,category,description,version";
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final Writer out;
+
+	CsvProductWriter(OutputStream out) throws IOException {
+		this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+		this.out.write(HEADER);
+		this.out.write("\r\n");
+	}
+
+	@Override
+	public void write(ProductDto product) throws IOException {
+		out.write(String.valueOf(product.getId()));
+		out.write(',');
+		field(product.getName());
+		out.write(',');
+		// Plain notation: Double.toString would print large prices as 1.2E8
+		out.write(BigDecimal.valueOf(product.getPrice()).stripTrailingZeros().toPlainString());
+		out.write(',');
+		out.write(Integer.toString(product.getQuantity()));
+		out.write(',');
+		if (product.getCategory() != null) {
+			out.write(product.getCategory().name());
+		}
+		out.write(',');
+		field(product.getDescription());
+		out.write(',');
+		if (product.getVersion() != null) {
+			out.write(product.getVersion().toString());
+		}
+		out.write("\r\n");
+	}
+
+	private void field(String value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		boolean quote = false;
+		for (int i = 0; i < value.length() && !quote; i++) {
+			char c = value.charAt(i);
+			quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+		}
+		if (!quote) {
+			out.write(value);
+			return;
+		}
+		out.write('"');
+		out.write(value.replace("\"", "\"\""));
+		out.write('"');
+	}
+
+	@Override
+	public void close() throws IOException {
+		out.flush();
+	}
+}
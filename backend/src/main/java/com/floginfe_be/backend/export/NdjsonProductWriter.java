@@ -0,0 +1,42 @@
+package com.floginfe_be.backend.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.floginfe_be.backend.dto.response.ProductDto;
+
+/**
+ * Newline-delimited JSON, serialized with the application's
+ * {@link ObjectMapper} so each line matches the product JSON of the REST API.
+ */
+class NdjsonProductWriter implements ProductExportWriter {
+
+	private final JsonGenerator generator;
+
+	private final ObjectWriter writer;
+
+	NdjsonProductWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+		this.generator = objectMapper.getFactory().createGenerator(out)
+				.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+				// Lines are delimited by '\n' alone; by default Jackson also puts a space between root values
+				.setRootValueSeparator(null);
+		// Flushing after every value would turn each row into a socket write
+		this.writer = objectMapper.writerFor(ProductDto.class)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+	}
+
+	@Override
+	public void write(ProductDto product) throws IOException {
+		writer.writeValue(generator, product);
+		generator.writeRaw('\n');
+	}
+
+	@Override
+	public void close() throws IOException {
+		generator.close();
+	}
+}
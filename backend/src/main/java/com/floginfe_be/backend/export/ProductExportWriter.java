@@ -0,0 +1,29 @@
+package com.floginfe_be.backend.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.floginfe_be.backend.constants.ExportFormat;
+import com.floginfe_be.backend.dto.response.ProductDto;
+
+/**
+ * Writes exported products one at a time to an output stream, so nothing but
+ * the current row and a fixed-size buffer is held in memory.
+ * <p>
+ * {@link #close()} flushes the buffered output but leaves the underlying
+ * stream open.
+ */
+public interface ProductExportWriter extends Closeable {
+
+	void write(ProductDto product) throws IOException;
+
+	static ProductExportWriter create(ExportFormat format, OutputStream out, ObjectMapper objectMapper)
+			throws IOException {
+		return switch (format) {
+			case NDJSON -> new NdjsonProductWriter(out, objectMapper);
+			case CSV -> new CsvProductWriter(out);
+		};
+	}
+}
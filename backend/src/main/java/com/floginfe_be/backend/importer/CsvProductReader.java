@@ -0,0 +1,227 @@
+package com.floginfe_be.backend.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+
+/**
+ * RFC 4180 CSV with a header row naming the columns, in any order.
+ * {@code name}, {@code price}, {@code quantity} and {@code category} are
+ * required, {@code description} is optional and other columns are ignored.
+ * Quoted fields may contain commas, quotes and line breaks; both CRLF and LF
+ * line endings are accepted.
+ */
+class CsvProductReader implements ProductImportReader {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final String[] REQUIRED = { "name", "price", "quantity", "category" };
+
+	private final BufferedReader in;
+
+	private final int name;
+
+	private final int price;
+
+	private final int quantity;
+
+	private final int category;
+
+	private final int description;
+
+	/** Line the next record starts on. */
+	private int line = 1;
+
+	private int pushback = -1;
+
+	/** Set by {@link #readRecord()}: the record was longer than {@link #MAX_RECORD_CHARS}. */
+	private boolean overflow;
+
+	/** Set by {@link #readRecord()}: the file ended inside a quoted field. */
+	private boolean unterminated;
+
+	CsvProductReader(InputStream in) throws IOException {
+		this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+		skipByteOrderMark(this.in);
+		List<String> header = readRecord();
+		if (header == null || overflow || unterminated) {
+			throw new IllegalArgumentException("Tệp CSV phải bắt đầu bằng dòng tiêu đề");
+		}
+		Map<String, Integer> columns = new HashMap<>();
+		for (int i = 0; i < header.size(); i++) {
+			columns.putIfAbsent(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+		}
+		for (String column : REQUIRED) {
+			if (!columns.containsKey(column)) {
+				throw new IllegalArgumentException("Thiếu cột \"" + column + "\" trong dòng tiêu đề CSV");
+			}
+		}
+		this.name = columns.get("name");
+		this.price = columns.get("price");
+		this.quantity = columns.get("quantity");
+		this.category = columns.get("category");
+		this.description = columns.getOrDefault("description", -1);
+	}
+
+	static void skipByteOrderMark(BufferedReader in) throws IOException {
+		in.mark(1);
+		if (in.read() != '\uFEFF') {
+			in.reset();
+		}
+	}
+
+	@Override
+	public ImportRow next() throws IOException {
+		while (true) {
+			int start = line;
+			List<String> fields = readRecord();
+			if (fields == null) {
+				return null;
+			}
+			if (overflow) {
+				return ImportRow.invalid(start, null, "Dòng vượt quá " + MAX_RECORD_CHARS + " ký tự");
+			}
+			if (unterminated) {
+				return ImportRow.invalid(start, null, "Thiếu dấu ngoặc kép đóng");
+			}
+			if (fields.size() == 1 && fields.get(0).isBlank()) {
+				continue;
+			}
+			return parse(start, fields);
+		}
+	}
+
+	private ImportRow parse(int start, List<String> fields) {
+		ProductRequest product = new ProductRequest();
+		product.setName(field(fields, name));
+		product.setDescription(field(fields, description));
+
+		String value = field(fields, price);
+		if (value != null) {
+			try {
+				double parsed = Double.parseDouble(value.strip());
+				if (!Double.isFinite(parsed)) {
+					throw new NumberFormatException(value);
+				}
+				product.setPrice(parsed);
+			} catch (NumberFormatException e) {
+				return ImportRow.invalid(start, product, "Giá sản phẩm không hợp lệ: " + value);
+			}
+		}
+		value = field(fields, quantity);
+		if (value != null) {
+			try {
+				product.setQuantity(Integer.parseInt(value.strip()));
+			} catch (NumberFormatException e) {
+				return ImportRow.invalid(start, product, "Số lượng không hợp lệ: " + value);
+			}
+		}
+		value = field(fields, category);
+		if (value != null) {
+			try {
+				product.setCategory(Categories.valueOf(value.strip().toUpperCase(Locale.ROOT)));
+			} catch (IllegalArgumentException e) {
+				return ImportRow.invalid(start, product, "Danh mục phải nằm trong danh sách đã cho");
+			}
+		}
+		return ImportRow.valid(start, product);
+	}
+
+	/** The field at {@code index}, or {@code null} when the record is shorter or the field empty. */
+	private static String field(List<String> fields, int index) {
+		if (index < 0 || index >= fields.size() || fields.get(index).isEmpty()) {
+			return null;
+		}
+		return fields.get(index);
+	}
+
+	/**
+	 * Reads one record, or returns {@code null} at the end of the file.
+	 * Characters past {@link #MAX_RECORD_CHARS} are consumed but dropped, so
+	 * an oversized record is skipped as a whole.
+	 */
+	private List<String> readRecord() throws IOException {
+		int c = read();
+		if (c == -1) {
+			return null;
+		}
+		overflow = false;
+		unterminated = false;
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		int length = 0;
+		boolean quoted = false;
+		boolean fieldStart = true;
+		while (true) {
+			if (c == -1) {
+				unterminated = quoted;
+				break;
+			}
+			if (quoted) {
+				if (c == '"') {
+					int next = read();
+					if (next != '"') {
+						quoted = false;
+						c = next;
+						continue;
+					}
+				} else if (c == '\n') {
+					line++;
+				}
+			} else if (c == '"' && fieldStart) {
+				quoted = true;
+				fieldStart = false;
+				c = read();
+				continue;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+				fieldStart = true;
+				c = read();
+				continue;
+			} else if (c == '\n' || c == '\r') {
+				if (c == '\r') {
+					int next = read();
+					if (next != '\n') {
+						pushback = next;
+					}
+				}
+				line++;
+				break;
+			}
+			if (++length <= MAX_RECORD_CHARS) {
+				field.append((char) c);
+			} else {
+				overflow = true;
+			}
+			fieldStart = false;
+			c = read();
+		}
+		fields.add(field.toString());
+		return fields;
+	}
+
+	private int read() throws IOException {
+		if (pushback != -1) {
+			int c = pushback;
+			pushback = -1;
+			return c;
+		}
+		return in.read();
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+}
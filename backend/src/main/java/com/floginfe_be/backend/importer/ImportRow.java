@@ -0,0 +1,27 @@
+package com.floginfe_be.backend.importer;
+
+import com.floginfe_be.backend.dto.request.ProductRequest;
+
+/**
+ * One record of an imported file. {@code line} is the line the record starts
+ * on; {@code error} is set when it could not be parsed or failed validation,
+ * in which case {@code product} holds whatever was parsed (possibly nothing).
+ */
+public record ImportRow(int line, ProductRequest product, String error) {
+
+	public static ImportRow valid(int line, ProductRequest product) {
+		return new ImportRow(line, product, null);
+	}
+
+	public static ImportRow invalid(int line, ProductRequest product, String error) {
+		return new ImportRow(line, product, error);
+	}
+
+	public boolean isValid() {
+		return error == null;
+	}
+
+	public String name() {
+		return product == null ? null : product.getName();
+	}
+}
@@ -0,0 +1,79 @@
+package com.floginfe_be.backend.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+
+/**
+ * One JSON product per line; blank lines are skipped. Each line is parsed on
+ * its own so a malformed line only invalidates that record.
+ */
+class NdjsonProductReader implements ProductImportReader {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final BufferedReader in;
+
+	private final ObjectReader reader;
+
+	private final StringBuilder buffer = new StringBuilder();
+
+	private int line;
+
+	NdjsonProductReader(InputStream in, ObjectMapper objectMapper) throws IOException {
+		this.in = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+		CsvProductReader.skipByteOrderMark(this.in);
+		// Exported lines carry id and version, which an import does not use
+		this.reader = objectMapper.readerFor(ProductRequest.class)
+				.without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+	}
+
+	@Override
+	public ImportRow next() throws IOException {
+		while (true) {
+			line++;
+			buffer.setLength(0);
+			boolean overflow = false;
+			int c = in.read();
+			if (c == -1) {
+				return null;
+			}
+			while (c != -1 && c != '\n') {
+				if (buffer.length() < MAX_RECORD_CHARS) {
+					buffer.append((char) c);
+				} else {
+					overflow = true;
+				}
+				c = in.read();
+			}
+			if (overflow) {
+				return ImportRow.invalid(line, null, "Dòng vượt quá " + MAX_RECORD_CHARS + " ký tự");
+			}
+			String json = buffer.toString().strip();
+			if (json.isEmpty()) {
+				continue;
+			}
+			try {
+				ProductRequest product = reader.readValue(json);
+				return product == null
+						? ImportRow.invalid(line, null, "Dữ liệu JSON không hợp lệ")
+						: ImportRow.valid(line, product);
+			} catch (JsonProcessingException e) {
+				return ImportRow.invalid(line, null, "Dữ liệu JSON không hợp lệ");
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+}
@@ -0,0 +1,38 @@
+package com.floginfe_be.backend.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.floginfe_be.backend.constants.ExportFormat;
+
+/**
+ * Reads an uploaded catalog file one record at a time, so memory use is one
+ * record (at most {@link #MAX_RECORD_CHARS} characters) plus a fixed-size
+ * buffer however large the file is. Accepts the files written by
+ * {@code GET /api/products/export}; {@code id} and {@code version} are
+ * ignored.
+ * <p>
+ * Malformed records are returned as {@link ImportRow#invalid invalid rows}
+ * rather than thrown, so one bad line does not abort the import.
+ */
+public interface ProductImportReader extends Closeable {
+
+	int MAX_RECORD_CHARS = 64 * 1024;
+
+	/** The next record, or {@code null} at the end of the file. */
+	ImportRow next() throws IOException;
+
+	/**
+	 * @throws IllegalArgumentException if the file does not start with a
+	 *                                  usable CSV header
+	 */
+	static ProductImportReader create(ExportFormat format, InputStream in, ObjectMapper objectMapper)
+			throws IOException {
+		return switch (format) {
+			case NDJSON -> new NdjsonProductReader(in, objectMapper);
+			case CSV -> new CsvProductReader(in);
+		};
+	}
+}
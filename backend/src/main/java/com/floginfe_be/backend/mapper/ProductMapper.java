@@ -11,10 +11,16 @@ import com.floginfe_be.backend.entity.Product;
 @Mapper(componentModel = "spring")
 public interface ProductMapper {
 	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "version", ignore = true)
+	@Mapping(target = "nameKey", ignore = true)
+	@Mapping(target = "searchName", ignore = true)
 	Product toEntity(ProductRequest request);
 
 	ProductDto toDto(Product product);
 
 	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "version", ignore = true)
+	@Mapping(target = "nameKey", ignore = true)
+	@Mapping(target = "searchName", ignore = true)
 	void updateEntityFromDto(ProductRequest request, @MappingTarget Product product);
 }
@@ -0,0 +1,48 @@
+package com.floginfe_be.backend.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import com.floginfe_be.backend.cache.ProductCache;
+import com.floginfe_be.backend.cache.ProductListingCache;
+import com.floginfe_be.backend.datasource.ReadWriteRoutingDataSource;
+
+/**
+ * Cache and connection pool statistics at
+ * {@code /actuator/diagnostics/{product-cache|listing-cache|datasources}}.
+ * Served, like the other actuator endpoints, only on the management port;
+ * unknown names and {@code datasources} without read/write routing are 404.
+ */
+@Component
+@Endpoint(id = "diagnostics")
+public class DiagnosticsEndpoint {
+
+	private final ProductCache productCache;
+
+	private final ProductListingCache listingCache;
+
+	private final ObjectProvider<ReadWriteRoutingDataSource> routingDataSource;
+
+	public DiagnosticsEndpoint(ProductCache productCache, ProductListingCache listingCache,
+			ObjectProvider<ReadWriteRoutingDataSource> routingDataSource) {
+		this.productCache = productCache;
+		this.listingCache = listingCache;
+		this.routingDataSource = routingDataSource;
+	}
+
+	@ReadOperation
+	public Object stats(@Selector String name) {
+		return switch (name) {
+			case "product-cache" -> productCache.stats();
+			case "listing-cache" -> listingCache.stats();
+			case "datasources" -> {
+				ReadWriteRoutingDataSource router = routingDataSource.getIfAvailable();
+				yield router != null ? router.stats() : null;
+			}
+			default -> null;
+		};
+	}
+}
@@ -0,0 +1,113 @@
+package com.floginfe_be.backend.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.floginfe_be.backend.datasource.JdbcCounters;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Counts the statements, rows and JDBC time of each request, records them as
+ * {@code http.server.jdbc.*} and logs requests over the
+ * {@link JdbcBudgetProperties budget} or running the same SQL so often it
+ * looks like an N+1. The counts are left in the {@link #USAGE_ATTRIBUTE}
+ * request attribute, where tests can assert them.
+ * <p>
+ * Only the request thread is counted: the body of a streamed export or
+ * import, written by a worker thread, is not.
+ */
+@Slf4j
+public class JdbcBudgetFilter extends OncePerRequestFilter {
+
+	public static final String USAGE_ATTRIBUTE = JdbcBudgetFilter.class.getName() + ".usage";
+
+	private static final int LOGGED_SQL_LENGTH = 200;
+
+	private final JdbcBudgetProperties budget;
+
+	private final MeterRegistry registry;
+
+	public JdbcBudgetFilter(JdbcBudgetProperties budget, MeterRegistry registry) {
+		this.budget = budget;
+		this.registry = registry;
+	}
+
+	/** The counts {@link JdbcBudgetFilter} left on a finished request, or {@code null}. */
+	public static JdbcCounters.Snapshot usage(HttpServletRequest request) {
+		return (JdbcCounters.Snapshot) request.getAttribute(USAGE_ATTRIBUTE);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		try (JdbcCounters.Scope scope = JdbcCounters.open()) {
+			try {
+				chain.doFilter(request, response);
+			} finally {
+				JdbcCounters.Snapshot usage = scope.usage();
+				request.setAttribute(USAGE_ATTRIBUTE, usage);
+				check(request, usage, scope.mostRepeated());
+			}
+		}
+	}
+
+	private void check(HttpServletRequest request, JdbcCounters.Snapshot usage, Map.Entry<String, Integer> repeated) {
+		Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+		String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+		String method = request.getMethod();
+		DistributionSummary.builder("http.server.jdbc.statements")
+				.description("JDBC statements per request, a batch counting once")
+				.tags("method", method, "uri", uri)
+				.register(registry)
+				.record(usage.statements());
+		DistributionSummary.builder("http.server.jdbc.rows")
+				.description("Rows read or written per request")
+				.tags("method", method, "uri", uri)
+				.register(registry)
+				.record(usage.rows());
+		Timer.builder("http.server.jdbc.time")
+				.description("Time spent executing JDBC statements per request")
+				.tags("method", method, "uri", uri)
+				.register(registry)
+				.record(usage.nanos(), TimeUnit.NANOSECONDS);
+
+		if (usage.statements() > budget.getMaxStatements() || usage.rows() > budget.getMaxRows()
+				|| usage.nanos() > budget.getMaxTime().toNanos()) {
+			exceeded(method, uri, "budget");
+			log.warn("{} {} over JDBC budget: {} statements, {} rows, {} ms (budget {} statements, {} rows, {} ms)",
+					method, request.getRequestURI(), usage.statements(), usage.rows(),
+					TimeUnit.NANOSECONDS.toMillis(usage.nanos()), budget.getMaxStatements(), budget.getMaxRows(),
+					budget.getMaxTime().toMillis());
+		}
+		if (repeated != null && repeated.getValue() >= budget.getNPlusOneThreshold()) {
+			exceeded(method, uri, "n_plus_one");
+			String sql = repeated.getKey();
+			if (sql.length() > LOGGED_SQL_LENGTH) {
+				sql = sql.substring(0, LOGGED_SQL_LENGTH) + "...";
+			}
+			log.warn("{} {} ran the same statement {} times, likely N+1: {}", method, request.getRequestURI(),
+					repeated.getValue(), sql);
+		}
+	}
+
+	private void exceeded(String method, String uri, String reason) {
+		Counter.builder("http.server.jdbc.budget.exceeded")
+				.description("Requests over the JDBC budget or with a likely N+1")
+				.tags("method", method, "uri", uri, "reason", reason)
+				.register(registry)
+				.increment();
+	}
+}
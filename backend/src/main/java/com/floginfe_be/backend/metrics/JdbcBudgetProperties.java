@@ -0,0 +1,27 @@
+package com.floginfe_be.backend.metrics;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * {@code app.jdbc-budget.*}: the JDBC work one HTTP request may do before
+ * {@link JdbcBudgetFilter} logs it.
+ */
+@Data
+@ConfigurationProperties("app.jdbc-budget")
+public class JdbcBudgetProperties {
+
+	private boolean enabled = true;
+
+	private int maxStatements = 10;
+
+	private long maxRows = 10_000;
+
+	private Duration maxTime = Duration.ofMillis(500);
+
+	/** The same SQL executed this many times in one request is reported as a likely N+1. */
+	private int nPlusOneThreshold = 5;
+}
@@ -0,0 +1,75 @@
+package com.floginfe_be.backend.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.floginfe_be.backend.datasource.JdbcCounters;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Statements, rows and JDBC time per {@code ProductServiceImpl} method call,
+ * taken from the thread's {@link JdbcCounters}. Runs outside the
+ * transaction advice so the flush at commit is charged to the method that
+ * caused it.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ProductServiceMetrics {
+
+	private final MeterRegistry registry;
+
+	private final Map<Method, Meters> meters = new ConcurrentHashMap<>();
+
+	public ProductServiceMetrics(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Around("execution(public * com.floginfe_be.backend.service.impl.ProductServiceImpl.*(..))")
+	public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+		JdbcCounters.Snapshot before = JdbcCounters.snapshot();
+		try {
+			return joinPoint.proceed();
+		} finally {
+			JdbcCounters.Snapshot used = JdbcCounters.snapshot().minus(before);
+			Meters method = meters.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+					this::register);
+			method.statements.record(used.statements());
+			method.rows.record(used.rows());
+			method.jdbcTime.record(used.nanos(), TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private Meters register(Method method) {
+		String name = method.getName();
+		return new Meters(
+				DistributionSummary.builder("product.service.statements")
+						.description("JDBC statements per call, a batch counting once")
+						.tag("method", name)
+						.register(registry),
+				DistributionSummary.builder("product.service.rows")
+						.description("Rows read or written per call")
+						.tag("method", name)
+						.register(registry),
+				Timer.builder("product.service.jdbc.time")
+						.description("Time spent executing JDBC statements per call")
+						.tag("method", name)
+						.register(registry));
+	}
+
+	private record Meters(DistributionSummary statements, DistributionSummary rows, Timer jdbcTime) {
+	}
+}
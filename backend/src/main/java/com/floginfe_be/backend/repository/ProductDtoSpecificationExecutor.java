@@ -0,0 +1,31 @@
+package com.floginfe_be.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.entity.Product;
+
+/**
+ * {@link Specification} queries that select {@link ProductDto} directly
+ * ({@code select new ProductDto(...)}) instead of loading managed
+ * {@link Product} entities: no persistence-context entries, no
+ * dirty-checking snapshots and no entity-to-DTO copy. Mixed into
+ * {@link ProductRepository}.
+ */
+public interface ProductDtoSpecificationExecutor {
+
+    /** Like {@code findAll(spec, pageable)}; the COUNT query is skipped when the page itself shows the total. */
+    Page<ProductDto> findAllDtos(Specification<Product> spec, Pageable pageable);
+
+    /** A page without the COUNT query; one extra row is fetched to learn whether another page exists. */
+    Slice<ProductDto> findDtoSlice(Specification<Product> spec, Pageable pageable);
+
+    /** The first {@code limit} matches in {@code sort} order. */
+    List<ProductDto> findDtos(Specification<Product> spec, Sort sort, int limit);
+}
@@ -0,0 +1,98 @@
+package com.floginfe_be.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.entity.Product;
+import com.floginfe_be.backend.entity.Product_;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+class ProductDtoSpecificationExecutorImpl implements ProductDtoSpecificationExecutor {
+
+    private final EntityManager entityManager;
+
+    ProductDtoSpecificationExecutorImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<ProductDto> findAllDtos(Specification<Product> spec, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return PageableExecutionUtils.getPage(select(spec, pageable.getSort(), 0, -1), pageable, () -> 0);
+        }
+        List<ProductDto> content = select(spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Slice<ProductDto> findDtoSlice(Specification<Product> spec, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(select(spec, pageable.getSort(), 0, -1), pageable, false);
+        }
+        int size = pageable.getPageSize();
+        List<ProductDto> rows = select(spec, pageable.getSort(), pageable.getOffset(), size + 1);
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public List<ProductDto> findDtos(Specification<Product> spec, Sort sort, int limit) {
+        return select(spec, sort, 0, limit);
+    }
+
+    /** {@code limit < 0} means no limit. */
+    private List<ProductDto> select(Specification<Product> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProductDto> query = cb.createQuery(ProductDto.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(cb.construct(ProductDto.class,
+                root.get(Product_.id),
+                root.get(Product_.name),
+                root.get(Product_.price),
+                root.get(Product_.quantity),
+                root.get(Product_.category),
+                root.get(Product_.description),
+                root.get(Product_.version)));
+        where(spec, root, query, cb);
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        TypedQuery<ProductDto> typed = entityManager.createQuery(query).setFirstResult(Math.toIntExact(offset));
+        if (limit >= 0) {
+            typed.setMaxResults(limit);
+        }
+        return typed.getResultList();
+    }
+
+    private long count(Specification<Product> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Product> root = query.from(Product.class);
+        query.select(cb.count(root));
+        where(spec, root, query, cb);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static void where(Specification<Product> spec, Root<Product> root, CriteriaQuery<?> query,
+            CriteriaBuilder cb) {
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+}
@@ -1,15 +1,82 @@
 package com.floginfe_be.backend.repository;
 
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.response.ProductDto;
 import com.floginfe_be.backend.entity.Product;
+import com.floginfe_be.backend.event.ProductState;
+import com.floginfe_be.backend.util.SearchText;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product> {
+public interface ProductRepository extends JpaRepository<Product, Long>, JpaSpecificationExecutor<Product>,
+        ProductDtoSpecificationExecutor {
     Page<Product> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
-    boolean existsByNameIgnoreCase(String name);
+    /**
+     * Name uniqueness check by {@link com.floginfe_be.backend.util.ProductNames#key key}: an
+     * equality lookup on the unique {@code name_key} index, where {@code lower(name) = ?} had
+     * to scan the table.
+     */
+    boolean existsByNameKey(String nameKey);
+
+    boolean existsByNameKeyAndIdNot(String nameKey, Long id);
+
+    /**
+     * {@code (id, nameKey)} of the products holding any of {@code nameKeys}:
+     * one index lookup to check name uniqueness for a whole batch.
+     */
+    @Query("select p.id, p.nameKey from Product p where p.nameKey in :nameKeys")
+    List<Object[]> findIdsByNameKeyIn(@Param("nameKeys") Collection<String> nameKeys);
+
+    /** Same name matching as {@link #findIdsByNameKeyIn}, loading the products for an upsert. */
+    List<Product> findByNameKeyIn(Collection<String> nameKeys);
+
+    @Query("select new com.floginfe_be.backend.dto.response.ProductDto("
+            + "p.id, p.name, p.price, p.quantity, p.category, p.description, p.version) from Product p where p.id = :id")
+    Optional<ProductDto> findDtoById(@Param("id") Long id);
+
+    @Query("select new com.floginfe_be.backend.dto.response.ProductDto("
+            + "p.id, p.name, p.price, p.quantity, p.category, p.description, p.version) from Product p where p.id in :ids")
+    List<ProductDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Overwrites the product in one statement if it is still at {@code version},
+     * bumping the version like a managed update would.
+     *
+     * @return 1 if the row was updated, 0 if it is gone or at another version
+     */
+    default int updateIfVersion(Long id, Long version, String name, String nameKey, Double price, Integer quantity,
+            Categories category, String description) {
+        return updateIfVersion(id, version, name, nameKey, SearchText.fold(name), price, quantity, category,
+                description);
+    }
+
+    @Modifying
+    @Query("update Product p set p.name = :name, p.nameKey = :nameKey, p.searchName = :searchName, "
+            + "p.price = :price, p.quantity = :quantity, p.category = :category, p.description = :description, "
+            + "p.version = p.version + 1 where p.id = :id and p.version = :version")
+    int updateIfVersion(@Param("id") Long id, @Param("version") Long version, @Param("name") String name,
+            @Param("nameKey") String nameKey, @Param("searchName") String searchName, @Param("price") Double price,
+            @Param("quantity") Integer quantity, @Param("category") Categories category,
+            @Param("description") String description);
+
+    /** @return 1 if the row was deleted, 0 if it is gone or at another version */
+    @Modifying
+    @Query("delete from Product p where p.id = :id and p.version = :version")
+    int deleteIfVersion(@Param("id") Long id, @Param("version") Long version);
 
-    boolean existsByNameIgnoreCaseAndIdNot(String name, Long id);
+    @Query("select new com.floginfe_be.backend.event.ProductState(p.id, p.name, p.price, p.quantity, p.category) "
+            + "from Product p")
+    Stream<ProductState> streamAllStates();
 }
@@ -3,9 +3,26 @@ package com.floginfe_be.backend.repository;
 
 import com.floginfe_be.backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Read-only so logins can be served by a read replica
+    @Transactional(readOnly = true)
     Optional<User> findByUsername(String username);
+
+    /**
+     * Replaces the password hash if it is still {@code currentHash}.
+     *
+     * @return 1 if the row was updated, 0 if the user is gone or the hash changed
+     */
+    @Modifying
+    @Transactional
+    @Query("update User u set u.password = :newHash where u.id = :id and u.password = :currentHash")
+    int updatePasswordIfUnchanged(@Param("id") Long id, @Param("currentHash") String currentHash,
+            @Param("newHash") String newHash);
 }
 
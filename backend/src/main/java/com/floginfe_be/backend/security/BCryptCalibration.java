@@ -0,0 +1,53 @@
+package com.floginfe_be.backend.security;
+
+import java.time.Duration;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Picks the BCrypt cost for this machine: the time of a hash at
+ * {@code min-strength} is measured, and since each step of the cost doubles
+ * the work, the highest cost whose projected time fits the latency budget
+ * is used.
+ * <p>
+ * The result is per machine. Hashes are only rehashed to a higher cost, so
+ * instances calibrated differently push every hash to the highest cost
+ * among them; multi-instance deployments pin {@code app.auth.hash.strength}.
+ */
+@Slf4j
+final class BCryptCalibration {
+
+    private static final int SAMPLES = 3;
+
+    private BCryptCalibration() {
+    }
+
+    static int strength(PasswordHashProperties properties) {
+        if (properties.getStrength() != null) {
+            return properties.getStrength();
+        }
+        int min = properties.getMinStrength();
+        String salt = BCrypt.gensalt(min);
+        // The first hash also loads and compiles the code; the fastest of the rest is the least disturbed
+        BCrypt.hashpw("calibration", salt);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long started = System.nanoTime();
+            BCrypt.hashpw("calibration", salt);
+            best = Math.min(best, System.nanoTime() - started);
+        }
+        long budget = properties.getLatencyBudget().toNanos();
+        int strength = min;
+        long projected = best;
+        while (strength < properties.getMaxStrength() && projected * 2 <= budget) {
+            projected *= 2;
+            strength++;
+        }
+        log.info("BCrypt cost {}: about {} ms per hash (budget {} ms); with more than one instance, set "
+                + "app.auth.hash.strength={} on all of them", strength, Duration.ofNanos(projected).toMillis(),
+                properties.getLatencyBudget().toMillis(), strength);
+        return strength;
+    }
+}
@@ -0,0 +1,106 @@
+package com.floginfe_be.backend.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.floginfe_be.backend.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Runs {@link #matches} on a fixed pool with a bounded queue, so a burst of
+ * logins can use at most {@code threads} cores and hold at most
+ * {@code threads + queueCapacity} request threads; the product API keeps
+ * the rest. A check that finds the queue full, or is not done within
+ * {@code timeout}, fails fast with {@link ServiceOverloadedException}.
+ * <p>
+ * Queue depth, active threads, queue wait ({@code executor.idle}) and run
+ * time ({@code executor}) are published under {@code name=password-verify};
+ * refusals as {@code auth.password.rejected}. Hashing new passwords stays
+ * on the caller.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final String OVERLOADED_MESSAGE =
+            "Hệ thống đang xử lý quá nhiều yêu cầu đăng nhập, vui lòng thử lại sau";
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Duration timeout;
+    private final Counter queueFull;
+    private final Counter timedOut;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordVerificationProperties properties,
+            MeterRegistry registry) {
+        this.delegate = delegate;
+        this.timeout = properties.getTimeout();
+        this.pool = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(), 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Thread.ofPlatform().name("password-verify-", 1).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(registry, pool, "password-verify");
+        this.queueFull = rejected(registry, "queue_full");
+        this.timedOut = rejected(registry, "timeout");
+    }
+
+    private static Counter rejected(MeterRegistry registry, String reason) {
+        return Counter.builder("auth.password.rejected")
+                .description("Password checks refused because the verification pool was saturated")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Future<Boolean> check;
+        try {
+            check = executor.submit(() -> delegate.matches(rawPassword, encodedPassword));
+        } catch (RejectedExecutionException ex) {
+            queueFull.increment();
+            throw new ServiceOverloadedException(OVERLOADED_MESSAGE, timeout);
+        }
+        try {
+            return check.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            check.cancel(true);
+            timedOut.increment();
+            throw new ServiceOverloadedException(OVERLOADED_MESSAGE, timeout);
+        } catch (InterruptedException ex) {
+            check.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException(OVERLOADED_MESSAGE, timeout);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+}
@@ -0,0 +1,46 @@
+package com.floginfe_be.backend.security;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * {@code app.auth.jwt.*}: access tokens issued by {@code /api/auth/login}.
+ * <p>
+ * Tokens are signed with the key named by {@code active-key-id} and carry its
+ * id in the {@code kid} header; any key in {@code keys} is accepted when
+ * verifying. To rotate, add the new key, deploy, make it active, and drop the
+ * old one once {@code ttl} has passed.
+ */
+@Data
+@ConfigurationProperties("app.auth.jwt")
+public class JwtProperties {
+
+    private String issuer = "floginfe-backend";
+
+    private Duration ttl = Duration.ofMinutes(15);
+
+    /** Tolerated clock difference between instances when checking {@code exp}. */
+    private Duration clockSkew = Duration.ofSeconds(30);
+
+    /** How long a verified token is remembered, so repeat requests skip the signature check. */
+    private Duration verifiedCacheTtl = Duration.ofSeconds(30);
+
+    private long verifiedCacheSize = 10_000;
+
+    private String activeKeyId;
+
+    /** HMAC-SHA256 keys; empty means a random key per start (single instance, development only). */
+    private List<Key> keys = new ArrayList<>();
+
+    @Data
+    public static class Key {
+        private String id;
+        /** Base64, at least 32 bytes. */
+        private String secret;
+    }
+}
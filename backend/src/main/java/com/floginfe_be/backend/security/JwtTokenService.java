@@ -0,0 +1,142 @@
+package com.floginfe_be.backend.security;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Issues and verifies the HS256 access tokens of {@code /api/auth/login}.
+ * <p>
+ * Keys are decoded once at startup and looked up by the token's {@code kid},
+ * and the parser is built once. A token that verified is remembered for
+ * {@code verified-cache-ttl}, so a client sending the same token on every
+ * request pays for the HMAC once; its expiry is still checked on each hit.
+ * Invalid tokens are never cached.
+ */
+@Slf4j
+@Component
+public class JwtTokenService {
+
+    private static final String EPHEMERAL_KEY_ID = "ephemeral";
+
+    private final Map<String, SecretKey> keys;
+    private final String activeKeyId;
+    private final String issuer;
+    private final Duration ttl;
+    private final Clock clock;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verified;
+
+    @Autowired
+    public JwtTokenService(JwtProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    JwtTokenService(JwtProperties properties, Clock clock) {
+        this.keys = decodeKeys(properties);
+        this.activeKeyId = properties.getKeys().isEmpty() ? EPHEMERAL_KEY_ID : properties.getActiveKeyId();
+        if (!keys.containsKey(activeKeyId)) {
+            throw new IllegalStateException("app.auth.jwt.active-key-id '" + activeKeyId
+                    + "' is not one of app.auth.jwt.keys");
+        }
+        this.issuer = properties.getIssuer();
+        this.ttl = properties.getTtl();
+        this.clock = clock;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public SecretKey resolveSigningKey(JwsHeader header, Claims claims) {
+                        SecretKey key = header.getKeyId() == null ? null : keys.get(header.getKeyId());
+                        if (key == null) {
+                            throw new JwtException("Unknown signing key id: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .requireIssuer(issuer)
+                .setAllowedClockSkewSeconds(properties.getClockSkew().toSeconds())
+                .setClock(() -> Date.from(clock.instant()))
+                .build();
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(properties.getVerifiedCacheSize())
+                .expireAfterWrite(properties.getVerifiedCacheTtl())
+                .build();
+    }
+
+    private static Map<String, SecretKey> decodeKeys(JwtProperties properties) {
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        if (properties.getKeys().isEmpty()) {
+            log.warn("No app.auth.jwt.keys configured; signing with a random key, tokens die with this instance");
+            keys.put(EPHEMERAL_KEY_ID, Keys.secretKeyFor(SignatureAlgorithm.HS256));
+            return keys;
+        }
+        for (JwtProperties.Key key : properties.getKeys()) {
+            keys.put(key.getId(), Keys.hmacShaKeyFor(Decoders.BASE64.decode(key.getSecret())));
+        }
+        return keys;
+    }
+
+    public IssuedToken issue(String username) {
+        Instant now = clock.instant();
+        Instant expiresAt = now.plus(ttl);
+        String token = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, activeKeyId)
+                .setIssuer(issuer)
+                .setSubject(username)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(expiresAt))
+                .signWith(keys.get(activeKeyId), SignatureAlgorithm.HS256)
+                .compact();
+        return new IssuedToken(token, ttl);
+    }
+
+    /** The token's user if it is signed by a known key, from this issuer and not expired. */
+    public Optional<VerifiedToken> verify(String token) {
+        VerifiedToken cached = verified.getIfPresent(token);
+        if (cached != null) {
+            if (cached.expiresAt().isAfter(clock.instant())) {
+                return Optional.of(cached);
+            }
+            verified.invalidate(token);
+            return Optional.empty();
+        }
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            VerifiedToken result = new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant());
+            verified.put(token, result);
+            return Optional.of(result);
+        } catch (JwtException | IllegalArgumentException ex) {
+            log.debug("Rejected access token: {}", ex.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public record IssuedToken(String token, Duration expiresIn) {
+    }
+
+    public record VerifiedToken(String username, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.floginfe_be.backend.security;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * {@code app.auth.rate-limit.*}: how many login attempts
+ * {@link LoginRateLimiter} lets through per username and per client address.
+ */
+@Data
+@ConfigurationProperties("app.auth.rate-limit")
+public class LoginRateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Independently locked parts of each key table; rounded up to a power of two. */
+    private int stripes = 64;
+
+    /**
+     * Keys tracked per table. Memory is allocated up front (about 32 bytes per
+     * key); when full, keys whose bucket has refilled are dropped first, then
+     * those closest to refilling.
+     */
+    private int maxKeys = 100_000;
+
+    /** Attempts against one account, from any address. */
+    private Limit username = new Limit(10, Duration.ofMinutes(5));
+
+    /** Attempts from one client address, for any account. */
+    private Limit address = new Limit(100, Duration.ofMinutes(1));
+
+    /** A bucket of {@code capacity} attempts, refilled evenly over {@code period}. */
+    @Data
+    public static class Limit {
+
+        private int capacity;
+
+        private Duration period;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, Duration period) {
+            this.capacity = capacity;
+            this.period = period;
+        }
+    }
+}
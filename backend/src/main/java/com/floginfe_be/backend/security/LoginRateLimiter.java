@@ -0,0 +1,121 @@
+package com.floginfe_be.backend.security;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.floginfe_be.backend.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Limits login attempts per username and per client address before any user
+ * lookup or password hashing, so guessing passwords (one account from many
+ * addresses, or many accounts from one address) costs the attacker time
+ * rather than the server's CPU.
+ * <p>
+ * Each attempt takes a token from the address bucket, then from the username
+ * bucket; a refused attempt gets {@link TooManyRequestsException} with the
+ * time until the empty bucket has a token again. Buckets live in two
+ * {@link TokenBucketTable}s of fixed size, keyed by a hash seeded at startup
+ * so colliding keys cannot be prepared in advance. Usernames are compared
+ * ignoring ASCII case, like the database collation.
+ * <p>
+ * Published as {@code auth.login.throttled} (refusals),
+ * {@code auth.login.throttle.keys} (tracked keys) and
+ * {@code auth.login.throttle.evicted}, each tagged {@code key=username|address}.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private static final String THROTTLED_MESSAGE = "Đăng nhập quá nhiều lần, vui lòng thử lại sau";
+
+    private final boolean enabled;
+    private final TokenBucketTable usernames;
+    private final TokenBucketTable addresses;
+    private final long seed;
+    private final LongSupplier nanoTime;
+    private final Counter usernameThrottled;
+    private final Counter addressThrottled;
+
+    @Autowired
+    public LoginRateLimiter(LoginRateLimitProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this(properties, meterRegistry.getIfAvailable(SimpleMeterRegistry::new), System::nanoTime);
+    }
+
+    LoginRateLimiter(LoginRateLimitProperties properties, MeterRegistry registry, LongSupplier nanoTime) {
+        this.enabled = properties.isEnabled();
+        this.usernames = table(properties, properties.getUsername());
+        this.addresses = table(properties, properties.getAddress());
+        this.seed = new SecureRandom().nextLong();
+        this.nanoTime = nanoTime;
+        this.usernameThrottled = bind(registry, "username", usernames);
+        this.addressThrottled = bind(registry, "address", addresses);
+    }
+
+    private static TokenBucketTable table(LoginRateLimitProperties properties, LoginRateLimitProperties.Limit limit) {
+        return new TokenBucketTable(properties.getStripes(), properties.getMaxKeys(), limit.getCapacity(),
+                limit.getPeriod().toNanos());
+    }
+
+    private static Counter bind(MeterRegistry registry, String key, TokenBucketTable table) {
+        Gauge.builder("auth.login.throttle.keys", table, TokenBucketTable::size)
+                .description("Keys with a login rate limit bucket")
+                .tag("key", key)
+                .register(registry);
+        FunctionCounter.builder("auth.login.throttle.evicted", table, TokenBucketTable::evictions)
+                .description("Buckets dropped before refilling because the table was full")
+                .tag("key", key)
+                .register(registry);
+        return Counter.builder("auth.login.throttled")
+                .description("Login attempts refused by the rate limiter")
+                .tag("key", key)
+                .register(registry);
+    }
+
+    /**
+     * Takes one attempt from the buckets of {@code address} and {@code username}.
+     *
+     * @throws TooManyRequestsException if either bucket is empty
+     */
+    public void acquire(String username, String address) {
+        if (!enabled) {
+            return;
+        }
+        long now = nanoTime.getAsLong();
+        long wait = addresses.acquire(hash(address, false), now);
+        if (wait > 0) {
+            addressThrottled.increment();
+            throw new TooManyRequestsException(THROTTLED_MESSAGE, Duration.ofNanos(wait));
+        }
+        wait = usernames.acquire(hash(username, true), now);
+        if (wait > 0) {
+            usernameThrottled.increment();
+            throw new TooManyRequestsException(THROTTLED_MESSAGE, Duration.ofNanos(wait));
+        }
+    }
+
+    /** FNV-1a over the characters from the seed, then MurmurHash3's finalizer. */
+    private long hash(String value, boolean ignoreCase) {
+        long h = seed;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (ignoreCase && c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            }
+            h = (h ^ c) * 0x100000001B3L;
+        }
+        h ^= value.length();
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+}
@@ -0,0 +1,34 @@
+package com.floginfe_be.backend.security;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * {@code app.auth.hash.*}: the BCrypt cost new password hashes are made
+ * with, and the rehashing of older hashes by {@link PasswordRehasher}.
+ */
+@Data
+@ConfigurationProperties("app.auth.hash")
+public class PasswordHashProperties {
+
+    /**
+     * Fixed BCrypt cost; when unset, calibrated at startup against {@code latency-budget}. Set it
+     * when several instances share the users table, or each uses the cost of its own machine.
+     */
+    private Integer strength;
+
+    /** Time one hash may take on this machine; the calibrated cost is the highest that fits. */
+    private Duration latencyBudget = Duration.ofMillis(250);
+
+    /** Lowest calibrated cost, however slow the machine. */
+    private int minStrength = 10;
+
+    /** Highest calibrated cost, however fast the machine. */
+    private int maxStrength = 16;
+
+    /** Rehashes waiting for the rehash thread; beyond this they are skipped until the next login. */
+    private int rehashQueueCapacity = 64;
+}
@@ -0,0 +1,115 @@
+package com.floginfe_be.backend.security;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.floginfe_be.backend.entity.User;
+import com.floginfe_be.backend.repository.UserRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Brings a stored password hash up to the current BCrypt cost after a
+ * successful login, the only time the plain password is known. The new hash
+ * is computed and saved on a single background thread, so the login response
+ * does not wait for it; the update only applies if the stored hash is still
+ * the one that was verified, so a password changed meanwhile is kept.
+ * <p>
+ * At most {@code rehash-queue-capacity} rehashes wait; beyond that, and for a
+ * user whose rehash is already pending, the request is skipped and the next
+ * login tries again. Counted as {@code auth.password.rehashed} with
+ * {@code outcome=updated|stale|skipped|failed}.
+ */
+@Slf4j
+@Component
+public class PasswordRehasher implements AutoCloseable {
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    private final Counter updated;
+    private final Counter stale;
+    private final Counter skipped;
+    private final Counter failed;
+
+    public PasswordRehasher(UserRepository userRepository, PasswordEncoder passwordEncoder,
+            PasswordHashProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getRehashQueueCapacity()),
+                Thread.ofPlatform().name("password-rehash").daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.updated = rehashed(registry, "updated");
+        this.stale = rehashed(registry, "stale");
+        this.skipped = rehashed(registry, "skipped");
+        this.failed = rehashed(registry, "failed");
+    }
+
+    private static Counter rehashed(MeterRegistry registry, String outcome) {
+        return Counter.builder("auth.password.rehashed")
+                .description("Password hashes brought up to the current cost after a login")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * Schedules a rehash of {@code user}'s password if its stored hash is
+     * weaker than new hashes.
+     *
+     * @param rawPassword the password that was just verified against it
+     */
+    public void rehashIfOutdated(User user, String rawPassword) {
+        String verifiedHash = user.getPassword();
+        if (!passwordEncoder.upgradeEncoding(verifiedHash)) {
+            return;
+        }
+        Long id = user.getId();
+        if (!pending.add(id)) {
+            skipped.increment();
+            return;
+        }
+        try {
+            executor.execute(() -> rehash(id, verifiedHash, rawPassword));
+        } catch (RejectedExecutionException ex) {
+            pending.remove(id);
+            skipped.increment();
+        }
+    }
+
+    private void rehash(Long id, String verifiedHash, String rawPassword) {
+        try {
+            String newHash = passwordEncoder.encode(rawPassword);
+            if (userRepository.updatePasswordIfUnchanged(id, verifiedHash, newHash) == 1) {
+                updated.increment();
+            } else {
+                stale.increment();
+            }
+        } catch (RuntimeException ex) {
+            failed.increment();
+            log.warn("Rehashing the password of user {} failed", id, ex);
+        } finally {
+            pending.remove(id);
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        // Let queued rehashes finish while the data source is still open
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
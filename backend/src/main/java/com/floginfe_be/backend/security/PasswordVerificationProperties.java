@@ -0,0 +1,25 @@
+package com.floginfe_be.backend.security;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * {@code app.auth.verification.*}: the pool {@link BoundedPasswordEncoder}
+ * runs password checks on.
+ */
+@Data
+@ConfigurationProperties("app.auth.verification")
+public class PasswordVerificationProperties {
+
+    /** Threads hashing at once; half the cores leaves the rest to the product API. */
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /** Checks waiting for a thread; beyond this logins are refused with 503. */
+    private int queueCapacity = 64;
+
+    /** Longest a login waits for its check, queueing included, before it is refused. */
+    private Duration timeout = Duration.ofSeconds(2);
+}
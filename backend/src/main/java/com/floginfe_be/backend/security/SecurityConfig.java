@@ -1,26 +1,49 @@
 package com.floginfe_be.backend.security;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties({ PasswordVerificationProperties.class, PasswordHashProperties.class,
+        JwtProperties.class, LoginRateLimitProperties.class })
 public class SecurityConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordVerificationProperties verification, PasswordHashProperties hash,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        // Without the actuator (sliced tests) the meters are simply not exported
+        MeterRegistry registry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        // Stored hashes below this cost report upgradeEncoding() and are rehashed on login
+        int strength = BCryptCalibration.strength(hash);
+        PasswordEncoder timed = new TimedPasswordEncoder(new BCryptPasswordEncoder(strength), registry);
+        return new BoundedPasswordEncoder(timed, verification, registry);
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtTokenService tokens) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
+                // Authenticated by the access token on every request, no HTTP session
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(new JwtAuthenticationFilter(tokens), UsernamePasswordAuthenticationFilter.class)
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
                 .authorizeHttpRequests(auth -> auth
                         // Swagger endpoints
                         .requestMatchers(
@@ -29,6 +52,9 @@ public class SecurityConfig {
                                 "/v3/api-docs/**",
                                 "/v3/api-docs")
                         .permitAll()
+                        // Actuator endpoints are only served on the internal management port
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll()
+                        .requestMatchers("/api/auth/me").authenticated()
                         .requestMatchers("/api/auth/**", "/api/products/**").permitAll()
                         .anyRequest().authenticated());
         return http.build();
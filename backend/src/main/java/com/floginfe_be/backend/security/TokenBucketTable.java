@@ -0,0 +1,197 @@
+package com.floginfe_be.backend.security;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token buckets for up to {@code maxKeys} keys in preallocated primitive
+ * arrays, split into independently locked stripes.
+ * <p>
+ * Each bucket is kept as the generic cell rate algorithm's theoretical
+ * arrival time: one {@code long} per key, refilled lazily on access. A key
+ * whose arrival time has passed has a full bucket, exactly as if it had never
+ * been seen, so it can be dropped at no cost to accuracy. A stripe that runs
+ * out of room first drops those, then the sampled key closest to refilling.
+ * <p>
+ * Keys are 64-bit hashes supplied by the caller; a stripe is an open
+ * addressing table with linear probing, at most half full, with each key
+ * next to its arrival time. Acquiring a token
+ * allocates nothing.
+ */
+final class TokenBucketTable {
+
+    /** Occupied slots looked at when a full stripe has to evict a live bucket. */
+    private static final int EVICTION_SAMPLE = 8;
+
+    private final Stripe[] stripes;
+    private final int stripeShift;
+    private final long interval;
+    private final long tolerance;
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param capacity attempts allowed in a burst
+     * @param periodNanos time in which an empty bucket refills completely
+     */
+    TokenBucketTable(int stripes, int maxKeys, int capacity, long periodNanos) {
+        if (capacity < 1 || periodNanos < capacity) {
+            throw new IllegalArgumentException("Rate limit needs a capacity of at least 1 and a positive period");
+        }
+        int stripeCount = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        int keysPerStripe = Math.max(1, (maxKeys + stripeCount - 1) / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new Stripe(keysPerStripe);
+        }
+        this.stripeShift = 64 - Integer.numberOfTrailingZeros(stripeCount);
+        this.interval = periodNanos / capacity;
+        this.tolerance = interval * (capacity - 1);
+    }
+
+    /**
+     * Takes a token from the bucket of {@code key}.
+     *
+     * @return 0 if a token was taken, otherwise the nanoseconds until one is available
+     */
+    long acquire(long key, long now) {
+        // The top bits pick the stripe, the low bits the slot within it
+        Stripe stripe = stripeShift == 64 ? stripes[0] : stripes[(int) (key >>> stripeShift)];
+        return stripe.acquire(key == 0 ? 1 : key, now);
+    }
+
+    /** Keys currently tracked. */
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size;
+        }
+        return size;
+    }
+
+    /** Keys dropped before their bucket had refilled, because their stripe was full. */
+    long evictions() {
+        return evictions.sum();
+    }
+
+    /** Bytes held by the key and bucket arrays, fixed at construction. */
+    long memoryBytes() {
+        long longs = 0;
+        for (Stripe stripe : stripes) {
+            longs += stripe.entries.length;
+        }
+        return longs * Long.BYTES;
+    }
+
+    private final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        /** Key of slot {@code i} at {@code 2i}, its bucket's arrival time at {@code 2i + 1}: one cache line per probe. */
+        private final long[] entries;
+        private final int mask;
+        private final int limit;
+        private volatile int size;
+        /** No bucket refills before this, so purging earlier would find nothing. */
+        private long nextRefill;
+        private boolean purged;
+
+        Stripe(int limit) {
+            int slots = Integer.highestOneBit(Math.max(2, limit * 2 - 1)) << 1;
+            this.entries = new long[slots * 2];
+            this.mask = slots - 1;
+            this.limit = limit;
+        }
+
+        long acquire(long key, long now) {
+            lock.lock();
+            try {
+                int slot = find(key);
+                long arrival;
+                if (entries[slot * 2] == key) {
+                    arrival = entries[slot * 2 + 1] - now > 0 ? entries[slot * 2 + 1] : now;
+                    if (arrival - now > tolerance) {
+                        return arrival - tolerance - now;
+                    }
+                } else {
+                    if (size >= limit) {
+                        makeRoom(key, now);
+                        slot = find(key);
+                    }
+                    entries[slot * 2] = key;
+                    size++;
+                    arrival = now;
+                    if (purged && now + interval - nextRefill < 0) {
+                        nextRefill = now + interval;
+                    }
+                }
+                entries[slot * 2 + 1] = arrival + interval;
+                return 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /** The slot holding {@code key}, or the empty slot where it belongs. */
+        private int find(long key) {
+            int slot = (int) key & mask;
+            while (entries[slot * 2] != 0 && entries[slot * 2] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void makeRoom(long key, long now) {
+            if (!purged || now - nextRefill >= 0) {
+                long earliest = Long.MAX_VALUE;
+                boolean live = false;
+                for (int slot = 0; slot <= mask; slot++) {
+                    if (entries[slot * 2] == 0) {
+                        continue;
+                    }
+                    long arrival = entries[slot * 2 + 1];
+                    if (arrival - now <= 0) {
+                        // Refilled; the slot now holds an entry moved back from further along, look again
+                        remove(slot--);
+                    } else if (!live || arrival - earliest < 0) {
+                        earliest = arrival;
+                        live = true;
+                    }
+                }
+                nextRefill = live ? earliest : now;
+                purged = true;
+            }
+            if (size >= limit) {
+                evictClosestToRefill(key);
+            }
+        }
+
+        private void evictClosestToRefill(long key) {
+            int victim = -1;
+            int slot = (int) key & mask;
+            for (int seen = 0; seen < EVICTION_SAMPLE && seen < size; slot = (slot + 1) & mask) {
+                if (entries[slot * 2] != 0) {
+                    if (victim < 0 || entries[slot * 2 + 1] - entries[victim * 2 + 1] < 0) {
+                        victim = slot;
+                    }
+                    seen++;
+                }
+            }
+            remove(victim);
+            evictions.increment();
+        }
+
+        /** Backward-shift deletion: later entries of the probe run move up so lookups need no tombstones. */
+        private void remove(int slot) {
+            int hole = slot;
+            for (int next = (slot + 1) & mask; entries[next * 2] != 0; next = (next + 1) & mask) {
+                int home = (int) entries[next * 2] & mask;
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    entries[hole * 2] = entries[next * 2];
+                    entries[hole * 2 + 1] = entries[next * 2 + 1];
+                    hole = next;
+                }
+            }
+            entries[hole * 2] = 0;
+            entries[hole * 2 + 1] = 0;
+            size--;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.floginfe_be.backend.service;
+
+import java.util.List;
+
+import com.floginfe_be.backend.dto.request.ProductBatchUpdateRequest;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.dto.response.BatchResponse;
+
+/**
+ * Bulk product writes. Every item is validated up front and reported
+ * individually; items that fail validation, uniqueness or version checks are
+ * skipped while the rest are written in one transaction.
+ */
+public interface ProductBatchService {
+	BatchResponse createProducts(List<ProductRequest> requests);
+
+	BatchResponse updateProducts(List<ProductBatchUpdateRequest> requests);
+
+	BatchResponse deleteProducts(List<Long> ids);
+}
@@ -0,0 +1,17 @@
+package com.floginfe_be.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.floginfe_be.backend.constants.ExportFormat;
+import com.floginfe_be.backend.dto.request.ProductFilterRequest;
+
+public interface ProductExportService {
+	/**
+	 * Streams every product matching {@code request} to {@code out} in id
+	 * order, without holding the result in memory.
+	 *
+	 * @return the number of products written
+	 */
+	long exportProducts(ProductFilterRequest request, ExportFormat format, OutputStream out) throws IOException;
+}
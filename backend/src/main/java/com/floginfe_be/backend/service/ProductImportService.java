@@ -0,0 +1,17 @@
+package com.floginfe_be.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.floginfe_be.backend.dto.response.ImportSummary;
+import com.floginfe_be.backend.importer.ProductImportReader;
+
+/**
+ * Bulk catalog import. Records are upserted by product name in chunks, each
+ * in its own transaction, and a report is streamed to {@code report} as
+ * NDJSON: one {@code ImportRowError} per rejected record, then the
+ * {@code ImportSummary}. The reader is closed when the import ends.
+ */
+public interface ProductImportService {
+	ImportSummary importProducts(ProductImportReader reader, OutputStream report) throws IOException;
+}
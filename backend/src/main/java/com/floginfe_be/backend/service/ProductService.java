@@ -2,19 +2,66 @@ package com.floginfe_be.backend.service;
 
 import org.springframework.data.domain.Pageable;
 
+import com.floginfe_be.backend.constants.CountMode;
 import com.floginfe_be.backend.dto.request.ProductFilterRequest;
 import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.dto.response.CursorPagedResponse;
 import com.floginfe_be.backend.dto.response.PagedResponse;
+import com.floginfe_be.backend.dto.response.ProductFacetsResponse;
 import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.dto.response.SliceResponse;
 
 public interface ProductService {
 	ProductDto createProduct(ProductRequest request);
 
-	ProductDto updateProduct(Long id, ProductRequest request);
+	default ProductDto updateProduct(Long id, ProductRequest request) {
+		return updateProduct(id, request, null);
+	}
 
-	void deleteProduct(Long id);
+	/**
+	 * Updates the product if its current version is {@code expectedVersion}
+	 * (any version when {@code null}); otherwise throws
+	 * {@code PreconditionFailedException}.
+	 */
+	ProductDto updateProduct(Long id, ProductRequest request, Long expectedVersion);
+
+	default void deleteProduct(Long id) {
+		deleteProduct(id, null);
+	}
+
+	/**
+	 * Deletes the product if its current version is {@code expectedVersion}
+	 * (any version when {@code null}).
+	 */
+	void deleteProduct(Long id, Long expectedVersion);
 
 	ProductDto getProductById(Long id);
 
-	PagedResponse<ProductDto> getAllProducts(ProductFilterRequest request, Pageable pageable);
+	default PagedResponse<ProductDto> getAllProducts(ProductFilterRequest request, Pageable pageable) {
+		return getAllProducts(request, pageable, CountMode.EXACT);
+	}
+
+	/**
+	 * Page of products with {@code totalElements} computed according to
+	 * {@code countMode} ({@link CountMode#EXACT} or {@link CountMode#ESTIMATED}).
+	 */
+	PagedResponse<ProductDto> getAllProducts(ProductFilterRequest request, Pageable pageable, CountMode countMode);
+
+	/**
+	 * Page of products without any total ({@link CountMode#NONE}).
+	 */
+	SliceResponse<ProductDto> getProductSlice(ProductFilterRequest request, Pageable pageable);
+
+	/**
+	 * Keyset page of products following the {@code after} cursor (first page
+	 * when blank). Only the page size and first sort order of {@code pageable}
+	 * are used.
+	 */
+	CursorPagedResponse<ProductDto> getProductsAfter(ProductFilterRequest request, String after, Pageable pageable);
+
+	/**
+	 * Counts per category and per price / quantity bucket for the products
+	 * matching {@code request}.
+	 */
+	ProductFacetsResponse getFacets(ProductFilterRequest request);
 }
@@ -4,7 +4,9 @@ import com.floginfe_be.backend.dto.request.LoginRequest;
 import com.floginfe_be.backend.dto.response.LoginResponse;
 import com.floginfe_be.backend.entity.User;
 import com.floginfe_be.backend.repository.UserRepository;
+import com.floginfe_be.backend.security.PasswordRehasher;
 import com.floginfe_be.backend.service.AuthService;
+import com.floginfe_be.backend.validation.RequestRules;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -15,37 +17,22 @@ public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordRehasher passwordRehasher;
 
-    public AuthServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public AuthServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder,
+            PasswordRehasher passwordRehasher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.passwordRehasher = passwordRehasher;
     }
 
     @Override
     public String validateLogin(String username, String password) {
-        // Validate username
-        if (username == null || username.trim().isEmpty()) {
-            return "Username is required";
+        String error = RequestRules.USERNAME.validate(username);
+        if (error == null) {
+            error = RequestRules.PASSWORD.validate(password);
         }
-        if (username.length() < 3 || username.length() > 50) {
-            return "Username must be between 3 and 50 characters";
-        }
-        if (!username.matches("^[a-zA-Z0-9]+$")) {
-            return "Invalid username format";
-        }
-
-        // Validate password
-        if (password == null || password.trim().isEmpty()) {
-            return "Password is required";
-        }
-        if (password.length() < 6 || password.length() > 100) {
-            return "Password must be between 6 and 100 characters";
-        }
-        if (!password.matches("^(?=.*[a-zA-Z])(?=.*\\d).+$")) {
-            return "Password must contain at least one letter and one number";
-        }
-
-        return ""; // No validation errors
+        return error == null ? "" : error; // No validation errors
     }
 
     @Override
@@ -63,6 +50,9 @@ public class AuthServiceImpl implements AuthService {
             return new LoginResponse(false, "Invalid username or password");
         }
 
+        // Hashes made at an older cost are upgraded in the background
+        passwordRehasher.rehashIfOutdated(user, request.getPassword());
+
         return new LoginResponse(true, "Login successful");
     }
 }
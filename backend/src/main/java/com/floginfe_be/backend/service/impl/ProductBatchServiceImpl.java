@@ -0,0 +1,279 @@
+package com.floginfe_be.backend.service.impl;
+
+import com.floginfe_be.backend.cache.ProductCache;
+import com.floginfe_be.backend.dto.request.ProductBatchUpdateRequest;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.dto.response.BatchItemResult;
+import com.floginfe_be.backend.dto.response.BatchResponse;
+import com.floginfe_be.backend.entity.Product;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+import com.floginfe_be.backend.event.ProductsChangedEvent;
+import com.floginfe_be.backend.exception.ResourceAlreadyExistsException;
+import com.floginfe_be.backend.mapper.ProductMapper;
+import com.floginfe_be.backend.repository.ProductRepository;
+import com.floginfe_be.backend.service.ProductBatchService;
+import com.floginfe_be.backend.util.ProductNames;
+import com.floginfe_be.backend.validation.RequestRules;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Batch counterpart of {@link ProductServiceImpl}. Instead of one existence
+ * query and one insert per product, a batch costs one {@code IN} query for
+ * name uniqueness (plus one for the rows being updated or deleted) and JDBC
+ * batches of {@code hibernate.jdbc.batch_size} statements. Product ids come
+ * from the pooled {@code product_seq} allocator, so inserts need no
+ * round trip per row to learn the generated key.
+ */
+@Service
+@Transactional
+public class ProductBatchServiceImpl implements ProductBatchService {
+
+    private static final String DUPLICATE_IN_BATCH = "Tên sản phẩm bị trùng trong lô";
+
+    private static final HibernateJpaDialect JPA_DIALECT = new HibernateJpaDialect();
+
+    private final ProductRepository repository;
+
+    private final ProductMapper mapper;
+
+    private final ProductCache productCache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final EntityManager entityManager;
+
+    private final int maxItems;
+
+    public ProductBatchServiceImpl(ProductRepository repository, ProductMapper mapper, ProductCache productCache,
+            ApplicationEventPublisher eventPublisher, EntityManager entityManager,
+            @Value("${app.product-batch.max-items:5000}") int maxItems) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.productCache = productCache;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.maxItems = maxItems;
+    }
+
+    public BatchResponse createProducts(List<ProductRequest> requests) {
+        checkSize(requests);
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        Map<String, Integer> byName = new LinkedHashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ProductRequest request = requests.get(i);
+            String error = validate(request);
+            if (error != null) {
+                results[i] = BatchItemResult.failure(i, null, error);
+            } else if (byName.putIfAbsent(matchKey(request.getName()), i) != null) {
+                results[i] = BatchItemResult.failure(i, null, DUPLICATE_IN_BATCH);
+            }
+        }
+
+        Map<String, Long> taken = nameOwners(byName.values().stream().map(i -> requests.get(i).getName()).toList());
+        List<Product> created = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : byName.entrySet()) {
+            int i = entry.getValue();
+            if (taken.containsKey(entry.getKey())) {
+                results[i] = BatchItemResult.failure(i, null, "Product name already exists!");
+                continue;
+            }
+            Product product = mapper.toEntity(requests.get(i));
+            entityManager.persist(product);
+            created.add(product);
+            results[i] = BatchItemResult.success(i, product.getId(), product.getVersion());
+            if (created.size() % Product.ID_ALLOCATION_SIZE == 0) {
+                // Send the batch and drop the inserted rows from the persistence context
+                flush();
+                entityManager.clear();
+            }
+        }
+        flush();
+
+        List<ProductChangedEvent> changes = new ArrayList<>(created.size());
+        for (Product product : created) {
+            productCache.evict(product.getId());
+            changes.add(ProductChangedEvent.created(ProductState.of(product)));
+        }
+        publish(changes);
+        return BatchResponse.of(Arrays.asList(results));
+    }
+
+    public BatchResponse updateProducts(List<ProductBatchUpdateRequest> requests) {
+        checkSize(requests);
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        Map<Long, Integer> byId = new LinkedHashMap<>();
+        Map<String, Integer> byName = new HashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ProductBatchUpdateRequest request = requests.get(i);
+            String error = request.getId() == null ? "Thiếu id sản phẩm" : validate(request.getProduct());
+            if (error != null) {
+                results[i] = BatchItemResult.failure(i, request.getId(), error);
+            } else if (byId.putIfAbsent(request.getId(), i) != null) {
+                results[i] = BatchItemResult.failure(i, request.getId(), "Sản phẩm xuất hiện nhiều lần trong lô");
+            } else if (byName.putIfAbsent(matchKey(request.getProduct().getName()), i) != null) {
+                byId.remove(request.getId());
+                results[i] = BatchItemResult.failure(i, request.getId(), DUPLICATE_IN_BATCH);
+            }
+        }
+
+        Map<Long, Product> existing = findAll(byId.keySet());
+        Map<String, Long> owners = nameOwners(
+                byId.values().stream().map(i -> requests.get(i).getProduct().getName()).toList());
+        Map<Integer, ProductState> before = new LinkedHashMap<>();
+        for (Map.Entry<Long, Integer> entry : byId.entrySet()) {
+            Long id = entry.getKey();
+            int i = entry.getValue();
+            ProductBatchUpdateRequest request = requests.get(i);
+            Product product = existing.get(id);
+            Long owner = owners.get(matchKey(request.getProduct().getName()));
+            if (product == null) {
+                results[i] = BatchItemResult.failure(i, id, "Product with id " + id + " not found!");
+            } else if (request.getVersion() != null && !request.getVersion().equals(product.getVersion())) {
+                results[i] = BatchItemResult.failure(i, id, "Sản phẩm đã bị thay đổi, vui lòng tải lại trước khi cập nhật");
+            } else if (owner != null && !owner.equals(id)) {
+                results[i] = BatchItemResult.failure(i, id, "Product name already exists!");
+            } else {
+                before.put(i, ProductState.of(product));
+                mapper.updateEntityFromDto(request.getProduct(), product);
+            }
+        }
+        // Dirty checking turns the modified rows into batched, version-checked UPDATEs
+        flush();
+
+        List<ProductChangedEvent> changes = new ArrayList<>(before.size());
+        before.forEach((i, state) -> {
+            Product product = existing.get(state.id());
+            results[i] = BatchItemResult.success(i, product.getId(), product.getVersion());
+            productCache.evict(product.getId());
+            changes.add(ProductChangedEvent.updated(state, ProductState.of(product)));
+        });
+        publish(changes);
+        return BatchResponse.of(Arrays.asList(results));
+    }
+
+    public BatchResponse deleteProducts(List<Long> ids) {
+        checkSize(ids);
+        BatchItemResult[] results = new BatchItemResult[ids.size()];
+        Map<Long, Integer> byId = new LinkedHashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id == null) {
+                results[i] = BatchItemResult.failure(i, null, "Thiếu id sản phẩm");
+            } else if (byId.putIfAbsent(id, i) != null) {
+                results[i] = BatchItemResult.failure(i, id, "Sản phẩm xuất hiện nhiều lần trong lô");
+            }
+        }
+
+        Map<Long, Product> existing = findAll(byId.keySet());
+        byId.forEach((id, i) -> results[i] = existing.containsKey(id)
+                ? BatchItemResult.success(i, id, null)
+                : BatchItemResult.failure(i, id, "Product with id " + id + " not found!"));
+        if (!existing.isEmpty()) {
+            // A single DELETE ... WHERE id IN (...) for the whole batch
+            repository.deleteAllByIdInBatch(existing.keySet());
+        }
+
+        List<ProductChangedEvent> changes = new ArrayList<>(existing.size());
+        for (Product product : existing.values()) {
+            productCache.evict(product.getId());
+            changes.add(ProductChangedEvent.deleted(ProductState.of(product)));
+        }
+        publish(changes);
+        return BatchResponse.of(Arrays.asList(results));
+    }
+
+    /** One event for the whole batch, so listeners copy their indexes once rather than per product. */
+    private void publish(List<ProductChangedEvent> changes) {
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new ProductsChangedEvent(changes));
+        }
+    }
+
+    /**
+     * Flushes pending statements. A failing statement marks the whole
+     * transaction rollback-only, so it cannot be reported against one item:
+     * a name taken concurrently since {@link #nameOwners} becomes
+     * {@link ResourceAlreadyExistsException}, a row changed concurrently an
+     * {@link org.springframework.dao.OptimisticLockingFailureException}, and
+     * any other constraint a {@link DataIntegrityViolationException}.
+     */
+    private void flush() {
+        try {
+            entityManager.flush();
+        } catch (PersistenceException e) {
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof ConstraintViolationException violation
+                        && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+                    throw new ResourceAlreadyExistsException("Product name already exists!");
+                }
+            }
+            DataAccessException translated = JPA_DIALECT.translateExceptionIfPossible(e);
+            throw translated != null ? translated : e;
+        }
+    }
+
+    private void checkSize(List<?> items) {
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("Mỗi lô tối đa " + maxItems + " sản phẩm");
+        }
+    }
+
+    private static String validate(ProductRequest request) {
+        if (request == null) {
+            return "Thiếu dữ liệu sản phẩm";
+        }
+        return RequestRules.PRODUCT.validate(request);
+    }
+
+    private static String nameKey(String name) {
+        return ProductNames.key(name);
+    }
+
+    /** Equal for names the unique index treats as the same, accent variants included. */
+    private static String matchKey(String name) {
+        return ProductNames.matchKey(nameKey(name));
+    }
+
+    /** Id of the product currently holding each of {@code names}, keyed by {@link #matchKey}. */
+    private Map<String, Long> nameOwners(Collection<String> names) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Long> owners = new HashMap<>();
+        List<String> keys = names.stream().map(ProductBatchServiceImpl::nameKey).toList();
+        for (Object[] row : repository.findIdsByNameKeyIn(keys)) {
+            owners.put(ProductNames.matchKey((String) row[1]), (Long) row[0]);
+        }
+        return owners;
+    }
+
+    private Map<Long, Product> findAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+    }
+}
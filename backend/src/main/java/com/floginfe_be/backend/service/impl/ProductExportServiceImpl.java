@@ -0,0 +1,101 @@
+package com.floginfe_be.backend.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.floginfe_be.backend.catalog.ProductNameIndex;
+import com.floginfe_be.backend.constants.ExportFormat;
+import com.floginfe_be.backend.dto.request.ProductFilterRequest;
+import com.floginfe_be.backend.entity.Product;
+import com.floginfe_be.backend.entity.Product_;
+import com.floginfe_be.backend.export.ProductExportWriter;
+import com.floginfe_be.backend.mapper.ProductMapper;
+import com.floginfe_be.backend.service.ProductExportService;
+import com.floginfe_be.backend.spec.ProductSpec;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Streams the catalog through a forward-only result set read
+ * {@code app.export.fetch-size} rows at a time. Entities are loaded read-only
+ * (no dirty-checking snapshots) and the persistence context is cleared after
+ * every fetch block, so heap use does not grow with the catalog.
+ * <p>
+ * MySQL Connector/J ignores ordinary fetch sizes and buffers the whole result
+ * set unless the pool enables server-side cursors, which would apply to every
+ * statement. On MySQL this query alone is therefore run as a streaming result
+ * set ({@code fetchSize = Integer.MIN_VALUE}), reading rows off the connection
+ * as they are written; other databases use {@code app.export.fetch-size}.
+ */
+@Service
+public class ProductExportServiceImpl implements ProductExportService {
+
+    private static final String MYSQL = "MySQL";
+
+    private final EntityManager entityManager;
+
+    private final ProductMapper mapper;
+
+    private final ProductNameIndex nameIndex;
+
+    private final ObjectMapper objectMapper;
+
+    private final int fetchSize;
+
+    public ProductExportServiceImpl(EntityManager entityManager, ProductMapper mapper, ProductNameIndex nameIndex,
+            ObjectMapper objectMapper, @Value("${app.export.fetch-size:1000}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.mapper = mapper;
+        this.nameIndex = nameIndex;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportProducts(ProductFilterRequest request, ExportFormat format, OutputStream out)
+            throws IOException {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Product> query = cb.createQuery(Product.class);
+        Root<Product> root = query.from(Product.class);
+        Predicate where = ProductSpec.byFilter(request, nameIndex).toPredicate(root, query, cb);
+        if (where != null) {
+            query.where(where);
+        }
+        query.orderBy(cb.asc(root.get(Product_.id)));
+
+        long count = 0;
+        try (Stream<Product> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, jdbcFetchSize())
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+                ProductExportWriter writer = ProductExportWriter.create(format, out, objectMapper)) {
+            Iterator<Product> it = rows.iterator();
+            while (it.hasNext()) {
+                writer.write(mapper.toDto(it.next()));
+                if (++count % fetchSize == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        return count;
+    }
+
+    private int jdbcFetchSize() {
+        String database = entityManager.unwrap(Session.class)
+                .doReturningWork(connection -> connection.getMetaData().getDatabaseProductName());
+        return MYSQL.equalsIgnoreCase(database) ? Integer.MIN_VALUE : fetchSize;
+    }
+}
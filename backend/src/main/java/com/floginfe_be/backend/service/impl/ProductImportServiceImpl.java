@@ -0,0 +1,253 @@
+package com.floginfe_be.backend.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.floginfe_be.backend.cache.ProductCache;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.dto.response.ImportRowError;
+import com.floginfe_be.backend.dto.response.ImportSummary;
+import com.floginfe_be.backend.entity.Product;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+import com.floginfe_be.backend.event.ProductsChangedEvent;
+import com.floginfe_be.backend.importer.ImportRow;
+import com.floginfe_be.backend.importer.ProductImportReader;
+import com.floginfe_be.backend.mapper.ProductMapper;
+import com.floginfe_be.backend.repository.ProductRepository;
+import com.floginfe_be.backend.service.ProductImportService;
+import com.floginfe_be.backend.util.ProductNames;
+import com.floginfe_be.backend.validation.RequestRules;
+
+import jakarta.persistence.EntityManager;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Import pipeline: a parser thread reads and validates records into chunks
+ * of {@code app.import.chunk-size}, handing them to the request thread
+ * through a queue of {@code app.import.queue-capacity} chunks. When the
+ * writer falls behind the queue fills up, the parser blocks and stops
+ * reading the request body, and TCP flow control slows the client down; at
+ * most {@code queue-capacity + 2} chunks are in memory at any time.
+ * <p>
+ * Each chunk is upserted in its own transaction with one {@code IN} query to
+ * find the existing products, batched inserts and dirty-checked updates.
+ * A chunk whose transaction fails for any reason (constraint violation,
+ * commit failure, unexpected error) is rolled back and reported row by row;
+ * the import continues with the next one.
+ */
+@Slf4j
+@Service
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private static final String CHUNK_FAILED = "Không thể lưu khối dữ liệu chứa dòng này, khối đã được hoàn tác";
+
+    private final ProductRepository repository;
+
+    private final ProductMapper mapper;
+
+    private final ProductCache productCache;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final EntityManager entityManager;
+
+    private final TransactionOperations transactions;
+
+    private final ObjectMapper objectMapper;
+
+    private final int chunkSize;
+
+    private final int queueCapacity;
+
+    public ProductImportServiceImpl(ProductRepository repository, ProductMapper mapper, ProductCache productCache,
+            ApplicationEventPublisher eventPublisher, EntityManager entityManager, TransactionOperations transactions,
+            ObjectMapper objectMapper, @Value("${app.import.chunk-size:500}") int chunkSize,
+            @Value("${app.import.queue-capacity:4}") int queueCapacity) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.productCache = productCache;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.transactions = transactions;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    /** A chunk of rows, or the end of the input ({@code rows == null}) with the error that ended it, if any. */
+    private record Chunk(List<ImportRow> rows, Exception failure) {
+    }
+
+    public ImportSummary importProducts(ProductImportReader reader, OutputStream out) throws IOException {
+        BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(queueCapacity);
+        Thread parser = Thread.ofVirtual().name("product-import-parser").start(() -> parse(reader, queue));
+        ImportSummary summary = new ImportSummary();
+        try (JsonGenerator report = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null)) {
+            Chunk chunk;
+            while ((chunk = take(queue)).rows() != null) {
+                write(chunk.rows(), summary, report);
+                // Push this chunk's part of the report to the client
+                report.flush();
+            }
+            if (chunk.failure() instanceof IOException e) {
+                throw e;
+            }
+            if (chunk.failure() instanceof RuntimeException e) {
+                throw e;
+            }
+            objectMapper.writeValue(report, summary);
+            report.writeRaw('\n');
+        } finally {
+            // Unblocks the parser if the client went away or writing failed
+            parser.interrupt();
+        }
+        return summary;
+    }
+
+    private void parse(ProductImportReader reader, BlockingQueue<Chunk> queue) {
+        try (reader) {
+            List<ImportRow> rows = new ArrayList<>(chunkSize);
+            for (ImportRow row = reader.next(); row != null; row = reader.next()) {
+                rows.add(validate(row));
+                if (rows.size() == chunkSize) {
+                    queue.put(new Chunk(rows, null));
+                    rows = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!rows.isEmpty()) {
+                queue.put(new Chunk(rows, null));
+            }
+            queue.put(new Chunk(null, null));
+        } catch (InterruptedException e) {
+            // The writer gave up; nobody is waiting for more chunks
+        } catch (IOException | RuntimeException e) {
+            try {
+                queue.put(new Chunk(null, e));
+            } catch (InterruptedException ignored) {
+                // The writer gave up as well
+            }
+        }
+    }
+
+    private static ImportRow validate(ImportRow row) {
+        if (!row.isValid()) {
+            return row;
+        }
+        String message = RequestRules.PRODUCT.validate(row.product());
+        return message == null ? row : ImportRow.invalid(row.line(), row.product(), message);
+    }
+
+    private static Chunk take(BlockingQueue<Chunk> queue) throws InterruptedIOException {
+        try {
+            return queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Import interrupted");
+        }
+    }
+
+    private void write(List<ImportRow> rows, ImportSummary summary, JsonGenerator report) throws IOException {
+        List<ProductRequest> products = rows.stream().filter(ImportRow::isValid).map(ImportRow::product).toList();
+        boolean saved = true;
+        if (!products.isEmpty()) {
+            try {
+                int created = transactions.execute(status -> upsert(products));
+                summary.setCreated(summary.getCreated() + created);
+                summary.setUpdated(summary.getUpdated() + products.size() - created);
+            } catch (RuntimeException e) {
+                // Constraint violations, commit failures (TransactionSystemException) and anything else the
+                // chunk's transaction throws: it has been rolled back, so report its rows and go on
+                log.warn("Import chunk starting at line {} rolled back: {}", rows.get(0).line(), e.toString());
+                saved = false;
+            }
+        }
+        summary.setRows(summary.getRows() + rows.size());
+        for (ImportRow row : rows) {
+            String message = row.isValid() ? (saved ? null : CHUNK_FAILED) : row.error();
+            if (message != null) {
+                summary.setFailed(summary.getFailed() + 1);
+                objectMapper.writeValue(report, new ImportRowError(row.line(), row.name(), message));
+                report.writeRaw('\n');
+            }
+        }
+    }
+
+    /**
+     * Creates or updates one product per request, matching existing products
+     * by name like the unique constraint does, accent variants included
+     * ({@link ProductNames#matchKey}). A name repeated within the
+     * chunk updates the product its first occurrence wrote.
+     *
+     * @return the number of requests that created a product
+     */
+    private int upsert(List<ProductRequest> products) {
+        Map<String, Product> byName = new HashMap<>();
+        for (Product product : repository.findByNameKeyIn(
+                products.stream().map(request -> nameKey(request.getName())).toList())) {
+            byName.put(ProductNames.matchKey(product.getNameKey()), product);
+        }
+        List<Product> created = new ArrayList<>();
+        Set<Long> createdIds = new HashSet<>();
+        Map<Long, ProductState> before = new LinkedHashMap<>();
+        Map<Long, Product> updated = new HashMap<>();
+        for (ProductRequest request : products) {
+            String key = ProductNames.matchKey(nameKey(request.getName()));
+            Product product = byName.get(key);
+            if (product == null) {
+                product = mapper.toEntity(request);
+                entityManager.persist(product);
+                byName.put(key, product);
+                created.add(product);
+                createdIds.add(product.getId());
+                continue;
+            }
+            if (!createdIds.contains(product.getId())) {
+                before.putIfAbsent(product.getId(), ProductState.of(product));
+                updated.put(product.getId(), product);
+            }
+            mapper.updateEntityFromDto(request, product);
+        }
+        // Through the repository so constraint violations surface as DataAccessException. The request's
+        // EntityManager (open-in-view) outlives this transaction, so drop the chunk's products from it.
+        repository.flush();
+        entityManager.clear();
+
+        List<ProductChangedEvent> changes = new ArrayList<>(created.size() + before.size());
+        for (Product product : created) {
+            productCache.evict(product.getId());
+            changes.add(ProductChangedEvent.created(ProductState.of(product)));
+        }
+        before.forEach((id, state) -> {
+            productCache.evict(id);
+            changes.add(ProductChangedEvent.updated(state, ProductState.of(updated.get(id))));
+        });
+        // One event per chunk: the catalog indexes are updated once per committed chunk, not per row
+        eventPublisher.publishEvent(new ProductsChangedEvent(changes));
+        return created.size();
+    }
+
+    private static String nameKey(String name) {
+        return ProductNames.key(name);
+    }
+}
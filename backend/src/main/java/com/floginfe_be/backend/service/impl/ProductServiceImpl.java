@@ -1,10 +1,24 @@
 package com.floginfe_be.backend.service.impl;
 
+import com.floginfe_be.backend.cache.ProductCache;
+import com.floginfe_be.backend.catalog.ProductColumnarEngine;
+import com.floginfe_be.backend.catalog.ProductCountStatistics;
+import com.floginfe_be.backend.catalog.ProductFacetIndex;
+import com.floginfe_be.backend.catalog.ProductNameFilter;
+import com.floginfe_be.backend.catalog.ProductNameIndex;
+import com.floginfe_be.backend.constants.CountMode;
 import com.floginfe_be.backend.dto.request.ProductFilterRequest;
 import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.dto.response.CursorPagedResponse;
 import com.floginfe_be.backend.dto.response.PagedResponse;
+import com.floginfe_be.backend.dto.response.ProductFacetsResponse;
 import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.dto.response.SliceResponse;
 import com.floginfe_be.backend.entity.Product;
+import com.floginfe_be.backend.entity.Product_;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+import com.floginfe_be.backend.exception.PreconditionFailedException;
 import com.floginfe_be.backend.exception.ResourceAlreadyExistsException;
 import com.floginfe_be.backend.exception.ResourceNotFoundException;
 import com.floginfe_be.backend.mapper.ProductMapper;
@@ -12,15 +26,49 @@ import com.floginfe_be.backend.repository.ProductRepository;
 import com.floginfe_be.backend.service.ProductService;
 import com.floginfe_be.backend.spec.ProductSpec;
 import com.floginfe_be.backend.util.PagedResponseMapper;
+import com.floginfe_be.backend.util.ProductCursor;
+import com.floginfe_be.backend.util.ProductNames;
+import com.floginfe_be.backend.validation.RequestRules;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+/**
+ * Reads run in read-only transactions (no flush, read-only JDBC connection)
+ * and select {@link ProductDto} straight from the query, so no managed
+ * {@link Product} is created on the read path.
+ * <p>
+ * Updates and deletes are a single version-checked statement on the row
+ * when the product is cached, and a projection read plus that statement
+ * otherwise; creates are a plain INSERT unless the name filter flags the
+ * name.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -30,81 +78,224 @@ public class ProductServiceImpl implements ProductService {
 
     private final ProductMapper mapper;
 
+    private final ProductCache productCache;
+
+    private final ProductCountStatistics countStatistics;
+
+    private final ProductNameIndex nameIndex;
+
+    private final ProductNameFilter nameFilter;
+
+    private final ProductColumnarEngine columnarEngine;
+
+    private final ProductFacetIndex facetIndex;
+
+    private final ApplicationEventPublisher eventPublisher;
+
     public ProductDto createProduct(ProductRequest request) {
-        validateProduct(request);
+        RequestRules.PRODUCT.check(request);
         Product product = mapper.toEntity(request);
-        if (repository.existsByNameIgnoreCase(product.getName())) {
+        String nameKey = ProductNames.key(product.getName());
+        // A name the filter has never seen cannot exist, so most creates skip the lookup
+        if (nameFilter.mightExist(nameKey) && repository.existsByNameKey(nameKey)) {
             throw new ResourceAlreadyExistsException("Product name already exists!");
         }
-        return mapper.toDto(repository.save(product));
+        Product saved = uniqueName(() -> repository.saveAndFlush(product));
+        productCache.evict(saved.getId());
+        eventPublisher.publishEvent(ProductChangedEvent.created(ProductState.of(saved)));
+        return mapper.toDto(saved);
     }
 
-    public ProductDto updateProduct(Long id, ProductRequest request) {
-        Product product = repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Product with id " + id + " not found!"));
-        if (request.getName() != null && repository.existsByNameIgnoreCaseAndIdNot(request.getName(), id)) {
-            throw new ResourceAlreadyExistsException("Product name already exists!");
-        }
-        mapper.updateEntityFromDto(request, product);
-        return mapper.toDto(repository.save(product));
+    public ProductDto updateProduct(Long id, ProductRequest request, Long expectedVersion) {
+        String nameKey = ProductNames.key(request.getName());
+        ProductDto before = writeCurrent(id, expectedVersion, current -> {
+            // A missing product is reported before an invalid body
+            RequestRules.PRODUCT.check(request);
+            if (nameKey != null && !nameKey.equals(ProductNames.key(current.getName()))
+                    && nameFilter.mightExist(nameKey) && repository.existsByNameKeyAndIdNot(nameKey, id)) {
+                throw new ResourceAlreadyExistsException("Product name already exists!");
+            }
+            return uniqueName(() -> repository.updateIfVersion(id, current.getVersion(), request.getName(), nameKey,
+                    request.getPrice(), request.getQuantity(), request.getCategory(), request.getDescription()));
+        });
+        ProductDto updated = ProductDto.builder()
+                .id(id)
+                .name(request.getName())
+                .price(request.getPrice())
+                .quantity(request.getQuantity())
+                .category(request.getCategory())
+                .description(request.getDescription())
+                .version(before.getVersion() + 1)
+                .build();
+        productCache.evict(id);
+        eventPublisher.publishEvent(ProductChangedEvent.updated(ProductState.of(before), ProductState.of(updated)));
+        return updated;
+    }
+
+    public void deleteProduct(Long id, Long expectedVersion) {
+        ProductDto deleted = writeCurrent(id, expectedVersion,
+                current -> repository.deleteIfVersion(id, current.getVersion()));
+        productCache.evict(id);
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(ProductState.of(deleted)));
     }
 
-    public void deleteProduct(Long id) {
-        if (!repository.existsById(id)) {
-            throw new ResourceNotFoundException("Product with id " + id + " not found!");
+    /**
+     * Runs {@code write}, a statement conditional on the given state's
+     * version returning the affected row count, and returns that state.
+     * <p>
+     * The state comes from the product cache, so for a cached product the
+     * write is the only statement; the version condition guarantees the row
+     * was in exactly that state. If a cached state matches nothing, the entry
+     * was stale and the row is read again. A write against a state just read
+     * that matches nothing means a concurrent write won.
+     */
+    private ProductDto writeCurrent(Long id, Long expectedVersion, ToIntFunction<ProductDto> write) {
+        AtomicBoolean loaded = new AtomicBoolean();
+        ProductDto current = productCache.get(id, key -> {
+            loaded.set(true);
+            return repository.findDtoById(key);
+        }).orElseThrow(() -> new ResourceNotFoundException("Product with id " + id + " not found!"));
+        if (!loaded.get()) {
+            if ((expectedVersion == null || expectedVersion.equals(current.getVersion()))
+                    && write.applyAsInt(current) > 0) {
+                return current;
+            }
+            productCache.evict(id);
+            current = repository.findDtoById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Product with id " + id + " not found!"));
         }
-        repository.deleteById(id);
+        checkVersion(current, expectedVersion);
+        if (write.applyAsInt(current) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Product.class, id);
+        }
+        return current;
     }
 
-    public ProductDto getProductById(Long id) {
-        Product product = repository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Product with id " + id + " not found!"));
-        return mapper.toDto(product);
+    /**
+     * The name checks can let a taken name through (a concurrent write, or
+     * one the filter has not seen yet); the unique index on {@code name_key}
+     * then rejects the row and that is reported the same way.
+     */
+    private static <T> T uniqueName(Supplier<T> write) {
+        try {
+            return write.get();
+        } catch (DataIntegrityViolationException e) {
+            for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+                if (cause instanceof ConstraintViolationException violation
+                        && violation.getKind() == ConstraintViolationException.ConstraintKind.UNIQUE) {
+                    throw new ResourceAlreadyExistsException("Product name already exists!");
+                }
+            }
+            throw e;
+        }
     }
 
-    public PagedResponse<ProductDto> getAllProducts(ProductFilterRequest request, Pageable pageable) {
-        Specification<Product> spec = ProductSpec.byFilter(request);
-        Page<Product> pg = repository.findAll(spec, pageable);
-        return PagedResponseMapper.fromPage(pg, mapper::toDto);
+    private static void checkVersion(ProductDto product, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(product.getVersion())) {
+            throw new PreconditionFailedException("Sản phẩm đã bị thay đổi, vui lòng tải lại trước khi cập nhật");
+        }
     }
 
-    private void validateProduct(ProductRequest request) {
+    @Transactional(readOnly = true)
+    public ProductDto getProductById(Long id) {
+        return productCache.get(id, repository::findDtoById)
+                .orElseThrow(() -> new ResourceNotFoundException("Product with id " + id + " not found!", false));
+    }
 
-        // -------- Name ----------
-        if (request.getName() == null || request.getName().isBlank()) {
-            throw new IllegalArgumentException("Tên sản phẩm không được để trống");
+    @Transactional(readOnly = true)
+    public PagedResponse<ProductDto> getAllProducts(ProductFilterRequest request, Pageable pageable,
+            CountMode countMode) {
+        Optional<ProductColumnarEngine.Result> columnar = queryColumnar(request, pageable);
+        if (columnar.isPresent()) {
+            List<ProductDto> items = loadProducts(columnar.get().ids());
+            return PagedResponseMapper.fromPage(new PageImpl<>(items, pageable, columnar.get().total()),
+                    Function.identity());
         }
-        int nameLen = request.getName().length();
-        if (nameLen < 3 || nameLen > 100) {
-            throw new IllegalArgumentException("Tên sản phẩm phải từ 3 đến 100 ký tự");
+        Specification<Product> spec = filterSpec(request);
+        if (countMode == CountMode.ESTIMATED && countStatistics.isReady()) {
+            Slice<ProductDto> slice = repository.findDtoSlice(spec, pageable);
+            long seen = pageable.getOffset() + slice.getNumberOfElements();
+            if (!slice.hasNext()) {
+                // Last page: the total is known exactly
+                return PagedResponseMapper.fromSlice(slice, Function.identity(), seen, false);
+            }
+            OptionalLong estimate = countStatistics.estimate(request);
+            long total = Math.max(seen + 1, estimate.orElse(0));
+            return PagedResponseMapper.fromSlice(slice, Function.identity(), total, true);
         }
+        Page<ProductDto> pg = repository.findAllDtos(spec, pageable);
+        return PagedResponseMapper.fromPage(pg, Function.identity());
+    }
 
-        // -------- Price ----------
-        if (request.getPrice() == null || request.getPrice() <= 0) {
-            throw new IllegalArgumentException("Giá sản phẩm phải là số dương");
-        }
-        if (request.getPrice() > 999_999_999) {
-            throw new IllegalArgumentException("Giá sản phẩm phải <= 999.999.999");
+    @Transactional(readOnly = true)
+    public SliceResponse<ProductDto> getProductSlice(ProductFilterRequest request, Pageable pageable) {
+        Optional<ProductColumnarEngine.Result> columnar = queryColumnar(request, pageable);
+        if (columnar.isPresent()) {
+            List<ProductDto> items = loadProducts(columnar.get().ids());
+            boolean hasNext = pageable.getOffset() + columnar.get().ids().size() < columnar.get().total();
+            return PagedResponseMapper.fromSlice(new SliceImpl<>(items, pageable, hasNext), Function.identity());
         }
+        Specification<Product> spec = filterSpec(request);
+        Slice<ProductDto> slice = repository.findDtoSlice(spec, pageable);
+        return PagedResponseMapper.fromSlice(slice, Function.identity());
+    }
 
-        // -------- Quantity ----------
-        if (request.getQuantity() == null || request.getQuantity() < 0) {
-            throw new IllegalArgumentException("Số lượng phải là số không âm");
-        }
-        if (request.getQuantity() > 99_999) {
-            throw new IllegalArgumentException("Số lượng phải <= 99999");
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<ProductDto> getProductsAfter(ProductFilterRequest request, String after,
+            Pageable pageable) {
+        Sort.Order order = ProductCursor.orderOf(pageable.getSort());
+        Specification<Product> spec = filterSpec(request);
+        if (StringUtils.hasText(after)) {
+            spec = spec.and(ProductSpec.after(ProductCursor.decode(after, order)));
         }
+        Sort sort = Product_.ID.equals(order.getProperty())
+                ? Sort.by(order)
+                : Sort.by(order, new Sort.Order(order.getDirection(), Product_.ID));
 
-        // -------- Category (enum) ----------
-        if (request.getCategory() == null) {
-            throw new IllegalArgumentException("Danh mục phải nằm trong danh sách đã cho");
-        }
+        // Fetch one extra row to learn whether another page exists, without a COUNT query
+        int size = pageable.getPageSize();
+        List<ProductDto> rows = repository.findDtos(spec, sort, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<ProductDto> page = hasNext ? rows.subList(0, size) : rows;
 
-        // -------- Description ----------
-        if (request.getDescription() != null
-                && request.getDescription().length() > 500) {
-            throw new IllegalArgumentException("Mô tả sản phẩm không được vượt quá 500 ký tự");
-        }
+        return CursorPagedResponse.<ProductDto>builder()
+                .items(page)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? ProductCursor.of(order, page.get(size - 1)).encode() : null)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public ProductFacetsResponse getFacets(ProductFilterRequest request) {
+        return facetIndex.facets(request).orElseGet(() -> {
+            try (Stream<ProductState> products = repository.streamAllStates()) {
+                return ProductFacetIndex.facets(products, request);
+            }
+        });
+    }
+
+    private Optional<ProductColumnarEngine.Result> queryColumnar(ProductFilterRequest request, Pageable pageable) {
+        return columnarEngine.isReady() ? columnarEngine.query(request, pageable) : Optional.empty();
+    }
+
+    /**
+     * Products for {@code ids} in the same order, from the product cache with
+     * a single query for the misses. Ids deleted in the meantime are skipped.
+     */
+    private List<ProductDto> loadProducts(List<Long> ids) {
+        Map<Long, ProductDto> products = productCache.getAll(ids, missing -> repository.findDtosByIdIn(missing)
+                .stream()
+                .collect(Collectors.toMap(ProductDto::getId, Function.identity())));
+        return ids.stream().map(products::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Resolves the search term through the trigram name index when it can
+     * answer, so the query filters by id instead of scanning with LIKE.
+     */
+    private Specification<Product> filterSpec(ProductFilterRequest request) {
+        return ProductSpec.byFilter(request, nameIndex);
     }
 
 }
@@ -1,25 +1,55 @@
 package com.floginfe_be.backend.spec;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
+import com.floginfe_be.backend.catalog.ProductNameIndex;
 import com.floginfe_be.backend.dto.request.ProductFilterRequest;
 import com.floginfe_be.backend.entity.Product;
 import com.floginfe_be.backend.entity.Product_;
+import com.floginfe_be.backend.util.ProductCursor;
+import com.floginfe_be.backend.util.SearchText;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class ProductSpec {
 
     public static Specification<Product> byFilter(ProductFilterRequest filter) {
+        return byFilter(filter, (Collection<Long>) null);
+    }
+
+    /**
+     * Same as {@link #byFilter(ProductFilterRequest)}, with the {@code search}
+     * term resolved through {@code nameIndex} whenever the index can answer it.
+     */
+    public static Specification<Product> byFilter(ProductFilterRequest filter, ProductNameIndex nameIndex) {
+        if (!StringUtils.hasText(filter.getSearch())) {
+            return byFilter(filter);
+        }
+        return byFilter(filter, nameIndex.search(filter.getSearch()).orElse(null));
+    }
+
+    /**
+     * Same as {@link #byFilter(ProductFilterRequest)}, but when {@code searchIds}
+     * is given the {@code search} term has already been resolved to those
+     * product ids and is matched with {@code id IN (...)} instead of a
+     * {@code LIKE '%term%'} scan.
+     */
+    public static Specification<Product> byFilter(ProductFilterRequest filter, Collection<Long> searchIds) {
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
 
-            if (StringUtils.hasText(filter.getSearch())) {
-                predicates
-                        .add(cb.like(cb.lower(root.get(Product_.name)), "%" + filter.getSearch().toLowerCase() + "%"));
+            if (searchIds != null) {
+                predicates.add(searchIds.isEmpty() ? cb.disjunction() : root.get(Product_.id).in(searchIds));
+            } else if (StringUtils.hasText(filter.getSearch())) {
+                // Folded on both sides, so SQL matches exactly what the name index would
+                predicates.add(cb.like(root.get(Product_.searchName), "%" + SearchText.fold(filter.getSearch()) + "%"));
             }
 
             if (filter.getCategory() != null) {
@@ -43,4 +73,31 @@ public class ProductSpec {
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
+
+    /**
+     * Keyset seek predicate: rows strictly after {@code cursor} in
+     * {@code (sortKey, id)} order, i.e. {@code (key > v) OR (key = v AND id > lastId)}
+     * (reversed for descending order). Paired with a {@code (sortKey, id)} index
+     * this is a range scan, so every page costs the same as the first.
+     */
+    public static Specification<Product> after(ProductCursor cursor) {
+        return (root, query, cb) -> {
+            boolean asc = cursor.direction() == Sort.Direction.ASC;
+            Path<Long> id = root.get(Product_.id);
+            Predicate idAfter = asc ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+
+            return switch (cursor.property()) {
+                case Product_.NAME -> seek(cb, root.get(Product_.name), (String) cursor.value(), asc, idAfter);
+                case Product_.PRICE -> seek(cb, root.get(Product_.price), (Double) cursor.value(), asc, idAfter);
+                case Product_.QUANTITY -> seek(cb, root.get(Product_.quantity), (Integer) cursor.value(), asc, idAfter);
+                default -> idAfter;
+            };
+        };
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate seek(CriteriaBuilder cb, Path<Y> key, Y value,
+            boolean asc, Predicate idAfter) {
+        Predicate beyond = asc ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+        return cb.or(beyond, cb.and(cb.equal(key, value), idAfter));
+    }
 }
@@ -3,8 +3,10 @@ package com.floginfe_be.backend.util;
 import java.util.function.Function;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import com.floginfe_be.backend.dto.response.PagedResponse;
+import com.floginfe_be.backend.dto.response.SliceResponse;
 
 import lombok.NoArgsConstructor;
 
@@ -21,4 +23,33 @@ public class PagedResponseMapper {
 				.hasPrevious(page.hasPrevious())
 				.build();
 	}
+
+	public static <E, D> SliceResponse<D> fromSlice(Slice<E> slice, Function<E, D> mapper) {
+		return SliceResponse.<D>builder()
+				.items(slice.getContent().stream().map(mapper).toList())
+				.page(slice.getNumber())
+				.size(slice.getSize())
+				.hasNext(slice.hasNext())
+				.hasPrevious(slice.hasPrevious())
+				.build();
+	}
+
+	/**
+	 * Builds a {@link PagedResponse} from a slice whose total was obtained
+	 * without a COUNT query.
+	 */
+	public static <E, D> PagedResponse<D> fromSlice(Slice<E> slice, Function<E, D> mapper, long totalElements,
+			boolean estimated) {
+		int size = slice.getSize();
+		return PagedResponse.<D>builder()
+				.items(slice.getContent().stream().map(mapper).toList())
+				.page(slice.getNumber())
+				.size(size)
+				.totalElements(totalElements)
+				.totalPages(size == 0 ? 1 : (int) Math.ceil((double) totalElements / size))
+				.hasNext(slice.hasNext())
+				.hasPrevious(slice.hasPrevious())
+				.estimated(estimated)
+				.build();
+	}
 }
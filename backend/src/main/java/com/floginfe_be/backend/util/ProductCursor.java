@@ -0,0 +1,82 @@
+package com.floginfe_be.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+import org.springframework.data.domain.Sort;
+
+import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.entity.Product_;
+
+/**
+ * Position of the last row of a keyset page: the sort key and direction it
+ * was produced with, plus the last sort value and id. Clients only see the
+ * opaque, URL-safe {@link #encode() encoded} form.
+ */
+public record ProductCursor(String property, Sort.Direction direction, Object value, Long id) {
+
+	private static final Set<String> SORTABLE = Set.of(Product_.ID, Product_.NAME, Product_.PRICE, Product_.QUANTITY);
+
+	private static final String INVALID = "Cursor không hợp lệ";
+
+	/**
+	 * Resolves the single sort order a keyset page is ordered by. Defaults to
+	 * {@code id ASC}; only {@code id}, {@code name}, {@code price} and
+	 * {@code quantity} can be used as a seek key.
+	 */
+	public static Sort.Order orderOf(Sort sort) {
+		if (sort.isUnsorted()) {
+			return Sort.Order.asc(Product_.ID);
+		}
+		Sort.Order order = sort.iterator().next();
+		if (!SORTABLE.contains(order.getProperty())) {
+			throw new IllegalArgumentException("Không thể phân trang theo con trỏ với thuộc tính " + order.getProperty());
+		}
+		return order;
+	}
+
+	public static ProductCursor of(Sort.Order order, ProductDto last) {
+		Object value = switch (order.getProperty()) {
+			case Product_.NAME -> last.getName();
+			case Product_.PRICE -> last.getPrice();
+			case Product_.QUANTITY -> last.getQuantity();
+			default -> null;
+		};
+		return new ProductCursor(order.getProperty(), order.getDirection(), value, last.getId());
+	}
+
+	/**
+	 * Decodes {@code token}, rejecting it unless it was issued for the same
+	 * sort order as the current request.
+	 */
+	public static ProductCursor decode(String token, Sort.Order order) {
+		String[] parts;
+		try {
+			parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":", 4);
+		} catch (IllegalArgumentException ex) {
+			throw new IllegalArgumentException(INVALID);
+		}
+		if (parts.length != 4 || !parts[0].equals(order.getProperty())
+				|| !parts[1].equals(order.getDirection().name())) {
+			throw new IllegalArgumentException(INVALID);
+		}
+		try {
+			Long id = Long.valueOf(parts[2]);
+			Object value = switch (parts[0]) {
+				case Product_.NAME -> parts[3];
+				case Product_.PRICE -> Double.valueOf(parts[3]);
+				case Product_.QUANTITY -> Integer.valueOf(parts[3]);
+				default -> null;
+			};
+			return new ProductCursor(parts[0], order.getDirection(), value, id);
+		} catch (NumberFormatException ex) {
+			throw new IllegalArgumentException(INVALID);
+		}
+	}
+
+	public String encode() {
+		String raw = property + ":" + direction.name() + ":" + id + ":" + (value == null ? "" : value);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
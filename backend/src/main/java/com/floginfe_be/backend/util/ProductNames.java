@@ -0,0 +1,42 @@
+package com.floginfe_be.backend.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import lombok.NoArgsConstructor;
+
+/**
+ * Uniqueness key of a product name: trimmed, inner whitespace collapsed to a
+ * single space and lower-cased, so {@code " Laptop  Dell "} and
+ * {@code "laptop dell"} are the same name. Stored in {@code products.name_key}.
+ * <p>
+ * The key itself keeps accents, unlike {@link SearchText#fold}, but the
+ * unique constraint compares it with the column's collation: under MySQL's
+ * default {@code utf8mb4_0900_ai_ci} names differing only in accents
+ * ({@code "Bàn phím"}, {@code "Ban phim"}) are the same name. Code that
+ * looks keys up with {@code name_key IN (...)} and matches the rows back in
+ * memory keys its maps by {@link #matchKey} to get the same equality.
+ */
+@NoArgsConstructor
+public class ProductNames {
+
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	public static String key(String name) {
+		if (name == null) {
+			return null;
+		}
+		String composed = Normalizer.normalize(name, Normalizer.Form.NFC).strip();
+		return WHITESPACE.matcher(composed).replaceAll(" ").toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * {@code key} (a {@link #key}, computed or read from {@code name_key}) as
+	 * the accent-insensitive unique index compares it: two keys the index
+	 * treats as equal have the same match key.
+	 */
+	public static String matchKey(String key) {
+		return SearchText.fold(key);
+	}
+}
@@ -0,0 +1,62 @@
+package com.floginfe_be.backend.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import lombok.NoArgsConstructor;
+
+/**
+ * Normalises product names and search terms for case- and accent-insensitive
+ * search ({@code "Điện thoại"} and {@code "dien thoai"} fold to the same
+ * text). Names are stored folded in {@code products.search_name}, so the SQL
+ * search and the in-memory indexes compare the same text whatever the
+ * database collation does.
+ */
+@NoArgsConstructor
+public class SearchText {
+
+	private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+	public static String fold(String text) {
+		if (text == null) {
+			return null;
+		}
+		String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+		return MARKS.matcher(decomposed).replaceAll("")
+				.replace('đ', 'd')
+				.replace('Đ', 'D')
+				.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Test on folded text equivalent to the SQL search's
+	 * {@code search_name LIKE '%' || fold(term) || '%'}: {@code %} in the term
+	 * matches any run of characters and {@code _} any single one.
+	 */
+	public static Predicate<String> like(String term) {
+		String folded = fold(term);
+		if (folded.indexOf('%') < 0 && folded.indexOf('_') < 0) {
+			return text -> text.contains(folded);
+		}
+		StringBuilder regex = new StringBuilder();
+		StringBuilder literal = new StringBuilder();
+		for (char c : folded.toCharArray()) {
+			if (c == '%' || c == '_') {
+				if (!literal.isEmpty()) {
+					regex.append(Pattern.quote(literal.toString()));
+					literal.setLength(0);
+				}
+				regex.append(c == '%' ? ".*" : ".");
+			} else {
+				literal.append(c);
+			}
+		}
+		if (!literal.isEmpty()) {
+			regex.append(Pattern.quote(literal.toString()));
+		}
+		Pattern pattern = Pattern.compile(regex.toString(), Pattern.DOTALL);
+		return text -> pattern.matcher(text).find();
+	}
+}
@@ -0,0 +1,40 @@
+package com.floginfe_be.backend.validation;
+
+/**
+ * A set of ASCII characters as a lookup table, the precompiled form of a
+ * regex character class such as {@code [a-zA-Z0-9]}.
+ */
+public final class CharClass {
+
+	public static final CharClass ASCII_LETTER = ranges('a', 'z', 'A', 'Z');
+
+	public static final CharClass ASCII_DIGIT = ranges('0', '9');
+
+	public static final CharClass ASCII_ALPHANUMERIC = ranges('a', 'z', 'A', 'Z', '0', '9');
+
+	private final boolean[] members = new boolean[128];
+
+	private CharClass() {
+	}
+
+	/** Inclusive {@code from, to} pairs, e.g. {@code ranges('a', 'z', '0', '9')}. */
+	public static CharClass ranges(char... bounds) {
+		if (bounds.length % 2 != 0) {
+			throw new IllegalArgumentException("Ranges need a lower and an upper bound each");
+		}
+		CharClass charClass = new CharClass();
+		for (int i = 0; i < bounds.length; i += 2) {
+			if (bounds[i + 1] >= 128 || bounds[i] > bounds[i + 1]) {
+				throw new IllegalArgumentException("Not an ASCII range: " + bounds[i] + "-" + bounds[i + 1]);
+			}
+			for (char c = bounds[i]; c <= bounds[i + 1]; c++) {
+				charClass.members[c] = true;
+			}
+		}
+		return charClass;
+	}
+
+	public boolean contains(char c) {
+		return c < 128 && members[c];
+	}
+}
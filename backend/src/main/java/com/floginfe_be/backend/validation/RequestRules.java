@@ -0,0 +1,74 @@
+package com.floginfe_be.backend.validation;
+
+import java.util.function.Function;
+
+import com.floginfe_be.backend.dto.request.LoginRequest;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+
+/**
+ * The validation rules of the request DTOs, in the order their messages are
+ * reported. These are the only checks these requests go through: the DTOs
+ * carry no Bean Validation annotations and controllers do not use
+ * {@code @Valid} on them.
+ */
+public final class RequestRules {
+
+	private static final String PASSWORD_STRENGTH = "Password must contain at least one letter and one number";
+
+	public static final RequestValidator<ProductRequest> PRODUCT = RequestValidator.<ProductRequest>builder()
+			.notBlank(ProductRequest::getName, "Tên sản phẩm không được để trống")
+			.length(ProductRequest::getName, 3, 100, "Tên sản phẩm phải từ 3 đến 100 ký tự")
+			.rule(request -> request.getPrice() == null || request.getPrice() <= 0, "Giá sản phẩm phải là số dương")
+			.rule(request -> request.getPrice() > 999_999_999, "Giá sản phẩm phải <= 999.999.999")
+			.rule(request -> request.getQuantity() == null || request.getQuantity() < 0,
+					"Số lượng phải là số không âm")
+			.rule(request -> request.getQuantity() > 99_999, "Số lượng phải <= 99999")
+			.notNull(ProductRequest::getCategory, "Danh mục phải nằm trong danh sách đã cho")
+			.length(ProductRequest::getDescription, 0, 500, "Mô tả sản phẩm không được vượt quá 500 ký tự")
+			.build();
+
+	public static final RequestValidator<String> USERNAME = RequestValidator.<String>builder()
+			.rule(RequestRules::trimsToEmpty, "Username is required")
+			.length(Function.identity(), 3, 50, "Username must be between 3 and 50 characters")
+			.onlyChars(Function.identity(), CharClass.ASCII_ALPHANUMERIC, "Invalid username format")
+			.build();
+
+	public static final RequestValidator<String> PASSWORD = RequestValidator.<String>builder()
+			.rule(RequestRules::trimsToEmpty, "Password is required")
+			.length(Function.identity(), 6, 100, "Password must be between 6 and 100 characters")
+			.containsEach(Function.identity(), PASSWORD_STRENGTH, CharClass.ASCII_LETTER, CharClass.ASCII_DIGIT)
+			// The former ^(?=.*[a-zA-Z])(?=.*\d).+$ rejected line breaks, as '.' does not match them
+			.rule(RequestRules::hasLineTerminator, PASSWORD_STRENGTH)
+			.build();
+
+	public static final RequestValidator<LoginRequest> LOGIN = RequestValidator.<LoginRequest>builder()
+			.field(LoginRequest::getUsername, USERNAME)
+			.field(LoginRequest::getPassword, PASSWORD)
+			.build();
+
+	private RequestRules() {
+	}
+
+	/** {@code value.trim().isEmpty()} without the copy: only characters up to U+0020. */
+	private static boolean trimsToEmpty(String value) {
+		if (value == null) {
+			return true;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			if (value.charAt(i) > ' ') {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasLineTerminator(String value) {
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,148 @@
+package com.floginfe_be.backend.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * The rules of one request type, built once into an array of checks that run
+ * in declaration order; the first failing rule's message is the result.
+ * Field values are read through getters (method references), and patterns
+ * and character classes are compiled when the validator is built, so a
+ * valid request is checked without reflection or allocation.
+ * <p>
+ * Rules on a field skip {@code null} values unless they are about presence
+ * ({@link Builder#notNull}, {@link Builder#notBlank}).
+ */
+public final class RequestValidator<T> {
+
+	private final Rule<T>[] rules;
+
+	private RequestValidator(List<Rule<T>> rules) {
+		@SuppressWarnings("unchecked")
+		Rule<T>[] array = rules.toArray(new Rule[0]);
+		this.rules = array;
+	}
+
+	public static <T> Builder<T> builder() {
+		return new Builder<>();
+	}
+
+	/** The message of the first broken rule, or {@code null} if {@code target} is valid. */
+	public String validate(T target) {
+		for (Rule<T> rule : rules) {
+			String message = rule.check(target);
+			if (message != null) {
+				return message;
+			}
+		}
+		return null;
+	}
+
+	/** Like {@link #validate}, throwing {@link IllegalArgumentException} with the message. */
+	public void check(T target) {
+		String message = validate(target);
+		if (message != null) {
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+	@FunctionalInterface
+	private interface Rule<T> {
+		String check(T target);
+	}
+
+	public static final class Builder<T> {
+
+		private final List<Rule<T>> rules = new ArrayList<>();
+
+		private Builder() {
+		}
+
+		/** Fails with {@code message} when {@code violated} holds. */
+		public Builder<T> rule(Predicate<? super T> violated, String message) {
+			rules.add(target -> violated.test(target) ? message : null);
+			return this;
+		}
+
+		public Builder<T> notNull(Function<? super T, ?> field, String message) {
+			return rule(target -> field.apply(target) == null, message);
+		}
+
+		public Builder<T> notBlank(Function<? super T, String> field, String message) {
+			return rule(target -> {
+				String value = field.apply(target);
+				return value == null || value.isBlank();
+			}, message);
+		}
+
+		public Builder<T> length(Function<? super T, String> field, int min, int max, String message) {
+			return rule(target -> {
+				String value = field.apply(target);
+				return value != null && (value.length() < min || value.length() > max);
+			}, message);
+		}
+
+		/** Every character in {@code allowed}, like {@code ^[...]+$} on a non-empty value. */
+		public Builder<T> onlyChars(Function<? super T, String> field, CharClass allowed, String message) {
+			return rule(target -> {
+				String value = field.apply(target);
+				if (value == null) {
+					return false;
+				}
+				for (int i = 0; i < value.length(); i++) {
+					if (!allowed.contains(value.charAt(i))) {
+						return true;
+					}
+				}
+				return false;
+			}, message);
+		}
+
+		/** At least one character of each class, like a chain of {@code (?=.*[...])} lookaheads. */
+		public Builder<T> containsEach(Function<? super T, String> field, String message, CharClass... required) {
+			CharClass[] classes = required.clone();
+			if (classes.length > 64) {
+				throw new IllegalArgumentException("At most 64 character classes");
+			}
+			long all = classes.length == 64 ? -1L : (1L << classes.length) - 1;
+			return rule(target -> {
+				String value = field.apply(target);
+				if (value == null) {
+					return false;
+				}
+				long seen = 0;
+				for (int i = 0; i < value.length() && seen != all; i++) {
+					char c = value.charAt(i);
+					for (int k = 0; k < classes.length; k++) {
+						if (classes[k].contains(c)) {
+							seen |= 1L << k;
+						}
+					}
+				}
+				return seen != all;
+			}, message);
+		}
+
+		/** For rules no character class can express; the regex is compiled here, once. */
+		public Builder<T> matches(Function<? super T, String> field, String regex, String message) {
+			Pattern pattern = Pattern.compile(regex);
+			return rule(target -> {
+				String value = field.apply(target);
+				return value != null && !pattern.matcher(value).matches();
+			}, message);
+		}
+
+		/** Applies {@code nested} to a field, e.g. shared rules for a username. */
+		public <F> Builder<T> field(Function<? super T, F> field, RequestValidator<F> nested) {
+			rules.add(target -> nested.validate(field.apply(target)));
+			return this;
+		}
+
+		public RequestValidator<T> build() {
+			return new RequestValidator<>(rules);
+		}
+	}
+}
@@ -1,17 +1,18 @@
-INSERT INTO products (name, price, quantity, category, description) VALUES
-  ('Laptop Dell XPS', 600000, 20, 'LAPTOP', 'Hiệu năng cao, thiết kế mỏng nhẹ.'),
-  ('Máy tính để bàn HP Pavilion', 750000, 10, 'DESKTOP', 'Hiệu năng ổn định, dễ nâng cấp.'),
-  ('Điện thoại Samsung Galaxy', 800000, 12, 'SMARTPHONE', 'Màn hình sắc nét, camera chất lượng.'),
-  ('iPhone 14', 1200000, 8, 'SMARTPHONE', 'Thiết kế sang trọng, iOS mượt mà.'),
-  ('iPad Pro', 900000, 15, 'TABLET', 'Màn hình lớn, hiệu năng mạnh.'),
-  ('Apple Watch Series 9', 400000, 25, 'WEARABLE', 'Theo dõi sức khỏe, thông báo thông minh.'),
-  ('Màn hình LG 27 inch', 300000, 18, 'MONITOR', 'Độ phân giải cao, tần số quét nhanh.'),
-  ('Máy In Canon', 220000, 30, 'PRINTER', 'In ấn nhanh chóng, tiết kiệm mực.'),
-  ('Bàn phím cơ Logitech', 150000, 40, 'ACCESSORY', 'Phím bấm nhạy, thiết kế đẹp.'),
-  ('Chuột không dây Razer', 120000, 35, 'ACCESSORY', 'Độ chính xác cao, pin lâu.'),
-  ('Router TP-Link', 250000, 20, 'NETWORK_DEVICE', 'Tín hiệu mạnh, dễ cài đặt.'),
-  ('Switch Cisco 8-port', 500000, 5, 'NETWORK_DEVICE', 'Quản lý mạng ổn định cho văn phòng.'),
-  ('Tablet Samsung Galaxy Tab', 600000, 12, 'TABLET', 'Hiệu năng tốt, pin lâu.'),
-  ('Laptop MacBook Air', 1100000, 7, 'LAPTOP', 'Mỏng nhẹ, chạy mượt macOS.'),
-  ('Màn hình Dell UltraSharp', 450000, 10, 'MONITOR', 'Hiển thị màu chuẩn, thiết kế đẹp.');
+INSERT INTO products (name, price, quantity, category, description, name_key, search_name) VALUES
+  ('Laptop Dell XPS', 600000, 20, 'LAPTOP', 'Hiệu năng cao, thiết kế mỏng nhẹ.', 'laptop dell xps', 'laptop dell xps'),
+  ('Máy tính để bàn HP Pavilion', 750000, 10, 'DESKTOP', 'Hiệu năng ổn định, dễ nâng cấp.', 'máy tính để bàn hp pavilion', 'may tinh de ban hp pavilion'),
+  ('Điện thoại Samsung Galaxy', 800000, 12, 'SMARTPHONE', 'Màn hình sắc nét, camera chất lượng.', 'điện thoại samsung galaxy', 'dien thoai samsung galaxy'),
+  ('iPhone 14', 1200000, 8, 'SMARTPHONE', 'Thiết kế sang trọng, iOS mượt mà.', 'iphone 14', 'iphone 14'),
+  ('iPad Pro', 900000, 15, 'TABLET', 'Màn hình lớn, hiệu năng mạnh.', 'ipad pro', 'ipad pro'),
+  ('Apple Watch Series 9', 400000, 25, 'WEARABLE', 'Theo dõi sức khỏe, thông báo thông minh.', 'apple watch series 9', 'apple watch series 9'),
+  ('Màn hình LG 27 inch', 300000, 18, 'MONITOR', 'Độ phân giải cao, tần số quét nhanh.', 'màn hình lg 27 inch', 'man hinh lg 27 inch'),
+  ('Máy In Canon', 220000, 30, 'PRINTER', 'In ấn nhanh chóng, tiết kiệm mực.', 'máy in canon', 'may in canon'),
+  ('Bàn phím cơ Logitech', 150000, 40, 'ACCESSORY', 'Phím bấm nhạy, thiết kế đẹp.', 'bàn phím cơ logitech', 'ban phim co logitech'),
+  ('Chuột không dây Razer', 120000, 35, 'ACCESSORY', 'Độ chính xác cao, pin lâu.', 'chuột không dây razer', 'chuot khong day razer'),
+  ('Router TP-Link', 250000, 20, 'NETWORK_DEVICE', 'Tín hiệu mạnh, dễ cài đặt.', 'router tp-link', 'router tp-link'),
+  ('Switch Cisco 8-port', 500000, 5, 'NETWORK_DEVICE', 'Quản lý mạng ổn định cho văn phòng.', 'switch cisco 8-port', 'switch cisco 8-port'),
+  ('Tablet Samsung Galaxy Tab', 600000, 12, 'TABLET', 'Hiệu năng tốt, pin lâu.', 'tablet samsung galaxy tab', 'tablet samsung galaxy tab'),
+  ('Laptop MacBook Air', 1100000, 7, 'LAPTOP', 'Mỏng nhẹ, chạy mượt macOS.', 'laptop macbook air', 'laptop macbook air'),
+  ('Màn hình Dell UltraSharp', 450000, 10, 'MONITOR', 'Hiển thị màu chuẩn, thiết kế đẹp.', 'màn hình dell ultrasharp', 'man hinh dell ultrasharp');
 
+INSERT INTO product_seq (next_val) SELECT COALESCE(MAX(id), 0) + 1 FROM products;
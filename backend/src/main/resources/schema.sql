@@ -1,5 +1,6 @@
 DROP TABLE IF EXISTS users;
 DROP TABLE IF EXISTS products;
+DROP TABLE IF EXISTS product_seq;
 
 CREATE TABLE products (
     `id` BIGINT PRIMARY KEY AUTO_INCREMENT,
@@ -7,7 +8,23 @@ CREATE TABLE products (
 	`price` DOUBLE NOT NULL,
 	`quantity` INT NOT NULL,
 	`category` ENUM('LAPTOP', 'DESKTOP', 'SMARTPHONE', 'TABLET', 'WEARABLE', 'MONITOR', 'PRINTER', 'ACCESSORY', 'NETWORK_DEVICE'),
-	`description` VARCHAR(255)
+	`description` VARCHAR(255),
+	`version` BIGINT NOT NULL DEFAULT 0,
+	-- Trimmed, whitespace-collapsed, lower-cased name (ProductNames.key), set by the application.
+	-- Compared with the table collation: accent-insensitive under MySQL's default utf8mb4_0900_ai_ci
+	`name_key` VARCHAR(255) NOT NULL,
+	-- Case- and accent-folded name (SearchText.fold), set by the application; searched with LIKE
+	`search_name` VARCHAR(255) NOT NULL,
+	CONSTRAINT uk_products_name_key UNIQUE (`name_key`)
+);
+
+-- (sortKey, id) indexes backing keyset pagination
+CREATE INDEX idx_products_price_id ON products (price, id);
+CREATE INDEX idx_products_quantity_id ON products (quantity, id);
+
+-- Pooled id allocator for products (MySQL has no sequences); next_val is the first unallocated id
+CREATE TABLE product_seq (
+	`next_val` BIGINT NOT NULL
 );
 
 CREATE TABLE users (
@@ -0,0 +1,61 @@
+package com.floginfe_be.backend.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Listing Query Key - Canonical Form Tests")
+class ListingQueryKeyTest {
+
+	@Test
+	@DisplayName("Equivalent Queries - Same Key")
+	void equivalentQueries_SameKey() {
+		Optional<String> a = ListingQueryKey.of(params("category", "LAPTOP", "page", "0", "minPrice", "100000",
+				"search", " ", "sort", "price,DESC"));
+		Optional<String> b = ListingQueryKey.of(params("sort", "price,desc", "minPrice", "1E+5", "category", "LAPTOP",
+				"size", "10", "count", "exact"));
+
+		assertEquals(a, b);
+		assertEquals("category=LAPTOP&count=exact&minPrice=100000&page=0&size=10&sort=price,desc", a.orElseThrow());
+	}
+
+	@Test
+	@DisplayName("Different Queries - Different Keys")
+	void differentQueries_DifferentKeys() {
+		assertNotEquals(ListingQueryKey.of(params("search", "lap")), ListingQueryKey.of(params("search", "lap ")));
+		assertNotEquals(ListingQueryKey.of(params("sort", "price", "sort", "name")),
+				ListingQueryKey.of(params("sort", "name", "sort", "price")));
+		assertNotEquals(ListingQueryKey.of(params("page", "1")), ListingQueryKey.of(params()));
+		assertEquals(ListingQueryKey.of(params("search", "LAP")), ListingQueryKey.of(params("search", "lap")));
+		assertEquals(ListingQueryKey.of(params("size", "0")), ListingQueryKey.of(params()));
+	}
+
+	@Test
+	@DisplayName("Unknown, Repeated Or Invalid Params - Not Cacheable")
+	void unsupportedQueries_Empty() {
+		assertTrue(ListingQueryKey.of(params("foo", "bar")).isEmpty());
+		assertTrue(ListingQueryKey.of(params("category", "PHONE")).isEmpty());
+		assertTrue(ListingQueryKey.of(params("minPrice", "abc")).isEmpty());
+		assertTrue(ListingQueryKey.of(Map.of("page", new String[] { "1", "2" })).isEmpty());
+	}
+
+	private static Map<String, String[]> params(String... pairs) {
+		Map<String, String[]> params = new LinkedHashMap<>();
+		for (int i = 0; i < pairs.length; i += 2) {
+			params.merge(pairs[i], new String[] { pairs[i + 1] }, (a, b) -> {
+				String[] merged = new String[a.length + 1];
+				System.arraycopy(a, 0, merged, 0, a.length);
+				merged[a.length] = b[0];
+				return merged;
+			});
+		}
+		return params;
+	}
+}
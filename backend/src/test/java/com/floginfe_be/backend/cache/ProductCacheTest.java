@@ -0,0 +1,100 @@
+package com.floginfe_be.backend.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.response.ProductDto;
+
+@DisplayName("Product Cache - Read-Through Loading Tests")
+class ProductCacheTest {
+
+	private final ProductCache cache = new ProductCache(100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+
+	private static ProductDto product(Long id, String name) {
+		return new ProductDto(id, name, 100.0, 1, Categories.LAPTOP, "description");
+	}
+
+	@Test
+	@DisplayName("Get - Concurrent Misses - One Load Shared By All Callers")
+	void get_ConcurrentMisses_LoadedOnce() throws InterruptedException {
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		List<Optional<ProductDto>> results = new ArrayList<>();
+
+		Thread first = Thread.ofVirtual().start(() -> results.add(cache.get(1L, id -> {
+			loads.incrementAndGet();
+			loading.countDown();
+			await(release);
+			return Optional.of(product(id, "Laptop"));
+		})));
+		loading.await();
+		List<Thread> waiters = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			waiters.add(Thread.ofVirtual().start(() -> cache.get(1L, id -> {
+				loads.incrementAndGet();
+				return Optional.empty();
+			})));
+		}
+		release.countDown();
+		first.join();
+		for (Thread waiter : waiters) {
+			waiter.join();
+		}
+
+		assertEquals(1, loads.get());
+		assertEquals("Laptop", results.get(0).orElseThrow().getName());
+		assertEquals("Laptop", cache.get(1L, id -> Optional.empty()).orElseThrow().getName());
+	}
+
+	@Test
+	@DisplayName("Get - Loader Fails - Exception Rethrown And Nothing Cached")
+	void get_LoaderFails_NotCached() {
+		IllegalStateException failure = new IllegalStateException("database down");
+
+		assertSame(failure, assertThrows(IllegalStateException.class, () -> cache.get(1L, id -> {
+			throw failure;
+		})));
+		assertEquals("Laptop", cache.get(1L, id -> Optional.of(product(id, "Laptop"))).orElseThrow().getName());
+	}
+
+	@Test
+	@DisplayName("Evict - During A Load - Loaded Row Not Kept")
+	void evict_DuringLoad_NotCached() {
+		Optional<ProductDto> loaded = cache.get(1L, id -> {
+			cache.evict(id);
+			return Optional.of(product(id, "Old name"));
+		});
+
+		assertEquals("Old name", loaded.orElseThrow().getName());
+		assertEquals("New name", cache.get(1L, id -> Optional.of(product(id, "New name"))).orElseThrow().getName());
+	}
+
+	@Test
+	@DisplayName("Get - Missing Product - Cached As Missing")
+	void get_Missing_CachedAsMissing() {
+		assertTrue(cache.get(1L, id -> Optional.empty()).isEmpty());
+		assertTrue(cache.get(1L, id -> Optional.of(product(id, "Laptop"))).isEmpty());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
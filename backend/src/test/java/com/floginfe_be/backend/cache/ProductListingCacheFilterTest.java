@@ -0,0 +1,128 @@
+package com.floginfe_be.backend.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import com.floginfe_be.backend.catalog.CatalogVersion;
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@DisplayName("Product Listing Cache Filter - Tests")
+class ProductListingCacheFilterTest {
+
+	private static final String BODY = "{\"success\":true,\"data\":{\"items\":[]}}";
+
+	private final AtomicInteger renders = new AtomicInteger();
+
+	private CatalogVersion catalogVersion;
+
+	private ProductListingCache cache;
+
+	private ProductListingCacheFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		catalogVersion = new CatalogVersion(Duration.ofMinutes(1));
+		cache = new ProductListingCache(DataSize.ofMegabytes(1), Duration.ofMinutes(1));
+		filter = new ProductListingCacheFilter(cache, catalogVersion);
+	}
+
+	@Test
+	@DisplayName("Repeated Equivalent Query - Rendered Once")
+	void repeatedQuery_ServedFromCache() throws Exception {
+		MockHttpServletResponse first = perform(request("category", "LAPTOP", "search", ""));
+		MockHttpServletResponse second = perform(request("category", "LAPTOP"));
+
+		assertEquals(1, renders.get());
+		assertEquals("MISS", first.getHeader("X-Cache"));
+		assertEquals("HIT", second.getHeader("X-Cache"));
+		assertEquals(BODY, second.getContentAsString());
+		assertEquals("application/json", second.getContentType());
+		assertEquals("*", second.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN));
+	}
+
+	@Test
+	@DisplayName("Accept-Encoding gzip - Precompressed Body")
+	void gzipClient_GetsGzipBody() throws Exception {
+		perform(request());
+		MockHttpServletRequest request = request();
+		request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+
+		MockHttpServletResponse response = perform(request);
+
+		assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+			assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), in.readAllBytes());
+		}
+	}
+
+	@Test
+	@DisplayName("Product Write - Catalog Version Bump - Cache Invalidated")
+	void productWrite_Invalidates() throws Exception {
+		perform(request());
+		catalogVersion.onProductChanged(ProductChangedEvent.deleted(
+				new ProductState(1L, "Laptop Dell XPS", 600_000.0, 20, Categories.LAPTOP)));
+
+		MockHttpServletResponse response = perform(request());
+
+		assertEquals(2, renders.get());
+		assertEquals("MISS", response.getHeader("X-Cache"));
+	}
+
+	@Test
+	@DisplayName("Error Or Other Path - Not Cached")
+	void errorsAndOtherPaths_Bypass() throws Exception {
+		perform(request("minPrice", "abc"));
+		perform(request("minPrice", "abc"));
+		MockHttpServletRequest byId = new MockHttpServletRequest("GET", "/api/products/1");
+		MockHttpServletResponse response = perform(byId);
+
+		assertEquals(3, renders.get());
+		assertNull(response.getHeader("X-Cache"));
+	}
+
+	private static MockHttpServletRequest request(String... params) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+		for (int i = 0; i < params.length; i += 2) {
+			request.addParameter(params[i], params[i + 1]);
+		}
+		request.addHeader(HttpHeaders.ORIGIN, "http://localhost:5173");
+		return request;
+	}
+
+	private MockHttpServletResponse perform(MockHttpServletRequest request) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+			@Override
+			protected void service(HttpServletRequest req, HttpServletResponse res) throws IOException {
+				renders.incrementAndGet();
+				res.setContentType("application/json");
+				res.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*");
+				res.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+			}
+		}));
+		return response;
+	}
+}
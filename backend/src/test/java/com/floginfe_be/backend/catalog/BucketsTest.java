@@ -0,0 +1,34 @@
+package com.floginfe_be.backend.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Buckets - Value Range Tests")
+class BucketsTest {
+
+	@Test
+	@DisplayName("Index Of - Bounds, Inside And Out Of Range - Clamped Bucket")
+	void indexOf_Values_Bucket() {
+		assertEquals(0, Buckets.QUANTITY.indexOf(0));
+		assertEquals(0, Buckets.QUANTITY.indexOf(9));
+		assertEquals(1, Buckets.QUANTITY.indexOf(10));
+		assertEquals(1, Buckets.QUANTITY.indexOf(49.5));
+		assertEquals(2, Buckets.QUANTITY.indexOf(50.5));
+		assertEquals(0, Buckets.QUANTITY.indexOf(-5));
+		assertEquals(Buckets.QUANTITY.count() - 1, Buckets.QUANTITY.indexOf(100_000));
+		assertEquals(Buckets.QUANTITY.count() - 1, Buckets.QUANTITY.indexOf(5_000_000));
+	}
+
+	@Test
+	@DisplayName("Overlap - Partial, Full And Disjoint Ranges - Covered Fraction")
+	void overlap_Ranges_Fraction() {
+		// Bucket 1 is [10, 50)
+		assertEquals(1.0, Buckets.QUANTITY.overlap(1, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+		assertEquals(0.5, Buckets.QUANTITY.overlap(1, 30, 100));
+		assertEquals(0.25, Buckets.QUANTITY.overlap(1, 20, 30));
+		assertEquals(0.0, Buckets.QUANTITY.overlap(1, 50, 60));
+		assertEquals(0.0, Buckets.QUANTITY.overlap(1, 30, 20));
+	}
+}
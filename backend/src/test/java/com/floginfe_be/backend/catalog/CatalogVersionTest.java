@@ -0,0 +1,70 @@
+package com.floginfe_be.backend.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+import com.floginfe_be.backend.event.ProductsChangedEvent;
+
+@DisplayName("Catalog Version - Change And TTL Tests")
+class CatalogVersionTest {
+
+	private Clock clock;
+
+	private CatalogVersion version;
+
+	@BeforeEach
+	void setUp() {
+		clock = mock(Clock.class);
+		when(clock.millis()).thenReturn(90_000L);
+		version = new CatalogVersion(Duration.ofSeconds(30), clock);
+	}
+
+	@Test
+	@DisplayName("Within One TTL Window - No Changes - Same Version And ETag")
+	void sameWindow_Unchanged() {
+		long before = version.current();
+		String etag = version.etag();
+		when(clock.millis()).thenReturn(119_999L);
+
+		assertEquals(before, version.current());
+		assertEquals(etag, version.etag());
+	}
+
+	@Test
+	@DisplayName("TTL Window Rolls Over - No Local Changes - Version Moves")
+	void nextWindow_VersionMoves() {
+		long before = version.current();
+		when(clock.millis()).thenReturn(120_000L);
+
+		assertTrue(version.current() > before);
+	}
+
+	@Test
+	@DisplayName("Committed Change Or Batch - Version Moves Once Each")
+	void changes_VersionMoves() {
+		long before = version.current();
+		ProductState product = new ProductState(1L, "Laptop Dell", 100.0, 1, Categories.LAPTOP);
+		String etag = version.etag();
+
+		version.onProductChanged(ProductChangedEvent.created(product));
+		version.onProductsChanged(new ProductsChangedEvent(List.of(ProductChangedEvent.deleted(product),
+				ProductChangedEvent.created(product))));
+
+		assertEquals(before + 2, version.current());
+		assertNotEquals(etag, version.etag());
+	}
+}
@@ -0,0 +1,108 @@
+package com.floginfe_be.backend.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.request.ProductFilterRequest;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+import com.floginfe_be.backend.event.ProductsChangedEvent;
+import com.floginfe_be.backend.repository.ProductRepository;
+
+@DisplayName("Product Catalog Maintainer - Rebuild And Replay Tests")
+class ProductCatalogMaintainerTest {
+
+	private ProductRepository repository;
+
+	private ProductCountStatistics statistics;
+
+	private ProductCatalogMaintainer maintainer;
+
+	@BeforeEach
+	void setUp() {
+		repository = mock(ProductRepository.class);
+		statistics = new ProductCountStatistics();
+		maintainer = new ProductCatalogMaintainer(repository, List.of(statistics),
+				mock(PlatformTransactionManager.class));
+	}
+
+	@Test
+	@DisplayName("Rebuild - Changes Committed While Streaming - Each Counted Once")
+	void rebuild_ConcurrentChanges_CountedOnce() {
+		ProductState laptop = state(1L, Categories.LAPTOP);
+		ProductState phone = state(2L, Categories.SMARTPHONE);
+		ProductState tablet = state(3L, Categories.TABLET);
+		ProductState renamed = state(2L, Categories.LAPTOP);
+		// The stream reads the product created and the one updated mid-rebuild in their new
+		// state, and never sees the product deleted before it got there
+		when(repository.streamAllStates()).thenAnswer(inv -> Stream.of(laptop, renamed, tablet)
+				.peek(product -> {
+					if (product == laptop) {
+						maintainer.onProductsChanged(new ProductsChangedEvent(List.of(
+								ProductChangedEvent.created(tablet),
+								ProductChangedEvent.updated(phone, renamed))));
+						maintainer.onProductChanged(ProductChangedEvent.deleted(state(4L, Categories.LAPTOP)));
+					}
+				}));
+
+		maintainer.rebuild();
+
+		assertEquals(3, statistics.total());
+		assertEquals(2, statistics.estimate(filter(Categories.LAPTOP)).getAsLong());
+		assertEquals(0, statistics.estimate(filter(Categories.SMARTPHONE)).getAsLong());
+		assertEquals(1, statistics.estimate(filter(Categories.TABLET)).getAsLong());
+	}
+
+	@Test
+	@DisplayName("Rebuild - Change Committed After The Row Was Streamed - Applied")
+	void rebuild_ChangeAfterRowStreamed_Applied() {
+		ProductState laptop = state(1L, Categories.LAPTOP);
+		ProductState phone = state(2L, Categories.SMARTPHONE);
+		when(repository.streamAllStates()).thenAnswer(inv -> Stream.of(laptop, phone)
+				.peek(product -> {
+					if (product == phone) {
+						maintainer.onProductChanged(ProductChangedEvent.deleted(laptop));
+					}
+				}));
+
+		maintainer.rebuild();
+
+		assertEquals(1, statistics.total());
+		assertEquals(0, statistics.estimate(filter(Categories.LAPTOP)).getAsLong());
+	}
+
+	@Test
+	@DisplayName("Replay - Last Change Per Product - Moves From Streamed State")
+	void replay_PendingChanges_NetEffect() {
+		ProductState v1 = state(1L, Categories.LAPTOP);
+		ProductState v2 = state(1L, Categories.TABLET);
+		ProductState created = state(5L, Categories.MONITOR);
+
+		List<ProductChangedEvent> replay = ProductCatalogMaintainer.replay(List.of(
+				ProductChangedEvent.updated(v1, v2),
+				ProductChangedEvent.created(created),
+				ProductChangedEvent.deleted(created)),
+				Map.of(1L, v1));
+
+		assertEquals(List.of(new ProductChangedEvent(1L, v1, v2)), replay);
+	}
+
+	private static ProductFilterRequest filter(Categories category) {
+		return ProductFilterRequest.builder().category(category).build();
+	}
+
+	private static ProductState state(Long id, Categories category) {
+		return new ProductState(id, "Product " + id, 100_000.0, 10, category);
+	}
+}
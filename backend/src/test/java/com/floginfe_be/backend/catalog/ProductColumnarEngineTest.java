@@ -0,0 +1,232 @@
+package com.floginfe_be.backend.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.request.ProductFilterRequest;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+import com.floginfe_be.backend.util.SearchText;
+
+@DisplayName("Product Columnar Engine - In-Memory Filtering Tests")
+class ProductColumnarEngineTest {
+
+	private static final String[] WORDS = { "Laptop", "Điện thoại", "Màn hình", "Dell", "Asus", "Galaxy", "Pro" };
+
+	private final Random random = new Random(7);
+
+	@ParameterizedTest(name = "vector = {0}")
+	@ValueSource(booleans = { false, true })
+	@DisplayName("Query - Random Filters And Sorts - Matches Brute Force")
+	void query_RandomFilters_MatchesBruteForce(boolean vector) {
+		List<ProductState> products = randomProducts(1_000);
+		ProductColumnarEngine engine = load(products, vector);
+
+		for (int i = 0; i < 200; i++) {
+			ProductFilterRequest filter = randomFilter();
+			Pageable pageable = randomPage();
+			assertQuery(products, engine, filter, pageable);
+		}
+	}
+
+	@Test
+	@DisplayName("Apply - Creates, Updates And Deletes - Same As Fresh Snapshot")
+	void apply_Changes_MatchesBruteForce() {
+		List<ProductState> products = new ArrayList<>(randomProducts(300));
+		ProductColumnarEngine engine = load(products, true);
+
+		long nextId = 10_000;
+		for (int i = 0; i < 300; i++) {
+			int op = random.nextInt(3);
+			if (op == 0 || products.isEmpty()) {
+				ProductState created = randomProduct(nextId++);
+				products.add(created);
+				engine.apply(ProductChangedEvent.created(created));
+			} else if (op == 1) {
+				int at = random.nextInt(products.size());
+				ProductState before = products.get(at);
+				ProductState after = randomProduct(before.id());
+				products.set(at, after);
+				engine.apply(ProductChangedEvent.updated(before, after));
+			} else {
+				engine.apply(ProductChangedEvent.deleted(products.remove(random.nextInt(products.size()))));
+			}
+			if (i % 10 == 0) {
+				assertQuery(products, engine, new ProductFilterRequest(), PageRequest.of(0, 500, Sort.by("quantity")));
+				assertQuery(products, engine, randomFilter(), randomPage());
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Apply All - Batches Touching The Same Ids - Same As Fresh Snapshot")
+	void applyAll_Batches_MatchesBruteForce() {
+		List<ProductState> products = new ArrayList<>(randomProducts(300));
+		ProductColumnarEngine engine = load(products, false);
+
+		long nextId = 10_000;
+		for (int batch = 0; batch < 30; batch++) {
+			List<ProductChangedEvent> events = new ArrayList<>();
+			for (int i = random.nextInt(40); i >= 0; i--) {
+				int op = random.nextInt(3);
+				if (op == 0 || products.isEmpty()) {
+					// Some ids are interleaved with the existing ones, some appended
+					long id = random.nextBoolean() ? nextId++ : 3L * random.nextInt(400) + 1;
+					if (products.stream().anyMatch(p -> p.id() == id)) {
+						continue;
+					}
+					ProductState created = randomProduct(id);
+					products.add(created);
+					events.add(ProductChangedEvent.created(created));
+				} else if (op == 1) {
+					int at = random.nextInt(products.size());
+					ProductState before = products.get(at);
+					ProductState after = randomProduct(before.id());
+					products.set(at, after);
+					events.add(ProductChangedEvent.updated(before, after));
+				} else {
+					events.add(ProductChangedEvent.deleted(products.remove(random.nextInt(products.size()))));
+				}
+			}
+			engine.applyAll(events);
+			assertQuery(products, engine, new ProductFilterRequest(), PageRequest.of(0, 1_000, Sort.by("price")));
+			assertQuery(products, engine, randomFilter(), randomPage());
+		}
+	}
+
+	@Test
+	@DisplayName("Query - Unsupported Sort, Wildcards Or Disabled - Falls Back To SQL")
+	void query_Unanswerable_ReturnsEmpty() {
+		ProductColumnarEngine engine = load(randomProducts(10), true);
+
+		assertTrue(engine.query(new ProductFilterRequest(), PageRequest.of(0, 5, Sort.by("category"))).isEmpty());
+		// Name order is the database collation's, not Java's
+		assertTrue(engine.query(new ProductFilterRequest(), PageRequest.of(0, 5, Sort.by("name"))).isEmpty());
+		assertTrue(engine.query(new ProductFilterRequest(), PageRequest.of(0, 5, Sort.by("price", "name"))).isEmpty());
+		ProductFilterRequest wildcard = ProductFilterRequest.builder().search("lap%").build();
+		assertTrue(engine.query(wildcard, PageRequest.of(0, 5)).isEmpty());
+
+		ProductColumnarEngine disabled = new ProductColumnarEngine(false, true, new ProductNameIndex(100));
+		ProductCatalogIndex.Rebuild rebuild = disabled.rebuild();
+		rebuild.add(randomProduct(1L));
+		rebuild.complete();
+		assertFalse(disabled.isReady());
+	}
+
+	private static void assertQuery(List<ProductState> products, ProductColumnarEngine engine,
+			ProductFilterRequest filter, Pageable pageable) {
+		List<Long> expected = products.stream()
+				.filter(matches(filter))
+				.sorted(comparator(pageable.getSort()))
+				.map(ProductState::id)
+				.toList();
+		ProductColumnarEngine.Result result = engine.query(filter, pageable).orElseThrow();
+
+		int from = (int) Math.min(expected.size(), pageable.getOffset());
+		int to = Math.min(expected.size(), from + pageable.getPageSize());
+		assertEquals(expected.size(), result.total(), () -> filter + " " + pageable);
+		assertEquals(expected.subList(from, to), result.ids(), () -> filter + " " + pageable);
+	}
+
+	private static Predicate<ProductState> matches(ProductFilterRequest f) {
+		return p -> (f.getCategory() == null || f.getCategory() == p.category())
+				&& (f.getMinPrice() == null || p.price() >= f.getMinPrice())
+				&& (f.getMaxPrice() == null || p.price() <= f.getMaxPrice())
+				&& (f.getMinQuantity() == null || p.quantity() >= f.getMinQuantity())
+				&& (f.getMaxQuantity() == null || p.quantity() <= f.getMaxQuantity())
+				&& (f.getSearch() == null || SearchText.fold(p.name()).contains(SearchText.fold(f.getSearch())));
+	}
+
+	private static Comparator<ProductState> comparator(Sort sort) {
+		Sort.Order order = sort.isSorted() ? sort.iterator().next() : Sort.Order.asc("id");
+		Comparator<ProductState> key = switch (order.getProperty()) {
+			case "price" -> Comparator.comparingDouble(ProductState::price);
+			case "quantity" -> Comparator.comparingInt(ProductState::quantity);
+			default -> (a, b) -> 0;
+		};
+		Comparator<ProductState> full = key.thenComparingLong(ProductState::id);
+		return order.isAscending() ? full : full.reversed();
+	}
+
+	private static ProductColumnarEngine load(List<ProductState> products, boolean vector) {
+		ProductNameIndex nameIndex = new ProductNameIndex(100);
+		// The maintainer applies every change to all indexes; mirror that for the name index
+		ProductColumnarEngine engine = new ProductColumnarEngine(true, vector, nameIndex) {
+			@Override
+			public void applyAll(List<ProductChangedEvent> events) {
+				nameIndex.applyAll(events);
+				super.applyAll(events);
+			}
+		};
+		ProductCatalogIndex.Rebuild names = nameIndex.rebuild();
+		ProductCatalogIndex.Rebuild columns = engine.rebuild();
+		products.forEach(names::add);
+		products.forEach(columns::add);
+		names.complete();
+		columns.complete();
+		return engine;
+	}
+
+	private List<ProductState> randomProducts(int count) {
+		List<ProductState> products = new ArrayList<>();
+		for (long id = 1; id <= count; id++) {
+			products.add(randomProduct(id * 3));
+		}
+		return products;
+	}
+
+	private ProductState randomProduct(long id) {
+		String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + id;
+		Categories category = random.nextInt(20) == 0 ? null : Categories.values()[random.nextInt(4)];
+		return new ProductState(id, name, random.nextInt(50) * 100_000.0, random.nextInt(200), category);
+	}
+
+	private ProductFilterRequest randomFilter() {
+		ProductFilterRequest filter = new ProductFilterRequest();
+		if (random.nextBoolean()) {
+			filter.setCategory(Categories.values()[random.nextInt(4)]);
+		}
+		if (random.nextBoolean()) {
+			filter.setMinPrice(random.nextInt(25) * 100_000.0);
+		}
+		if (random.nextBoolean()) {
+			filter.setMaxPrice(random.nextInt(50) * 100_000.0);
+		}
+		if (random.nextBoolean()) {
+			filter.setMinQuantity(random.nextInt(100));
+		}
+		if (random.nextBoolean()) {
+			filter.setMaxQuantity(random.nextInt(200));
+		}
+		if (random.nextInt(3) == 0) {
+			String[] terms = { "lap", "dien thoai", "ĐIỆN", "pro", "o", "galaxy dell", "12" };
+			filter.setSearch(terms[random.nextInt(terms.length)]);
+		}
+		return filter;
+	}
+
+	private Pageable randomPage() {
+		String[] properties = { "id", "price", "quantity" };
+		Sort sort = random.nextInt(5) == 0
+				? Sort.unsorted()
+				: Sort.by(random.nextBoolean() ? Sort.Direction.ASC : Sort.Direction.DESC,
+						properties[random.nextInt(properties.length)]);
+		return PageRequest.of(random.nextInt(4), 1 + random.nextInt(40), sort);
+	}
+}
@@ -0,0 +1,78 @@
+package com.floginfe_be.backend.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.request.ProductFilterRequest;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+
+@DisplayName("Product Count Statistics - Estimated Totals Tests")
+class ProductCountStatisticsTest {
+
+	private ProductCountStatistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		statistics = new ProductCountStatistics();
+		ProductCatalogIndex.Rebuild rebuild = statistics.rebuild();
+		rebuild.add(state(1L, 100_000, 5, Categories.LAPTOP));
+		rebuild.add(state(2L, 150_000, 20, Categories.LAPTOP));
+		rebuild.add(state(3L, 300_000, 20, Categories.SMARTPHONE));
+		rebuild.add(state(4L, 300_000, 20, null));
+		rebuild.complete();
+	}
+
+	@Test
+	@DisplayName("Estimate - Not Loaded - Empty")
+	void estimate_NotLoaded_Empty() {
+		ProductCountStatistics empty = new ProductCountStatistics();
+
+		assertFalse(empty.isReady());
+		assertTrue(empty.estimate(new ProductFilterRequest()).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Estimate - Category And Whole Buckets - Exact Counts")
+	void estimate_WholeBuckets_Exact() {
+		assertEquals(4, statistics.total());
+		assertEquals(4, statistics.estimate(new ProductFilterRequest()).getAsLong());
+		assertEquals(2, statistics.estimate(filter(Categories.LAPTOP, null, null)).getAsLong());
+		// [100000, 250000) is exactly one price bucket
+		assertEquals(2, statistics.estimate(filter(null, 100_000.0, 249_999.0)).getAsLong());
+	}
+
+	@Test
+	@DisplayName("Estimate - Category And Price - Independent Selectivities Multiplied")
+	void estimate_CategoryAndPrice_Product() {
+		// 2/4 laptops x 2/4 in the price bucket of 3 and 4
+		assertEquals(1, statistics.estimate(filter(Categories.LAPTOP, 250_000.0, 499_999.0)).getAsLong());
+	}
+
+	@Test
+	@DisplayName("Apply - Create, Update And Delete - Counters Follow")
+	void apply_Changes_CountersFollow() {
+		statistics.apply(ProductChangedEvent.created(state(5L, 120_000, 1, Categories.LAPTOP)));
+		statistics.apply(ProductChangedEvent.updated(state(3L, 300_000, 20, Categories.SMARTPHONE),
+				state(3L, 300_000, 20, Categories.LAPTOP)));
+		statistics.apply(ProductChangedEvent.deleted(state(4L, 300_000, 20, null)));
+
+		assertEquals(4, statistics.total());
+		assertEquals(4, statistics.estimate(filter(Categories.LAPTOP, null, null)).getAsLong());
+		assertEquals(0, statistics.estimate(filter(Categories.SMARTPHONE, null, null)).getAsLong());
+	}
+
+	private static ProductFilterRequest filter(Categories category, Double minPrice, Double maxPrice) {
+		return ProductFilterRequest.builder().category(category).minPrice(minPrice).maxPrice(maxPrice).build();
+	}
+
+	private static ProductState state(Long id, double price, int quantity, Categories category) {
+		return new ProductState(id, "Product " + id, price, quantity, category);
+	}
+}
@@ -0,0 +1,169 @@
+package com.floginfe_be.backend.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.request.ProductFilterRequest;
+import com.floginfe_be.backend.dto.response.FacetCount;
+import com.floginfe_be.backend.dto.response.ProductFacetsResponse;
+import com.floginfe_be.backend.dto.response.RangeFacetCount;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+import com.floginfe_be.backend.util.SearchText;
+
+@DisplayName("Product Facet Index - Bitmap Facet Count Tests")
+class ProductFacetIndexTest {
+
+	private static final double[] PRICES = { 50_000, 100_000, 249_999, 250_000, 730_000, 1_000_000, 4_999_999,
+			120_000_000, 999_999_999 };
+
+	private static final int[] QUANTITIES = { 0, 9, 10, 49, 75, 100, 999, 5_000, 99_999 };
+
+	private final Random random = new Random(11);
+
+	@Test
+	@DisplayName("Facets - Random Filters - Match Brute Force Counts")
+	void facets_RandomFilters_MatchBruteForce() {
+		List<ProductState> products = new ArrayList<>();
+		for (long id = 1; id <= 500; id++) {
+			products.add(randomProduct(id));
+		}
+		ProductNameIndex nameIndex = new ProductNameIndex(100);
+		ProductFacetIndex index = load(products, nameIndex);
+
+		for (int i = 0; i < 200; i++) {
+			ProductFilterRequest filter = randomFilter();
+			ProductFacetsResponse expected = bruteForce(products, filter);
+			assertEquals(expected, index.facets(filter).orElseThrow(), filter::toString);
+			assertEquals(expected, ProductFacetIndex.facets(products.stream(), filter), filter::toString);
+		}
+	}
+
+	@Test
+	@DisplayName("Apply - Writes - Bitmaps Follow Changes")
+	void apply_Changes_UpdatesCounts() {
+		List<ProductState> products = new ArrayList<>();
+		for (long id = 1; id <= 50; id++) {
+			products.add(randomProduct(id));
+		}
+		ProductNameIndex nameIndex = new ProductNameIndex(100);
+		ProductFacetIndex index = load(products, nameIndex);
+
+		for (int i = 0; i < 100; i++) {
+			int at = random.nextInt(products.size());
+			ProductState before = products.get(at);
+			ProductChangedEvent event;
+			if (random.nextBoolean()) {
+				ProductState after = randomProduct(before.id());
+				products.set(at, after);
+				event = ProductChangedEvent.updated(before, after);
+			} else {
+				products.remove(at);
+				ProductState created = randomProduct(1_000L + i);
+				products.add(created);
+				index.apply(ProductChangedEvent.deleted(before));
+				event = ProductChangedEvent.created(created);
+			}
+			nameIndex.apply(event);
+			index.apply(event);
+
+			ProductFilterRequest filter = randomFilter();
+			assertEquals(bruteForce(products, filter), index.facets(filter).orElseThrow(), filter::toString);
+		}
+	}
+
+	@Test
+	@DisplayName("Facets - Not Loaded - Empty")
+	void facets_NotLoaded_Empty() {
+		assertTrue(new ProductFacetIndex(new ProductNameIndex(100)).facets(new ProductFilterRequest()).isEmpty());
+	}
+
+	private static ProductFacetIndex load(List<ProductState> products, ProductNameIndex nameIndex) {
+		ProductFacetIndex index = new ProductFacetIndex(nameIndex);
+		ProductCatalogIndex.Rebuild names = nameIndex.rebuild();
+		ProductCatalogIndex.Rebuild facets = index.rebuild();
+		products.forEach(names::add);
+		products.forEach(facets::add);
+		names.complete();
+		facets.complete();
+		return index;
+	}
+
+	private static ProductFacetsResponse bruteForce(List<ProductState> products, ProductFilterRequest f) {
+		Predicate<ProductState> search = p -> f.getSearch() == null
+				|| SearchText.like(f.getSearch()).test(SearchText.fold(p.name()));
+		Predicate<ProductState> category = p -> f.getCategory() == null || f.getCategory() == p.category();
+		Predicate<ProductState> price = p -> (f.getMinPrice() == null || p.price() >= f.getMinPrice())
+				&& (f.getMaxPrice() == null || p.price() <= f.getMaxPrice());
+		Predicate<ProductState> quantity = p -> (f.getMinQuantity() == null || p.quantity() >= f.getMinQuantity())
+				&& (f.getMaxQuantity() == null || p.quantity() <= f.getMaxQuantity());
+
+		ProductFacetsResponse.ProductFacetsResponseBuilder result = ProductFacetsResponse.builder()
+				.total(products.stream().filter(search.and(category).and(price).and(quantity)).count());
+
+		List<FacetCount> categories = new ArrayList<>();
+		for (Categories c : Categories.values()) {
+			categories.add(new FacetCount(c.name(), products.stream()
+					.filter(search.and(price).and(quantity))
+					.filter(p -> p.category() == c)
+					.count()));
+		}
+		result.categories(categories);
+		result.prices(buckets(Buckets.PRICE, products.stream().filter(search.and(category).and(quantity))
+				.map(ProductState::price).toList()));
+		result.quantities(buckets(Buckets.QUANTITY, products.stream().filter(search.and(category).and(price))
+				.map(p -> (double) p.quantity()).toList()));
+		return result.build();
+	}
+
+	private static List<RangeFacetCount> buckets(Buckets buckets, List<Double> values) {
+		List<RangeFacetCount> counts = new ArrayList<>();
+		for (int i = 0; i < buckets.count(); i++) {
+			int bucket = i;
+			counts.add(new RangeFacetCount(buckets.lower(i), buckets.upper(i),
+					values.stream().filter(v -> buckets.indexOf(v) == bucket).count()));
+		}
+		return counts;
+	}
+
+	private ProductState randomProduct(long id) {
+		String[] words = { "Laptop", "Điện thoại", "Dell", "Galaxy", "Pro" };
+		String name = words[random.nextInt(words.length)] + " " + words[random.nextInt(words.length)] + " " + id;
+		Categories category = random.nextInt(20) == 0 ? null : Categories.values()[random.nextInt(4)];
+		return new ProductState(id, name, PRICES[random.nextInt(PRICES.length)],
+				QUANTITIES[random.nextInt(QUANTITIES.length)], category);
+	}
+
+	private ProductFilterRequest randomFilter() {
+		ProductFilterRequest filter = new ProductFilterRequest();
+		if (random.nextBoolean()) {
+			filter.setCategory(Categories.values()[random.nextInt(4)]);
+		}
+		if (random.nextBoolean()) {
+			filter.setMinPrice(PRICES[random.nextInt(PRICES.length)] + random.nextInt(3) - 1);
+		}
+		if (random.nextBoolean()) {
+			filter.setMaxPrice(PRICES[random.nextInt(PRICES.length)] + random.nextInt(3) - 1);
+		}
+		if (random.nextBoolean()) {
+			filter.setMinQuantity(QUANTITIES[random.nextInt(QUANTITIES.length)]);
+		}
+		if (random.nextBoolean()) {
+			filter.setMaxQuantity(QUANTITIES[random.nextInt(QUANTITIES.length)] + random.nextInt(2));
+		}
+		if (random.nextInt(3) == 0) {
+			String[] terms = { "lap", "dien", "o", "galaxy pro", "1", "l_p", "dell%1", "%", "1_" };
+			filter.setSearch(terms[random.nextInt(terms.length)]);
+		}
+		return filter;
+	}
+}
@@ -0,0 +1,78 @@
+package com.floginfe_be.backend.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+import com.floginfe_be.backend.util.ProductNames;
+
+@DisplayName("Product Name Filter - Bloom Filter Tests")
+class ProductNameFilterTest {
+
+	private ProductNameFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		filter = new ProductNameFilter(0.01);
+		ProductCatalogIndex.Rebuild rebuild = filter.rebuild();
+		rebuild.add(state(1L, "Laptop Dell XPS"));
+		rebuild.add(state(2L, "Điện thoại Samsung Galaxy"));
+		rebuild.complete();
+	}
+
+	@Test
+	@DisplayName("Might Exist - Loaded Names - Matched By Normalized Key")
+	void mightExist_LoadedNames_True() {
+		assertTrue(filter.mightExist(ProductNames.key("  laptop   DELL xps ")));
+		assertTrue(filter.mightExist(ProductNames.key("ĐIỆN THOẠI SAMSUNG GALAXY")));
+	}
+
+	@Test
+	@DisplayName("Might Exist - Not Loaded - Always True")
+	void mightExist_NotLoaded_True() {
+		ProductNameFilter empty = new ProductNameFilter(0.01);
+
+		assertFalse(empty.isReady());
+		assertTrue(empty.mightExist("anything"));
+	}
+
+	@Test
+	@DisplayName("Apply - Created And Renamed Products - Added To Filter")
+	void apply_CreateAndRename_Added() {
+		filter.apply(ProductChangedEvent.created(state(3L, "Tai nghe Sony")));
+		filter.apply(ProductChangedEvent.updated(state(1L, "Laptop Dell XPS"), state(1L, "Laptop Dell XPS 13")));
+
+		assertTrue(filter.mightExist("tai nghe sony"));
+		assertTrue(filter.mightExist("laptop dell xps 13"));
+	}
+
+	@Test
+	@DisplayName("Might Exist - New Names - False Positive Rate Near Target")
+	void mightExist_NewNames_FewFalsePositives() {
+		ProductCatalogIndex.Rebuild rebuild = filter.rebuild();
+		for (long i = 0; i < 10_000; i++) {
+			rebuild.add(state(i, "Product " + i));
+		}
+		rebuild.complete();
+
+		int falsePositives = 0;
+		for (int i = 0; i < 10_000; i++) {
+			assertTrue(filter.mightExist("product " + i));
+			if (filter.mightExist("other product " + i)) {
+				falsePositives++;
+			}
+		}
+		// Sized for twice the loaded names, so well under the 1% target
+		assertTrue(falsePositives < 100, "false positives: " + falsePositives);
+	}
+
+	private static ProductState state(Long id, String name) {
+		return new ProductState(id, name, 100.0, 1, Categories.LAPTOP);
+	}
+}
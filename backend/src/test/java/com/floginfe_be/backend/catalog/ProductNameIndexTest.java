@@ -0,0 +1,95 @@
+package com.floginfe_be.backend.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
+
+@DisplayName("Product Name Index - Trigram Search Tests")
+class ProductNameIndexTest {
+
+	private ProductNameIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new ProductNameIndex(3);
+		ProductCatalogIndex.Rebuild rebuild = index.rebuild();
+		rebuild.add(state(1L, "Laptop Dell XPS"));
+		rebuild.add(state(2L, "Điện thoại Samsung Galaxy"));
+		rebuild.add(state(3L, "Laptop Asus Vivobook"));
+		rebuild.add(state(4L, "Tai nghe Sony"));
+		rebuild.complete();
+	}
+
+	@Test
+	@DisplayName("Search - Substring - Returns Exact Matches")
+	void search_Substring_ReturnsMatches() {
+		assertEquals(Optional.of(List.of(1L, 3L)), index.search("lapTOP"));
+		assertEquals(Optional.of(List.of(1L)), index.search("top dell"));
+		assertEquals(Optional.of(List.of()), index.search("laptop sony"));
+	}
+
+	@Test
+	@DisplayName("Search - Accented Term - Accent Insensitive")
+	void search_Accents_Folded() {
+		assertEquals(Optional.of(List.of(2L)), index.search("dien thoai"));
+		assertEquals(Optional.of(List.of(2L)), index.search("ĐIỆN"));
+	}
+
+	@Test
+	@DisplayName("Search - Not Loaded, Short Term, Wildcards Or Too Many Matches - Falls Back To SQL")
+	void search_Unanswerable_ReturnsEmpty() {
+		assertTrue(new ProductNameIndex(3).search("laptop").isEmpty());
+		assertTrue(index.search("la").isEmpty());
+		assertTrue(index.search("lap%").isEmpty());
+		index.apply(ProductChangedEvent.created(state(5L, "Laptop Lenovo")));
+		index.apply(ProductChangedEvent.created(state(6L, "Laptop HP")));
+		assertTrue(index.search("laptop").isEmpty());
+	}
+
+	@Test
+	@DisplayName("Scan - Wildcards And Short Terms - Same As SQL LIKE")
+	void scan_Wildcards_LikeSemantics() {
+		assertEquals(List.of(1L, 3L), ids(index.scan("lap%")));
+		assertEquals(List.of(1L, 3L), ids(index.scan("l_ptop")));
+		assertEquals(List.of(1L), ids(index.scan("laptop%xps")));
+		assertEquals(List.of(2L), ids(index.scan("Đ_ện")));
+		assertEquals(List.of(), ids(index.scan("lap__op")));
+		assertEquals(List.of(1L, 2L, 3L, 4L), ids(index.scan("s")));
+		assertTrue(new ProductNameIndex(3).scan("lap%").isEmpty());
+	}
+
+	@Test
+	@DisplayName("Apply - Create, Rename, Delete - Index Follows Changes")
+	void apply_Changes_UpdatesPostings() {
+		index.apply(ProductChangedEvent.created(state(5L, "Laptop Lenovo")));
+		assertEquals(Optional.of(List.of(1L, 3L, 5L)), index.search("laptop"));
+
+		index.apply(ProductChangedEvent.updated(state(1L, "Laptop Dell XPS"), state(1L, "Máy tính Dell")));
+		assertEquals(Optional.of(List.of(3L, 5L)), index.search("laptop"));
+		assertEquals(Optional.of(List.of(1L)), index.search("may tinh"));
+
+		index.apply(ProductChangedEvent.deleted(state(3L, "Laptop Asus Vivobook")));
+		assertEquals(Optional.of(List.of(5L)), index.search("laptop"));
+		assertEquals(Optional.of(List.of()), index.search("asus"));
+	}
+
+	private static List<Long> ids(Optional<Roaring64NavigableMap> matches) {
+		return matches.map(ids -> ids.stream().boxed().toList()).orElseThrow();
+	}
+
+	private static ProductState state(Long id, String name) {
+		return new ProductState(id, name, 1000.0, 1, Categories.LAPTOP);
+	}
+}
@@ -3,12 +3,17 @@ package com.floginfe_be.backend.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.floginfe_be.backend.dto.request.LoginRequest;
 import com.floginfe_be.backend.dto.response.LoginResponse;
+import com.floginfe_be.backend.security.JwtProperties;
+import com.floginfe_be.backend.security.JwtTokenService;
+import com.floginfe_be.backend.security.LoginRateLimitProperties;
+import com.floginfe_be.backend.security.LoginRateLimiter;
 import com.floginfe_be.backend.service.AuthService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -20,6 +25,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 @WebMvcTest(AuthController.class)
 @AutoConfigureMockMvc(addFilters = false)
+@Import({ JwtTokenService.class, JwtProperties.class, LoginRateLimiter.class, LoginRateLimitProperties.class })
 @DisplayName("Backend Mock Tests")
 class AuthControllerMockTest {
 
@@ -0,0 +1,73 @@
+package com.floginfe_be.backend.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.floginfe_be.backend.dto.request.LoginRequest;
+import com.floginfe_be.backend.dto.response.LoginResponse;
+import com.floginfe_be.backend.security.JwtProperties;
+import com.floginfe_be.backend.security.JwtTokenService;
+import com.floginfe_be.backend.security.LoginRateLimitProperties;
+import com.floginfe_be.backend.security.LoginRateLimiter;
+import com.floginfe_be.backend.service.AuthService;
+
+@WebMvcTest(controllers = AuthController.class, properties = {
+		"app.auth.rate-limit.username.capacity=2", "app.auth.rate-limit.username.period=1m" })
+@AutoConfigureMockMvc(addFilters = false)
+@Import({ JwtTokenService.class, JwtProperties.class, LoginRateLimiter.class, LoginRateLimitProperties.class })
+@DisplayName("Auth Controller - Login Rate Limit Tests")
+class AuthRateLimitTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private AuthService authService;
+
+	private static MockHttpServletRequestBuilder login(String username, String address) {
+		return post("/api/auth/login")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"username\":\"" + username + "\",\"password\":\"Test123\"}")
+				.with(request -> {
+					request.setRemoteAddr(address);
+					return request;
+				});
+	}
+
+	@Test
+	@DisplayName("Login - Over The Username Limit - 429 With Retry-After Before Authenticating")
+	void login_OverLimit_TooManyRequests() throws Exception {
+		when(authService.validateLogin(anyString(), anyString())).thenReturn("");
+		when(authService.authenticate(any(LoginRequest.class)))
+				.thenReturn(new LoginResponse(false, "Invalid username or password"));
+
+		mockMvc.perform(login("victim", "10.0.0.1")).andExpect(status().isUnauthorized());
+		mockMvc.perform(login("Victim", "10.0.0.2")).andExpect(status().isUnauthorized());
+		mockMvc.perform(login("victim", "10.0.0.3"))
+				.andExpect(status().isTooManyRequests())
+				.andExpect(header().string("Retry-After", "30"))
+				.andExpect(jsonPath("$.success").value(false))
+				.andExpect(jsonPath("$.message").value("Đăng nhập quá nhiều lần, vui lòng thử lại sau"));
+		mockMvc.perform(login("someone", "10.0.0.3")).andExpect(status().isUnauthorized());
+
+		verify(authService, times(3)).authenticate(any(LoginRequest.class));
+	}
+}
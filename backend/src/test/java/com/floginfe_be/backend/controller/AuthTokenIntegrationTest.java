@@ -0,0 +1,98 @@
+package com.floginfe_be.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.floginfe_be.backend.entity.User;
+import com.floginfe_be.backend.metrics.JdbcBudgetFilter;
+import com.floginfe_be.backend.repository.UserRepository;
+import com.jayway.jsonpath.JsonPath;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+@DisplayName("Access Token - Login To Authenticated Request")
+class AuthTokenIntegrationTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private String login() throws Exception {
+		return login("admin");
+	}
+
+	private String login(String username) throws Exception {
+		MvcResult result = mockMvc.perform(post("/api/auth/login")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("{\"username\":\"" + username + "\",\"password\":\"abc123\"}"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.tokenType").value("Bearer"))
+				.andReturn();
+		return JsonPath.read(result.getResponse().getContentAsString(), "$.accessToken");
+	}
+
+	@Test
+	@DisplayName("GET /api/auth/me - Valid Token - Authenticated Without Touching The Database")
+	void me_ValidToken_NoStatements() throws Exception {
+		String token = login();
+
+		MvcResult result = mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data").value("admin"))
+				.andReturn();
+
+		assertEquals(0, JdbcBudgetFilter.usage(result.getRequest()).statements());
+	}
+
+	@Test
+	@DisplayName("GET /api/auth/me - Missing Or Invalid Token - 401")
+	void me_NoToken_Unauthorized() throws Exception {
+		mockMvc.perform(get("/api/auth/me")).andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer not-a-token"))
+				.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	@DisplayName("Public Endpoints - Invalid Token - Still Served")
+	void publicEndpoint_InvalidToken_Served() throws Exception {
+		mockMvc.perform(get("/api/products/facets").header(HttpHeaders.AUTHORIZATION, "Bearer not-a-token"))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@DisplayName("Login - Hash At An Older Cost - Rehashed In The Background")
+	void login_OutdatedHash_Rehashed() throws Exception {
+		User user = new User();
+		user.setUsername("legacy");
+		user.setPassword(new BCryptPasswordEncoder(4).encode("abc123"));
+		Long id = userRepository.save(user).getId();
+
+		login("legacy");
+
+		String stored = user.getPassword();
+		for (int i = 0; i < 100 && stored.startsWith("$2a$04$"); i++) {
+			Thread.sleep(50);
+			stored = userRepository.findById(id).orElseThrow().getPassword();
+		}
+		// app.auth.hash.strength in the test properties
+		assertTrue(stored.startsWith("$2a$10$"), stored);
+		login("legacy");
+	}
+}
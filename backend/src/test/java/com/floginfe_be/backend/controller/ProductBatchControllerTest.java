@@ -0,0 +1,80 @@
+package com.floginfe_be.backend.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.floginfe_be.backend.dto.request.ProductBatchUpdateRequest;
+import com.floginfe_be.backend.dto.response.BatchItemResult;
+import com.floginfe_be.backend.dto.response.BatchResponse;
+import com.floginfe_be.backend.service.ProductBatchService;
+
+@WebMvcTest(ProductBatchController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("Product Batch API Integration Test")
+class ProductBatchControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private ProductBatchService batchService;
+
+	@Test
+	@DisplayName("POST /api/products/batch - Invalid Item - 200 With Per-Item Results")
+	void createProducts_InvalidItem_ReportsPerItem() throws Exception {
+		when(batchService.createProducts(argThat(list -> list.size() == 2))).thenReturn(BatchResponse.of(List.of(
+				BatchItemResult.success(0, 16L, 0L),
+				BatchItemResult.failure(1, null, "Tên sản phẩm phải từ 3 đến 100 ký tự"))));
+
+		mockMvc.perform(post("/api/products/batch")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("[{\"name\":\"Laptop A\",\"price\":10,\"quantity\":1,\"category\":\"LAPTOP\"},"
+						+ "{\"name\":\"x\",\"price\":10,\"quantity\":1,\"category\":\"LAPTOP\"}]"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.succeeded").value(1))
+				.andExpect(jsonPath("$.data.failed").value(1))
+				.andExpect(jsonPath("$.data.items[0].id").value(16))
+				.andExpect(jsonPath("$.data.items[1].success").value(false));
+	}
+
+	@Test
+	@DisplayName("PUT /api/products/batch - Flat Item Body - Binds Id, Version And Fields")
+	void updateProducts_FlatBody_Binds() throws Exception {
+		when(batchService.updateProducts(any())).thenReturn(BatchResponse.of(List.of(BatchItemResult.success(0, 1L, 4L))));
+
+		mockMvc.perform(put("/api/products/batch")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("[{\"id\":1,\"version\":3,\"name\":\"Laptop B\",\"price\":10,\"quantity\":1,\"category\":\"LAPTOP\"}]"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.items[0].version").value(4));
+
+		verify(batchService).updateProducts(argThat((List<ProductBatchUpdateRequest> list) -> list.get(0).getId() == 1L
+				&& list.get(0).getVersion() == 3L && "Laptop B".equals(list.get(0).getProduct().getName())));
+	}
+
+	@Test
+	@DisplayName("DELETE /api/products/batch - Ids Body - 200")
+	void deleteProducts_Ids_Success() throws Exception {
+		when(batchService.deleteProducts(List.of(1L, 2L))).thenReturn(BatchResponse.of(List.of(
+				BatchItemResult.success(0, 1L, null),
+				BatchItemResult.failure(1, 2L, "Product with id 2 not found!"))));
+
+		mockMvc.perform(delete("/api/products/batch")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("[1, 2]"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.message").value("Xử lý lô sản phẩm: 1 thành công, 1 thất bại"));
+	}
+}
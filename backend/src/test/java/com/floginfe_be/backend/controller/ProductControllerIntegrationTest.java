@@ -1,5 +1,6 @@
 package com.floginfe_be.backend.controller;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,13 +9,23 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.floginfe_be.backend.catalog.CatalogVersion;
 import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.constants.CountMode;
 import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.dto.response.CursorPagedResponse;
+import com.floginfe_be.backend.dto.response.FacetCount;
 import com.floginfe_be.backend.dto.response.PagedResponse;
+import com.floginfe_be.backend.dto.response.ProductFacetsResponse;
 import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.dto.response.RangeFacetCount;
+import com.floginfe_be.backend.dto.response.SliceResponse;
+import com.floginfe_be.backend.entity.Product;
+import com.floginfe_be.backend.exception.PreconditionFailedException;
 import com.floginfe_be.backend.service.ProductService;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -29,6 +40,8 @@ import java.util.List;
 @DisplayName("Product API Integration Test")
 class ProductControllerIntegrationTest {
 
+	private static final String LISTING_ETAG = "W/\"test-3\"";
+
 	@Autowired
 	private MockMvc mockMvc;
 
@@ -38,6 +51,14 @@ class ProductControllerIntegrationTest {
 	@MockitoBean
 	private ProductService productService;
 
+	@MockitoBean
+	private CatalogVersion catalogVersion;
+
+	@BeforeEach
+	void setUp() {
+		when(catalogVersion.etag()).thenReturn(LISTING_ETAG);
+	}
+
 	private ProductRequest buildRequest(String name, double price, int quantity, Categories category,
 			String description) {
 		return ProductRequest.builder()
@@ -93,10 +114,11 @@ class ProductControllerIntegrationTest {
 				.hasPrevious(false)
 				.build();
 
-		when(productService.getAllProducts(any(), any(Pageable.class))).thenReturn(pagedResponse);
+		when(productService.getAllProducts(any(), any(Pageable.class), eq(CountMode.EXACT))).thenReturn(pagedResponse);
 
 		mockMvc.perform(get("/api/products"))
 				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", LISTING_ETAG))
 				.andExpect(jsonPath("$.success").value(true))
 				.andExpect(jsonPath("$.data.items.length()").value(2))
 				.andExpect(jsonPath("$.data.totalElements").value(2))
@@ -105,6 +127,102 @@ class ProductControllerIntegrationTest {
 				.andExpect(jsonPath("$.data.items[1].name").value("ProdTwo"));
 	}
 
+	@Test
+	@DisplayName("GET /api/products?count=estimated - Estimated Count Flagged - 200")
+	void getAllProducts_EstimatedCount_Success() throws Exception {
+		PagedResponse<ProductDto> pagedResponse = PagedResponse.<ProductDto>builder()
+				.items(List.of())
+				.totalElements(40)
+				.totalPages(4)
+				.estimated(true)
+				.build();
+
+		when(productService.getAllProducts(any(), any(Pageable.class), eq(CountMode.ESTIMATED)))
+				.thenReturn(pagedResponse);
+
+		mockMvc.perform(get("/api/products").param("count", "estimated"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.totalElements").value(40))
+				.andExpect(jsonPath("$.data.estimated").value(true));
+	}
+
+	@Test
+	@DisplayName("GET /api/products?count=none - Slice Without Total - 200")
+	void getAllProducts_NoCount_Success() throws Exception {
+		ProductDto p1 = ProductDto.builder().id(1L).name("ProdOne").category(Categories.DESKTOP)
+				.description("description").price(1000.0).quantity(2).build();
+
+		SliceResponse<ProductDto> sliceResponse = SliceResponse.<ProductDto>builder()
+				.items(List.of(p1))
+				.page(0)
+				.size(1)
+				.hasNext(true)
+				.build();
+
+		when(productService.getProductSlice(any(), any(Pageable.class))).thenReturn(sliceResponse);
+
+		mockMvc.perform(get("/api/products").param("count", "none").param("size", "1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.items.length()").value(1))
+				.andExpect(jsonPath("$.data.hasNext").value(true))
+				.andExpect(jsonPath("$.data.totalElements").doesNotExist());
+	}
+
+	@Test
+	@DisplayName("GET /api/products?count=invalid - 400")
+	void getAllProducts_InvalidCount_BadRequest() throws Exception {
+		mockMvc.perform(get("/api/products").param("count", "sometimes"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.success").value(false));
+	}
+
+	@Test
+	@DisplayName("GET /api/products/facets - Facet Counts For Filter - 200")
+	void getFacets_Success() throws Exception {
+		ProductFacetsResponse facets = ProductFacetsResponse.builder()
+				.total(3)
+				.categories(List.of(new FacetCount("LAPTOP", 3), new FacetCount("DESKTOP", 1)))
+				.prices(List.of(new RangeFacetCount(0, 100_000, 3)))
+				.quantities(List.of(new RangeFacetCount(0, 10, 3)))
+				.build();
+
+		when(productService.getFacets(argThat(f -> f.getCategory() == Categories.LAPTOP && f.getMaxPrice() == 99_999.0)))
+				.thenReturn(facets);
+
+		mockMvc.perform(get("/api/products/facets").param("category", "LAPTOP").param("maxPrice", "99999"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.success").value(true))
+				.andExpect(jsonPath("$.data.total").value(3))
+				.andExpect(jsonPath("$.data.categories[1].value").value("DESKTOP"))
+				.andExpect(jsonPath("$.data.categories[1].count").value(1))
+				.andExpect(jsonPath("$.data.prices[0].to").value(100_000));
+	}
+
+	@Test
+	@DisplayName("GET /api/products?after= - Get Cursor Page - 200")
+	void getProductsAfter_Success() throws Exception {
+		ProductDto p1 = ProductDto.builder().id(3L).name("ProdThree").category(Categories.DESKTOP)
+				.description("description").price(1000.0).quantity(2).build();
+
+		CursorPagedResponse<ProductDto> cursorResponse = CursorPagedResponse.<ProductDto>builder()
+				.items(List.of(p1))
+				.size(1)
+				.hasNext(true)
+				.nextCursor("next-token")
+				.build();
+
+		when(productService.getProductsAfter(any(), eq("token"), any(Pageable.class))).thenReturn(cursorResponse);
+
+		mockMvc.perform(get("/api/products").param("after", "token").param("size", "1"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.success").value(true))
+				.andExpect(jsonPath("$.data.items.length()").value(1))
+				.andExpect(jsonPath("$.data.hasNext").value(true))
+				.andExpect(jsonPath("$.data.nextCursor").value("next-token"));
+
+		verify(productService, never()).getAllProducts(any(), any(Pageable.class), any());
+	}
+
 	@Test
 	@DisplayName("GET /api/products/{id} - Get Product By ID - 200")
 	void getProductById_Success() throws Exception {
@@ -140,7 +258,7 @@ class ProductControllerIntegrationTest {
 				.description("description")
 				.build();
 
-		when(productService.updateProduct(eq(1L), any(ProductRequest.class))).thenReturn(dto);
+		when(productService.updateProduct(eq(1L), any(ProductRequest.class), isNull())).thenReturn(dto);
 
 		mockMvc.perform(put("/api/products/1")
 				.contentType(MediaType.APPLICATION_JSON)
@@ -157,9 +275,84 @@ class ProductControllerIntegrationTest {
 	@Test
 	@DisplayName("DELETE /api/products/{id} - Delete Product - 204")
 	void deleteProduct_Success() throws Exception {
-		doNothing().when(productService).deleteProduct(1L);
+		doNothing().when(productService).deleteProduct(1L, null);
 
 		mockMvc.perform(delete("/api/products/1"))
 				.andExpect(status().isNoContent());
 	}
+
+	@Test
+	@DisplayName("GET /api/products/{id} - Matching If-None-Match - 304")
+	void getProductById_MatchingEtag_NotModified() throws Exception {
+		ProductDto dto = new ProductDto(1L, "ProdGet", 1000.0, 1, Categories.LAPTOP, "description", 4L);
+		when(productService.getProductById(1L)).thenReturn(dto);
+
+		mockMvc.perform(get("/api/products/1"))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"4\""));
+		mockMvc.perform(get("/api/products/1").header("If-None-Match", "\"4\""))
+				.andExpect(status().isNotModified())
+				.andExpect(content().string(""));
+		mockMvc.perform(get("/api/products/1").header("If-None-Match", "\"3\""))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@DisplayName("PUT /api/products/{id} - If-Match - Passes Version And Returns New ETag")
+	void updateProduct_IfMatch_PassesVersion() throws Exception {
+		ProductRequest request = buildRequest("ProdUpdated", 999.0, 10, Categories.MONITOR, "description");
+		ProductDto dto = new ProductDto(1L, "ProdUpdated", 999.0, 10, Categories.MONITOR, "description", 4L);
+		when(productService.updateProduct(eq(1L), any(ProductRequest.class), eq(3L))).thenReturn(dto);
+
+		mockMvc.perform(put("/api/products/1")
+				.header("If-Match", "\"3\"")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"4\""))
+				.andExpect(jsonPath("$.data.version").value(4));
+	}
+
+	@Test
+	@DisplayName("PUT /api/products/{id} - Weak If-Match - 412")
+	void updateProduct_WeakIfMatch_PreconditionFailed() throws Exception {
+		ProductRequest request = buildRequest("ProdUpdated", 999.0, 10, Categories.MONITOR, "description");
+
+		mockMvc.perform(put("/api/products/1")
+				.header("If-Match", "W/\"3\"")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isPreconditionFailed())
+				.andExpect(jsonPath("$.success").value(false));
+		verify(productService, never()).updateProduct(any(), any(ProductRequest.class), any());
+	}
+
+	@Test
+	@DisplayName("DELETE /api/products/{id} - Stale If-Match - 412")
+	void deleteProduct_StaleVersion_PreconditionFailed() throws Exception {
+		doThrow(new PreconditionFailedException("stale")).when(productService).deleteProduct(1L, 2L);
+
+		mockMvc.perform(delete("/api/products/1").header("If-Match", "\"2\""))
+				.andExpect(status().isPreconditionFailed());
+	}
+
+	@Test
+	@DisplayName("DELETE /api/products/{id} - Concurrent Write - 409 With The Same Message As 412")
+	void deleteProduct_ConcurrentWrite_Conflict() throws Exception {
+		doThrow(new ObjectOptimisticLockingFailureException(Product.class, 1L)).when(productService)
+				.deleteProduct(1L, 2L);
+
+		mockMvc.perform(delete("/api/products/1").header("If-Match", "\"2\""))
+				.andExpect(status().isConflict())
+				.andExpect(jsonPath("$.message").value("Sản phẩm đã bị thay đổi, vui lòng tải lại trước khi cập nhật"));
+	}
+
+	@Test
+	@DisplayName("GET /api/products - Matching Catalog ETag - 304 Without Query")
+	void getAllProducts_MatchingEtag_NotModified() throws Exception {
+		mockMvc.perform(get("/api/products").header("If-None-Match", LISTING_ETAG))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string("ETag", LISTING_ETAG));
+		verify(productService, never()).getAllProducts(any(), any(Pageable.class), any());
+	}
 }
\ No newline at end of file
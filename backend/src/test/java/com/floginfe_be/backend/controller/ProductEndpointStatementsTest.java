@@ -0,0 +1,204 @@
+package com.floginfe_be.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.floginfe_be.backend.cache.ProductCache;
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.datasource.JdbcCounters;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.metrics.JdbcBudgetFilter;
+import com.floginfe_be.backend.repository.ProductRepository;
+import com.floginfe_be.backend.service.ProductService;
+
+import com.jayway.jsonpath.JsonPath;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Exact JDBC statement counts per endpoint, read from the counts
+ * {@link JdbcBudgetFilter} leaves on each request. A change that adds a
+ * query to one of these paths (a join in a Specification, an extra
+ * {@code exists} check, lazy loading) fails here. The budget is lowered to
+ * one statement so the over-budget path is exercised too.
+ */
+@SpringBootTest(properties = { "spring.jpa.show-sql=false", "app.listing-cache.enabled=false",
+		"app.jdbc-budget.max-statements=1" })
+@AutoConfigureMockMvc
+@DisplayName("Product API - Statements Per Request")
+class ProductEndpointStatementsTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ProductService service;
+
+	@Autowired
+	private ProductRepository repository;
+
+	@Autowired
+	private ProductCache productCache;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private final List<Long> created = new ArrayList<>();
+
+	private ProductDto product;
+
+	@BeforeEach
+	void setUp() {
+		// Also reserves a block of ids, so the creates below do not touch product_seq
+		product = service.createProduct(request("Endpoint Count Laptop"));
+		created.add(product.getId());
+		productCache.clear();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		repository.deleteAllByIdInBatch(created);
+	}
+
+	private static ProductRequest request(String name) {
+		return new ProductRequest(name, 1000.0, 5, Categories.LAPTOP, "description");
+	}
+
+	private JdbcCounters.Snapshot usage(RequestBuilder request, int expectedStatus) throws Exception {
+		MvcResult result = mockMvc.perform(request).andExpect(status().is(expectedStatus)).andReturn();
+		return JdbcBudgetFilter.usage(result.getRequest());
+	}
+
+	private long statements(RequestBuilder request, int expectedStatus) throws Exception {
+		return usage(request, expectedStatus).statements();
+	}
+
+	private RequestBuilder write(MockHttpServletRequestBuilder request, ProductRequest body) throws Exception {
+		return request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(body));
+	}
+
+	private String byId() {
+		return "/api/products/" + product.getId();
+	}
+
+	@Test
+	@DisplayName("GET /api/products/{id} - Uncached - One SELECT, Then Served From Cache")
+	void getById_OneStatementThenNone() throws Exception {
+		JdbcCounters.Snapshot cold = usage(get(byId()), 200);
+
+		assertEquals(1, cold.statements());
+		assertEquals(1, cold.rows());
+		assertEquals(0, statements(get(byId()), 200));
+	}
+
+	@Test
+	@DisplayName("GET /api/products/{id} - Missing - One SELECT, Then Cached As Missing")
+	void getById_Missing_OneStatementThenNone() throws Exception {
+		assertEquals(1, statements(get("/api/products/-1"), 404));
+		assertEquals(0, statements(get("/api/products/-1"), 404));
+	}
+
+	@Test
+	@DisplayName("GET /api/products - Exact Count - Page Query Plus COUNT, No COUNT When The Page Is Short")
+	void list_ExactCount_CountOnlyForFullPages() throws Exception {
+		for (int i = 0; i < 6; i++) {
+			created.add(service.createProduct(request("Endpoint Seeded " + i)).getId());
+		}
+
+		assertEquals(2, statements(get("/api/products?page=0&size=5&search=seeded"), 200));
+		assertEquals(2, statements(get("/api/products?page=0&size=5&category=LAPTOP&search=seeded&count=exact"), 200));
+		// The last page holds fewer rows than its size, so the total is its offset plus its rows
+		MvcResult lastPage = mockMvc.perform(get("/api/products?page=1&size=5&search=seeded"))
+				.andExpect(status().isOk())
+				.andReturn();
+		assertEquals(1, JdbcBudgetFilter.usage(lastPage.getRequest()).statements());
+		assertEquals(6, ((Number) JsonPath.read(lastPage.getResponse().getContentAsString(),
+				"$.data.totalElements")).intValue());
+	}
+
+	@Test
+	@DisplayName("GET /api/products - Estimated Count And Slice - One Statement")
+	void list_EstimatedAndSlice_OneStatement() throws Exception {
+		assertEquals(1, statements(get("/api/products?page=0&size=5&count=estimated"), 200));
+		assertEquals(1, statements(get("/api/products?page=0&size=5&count=none"), 200));
+	}
+
+	@Test
+	@DisplayName("GET /api/products/facets - Served From Catalog Indexes - No Statements")
+	void facets_NoStatements() throws Exception {
+		assertEquals(0, statements(get("/api/products/facets"), 200));
+	}
+
+	@Test
+	@DisplayName("POST /api/products - New Name - INSERT Only")
+	void create_OneStatement() throws Exception {
+		MvcResult result = mockMvc.perform(write(post("/api/products"), request("Endpoint Count Phone")))
+				.andExpect(status().isCreated())
+				.andReturn();
+		created.add(((Number) JsonPath.read(result.getResponse().getContentAsString(), "$.data.id")).longValue());
+		JdbcCounters.Snapshot usage = JdbcBudgetFilter.usage(result.getRequest());
+
+		assertEquals(1, usage.statements());
+		assertEquals(1, usage.rows());
+	}
+
+	@Test
+	@DisplayName("PUT /api/products/{id} - Cached - Conditional UPDATE Only")
+	void update_Cached_OneStatement() throws Exception {
+		usage(get(byId()), 200);
+
+		assertEquals(1, statements(write(put(byId()), request("Endpoint Count Tablet")), 200));
+	}
+
+	@Test
+	@DisplayName("DELETE /api/products/{id} - Uncached - Projection Read And DELETE, Over Budget")
+	void delete_Uncached_TwoStatements_OverBudget() throws Exception {
+		double exceeded = exceeded("DELETE", "/api/products/{id}");
+
+		JdbcCounters.Snapshot usage = usage(delete(byId()), 204);
+
+		assertEquals(2, usage.statements());
+		assertEquals(2, usage.rows());
+		assertEquals(exceeded + 1, exceeded("DELETE", "/api/products/{id}"));
+	}
+
+	@Test
+	@DisplayName("POST /api/auth/login - User Lookup Only")
+	void login_OneStatement() throws Exception {
+		assertEquals(1, statements(post("/api/auth/login").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"username\":\"admin\",\"password\":\"abc123\"}"), 200));
+	}
+
+	private double exceeded(String method, String uri) {
+		Counter counter = meterRegistry.find("http.server.jdbc.budget.exceeded")
+				.tags("method", method, "uri", uri, "reason", "budget")
+				.counter();
+		return counter != null ? counter.count() : 0;
+	}
+}
@@ -0,0 +1,84 @@
+package com.floginfe_be.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.constants.ExportFormat;
+import com.floginfe_be.backend.dto.request.ProductFilterRequest;
+import com.floginfe_be.backend.service.ProductExportService;
+
+@WebMvcTest(ProductExportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("Product Export API Integration Test")
+class ProductExportControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private ProductExportService exportService;
+
+	@Test
+	@DisplayName("GET /api/products/export?format=csv - Filters Bound - Streams Attachment")
+	void export_Csv_StreamsAttachment() throws Exception {
+		when(exportService.exportProducts(any(ProductFilterRequest.class), eq(ExportFormat.CSV), any()))
+				.thenAnswer(inv -> {
+					OutputStream out = inv.getArgument(2);
+					out.write("id,name\r\n1,Laptop\r\n".getBytes(StandardCharsets.UTF_8));
+					return 1L;
+				});
+
+		MvcResult result = mockMvc.perform(get("/api/products/export")
+				.param("format", "csv")
+				.param("category", "LAPTOP"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		// Only the export gets the long async timeout
+		assertEquals(Duration.ofMinutes(30).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+				.andExpect(header().string("Content-Disposition", "attachment; filename=\"products.csv\""))
+				.andExpect(content().string("id,name\r\n1,Laptop\r\n"));
+		verify(exportService).exportProducts(argThat(f -> f.getCategory() == Categories.LAPTOP),
+				eq(ExportFormat.CSV), any());
+	}
+
+	@Test
+	@DisplayName("GET /api/products/export - Default Format - NDJSON")
+	void export_Default_Ndjson() throws Exception {
+		MvcResult result = mockMvc.perform(get("/api/products/export"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Type", "application/x-ndjson"));
+		verify(exportService).exportProducts(any(ProductFilterRequest.class), eq(ExportFormat.NDJSON), any());
+	}
+
+	@Test
+	@DisplayName("GET /api/products/export?format=xml - Unknown Format - 400")
+	void export_UnknownFormat_BadRequest() throws Exception {
+		mockMvc.perform(get("/api/products/export").param("format", "xml"))
+				.andExpect(status().isBadRequest());
+		verifyNoInteractions(exportService);
+	}
+}
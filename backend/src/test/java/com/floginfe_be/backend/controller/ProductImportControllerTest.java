@@ -0,0 +1,80 @@
+package com.floginfe_be.backend.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.floginfe_be.backend.dto.response.ImportSummary;
+import com.floginfe_be.backend.importer.ProductImportReader;
+import com.floginfe_be.backend.service.ProductImportService;
+
+@WebMvcTest(ProductImportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("Product Import API Integration Test")
+class ProductImportControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private ProductImportService importService;
+
+	@Test
+	@DisplayName("POST /api/products/import (text/csv) - Valid Header - Streams NDJSON Report")
+	void import_Csv_StreamsReport() throws Exception {
+		when(importService.importProducts(any(ProductImportReader.class), any())).thenAnswer(inv -> {
+			ProductImportReader reader = inv.getArgument(0);
+			while (reader.next() != null) {
+				// drain
+			}
+			OutputStream out = inv.getArgument(1);
+			out.write("{\"rows\":1,\"created\":1,\"updated\":0,\"failed\":0}\n".getBytes(StandardCharsets.UTF_8));
+			return new ImportSummary(1, 1, 0, 0);
+		});
+
+		MvcResult result = mockMvc.perform(post("/api/products/import")
+				.contentType("text/csv")
+				.content("name,price,quantity,category\nLaptop,10,1,LAPTOP\n"))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Type", "application/x-ndjson"))
+				.andExpect(content().string("{\"rows\":1,\"created\":1,\"updated\":0,\"failed\":0}\n"));
+		verify(importService).importProducts(any(ProductImportReader.class), any());
+	}
+
+	@Test
+	@DisplayName("POST /api/products/import (text/csv) - Missing Column - 400 Before Streaming")
+	void import_CsvMissingColumn_BadRequest() throws Exception {
+		mockMvc.perform(post("/api/products/import")
+				.contentType("text/csv")
+				.content("name,price\nLaptop,10\n"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("Thiếu cột \"quantity\" trong dòng tiêu đề CSV"));
+		verifyNoInteractions(importService);
+	}
+
+	@Test
+	@DisplayName("POST /api/products/import (application/json) - Unsupported Type - 415")
+	void import_Json_UnsupportedMediaType() throws Exception {
+		mockMvc.perform(post("/api/products/import")
+				.contentType("application/json")
+				.content("[]"))
+				.andExpect(status().isUnsupportedMediaType());
+		verifyNoInteractions(importService);
+	}
+}
@@ -0,0 +1,104 @@
+package com.floginfe_be.backend.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+@DisplayName("JDBC Counting Listener Tests")
+class JdbcCountingListenerTest {
+
+	private JdbcTemplate jdbc;
+
+	@BeforeEach
+	void setUp() {
+		DataSource database = new DriverManagerDataSource("jdbc:h2:mem:jdbc_counting;DB_CLOSE_DELAY=-1", "sa", "");
+		new JdbcTemplate(database).execute("CREATE TABLE item (id INT PRIMARY KEY, name VARCHAR(20))");
+		jdbc = new JdbcTemplate(ProxyDataSourceBuilder.create(database)
+				.listener(new JdbcCountingListener())
+				.proxyResultSet(RowCountingResultSetProxyLogic::new)
+				.build());
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbc.execute("DROP TABLE item");
+	}
+
+	@Test
+	@DisplayName("Batch Insert Then Query - One Statement Each, Rows Written And Read")
+	void batchThenQuery_Counted() {
+		JdbcCounters.Snapshot before = JdbcCounters.snapshot();
+
+		jdbc.batchUpdate("INSERT INTO item VALUES (?, ?)",
+				List.of(new Object[] { 1, "a" }, new Object[] { 2, "b" }, new Object[] { 3, "c" }));
+		JdbcCounters.Snapshot written = JdbcCounters.snapshot().minus(before);
+		List<String> names = jdbc.queryForList("SELECT name FROM item WHERE id < 3", String.class);
+		JdbcCounters.Snapshot total = JdbcCounters.snapshot().minus(before);
+
+		assertEquals(2, names.size());
+		assertEquals(new JdbcCounters.Snapshot(1, 3, written.nanos()), written);
+		assertEquals(2, total.statements());
+		assertEquals(5, total.rows());
+		assertTrue(total.nanos() > written.nanos());
+	}
+
+	@Test
+	@DisplayName("Update Touching No Rows - Statement Counted, No Rows")
+	void updateNoRows_StatementOnly() {
+		JdbcCounters.Snapshot before = JdbcCounters.snapshot();
+
+		jdbc.update("UPDATE item SET name = 'x' WHERE id = 42");
+
+		JdbcCounters.Snapshot used = JdbcCounters.snapshot().minus(before);
+		assertEquals(1, used.statements());
+		assertEquals(0, used.rows());
+	}
+
+	@Test
+	@DisplayName("Other Threads - Not Counted")
+	void otherThread_NotCounted() throws InterruptedException {
+		JdbcCounters.Snapshot before = JdbcCounters.snapshot();
+
+		Thread.ofVirtual().start(() -> jdbc.update("INSERT INTO item VALUES (1, 'a')")).join();
+
+		assertEquals(new JdbcCounters.Snapshot(0, 0, 0), JdbcCounters.snapshot().minus(before));
+	}
+
+	@Test
+	@DisplayName("Scope - Same Query Per Row - Reported As Most Repeated")
+	void scope_RepeatedQuery_MostRepeated() {
+		jdbc.batchUpdate("INSERT INTO item VALUES (?, ?)",
+				List.of(new Object[] { 1, "a" }, new Object[] { 2, "b" }, new Object[] { 3, "c" }));
+
+		try (JdbcCounters.Scope scope = JdbcCounters.open()) {
+			List<Integer> ids = jdbc.queryForList("SELECT id FROM item", Integer.class);
+			for (Integer id : ids) {
+				jdbc.queryForObject("SELECT name FROM item WHERE id = ?", String.class, id);
+			}
+			try (JdbcCounters.Scope nested = JdbcCounters.open()) {
+				jdbc.queryForObject("SELECT name FROM item WHERE id = ?", String.class, 1);
+				assertNull(nested.mostRepeated());
+				assertEquals(1, nested.usage().statements());
+			}
+
+			Map.Entry<String, Integer> repeated = scope.mostRepeated();
+			assertEquals("SELECT name FROM item WHERE id = ?", repeated.getKey());
+			assertEquals(4, repeated.getValue());
+			assertEquals(5, scope.usage().statements());
+		}
+	}
+}
@@ -0,0 +1,246 @@
+package com.floginfe_be.backend.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.floginfe_be.backend.dto.response.DataSourceStatsDto;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Runs the router against three in-memory H2 databases, each holding one
+ * row naming itself, so every read shows which database served it.
+ */
+@DisplayName("Read/Write Routing Data Source Tests")
+class ReadWriteRoutingDataSourceTest {
+
+	private final FlakyDataSource primary = database("primary");
+
+	private final FlakyDataSource replica1 = database("replica1");
+
+	private final FlakyDataSource replica2 = database("replica2");
+
+	private ReadWriteRoutingDataSource router;
+
+	private JdbcTemplate jdbc;
+
+	private TransactionTemplate writeTx;
+
+	private TransactionTemplate readOnlyTx;
+
+	@AfterEach
+	void tearDown() {
+		router.close();
+		for (String name : List.of("primary", "replica1", "replica2")) {
+			new JdbcTemplate(database(name)).execute("DROP TABLE node");
+		}
+	}
+
+	private void route(Map<String, DataSource> replicas, ReplicaSelection selection, Duration readYourWrites) {
+		router = new ReadWriteRoutingDataSource(primary, replicas, selection, readYourWrites);
+		DataSource dataSource = new LazyConnectionDataSourceProxy(router);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		jdbc = new JdbcTemplate(dataSource);
+		writeTx = new TransactionTemplate(transactionManager);
+		readOnlyTx = new TransactionTemplate(transactionManager);
+		readOnlyTx.setReadOnly(true);
+	}
+
+	private void routeToBothReplicas(ReplicaSelection selection, Duration readYourWrites) {
+		Map<String, DataSource> replicas = new LinkedHashMap<>();
+		replicas.put("replica-1", replica1);
+		replicas.put("replica-2", replica2);
+		route(replicas, selection, readYourWrites);
+	}
+
+	private String readOnly() {
+		return readOnlyTx.execute(status -> node());
+	}
+
+	private String node() {
+		return jdbc.queryForObject("SELECT name FROM node", String.class);
+	}
+
+	@Test
+	@DisplayName("Read-Only Transactions - Round Robin - Alternate Between Replicas")
+	void readOnly_RoundRobin_Alternates() {
+		routeToBothReplicas(ReplicaSelection.ROUND_ROBIN, Duration.ZERO);
+
+		assertEquals(List.of("replica1", "replica2", "replica1", "replica2"),
+				List.of(readOnly(), readOnly(), readOnly(), readOnly()));
+	}
+
+	@Test
+	@DisplayName("Read-Write Transactions And Plain Statements - Primary")
+	void readWrite_Primary() {
+		routeToBothReplicas(ReplicaSelection.ROUND_ROBIN, Duration.ZERO);
+
+		assertEquals("primary", writeTx.execute(status -> node()));
+		assertEquals("primary", node());
+	}
+
+	@Test
+	@DisplayName("Explicit Credentials - Primary, Even In A Read-Only Transaction")
+	void explicitCredentials_Primary() {
+		routeToBothReplicas(ReplicaSelection.ROUND_ROBIN, Duration.ZERO);
+
+		String node = readOnlyTx.execute(status -> {
+			try (Connection connection = router.getConnection("sa", "")) {
+				return new JdbcTemplate(new SingleConnectionDataSource(connection, true)).queryForObject(
+						"SELECT name FROM node", String.class);
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+
+		assertEquals("primary", node);
+	}
+
+	@Test
+	@DisplayName("Read-Only After A Committed Write - Primary Within The Read-Your-Writes Window")
+	void readOnly_AfterWrite_Primary() {
+		routeToBothReplicas(ReplicaSelection.ROUND_ROBIN, Duration.ofMinutes(1));
+		assertEquals("replica1", readOnly());
+
+		writeTx.executeWithoutResult(status -> jdbc.update("UPDATE node SET name = name"));
+
+		assertEquals("primary", readOnly());
+	}
+
+	@Test
+	@DisplayName("Read-Only After A Rolled Back Write - Still Replicas")
+	void readOnly_AfterRollback_Replica() {
+		routeToBothReplicas(ReplicaSelection.ROUND_ROBIN, Duration.ofMinutes(1));
+
+		writeTx.executeWithoutResult(status -> {
+			jdbc.update("UPDATE node SET name = name");
+			status.setRollbackOnly();
+		});
+
+		assertEquals("replica1", readOnly());
+	}
+
+	@Test
+	@DisplayName("Replica Down - Marked Unhealthy And Read From The Next Replica Or Primary")
+	void replicaDown_FallsBack() {
+		routeToBothReplicas(ReplicaSelection.ROUND_ROBIN, Duration.ZERO);
+		replica1.down = true;
+
+		assertEquals("primary", readOnly());
+		assertEquals(List.of("replica2", "replica2"), List.of(readOnly(), readOnly()));
+		assertFalse(stats("replica-1").isHealthy());
+
+		replica2.down = true;
+		router.checkReplicas();
+		assertEquals("primary", readOnly());
+	}
+
+	@Test
+	@DisplayName("Health Check - Replica Recovers - Routed To Again")
+	void healthCheck_Recovered_RoutedAgain() {
+		route(Map.of("replica-1", replica1), ReplicaSelection.ROUND_ROBIN, Duration.ZERO);
+		replica1.down = true;
+		assertEquals("primary", readOnly());
+
+		router.checkReplicas();
+		assertEquals("primary", readOnly());
+
+		replica1.down = false;
+		router.checkReplicas();
+		assertTrue(stats("replica-1").isHealthy());
+		assertEquals("replica1", readOnly());
+	}
+
+	@Test
+	@DisplayName("Least Loaded - Busy Replica Skipped")
+	void leastLoaded_BusyReplicaSkipped() throws SQLException {
+		HikariDataSource busy = pool(replica1);
+		HikariDataSource idle = pool(replica2);
+		Map<String, DataSource> replicas = new LinkedHashMap<>();
+		replicas.put("replica-1", busy);
+		replicas.put("replica-2", idle);
+		route(replicas, ReplicaSelection.LEAST_LOADED, Duration.ZERO);
+
+		try (Connection held = busy.getConnection()) {
+			assertEquals(List.of("replica2", "replica2", "replica2"), List.of(readOnly(), readOnly(), readOnly()));
+		}
+		DataSourceStatsDto stats = stats("replica-2");
+		assertEquals(3, stats.getRouted());
+		assertEquals(0, stats.getActiveConnections());
+	}
+
+	@Test
+	@DisplayName("Stats - Connections Routed Per Pool")
+	void stats_RoutedPerPool() {
+		routeToBothReplicas(ReplicaSelection.ROUND_ROBIN, Duration.ZERO);
+		readOnly();
+		readOnly();
+		readOnly();
+		writeTx.execute(status -> node());
+
+		List<DataSourceStatsDto> stats = router.stats();
+		assertEquals(List.of("primary", "replica-1", "replica-2"),
+				stats.stream().map(DataSourceStatsDto::getPool).toList());
+		assertTrue(stats.get(0).isPrimary());
+		// The primary also served the proxy's one-time read of the connection defaults
+		assertEquals(List.of(2L, 2L, 1L), stats.stream().map(DataSourceStatsDto::getRouted).toList());
+	}
+
+	private DataSourceStatsDto stats(String pool) {
+		return router.stats().stream().filter(stats -> stats.getPool().equals(pool)).findFirst().orElseThrow();
+	}
+
+	private static HikariDataSource pool(DataSource database) {
+		HikariDataSource pool = new HikariDataSource();
+		pool.setDataSource(database);
+		pool.setMinimumIdle(0);
+		pool.setMaximumPoolSize(2);
+		return pool;
+	}
+
+	private static FlakyDataSource database(String name) {
+		FlakyDataSource dataSource = new FlakyDataSource("jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1");
+		new JdbcTemplate(dataSource).execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+		JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+		if (jdbc.queryForObject("SELECT COUNT(*) FROM node", Integer.class) == 0) {
+			jdbc.update("INSERT INTO node VALUES (?)", name);
+		}
+		return dataSource;
+	}
+
+	/** Refuses connections while {@link #down}, like a replica that went away. */
+	private static final class FlakyDataSource extends DriverManagerDataSource {
+		private volatile boolean down;
+
+		FlakyDataSource(String url) {
+			super(url, "sa", "");
+		}
+
+		@Override
+		public Connection getConnection() throws SQLException {
+			if (down) {
+				throw new SQLException("Connection refused");
+			}
+			return super.getConnection();
+		}
+	}
+}
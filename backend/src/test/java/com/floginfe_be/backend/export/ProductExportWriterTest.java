@@ -0,0 +1,80 @@
+package com.floginfe_be.backend.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.constants.ExportFormat;
+import com.floginfe_be.backend.dto.response.ProductDto;
+
+@DisplayName("Product Export Writers - NDJSON / CSV Tests")
+class ProductExportWriterTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private static final List<ProductDto> PRODUCTS = List.of(
+			new ProductDto(1L, "Laptop Dell XPS", 120_000_000.0, 3, Categories.LAPTOP, "Mỏng, nhẹ", 2L),
+			new ProductDto(2L, "Màn hình \"27 inch\"", 4_500_000.5, 0, null, "dòng 1\ndòng 2", 0L),
+			new ProductDto(3L, "Chuột", 99_000.0, 10, Categories.ACCESSORY, null, null));
+
+	@Test
+	@DisplayName("CSV - Special Characters - Quoted Per RFC 4180")
+	void csv_SpecialCharacters_Quoted() throws IOException {
+		String csv = export(ExportFormat.CSV);
+
+		assertEquals(CsvProductWriter.HEADER + "\r\n"
+				+ "1,Laptop Dell XPS,120000000,3,LAPTOP,\"Mỏng, nhẹ\",2\r\n"
+				+ "2,\"Màn hình \"\"27 inch\"\"\",4500000.5,0,,\"dòng 1\ndòng 2\",0\r\n"
+				+ "3,Chuột,99000,10,ACCESSORY,,\r\n", csv);
+	}
+
+	@Test
+	@DisplayName("NDJSON - Products - One Parsable JSON Object Per Line")
+	void ndjson_Products_OneObjectPerLine() throws IOException {
+		String[] lines = export(ExportFormat.NDJSON).split("\n", -1);
+
+		assertEquals(PRODUCTS.size() + 1, lines.length);
+		assertEquals("", lines[PRODUCTS.size()]);
+		for (int i = 0; i < PRODUCTS.size(); i++) {
+			assertEquals('{', lines[i].charAt(0));
+			assertEquals(PRODUCTS.get(i), objectMapper.readValue(lines[i], ProductDto.class));
+		}
+	}
+
+	@Test
+	@DisplayName("Close - Flushes Without Closing The Response Stream")
+	void close_LeavesStreamOpen() throws IOException {
+		boolean[] closed = { false };
+		ByteArrayOutputStream out = new ByteArrayOutputStream() {
+			@Override
+			public void close() {
+				closed[0] = true;
+			}
+		};
+		for (ExportFormat format : ExportFormat.values()) {
+			try (ProductExportWriter writer = ProductExportWriter.create(format, out, objectMapper)) {
+				writer.write(PRODUCTS.get(0));
+			}
+		}
+		assertFalse(closed[0]);
+	}
+
+	private String export(ExportFormat format) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (ProductExportWriter writer = ProductExportWriter.create(format, out, objectMapper)) {
+			for (ProductDto product : PRODUCTS) {
+				writer.write(product);
+			}
+		}
+		return out.toString(StandardCharsets.UTF_8);
+	}
+}
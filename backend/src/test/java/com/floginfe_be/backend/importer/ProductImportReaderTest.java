@@ -0,0 +1,136 @@
+package com.floginfe_be.backend.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.constants.ExportFormat;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.export.ProductExportWriter;
+
+@DisplayName("Product Import Readers - NDJSON / CSV Tests")
+class ProductImportReaderTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("CSV - Quoted Fields, Reordered Columns, BOM - Parsed With Start Lines")
+	void csv_QuotedFields_Parsed() throws IOException {
+		List<ImportRow> rows = read(ExportFormat.CSV, "\uFEFFCategory,name,price,quantity,description,extra\r\n"
+				+ "laptop,\"Laptop \"\"Pro\"\"\",1500.5,3,\"dòng 1\ndòng 2\",x\r\n"
+				+ "\r\n"
+				+ "MONITOR,\"Màn hình, 27 inch\",99000,0\n");
+
+		assertEquals(2, rows.size());
+		assertEquals(new ImportRow(2, new ProductRequest("Laptop \"Pro\"", 1500.5, 3, Categories.LAPTOP,
+				"dòng 1\ndòng 2"), null), rows.get(0));
+		assertEquals(new ImportRow(5, new ProductRequest("Màn hình, 27 inch", 99000.0, 0, Categories.MONITOR, null),
+				null), rows.get(1));
+	}
+
+	@Test
+	@DisplayName("CSV - Bad Values - Invalid Rows Without Stopping")
+	void csv_BadValues_InvalidRows() throws IOException {
+		List<ImportRow> rows = read(ExportFormat.CSV, "name,price,quantity,category\n"
+				+ "Laptop A,abc,1,LAPTOP\n"
+				+ "Laptop B,NaN,1,LAPTOP\n"
+				+ "Laptop C,10,1.5,LAPTOP\n"
+				+ "Laptop D,10,1,TOASTER\n"
+				+ "Laptop E,10,1,LAPTOP\n"
+				+ "\"Laptop F,10,1,LAPTOP\n");
+
+		assertEquals(List.of(2, 3, 4, 5, 6, 7), rows.stream().map(ImportRow::line).toList());
+		assertEquals("Giá sản phẩm không hợp lệ: abc", rows.get(0).error());
+		assertEquals("Laptop A", rows.get(0).name());
+		assertEquals("Giá sản phẩm không hợp lệ: NaN", rows.get(1).error());
+		assertEquals("Số lượng không hợp lệ: 1.5", rows.get(2).error());
+		assertEquals("Danh mục phải nằm trong danh sách đã cho", rows.get(3).error());
+		assertTrue(rows.get(4).isValid());
+		assertEquals("Thiếu dấu ngoặc kép đóng", rows.get(5).error());
+	}
+
+	@Test
+	@DisplayName("CSV - Oversized Record - Skipped As One Invalid Row")
+	void csv_OversizedRecord_Skipped() throws IOException {
+		String huge = "x".repeat(ProductImportReader.MAX_RECORD_CHARS + 1);
+		List<ImportRow> rows = read(ExportFormat.CSV, "name,price,quantity,category\n"
+				+ "\"" + huge + "\n\",1,1,LAPTOP\n"
+				+ "Laptop,1,1,LAPTOP\n");
+
+		assertEquals(2, rows.size());
+		assertEquals(2, rows.get(0).line());
+		assertFalse(rows.get(0).isValid());
+		assertEquals(new ImportRow(4, new ProductRequest("Laptop", 1.0, 1, Categories.LAPTOP, null), null),
+				rows.get(1));
+	}
+
+	@Test
+	@DisplayName("CSV - Missing Required Column - IllegalArgumentException")
+	void csv_MissingColumn_Throws() {
+		IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+				() -> read(ExportFormat.CSV, "name,price,category\nLaptop,1,LAPTOP\n"));
+		assertEquals("Thiếu cột \"quantity\" trong dòng tiêu đề CSV", ex.getMessage());
+	}
+
+	@Test
+	@DisplayName("NDJSON - Malformed Line - Invalid Row, Others Parsed")
+	void ndjson_MalformedLine_InvalidRow() throws IOException {
+		List<ImportRow> rows = read(ExportFormat.NDJSON,
+				"{\"name\":\"Laptop\",\"price\":10,\"quantity\":1,\"category\":\"LAPTOP\",\"id\":7}\r\n"
+						+ "\n"
+						+ "{\"name\":\"Chuột\",\n"
+						+ "null\n"
+						+ "{\"name\":\"Bàn phím\",\"price\":5,\"quantity\":2,\"category\":\"ACCESSORY\"}");
+
+		assertEquals(List.of(1, 3, 4, 5), rows.stream().map(ImportRow::line).toList());
+		assertEquals(new ProductRequest("Laptop", 10.0, 1, Categories.LAPTOP, null), rows.get(0).product());
+		assertEquals("Dữ liệu JSON không hợp lệ", rows.get(1).error());
+		assertEquals("Dữ liệu JSON không hợp lệ", rows.get(2).error());
+		assertTrue(rows.get(3).isValid());
+	}
+
+	@Test
+	@DisplayName("Round Trip - Exported File - Imports The Same Products")
+	void roundTrip_ExportedFile_Imported() throws IOException {
+		ProductDto product = new ProductDto(1L, "Laptop \"Dell\", XPS", 120_000_000.0, 3, Categories.LAPTOP,
+				"Mỏng\nnhẹ", 2L);
+		ProductRequest expected = new ProductRequest(product.getName(), product.getPrice(), product.getQuantity(),
+				product.getCategory(), product.getDescription());
+		for (ExportFormat format : ExportFormat.values()) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			try (ProductExportWriter writer = ProductExportWriter.create(format, out, objectMapper)) {
+				writer.write(product);
+			}
+			List<ImportRow> rows = read(format, out.toString(StandardCharsets.UTF_8));
+			assertEquals(1, rows.size(), format.name());
+			assertEquals(expected, rows.get(0).product(), format.name());
+		}
+	}
+
+	private List<ImportRow> read(ExportFormat format, String content) throws IOException {
+		List<ImportRow> rows = new ArrayList<>();
+		try (ProductImportReader reader = ProductImportReader.create(format,
+				new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), objectMapper)) {
+			for (ImportRow row = reader.next(); row != null; row = reader.next()) {
+				rows.add(row);
+			}
+			assertNull(reader.next());
+		}
+		return rows;
+	}
+}
@@ -0,0 +1,126 @@
+package com.floginfe_be.backend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.request.ProductFilterRequest;
+import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.entity.Product;
+import com.floginfe_be.backend.spec.ProductSpec;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@DisplayName("Product Repository - DTO Projection Queries")
+class ProductRepositoryTest {
+
+	@Autowired
+	private ProductRepository repository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private List<Product> products;
+
+	@BeforeEach
+	void setup() {
+		products = repository.saveAll(List.of(
+				new Product(null, "Laptop Dell", 1500.0, 3, Categories.LAPTOP, "Mỏng"),
+				new Product(null, "Laptop Asus", 900.0, 7, Categories.LAPTOP, "Nhẹ"),
+				new Product(null, "Màn hình LG", 300.0, 0, Categories.MONITOR, "27 inch"),
+				new Product(null, "Laptop HP", 1200.0, 1, Categories.LAPTOP, "Bền")));
+		repository.flush();
+		entityManager.clear();
+	}
+
+	private static ProductDto dto(Product p) {
+		return new ProductDto(p.getId(), p.getName(), p.getPrice(), p.getQuantity(), p.getCategory(),
+				p.getDescription(), p.getVersion());
+	}
+
+	@Test
+	@DisplayName("Find DTO By Id - Selects Every Column Without Managing An Entity")
+	void findDtoById_ReturnsDto() {
+		Product laptop = products.get(0);
+
+		assertEquals(dto(laptop), repository.findDtoById(laptop.getId()).orElseThrow());
+		assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+		assertTrue(repository.findDtoById(-1L).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Find All - Search Without Accents - Matches Folded Names Like The Name Index")
+	void findAll_SearchFolded_MatchesAccentedNames() {
+		ProductFilterRequest filter = ProductFilterRequest.builder().search("MAN HINH").build();
+
+		List<Product> found = repository.findAll(ProductSpec.byFilter(filter));
+
+		assertEquals(List.of(products.get(2).getId()), found.stream().map(Product::getId).toList());
+	}
+
+	@Test
+	@DisplayName("Find DTOs By Id In - Returns The Matching Rows")
+	void findDtosByIdIn_ReturnsMatches() {
+		List<ProductDto> found = repository.findDtosByIdIn(
+				List.of(products.get(1).getId(), products.get(3).getId(), -1L));
+
+		assertEquals(2, found.size());
+		assertTrue(found.contains(dto(products.get(1))));
+		assertTrue(found.contains(dto(products.get(3))));
+	}
+
+	@Test
+	@DisplayName("Find All DTOs - Specification, Sort And Page - Same Rows As findAll")
+	void findAllDtos_MatchesEntityQuery() {
+		ProductFilterRequest filter = ProductFilterRequest.builder().category(Categories.LAPTOP).build();
+		PageRequest pageable = PageRequest.of(0, 2, Sort.by(Sort.Order.desc("price")));
+
+		Page<ProductDto> page = repository.findAllDtos(ProductSpec.byFilter(filter), pageable);
+
+		assertEquals(3, page.getTotalElements());
+		assertEquals(2, page.getTotalPages());
+		assertEquals(repository.findAll(ProductSpec.byFilter(filter), pageable).map(ProductRepositoryTest::dto)
+				.getContent(), page.getContent());
+		assertEquals(List.of("Laptop Dell", "Laptop HP"), page.getContent().stream().map(ProductDto::getName).toList());
+	}
+
+	@Test
+	@DisplayName("Find DTO Slice - Fetches One Extra Row Instead Of Counting")
+	void findDtoSlice_ReportsHasNext() {
+		ProductFilterRequest filter = ProductFilterRequest.builder().category(Categories.LAPTOP).build();
+
+		Slice<ProductDto> first = repository.findDtoSlice(ProductSpec.byFilter(filter),
+				PageRequest.of(0, 2, Sort.by("id")));
+		Slice<ProductDto> last = repository.findDtoSlice(ProductSpec.byFilter(filter),
+				PageRequest.of(1, 2, Sort.by("id")));
+
+		assertEquals(2, first.getNumberOfElements());
+		assertTrue(first.hasNext());
+		assertEquals(List.of(dto(products.get(3))), last.getContent());
+		assertFalse(last.hasNext());
+	}
+
+	@Test
+	@DisplayName("Find DTOs - Sort And Limit - First Rows In Order")
+	void findDtos_SortAndLimit() {
+		List<ProductDto> rows = repository.findDtos(ProductSpec.byFilter(new ProductFilterRequest()),
+				Sort.by("quantity", "id"), 2);
+
+		assertEquals(List.of(dto(products.get(2)), dto(products.get(3))), rows);
+	}
+}
@@ -0,0 +1,117 @@
+package com.floginfe_be.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.floginfe_be.backend.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Bounded Password Encoder Tests")
+class BoundedPasswordEncoderTest {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private final AtomicReference<String> checkedOn = new AtomicReference<>();
+
+	/** Matches {@code "secret"}; blocks on {@link #release} for {@code "slow"}. */
+	private final PasswordEncoder slowEncoder = new PasswordEncoder() {
+		@Override
+		public String encode(CharSequence rawPassword) {
+			return rawPassword.toString();
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			checkedOn.set(Thread.currentThread().getName());
+			if (rawPassword.toString().equals("slow")) {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return rawPassword.toString().equals(encodedPassword);
+		}
+	};
+
+	private BoundedPasswordEncoder encoder;
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		encoder.close();
+	}
+
+	private BoundedPasswordEncoder encoder(int threads, int queueCapacity, Duration timeout) {
+		PasswordVerificationProperties properties = new PasswordVerificationProperties();
+		properties.setThreads(threads);
+		properties.setQueueCapacity(queueCapacity);
+		properties.setTimeout(timeout);
+		encoder = new BoundedPasswordEncoder(slowEncoder, properties, registry);
+		return encoder;
+	}
+
+	private double rejected(String reason) {
+		return registry.get("auth.password.rejected").tag("reason", reason).counter().count();
+	}
+
+	@Test
+	@DisplayName("Matches - Checked On The Verification Pool")
+	void matches_RunsOnPool() {
+		encoder(2, 4, Duration.ofSeconds(5));
+
+		assertTrue(encoder.matches("secret", "secret"));
+		assertFalse(encoder.matches("wrong", "secret"));
+		assertTrue(checkedOn.get().startsWith("password-verify-"));
+	}
+
+	@Test
+	@DisplayName("Matches - Pool And Queue Full - Refused At Once")
+	void matches_Saturated_Refused() throws InterruptedException {
+		encoder(1, 1, Duration.ofSeconds(30));
+		Thread running = Thread.ofVirtual().start(() -> encoder.matches("slow", "slow"));
+		while (checkedOn.get() == null) {
+			Thread.onSpinWait();
+		}
+		Thread queued = Thread.ofVirtual().start(() -> encoder.matches("secret", "secret"));
+		while (registry.get("executor.queued").gauge().value() < 1) {
+			Thread.onSpinWait();
+		}
+
+		ServiceOverloadedException refused = assertThrows(ServiceOverloadedException.class,
+				() -> encoder.matches("secret", "secret"));
+
+		assertEquals(Duration.ofSeconds(30), refused.getRetryAfter());
+		assertEquals(1, rejected("queue_full"));
+		release.countDown();
+		running.join();
+		queued.join();
+	}
+
+	@Test
+	@DisplayName("Matches - Not Done In Time - Refused And Cancelled")
+	void matches_Timeout_Refused() {
+		encoder(1, 1, Duration.ofMillis(50));
+
+		assertThrows(ServiceOverloadedException.class, () -> encoder.matches("slow", "slow"));
+
+		assertEquals(1, rejected("timeout"));
+		// The cancelled check freed the thread
+		assertTrue(encoder.matches("secret", "secret"));
+	}
+}
@@ -0,0 +1,136 @@
+package com.floginfe_be.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("JWT Token Service Tests")
+class JwtTokenServiceTest {
+
+	private final MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+
+	private static JwtProperties.Key key(String id, char fill) {
+		JwtProperties.Key key = new JwtProperties.Key();
+		key.setId(id);
+		key.setSecret(Base64.getEncoder().encodeToString(String.valueOf(fill).repeat(32).getBytes()));
+		return key;
+	}
+
+	private JwtTokenService service(String activeKeyId, JwtProperties.Key... keys) {
+		JwtProperties properties = new JwtProperties();
+		properties.setActiveKeyId(activeKeyId);
+		properties.setKeys(List.of(keys));
+		properties.setClockSkew(Duration.ZERO);
+		return new JwtTokenService(properties, clock);
+	}
+
+	@Test
+	@DisplayName("Issue Then Verify - Username And Expiry Recovered")
+	void issueThenVerify() {
+		JwtTokenService tokens = service("k1", key("k1", 'a'));
+
+		JwtTokenService.IssuedToken issued = tokens.issue("admin");
+		JwtTokenService.VerifiedToken verified = tokens.verify(issued.token()).orElseThrow();
+
+		assertEquals(Duration.ofMinutes(15), issued.expiresIn());
+		assertEquals("admin", verified.username());
+		assertEquals(clock.instant().plus(Duration.ofMinutes(15)), verified.expiresAt());
+	}
+
+	@Test
+	@DisplayName("Verify - Expired, Also When Remembered - Rejected")
+	void verify_Expired_Rejected() {
+		JwtTokenService tokens = service("k1", key("k1", 'a'));
+		String token = tokens.issue("admin").token();
+		String unseen = tokens.issue("user").token();
+		assertTrue(tokens.verify(token).isPresent());
+
+		clock.advance(Duration.ofMinutes(16));
+
+		assertTrue(tokens.verify(token).isEmpty());
+		assertTrue(tokens.verify(unseen).isEmpty());
+	}
+
+	@Test
+	@DisplayName("Verify - Tampered Or Garbage - Rejected")
+	void verify_Tampered_Rejected() {
+		JwtTokenService tokens = service("k1", key("k1", 'a'));
+		String token = tokens.issue("admin").token();
+		String[] parts = token.split("\\.");
+		String forged = parts[0] + "." + Base64.getUrlEncoder().withoutPadding()
+				.encodeToString("{\"iss\":\"floginfe-backend\",\"sub\":\"root\",\"exp\":9999999999}".getBytes())
+				+ "." + parts[2];
+
+		assertTrue(tokens.verify(forged).isEmpty());
+		assertTrue(tokens.verify("not-a-token").isEmpty());
+		assertTrue(tokens.verify("").isEmpty());
+	}
+
+	@Test
+	@DisplayName("Key Rotation - Old Tokens Valid While Their Key Is Listed, Rejected Once Dropped")
+	void keyRotation() {
+		JwtTokenService.IssuedToken oldToken = service("k1", key("k1", 'a')).issue("admin");
+
+		JwtTokenService rotated = service("k2", key("k1", 'a'), key("k2", 'b'));
+		JwtTokenService.IssuedToken newToken = rotated.issue("admin");
+		assertTrue(rotated.verify(oldToken.token()).isPresent());
+		assertTrue(rotated.verify(newToken.token()).isPresent());
+
+		JwtTokenService retired = service("k2", key("k2", 'b'));
+		assertTrue(retired.verify(oldToken.token()).isEmpty());
+		assertTrue(retired.verify(newToken.token()).isPresent());
+	}
+
+	@Test
+	@DisplayName("Active Key Not Listed - Fails At Startup")
+	void activeKeyMissing_Fails() {
+		assertThrows(IllegalStateException.class, () -> service("k3", key("k1", 'a')));
+	}
+
+	@Test
+	@DisplayName("No Keys Configured - Random Key Still Issues Verifiable Tokens")
+	void noKeys_Ephemeral() {
+		JwtTokenService tokens = service(null);
+
+		assertEquals("admin", tokens.verify(tokens.issue("admin").token()).orElseThrow().username());
+		assertTrue(service(null).verify(tokens.issue("admin").token()).isEmpty());
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant now;
+
+		MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+	}
+}
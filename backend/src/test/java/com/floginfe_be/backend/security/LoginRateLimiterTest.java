@@ -0,0 +1,113 @@
+package com.floginfe_be.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.floginfe_be.backend.exception.TooManyRequestsException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Login Rate Limiter Tests")
+class LoginRateLimiterTest {
+
+	private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	/** Starts negative, as {@link System#nanoTime} may. */
+	private final AtomicLong now = new AtomicLong(-1_000 * SECOND);
+
+	private LoginRateLimiter limiter(int usernameCapacity, int addressCapacity) {
+		LoginRateLimitProperties properties = new LoginRateLimitProperties();
+		properties.setUsername(new LoginRateLimitProperties.Limit(usernameCapacity, Duration.ofSeconds(60)));
+		properties.setAddress(new LoginRateLimitProperties.Limit(addressCapacity, Duration.ofSeconds(60)));
+		return new LoginRateLimiter(properties, registry, now::get);
+	}
+
+	@Test
+	@DisplayName("Username - Burst Then Refused Until A Token Refills")
+	void username_BurstThenRetryAfter() {
+		LoginRateLimiter limiter = limiter(3, 100);
+		for (int i = 0; i < 3; i++) {
+			limiter.acquire("admin", "10.0.0." + i);
+		}
+
+		TooManyRequestsException refused = assertThrows(TooManyRequestsException.class,
+				() -> limiter.acquire("ADMIN", "10.0.0.9"));
+		assertEquals(Duration.ofSeconds(20), refused.getRetryAfter());
+		assertEquals(1, registry.get("auth.login.throttled").tag("key", "username").counter().count());
+
+		now.addAndGet(19 * SECOND);
+		assertThrows(TooManyRequestsException.class, () -> limiter.acquire("admin", "10.0.0.9"));
+		now.addAndGet(SECOND);
+		assertDoesNotThrow(() -> limiter.acquire("admin", "10.0.0.9"));
+		assertDoesNotThrow(() -> limiter.acquire("other", "10.0.0.9"));
+	}
+
+	@Test
+	@DisplayName("Address - Refused Across Usernames")
+	void address_RefusedAcrossUsernames() {
+		LoginRateLimiter limiter = limiter(100, 2);
+		limiter.acquire("alice", "10.0.0.1");
+		limiter.acquire("bob", "10.0.0.1");
+
+		assertThrows(TooManyRequestsException.class, () -> limiter.acquire("carol", "10.0.0.1"));
+		assertDoesNotThrow(() -> limiter.acquire("carol", "10.0.0.2"));
+		assertEquals(1, registry.get("auth.login.throttled").tag("key", "address").counter().count());
+	}
+
+	@Test
+	@DisplayName("Disabled - Never Refuses")
+	void disabled_NeverRefuses() {
+		LoginRateLimitProperties properties = new LoginRateLimitProperties();
+		properties.setEnabled(false);
+		properties.setUsername(new LoginRateLimitProperties.Limit(1, Duration.ofMinutes(1)));
+		LoginRateLimiter limiter = new LoginRateLimiter(properties, registry, now::get);
+
+		for (int i = 0; i < 10; i++) {
+			limiter.acquire("admin", "10.0.0.1");
+		}
+	}
+
+	@Test
+	@DisplayName("Table - Full Of Refilled Buckets - Dropped Without Evicting Live Ones")
+	void table_Full_RefilledDroppedFirst() {
+		TokenBucketTable table = new TokenBucketTable(4, 1_000, 2, 60 * SECOND);
+		long memory = table.memoryBytes();
+		for (long key = 1; key <= 100_000; key++) {
+			assertEquals(0, table.acquire(key * 0x9E3779B97F4A7C15L, now.get()));
+			// Each bucket has refilled (30 s per token) by the time the next one is added
+			now.addAndGet(30 * SECOND);
+		}
+
+		assertTrue(table.size() <= 1_000);
+		assertEquals(0, table.evictions());
+		assertEquals(memory, table.memoryBytes());
+	}
+
+	@Test
+	@DisplayName("Table - Full Of Live Buckets - Oldest Evicted, Recent Keys Still Limited")
+	void table_FullOfLiveBuckets_EvictsOldest() {
+		TokenBucketTable table = new TokenBucketTable(4, 1_000, 1, 60 * SECOND);
+		for (long key = 1; key <= 1_000_000; key++) {
+			assertEquals(0, table.acquire(key * 0x9E3779B97F4A7C15L, now.get()));
+			now.addAndGet(1_000);
+		}
+
+		assertEquals(1_000, table.size());
+		assertEquals(999_000, table.evictions());
+		// Found again after a million backward-shift removals, and still refused
+		for (long key = 999_901; key <= 1_000_000; key++) {
+			assertTrue(table.acquire(key * 0x9E3779B97F4A7C15L, now.get()) > 0);
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package com.floginfe_be.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.floginfe_be.backend.entity.User;
+import com.floginfe_be.backend.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Password Rehasher - Hash Upgrade Tests")
+class PasswordRehasherTest {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+
+	private final BCryptPasswordEncoder current = new BCryptPasswordEncoder(5);
+
+	private final PasswordRehasher rehasher = new PasswordRehasher(userRepository, current,
+			new PasswordHashProperties(),
+			new StaticListableBeanFactory(Map.of("meterRegistry", registry)).getBeanProvider(MeterRegistry.class));
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		rehasher.close();
+	}
+
+	private static User user(String hash) {
+		User user = new User();
+		user.setId(1L);
+		user.setUsername("admin");
+		user.setPassword(hash);
+		return user;
+	}
+
+	@Test
+	@DisplayName("Outdated Hash - Rehashed At The Current Cost If Unchanged")
+	void outdatedHash_Rehashed() {
+		String old = new BCryptPasswordEncoder(4).encode("abc123");
+		AtomicReference<String> saved = new AtomicReference<>();
+		when(userRepository.updatePasswordIfUnchanged(eq(1L), eq(old), anyString())).thenAnswer(invocation -> {
+			saved.set(invocation.getArgument(2));
+			return 1;
+		});
+
+		rehasher.rehashIfOutdated(user(old), "abc123");
+
+		verify(userRepository, timeout(5_000)).updatePasswordIfUnchanged(eq(1L), eq(old), anyString());
+		assertTrue(saved.get().startsWith("$2a$05$"));
+		assertTrue(current.matches("abc123", saved.get()));
+	}
+
+	@Test
+	@DisplayName("Current Hash - Left Alone")
+	void currentHash_NotRehashed() throws InterruptedException {
+		rehasher.rehashIfOutdated(user(current.encode("abc123")), "abc123");
+		rehasher.close();
+
+		verify(userRepository, never()).updatePasswordIfUnchanged(eq(1L), anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("Hash Changed Meanwhile - Counted As Stale")
+	void changedMeanwhile_Stale() throws InterruptedException {
+		when(userRepository.updatePasswordIfUnchanged(eq(1L), anyString(), anyString())).thenReturn(0);
+
+		rehasher.rehashIfOutdated(user(new BCryptPasswordEncoder(4).encode("abc123")), "abc123");
+		rehasher.close();
+
+		assertEquals(1, registry.get("auth.password.rehashed").tag("outcome", "stale").counter().count());
+	}
+
+	@Test
+	@DisplayName("Calibration - Highest Cost Within The Budget, Bounded")
+	void calibration_WithinBudget() {
+		PasswordHashProperties properties = new PasswordHashProperties();
+		properties.setMinStrength(4);
+		properties.setMaxStrength(6);
+		properties.setLatencyBudget(Duration.ZERO);
+		assertEquals(4, BCryptCalibration.strength(properties));
+
+		properties.setLatencyBudget(Duration.ofMinutes(1));
+		assertEquals(6, BCryptCalibration.strength(properties));
+
+		properties.setStrength(12);
+		assertEquals(12, BCryptCalibration.strength(properties));
+	}
+}
@@ -4,6 +4,7 @@ import com.floginfe_be.backend.dto.request.LoginRequest;
 import com.floginfe_be.backend.dto.response.LoginResponse;
 import com.floginfe_be.backend.entity.User;
 import com.floginfe_be.backend.repository.UserRepository;
+import com.floginfe_be.backend.security.PasswordRehasher;
 import com.floginfe_be.backend.service.impl.AuthServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +17,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -30,11 +32,14 @@ class AuthServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PasswordRehasher passwordRehasher;
+
     private AuthService authService;
 
     @BeforeEach
     void setUp() {
-        authService = new AuthServiceImpl(userRepository, passwordEncoder);
+        authService = new AuthServiceImpl(userRepository, passwordEncoder, passwordRehasher);
     }
 
 
@@ -65,6 +70,7 @@ class AuthServiceTest {
         // Verify interactions
         verify(userRepository, times(1)).findByUsername("testuser");
         verify(passwordEncoder, times(1)).matches("Test123", "$2a$10$hashedPassword");
+        verify(passwordRehasher).rehashIfOutdated(mockUser, "Test123");
     }
 
     @Test
@@ -115,6 +121,7 @@ class AuthServiceTest {
         // Verify interactions
         verify(userRepository, times(1)).findByUsername("testuser");
         verify(passwordEncoder, times(1)).matches("WrongPass123", "$2a$10$hashedPassword");
+        verify(passwordRehasher, never()).rehashIfOutdated(any(), anyString());
     }
 
     @Test
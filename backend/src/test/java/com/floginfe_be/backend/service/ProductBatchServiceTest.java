@@ -0,0 +1,236 @@
+package com.floginfe_be.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import com.floginfe_be.backend.cache.ProductCache;
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.request.ProductBatchUpdateRequest;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.dto.response.BatchItemResult;
+import com.floginfe_be.backend.dto.response.BatchResponse;
+import com.floginfe_be.backend.entity.Product;
+import com.floginfe_be.backend.event.ProductsChangedEvent;
+import com.floginfe_be.backend.exception.ResourceAlreadyExistsException;
+import com.floginfe_be.backend.mapper.ProductMapperImpl;
+import com.floginfe_be.backend.repository.ProductRepository;
+import com.floginfe_be.backend.service.impl.ProductBatchServiceImpl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+
+@DisplayName("Product Batch Service Unit Testing")
+class ProductBatchServiceTest {
+
+	@Mock
+	private ProductRepository repository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private EntityManager entityManager;
+
+	private ProductBatchServiceImpl service;
+
+	private final AtomicLong nextId = new AtomicLong(100);
+
+	@BeforeEach
+	void setup() {
+		MockitoAnnotations.openMocks(this);
+		service = new ProductBatchServiceImpl(repository, new ProductMapperImpl(),
+				new ProductCache(100, Duration.ofMinutes(1), Duration.ofSeconds(10)), eventPublisher, entityManager, 250);
+		doAnswer(inv -> {
+			Product product = inv.getArgument(0);
+			product.setId(nextId.getAndIncrement());
+			product.setVersion(0L);
+			return null;
+		}).when(entityManager).persist(any(Product.class));
+	}
+
+	private static ProductRequest request(String name) {
+		return new ProductRequest(name, 1000.0, 5, Categories.LAPTOP, "description");
+	}
+
+	@Test
+	@DisplayName("Create - Mixed Items - Reports Each Item And Checks Names In One Query")
+	void createProducts_MixedItems_ReportsPerItem() {
+		when(repository.findIdsByNameKeyIn(anyCollection())).thenReturn(List.<Object[]>of(new Object[] { 7L, "taken name" }));
+
+		BatchResponse response = service.createProducts(List.of(
+				request("First Product"),
+				request("ab"),
+				request("first product"),
+				request("TAKEN name"),
+				request("Second Product")));
+
+		assertEquals(2, response.getSucceeded());
+		assertEquals(3, response.getFailed());
+		List<BatchItemResult> items = response.getItems();
+		assertEquals(100L, items.get(0).getId());
+		assertEquals(0L, items.get(0).getVersion());
+		assertEquals("Tên sản phẩm phải từ 3 đến 100 ký tự", items.get(1).getMessage());
+		assertEquals("Tên sản phẩm bị trùng trong lô", items.get(2).getMessage());
+		assertEquals("Product name already exists!", items.get(3).getMessage());
+		assertEquals(101L, items.get(4).getId());
+		for (int i = 0; i < items.size(); i++) {
+			assertEquals(i, items.get(i).getIndex());
+		}
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Collection<String>> nameKeys = ArgumentCaptor.forClass(Collection.class);
+		verify(repository).findIdsByNameKeyIn(nameKeys.capture());
+		assertEquals(Set.of("first product", "taken name", "second product"), Set.copyOf(nameKeys.getValue()));
+		verify(entityManager, times(2)).persist(any(Product.class));
+		verify(eventPublisher).publishEvent(argThat((ProductsChangedEvent event) -> event.changes().size() == 2));
+	}
+
+	@Test
+	@DisplayName("Create - Large Batch - Flushes And Clears Every Allocation Block")
+	void createProducts_LargeBatch_FlushesPerBlock() {
+		List<ProductRequest> requests = new ArrayList<>();
+		for (int i = 0; i < 250; i++) {
+			requests.add(request("Product " + i));
+		}
+
+		BatchResponse response = service.createProducts(requests);
+
+		assertEquals(250, response.getSucceeded());
+		verify(entityManager, times(2)).clear();
+		verify(entityManager, times(3)).flush();
+	}
+
+	@Test
+	@DisplayName("Create - Over Limit - Throws IllegalArgumentException")
+	void createProducts_OverLimit_Throws() {
+		List<ProductRequest> requests = new ArrayList<>();
+		for (int i = 0; i < 251; i++) {
+			requests.add(request("Product " + i));
+		}
+
+		assertThrows(IllegalArgumentException.class, () -> service.createProducts(requests));
+		verifyNoInteractions(repository, entityManager);
+	}
+
+	@Test
+	@DisplayName("Update - Missing, Stale And Conflicting Items - Only Valid Ones Change")
+	void updateProducts_MixedItems_ReportsPerItem() {
+		Product first = new Product(1L, "Old One", 10.0, 1, Categories.LAPTOP, "d", 3L);
+		Product second = new Product(2L, "Old Two", 10.0, 1, Categories.LAPTOP, "d", 5L);
+		when(repository.findAllById(anyCollection())).thenReturn(List.of(first, second));
+		when(repository.findIdsByNameKeyIn(anyCollection())).thenReturn(List.<Object[]>of(new Object[] { 9L, "owned" }));
+		doAnswer(inv -> {
+			first.setVersion(first.getVersion() + 1);
+			return null;
+		}).when(entityManager).flush();
+
+		BatchResponse response = service.updateProducts(List.of(
+				new ProductBatchUpdateRequest(1L, 3L, request("New One")),
+				new ProductBatchUpdateRequest(2L, 4L, request("New Two")),
+				new ProductBatchUpdateRequest(3L, null, request("New Three")),
+				new ProductBatchUpdateRequest(1L, null, request("Again One")),
+				new ProductBatchUpdateRequest(null, null, request("No Id")),
+				new ProductBatchUpdateRequest(2L, null, request("owned"))));
+
+		List<BatchItemResult> items = response.getItems();
+		assertTrue(items.get(0).isSuccess());
+		assertEquals(4L, items.get(0).getVersion());
+		assertEquals("New One", first.getName());
+		assertEquals("Sản phẩm đã bị thay đổi, vui lòng tải lại trước khi cập nhật", items.get(1).getMessage());
+		assertEquals("Product with id 3 not found!", items.get(2).getMessage());
+		assertEquals("Sản phẩm xuất hiện nhiều lần trong lô", items.get(3).getMessage());
+		assertEquals("Thiếu id sản phẩm", items.get(4).getMessage());
+		assertFalse(items.get(5).isSuccess());
+		assertEquals("Old Two", second.getName());
+		verify(eventPublisher).publishEvent(argThat((ProductsChangedEvent event) -> event.changes().size() == 1));
+	}
+
+	@Test
+	@DisplayName("Delete - Existing And Missing Ids - One Bulk Delete")
+	void deleteProducts_MixedIds_SingleBulkDelete() {
+		Product product = new Product(1L, "Laptop", 10.0, 1, Categories.LAPTOP, "d", 0L);
+		when(repository.findAllById(anyCollection())).thenReturn(List.of(product));
+
+		BatchResponse response = service.deleteProducts(List.of(1L, 2L, 1L));
+
+		assertEquals(1, response.getSucceeded());
+		assertNull(response.getItems().get(0).getMessage());
+		assertEquals("Product with id 2 not found!", response.getItems().get(1).getMessage());
+		assertFalse(response.getItems().get(2).isSuccess());
+		verify(repository).deleteAllByIdInBatch(Set.of(1L));
+		verify(repository, never()).delete(any(Product.class));
+		verify(eventPublisher).publishEvent(argThat((ProductsChangedEvent event) -> event.changes().size() == 1));
+	}
+
+	@Test
+	@DisplayName("Create - Name Taken Concurrently At Flush - Resource Already Exists")
+	void createProducts_UniqueViolationAtFlush_ThrowsAlreadyExists() {
+		when(repository.findIdsByNameKeyIn(anyCollection())).thenReturn(List.of());
+		doThrow(new ConstraintViolationException("duplicate", new SQLException("duplicate"),
+				ConstraintViolationException.ConstraintKind.UNIQUE, "uk_products_name_key")).when(entityManager).flush();
+
+		assertThrows(ResourceAlreadyExistsException.class, () -> service.createProducts(List.of(request("Laptop"))));
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	@DisplayName("Update - Row Changed Concurrently At Flush - Optimistic Locking Failure")
+	void updateProducts_StaleRowAtFlush_ThrowsOptimisticLockingFailure() {
+		Product product = new Product(1L, "Old One", 10.0, 1, Categories.LAPTOP, "d", 3L);
+		when(repository.findAllById(anyCollection())).thenReturn(List.of(product));
+		when(repository.findIdsByNameKeyIn(anyCollection())).thenReturn(List.of());
+		doThrow(new OptimisticLockException("stale")).when(entityManager).flush();
+
+		assertThrows(OptimisticLockingFailureException.class, () -> service.updateProducts(
+				List.of(new ProductBatchUpdateRequest(1L, 3L, request("New One")))));
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	@DisplayName("Create - Accent Variants Of A Stored Or Batched Name - Reported Per Item")
+	void createProducts_AccentVariants_ReportedPerItem() {
+		// The accent-insensitive index matches "máy in canon" for the key "may in canon"
+		when(repository.findIdsByNameKeyIn(anyCollection()))
+				.thenReturn(List.<Object[]>of(new Object[] { 8L, "máy in canon" }));
+
+		BatchResponse response = service.createProducts(List.of(request("May in Canon"), request("Bàn phím"),
+				request("Ban Phim")));
+
+		List<BatchItemResult> items = response.getItems();
+		assertEquals("Product name already exists!", items.get(0).getMessage());
+		assertTrue(items.get(1).isSuccess());
+		assertEquals("Tên sản phẩm bị trùng trong lô", items.get(2).getMessage());
+		verify(entityManager, times(1)).persist(any(Product.class));
+	}
+}
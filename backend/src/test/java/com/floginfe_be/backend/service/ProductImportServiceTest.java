@@ -0,0 +1,233 @@
+package com.floginfe_be.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.floginfe_be.backend.cache.ProductCache;
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.constants.ExportFormat;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.dto.response.ImportRowError;
+import com.floginfe_be.backend.dto.response.ImportSummary;
+import com.floginfe_be.backend.entity.Product;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductsChangedEvent;
+import com.floginfe_be.backend.importer.ImportRow;
+import com.floginfe_be.backend.importer.ProductImportReader;
+import com.floginfe_be.backend.mapper.ProductMapperImpl;
+import com.floginfe_be.backend.repository.ProductRepository;
+import com.floginfe_be.backend.service.impl.ProductImportServiceImpl;
+
+import jakarta.persistence.EntityManager;
+
+@DisplayName("Product Import Service Unit Testing")
+class ProductImportServiceTest {
+
+	@Mock
+	private ProductRepository repository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Mock
+	private TransactionOperations transactions;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final AtomicLong nextId = new AtomicLong(100);
+
+	@BeforeEach
+	void setup() {
+		MockitoAnnotations.openMocks(this);
+		doAnswer(inv -> {
+			Product product = inv.getArgument(0);
+			product.setId(nextId.getAndIncrement());
+			product.setVersion(0L);
+			return null;
+		}).when(entityManager).persist(any(Product.class));
+		doAnswer(ProductImportServiceTest::runCallback).when(transactions).execute(any());
+	}
+
+	private static Object runCallback(InvocationOnMock inv) {
+		return TransactionOperations.withoutTransaction().execute(inv.<TransactionCallback<?>>getArgument(0));
+	}
+
+	private ProductImportServiceImpl service(int chunkSize, int queueCapacity) {
+		return new ProductImportServiceImpl(repository, new ProductMapperImpl(),
+				new ProductCache(100, Duration.ofMinutes(1), Duration.ofSeconds(10)), eventPublisher, entityManager,
+				transactions, objectMapper, chunkSize, queueCapacity);
+	}
+
+	@Test
+	@DisplayName("Import - Mixed Rows - Upserts By Name In Chunks And Reports Rejected Rows")
+	void import_MixedRows_UpsertsAndReports() throws IOException {
+		Product existing = new Product(7L, "Laptop Dell", 1000.0, 1, Categories.LAPTOP, "old", 3L);
+		when(repository.findByNameKeyIn(anyCollection())).thenReturn(List.of(existing), List.of());
+		String csv = "name,price,quantity,category,description\n"
+				+ "laptop dell,2000,4,LAPTOP,new\n"
+				+ "Chuột,10,1,ACCESSORY,\n"
+				+ "X,10,1,ACCESSORY,\n"
+				+ "Bàn phím,10,1,ACCESSORY,\n"
+				+ "Bàn Phím,20,2,ACCESSORY,\n";
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		ImportSummary summary = service(3, 1).importProducts(reader(ExportFormat.CSV, csv), out);
+
+		assertEquals(new ImportSummary(5, 2, 2, 1), summary);
+		assertEquals(2000.0, existing.getPrice());
+		assertEquals("laptop dell", existing.getName());
+		verify(repository, times(2)).findByNameKeyIn(anyCollection());
+		verify(transactions, times(2)).execute(any());
+		// "Bàn Phím" updates the product "Bàn phím" created earlier in the same chunk
+		ArgumentCaptor<Product> persisted = ArgumentCaptor.forClass(Product.class);
+		verify(entityManager, times(2)).persist(persisted.capture());
+		assertEquals(20.0, persisted.getAllValues().get(1).getPrice());
+
+		// One event per committed chunk
+		ArgumentCaptor<ProductsChangedEvent> events = ArgumentCaptor.forClass(ProductsChangedEvent.class);
+		verify(eventPublisher, times(2)).publishEvent(events.capture());
+		List<ProductChangedEvent> changes = events.getAllValues().stream()
+				.flatMap(event -> event.changes().stream())
+				.toList();
+		assertEquals(3, changes.size());
+		assertEquals(2, changes.stream().filter(e -> e.before() == null).count());
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(2, lines.length);
+		assertEquals(new ImportRowError(4, "X", "Tên sản phẩm phải từ 3 đến 100 ký tự"),
+				objectMapper.readValue(lines[0], ImportRowError.class));
+		assertEquals(summary, objectMapper.readValue(lines[1], ImportSummary.class));
+		assertEquals('{', lines[1].charAt(0));
+	}
+
+	@Test
+	@DisplayName("Import - Accent Variant Of A Stored Name - Updates That Product")
+	void import_AccentVariant_UpdatesExisting() throws IOException {
+		Product existing = new Product(8L, "Máy in Canon", 1000.0, 1, Categories.PRINTER, "old", 2L);
+		when(repository.findByNameKeyIn(anyCollection())).thenReturn(List.of(existing));
+
+		ImportSummary summary = service(10, 1).importProducts(
+				reader(ExportFormat.NDJSON, line("May in Canon")), new ByteArrayOutputStream());
+
+		assertEquals(new ImportSummary(1, 0, 1, 0), summary);
+		assertEquals("May in Canon", existing.getName());
+		verify(entityManager, times(0)).persist(any(Product.class));
+	}
+
+	static Stream<RuntimeException> chunkFailures() {
+		return Stream.of(new DataIntegrityViolationException("duplicate"),
+				new TransactionSystemException("commit failed"),
+				new IllegalArgumentException("unexpected value"));
+	}
+
+	@ParameterizedTest
+	@MethodSource("chunkFailures")
+	@DisplayName("Import - Chunk Fails To Commit - Its Rows Reported, Later Chunks Still Written")
+	void import_ChunkFails_ReportedAndContinues(RuntimeException failure) throws IOException {
+		when(repository.findByNameKeyIn(anyCollection())).thenReturn(List.of());
+		doThrow(failure)
+				.doAnswer(ProductImportServiceTest::runCallback)
+				.when(transactions).execute(any());
+		String ndjson = line("Laptop A") + line("Laptop B") + line("Laptop C");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		ImportSummary summary = service(2, 2).importProducts(reader(ExportFormat.NDJSON, ndjson), out);
+
+		assertEquals(new ImportSummary(3, 1, 0, 2), summary);
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(3, lines.length);
+		assertEquals(1, objectMapper.readValue(lines[0], ImportRowError.class).getLine());
+		assertEquals(2, objectMapper.readValue(lines[1], ImportRowError.class).getLine());
+	}
+
+	@Test
+	@DisplayName("Import - Slow Writer - Parser Stops Reading Once The Queue Is Full")
+	void import_SlowWriter_BoundsRowsInFlight() throws Exception {
+		when(repository.findByNameKeyIn(anyCollection())).thenReturn(List.of());
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		doAnswer(inv -> {
+			writing.countDown();
+			release.await();
+			return runCallback(inv);
+		}).when(transactions).execute(any());
+		AtomicInteger read = new AtomicInteger();
+		ProductImportReader reader = new ProductImportReader() {
+			@Override
+			public ImportRow next() {
+				int line = read.incrementAndGet();
+				return line > 100 ? null
+						: ImportRow.valid(line, new ProductRequest("Product " + line, 10.0, 1, Categories.LAPTOP, null));
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		List<ImportSummary> result = new ArrayList<>();
+		Thread importer = Thread.ofPlatform().start(() -> {
+			try {
+				result.add(service(10, 2).importProducts(reader, new ByteArrayOutputStream()));
+			} catch (IOException e) {
+				throw new RuntimeException(e);
+			}
+		});
+
+		assertTrue(writing.await(5, TimeUnit.SECONDS));
+		Thread.sleep(200);
+		// One chunk being written, two queued and one waiting to be queued
+		assertTrue(read.get() <= 4 * 10 + 1, "rows read while the writer is blocked: " + read.get());
+
+		release.countDown();
+		importer.join(5000);
+		assertEquals(new ImportSummary(100, 100, 0, 0), result.get(0));
+	}
+
+	private static String line(String name) {
+		return "{\"name\":\"" + name + "\",\"price\":10,\"quantity\":1,\"category\":\"LAPTOP\"}\n";
+	}
+
+	private ProductImportReader reader(ExportFormat format, String content) throws IOException {
+		return ProductImportReader.create(format, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+				objectMapper);
+	}
+}
@@ -2,11 +2,15 @@ package com.floginfe_be.backend.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,17 +18,32 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 
+import com.floginfe_be.backend.cache.ProductCache;
+import com.floginfe_be.backend.catalog.ProductColumnarEngine;
+import com.floginfe_be.backend.catalog.ProductCountStatistics;
+import com.floginfe_be.backend.catalog.ProductFacetIndex;
+import com.floginfe_be.backend.catalog.ProductNameFilter;
+import com.floginfe_be.backend.catalog.ProductNameIndex;
 import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.constants.CountMode;
 import com.floginfe_be.backend.dto.request.ProductFilterRequest;
 import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.dto.response.PagedResponse;
+import com.floginfe_be.backend.dto.response.ProductFacetsResponse;
 import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.dto.response.SliceResponse;
 import com.floginfe_be.backend.entity.Product;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.event.ProductState;
 import com.floginfe_be.backend.exception.ResourceAlreadyExistsException;
 import com.floginfe_be.backend.exception.ResourceNotFoundException;
 import com.floginfe_be.backend.mapper.ProductMapper;
@@ -40,12 +59,34 @@ class ProductServiceMockTest {
 	@Mock
 	private ProductMapper mapper;
 
+	@Spy
+	private ProductCache productCache = new ProductCache(100, Duration.ofMinutes(1), Duration.ofSeconds(10));
+
+	@Mock
+	private ProductCountStatistics countStatistics;
+
+	@Mock
+	private ProductNameIndex nameIndex;
+
+	@Mock
+	private ProductNameFilter nameFilter;
+
+	@Mock
+	private ProductColumnarEngine columnarEngine;
+
+	@Mock
+	private ProductFacetIndex facetIndex;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private ProductServiceImpl service;
 
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
+		when(nameFilter.mightExist(anyString())).thenReturn(true);
 	}
 
 	// -----------------------------------------------------------
@@ -59,16 +100,16 @@ class ProductServiceMockTest {
 		Product saved = new Product(1L, "Laptop Dell", 1500.0, 10, Categories.LAPTOP, "description");
 
 		when(mapper.toEntity(req)).thenReturn(entity);
-		when(repository.existsByNameIgnoreCase("Laptop Dell")).thenReturn(false);
-		when(repository.save(entity)).thenReturn(saved);
+		when(repository.existsByNameKey("laptop dell")).thenReturn(false);
+		when(repository.saveAndFlush(entity)).thenReturn(saved);
 		when(mapper.toDto(saved))
 				.thenReturn(new ProductDto(1L, "Laptop Dell", 1500.0, 10, Categories.LAPTOP, "description"));
 
 		service.createProduct(req);
 
 		// Verify repository interactions
-		verify(repository).existsByNameIgnoreCase("Laptop Dell");
-		verify(repository).save(entity);
+		verify(repository).existsByNameKey("laptop dell");
+		verify(repository).saveAndFlush(entity);
 	}
 
 	@Test
@@ -78,12 +119,12 @@ class ProductServiceMockTest {
 		Product entity = new Product(null, "Laptop Dell", 1500.0, 10, Categories.LAPTOP, "description");
 
 		when(mapper.toEntity(req)).thenReturn(entity);
-		when(repository.existsByNameIgnoreCase("Laptop Dell")).thenReturn(true);
+		when(repository.existsByNameKey("laptop dell")).thenReturn(true);
 
 		assertThrows(ResourceAlreadyExistsException.class, () -> service.createProduct(req));
 
 		// Verify repository save was never called
-		verify(repository, never()).save(any());
+		verify(repository, never()).saveAndFlush(any());
 	}
 
 	// -----------------------------------------------------------
@@ -92,79 +133,117 @@ class ProductServiceMockTest {
 	@Test
 	@DisplayName("Get Product By ID - Exists - Calls Repository")
 	void getProductById_Exists_CallsRepository() {
-		Product product = new Product(1L, "Laptop", 1000.0, 3, Categories.LAPTOP, "description");
-		when(repository.findById(1L)).thenReturn(Optional.of(product));
-		when(mapper.toDto(product))
-				.thenReturn(new ProductDto(1L, "Laptop", 1000.0, 3, Categories.LAPTOP, "description"));
+		when(repository.findDtoById(1L))
+				.thenReturn(Optional.of(new ProductDto(1L, "Laptop", 1000.0, 3, Categories.LAPTOP, "description")));
 
 		service.getProductById(1L);
 
-		verify(repository).findById(1L);
+		verify(repository).findDtoById(1L);
+		verify(repository, never()).findById(any());
 	}
 
 	@Test
 	@DisplayName("Get Product By ID - Not Exists - Throws Exception")
 	void getProductById_NotFound_Throws() {
-		when(repository.findById(99L)).thenReturn(Optional.empty());
+		when(repository.findDtoById(99L)).thenReturn(Optional.empty());
 
 		assertThrows(ResourceNotFoundException.class, () -> service.getProductById(99L));
 
-		verify(repository).findById(99L);
+		verify(repository).findDtoById(99L);
+	}
+
+	@Test
+	@DisplayName("Get Product By ID - Repeated Lookup - Served From Cache")
+	void getProductById_Repeated_HitsRepositoryOnce() {
+		when(repository.findDtoById(1L))
+				.thenReturn(Optional.of(new ProductDto(1L, "Laptop", 1000.0, 3, Categories.LAPTOP, "description")));
+
+		service.getProductById(1L);
+		service.getProductById(1L);
+
+		verify(repository, times(1)).findDtoById(1L);
+		assertEquals(1, productCache.stats().getHitCount());
+	}
+
+	@Test
+	@DisplayName("Get Product By ID - Repeated Missing Id - Not Found Is Cached")
+	void getProductById_RepeatedMissing_HitsRepositoryOnce() {
+		when(repository.findDtoById(99L)).thenReturn(Optional.empty());
+
+		assertThrows(ResourceNotFoundException.class, () -> service.getProductById(99L));
+		assertThrows(ResourceNotFoundException.class, () -> service.getProductById(99L));
+
+		verify(repository, times(1)).findDtoById(99L);
+		assertEquals(2, productCache.stats().getNegativeHitCount());
+	}
+
+	@Test
+	@DisplayName("Update Product - Cached Product - Writes Without Reading And Evicts Entry")
+	void updateProduct_Cached_EvictsEntry() {
+		Long id = 1L;
+		ProductRequest req = new ProductRequest("New Name", 2000.0, 5, Categories.LAPTOP, "description");
+
+		when(repository.findDtoById(id))
+				.thenReturn(Optional.of(new ProductDto(1L, "Old", 1000.0, 3, Categories.LAPTOP, "description", 0L)));
+		when(repository.updateIfVersion(eq(id), eq(0L), any(), any(), any(), any(), any(), any())).thenReturn(1);
+
+		service.getProductById(id);
+		service.updateProduct(id, req);
+		service.getProductById(id);
+
+		verify(repository, times(2)).findDtoById(id);
 	}
 
 	// -----------------------------------------------------------
 	// UPDATE
 	// -----------------------------------------------------------
 	@Test
-	@DisplayName("Update Product - Valid - Calls Repository Save")
+	@DisplayName("Update Product - Valid - Issues One Conditional Update")
 	void updateProduct_Valid_CallsRepository() {
 		Long id = 1L;
 		ProductRequest req = new ProductRequest("New Name", 2000.0, 5, Categories.LAPTOP, "description");
-		Product existing = new Product(1L, "Old", 1000.0, 3, Categories.LAPTOP, "description");
-
-		when(repository.findById(id)).thenReturn(Optional.of(existing));
-		when(repository.existsByNameIgnoreCaseAndIdNot("New Name", id)).thenReturn(false);
-		when(repository.save(existing)).thenReturn(existing);
-		doAnswer(inv -> {
-			ProductRequest r = inv.getArgument(0);
-			Product p = inv.getArgument(1);
-			p.setName(r.getName());
-			p.setPrice(r.getPrice());
-			p.setQuantity(r.getQuantity());
-			p.setCategory(r.getCategory());
-			return null;
-		}).when(mapper).updateEntityFromDto(req, existing);
+
+		when(repository.findDtoById(id))
+				.thenReturn(Optional.of(new ProductDto(1L, "Old", 1000.0, 3, Categories.LAPTOP, "description", 0L)));
+		when(repository.existsByNameKeyAndIdNot("new name", id)).thenReturn(false);
+		when(repository.updateIfVersion(id, 0L, "New Name", "new name", 2000.0, 5, Categories.LAPTOP, "description"))
+				.thenReturn(1);
 
 		service.updateProduct(id, req);
 
-		verify(repository).findById(id);
-		verify(repository).existsByNameIgnoreCaseAndIdNot("New Name", id);
-		verify(repository).save(existing);
+		verify(repository).findDtoById(id);
+		verify(repository).existsByNameKeyAndIdNot("new name", id);
+		verify(repository).updateIfVersion(id, 0L, "New Name", "new name", 2000.0, 5, Categories.LAPTOP,
+				"description");
+		verify(repository, never()).findById(any());
 	}
 
 	// -----------------------------------------------------------
 	// DELETE
 	// -----------------------------------------------------------
 	@Test
-	@DisplayName("Delete Product - Exists - Calls Repository Delete")
+	@DisplayName("Delete Product - Exists - Issues One Conditional Delete")
 	void deleteProduct_Exists_CallsRepository() {
-		when(repository.existsById(1L)).thenReturn(true);
+		when(repository.findDtoById(1L))
+				.thenReturn(Optional.of(new ProductDto(1L, "Laptop", 1000.0, 3, Categories.LAPTOP, "description", 0L)));
+		when(repository.deleteIfVersion(1L, 0L)).thenReturn(1);
 
 		service.deleteProduct(1L);
 
-		verify(repository).existsById(1L);
-		verify(repository).deleteById(1L);
+		verify(repository).findDtoById(1L);
+		verify(repository).deleteIfVersion(1L, 0L);
+		verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
 	}
 
 	@Test
 	@DisplayName("Delete Product - Not Exists - Throws Exception")
 	void deleteProduct_NotExists_Throws() {
-		when(repository.existsById(99L)).thenReturn(false);
+		when(repository.findDtoById(99L)).thenReturn(Optional.empty());
 
 		assertThrows(ResourceNotFoundException.class, () -> service.deleteProduct(99L));
 
-		verify(repository).existsById(99L);
-		verify(repository, never()).deleteById(any());
+		verify(repository).findDtoById(99L);
+		verify(repository, never()).deleteIfVersion(any(), any());
 	}
 
 	// -----------------------------------------------------------
@@ -176,14 +255,111 @@ class ProductServiceMockTest {
 		ProductFilterRequest filter = new ProductFilterRequest();
 		Pageable pageable = PageRequest.of(0, 10);
 
-		Product p = new Product(1L, "Laptop", 1000.0, 10, Categories.LAPTOP, "description");
-		Page<Product> page = new PageImpl<>(List.of(p));
+		ProductDto p = new ProductDto(1L, "Laptop", 1000.0, 10, Categories.LAPTOP, "description");
+		Page<ProductDto> page = new PageImpl<>(List.of(p));
 
-		when(repository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
-		when(mapper.toDto(p)).thenReturn(new ProductDto(1L, "Laptop", 1000.0, 10, Categories.LAPTOP, "description"));
+		when(repository.findAllDtos(any(Specification.class), eq(pageable))).thenReturn(page);
 
 		service.getAllProducts(filter, pageable);
 
-		verify(repository).findAll(any(Specification.class), eq(pageable));
+		verify(repository).findAllDtos(any(Specification.class), eq(pageable));
+		verify(mapper, never()).toDto(any());
+	}
+
+	@Test
+	@DisplayName("Get All Products - Estimated Count - Skips Count Query")
+	void getAllProducts_Estimated_UsesSlice() {
+		ProductFilterRequest filter = ProductFilterRequest.builder().category(Categories.LAPTOP).build();
+		Pageable pageable = PageRequest.of(0, 1);
+
+		ProductDto p = new ProductDto(1L, "Laptop", 1000.0, 10, Categories.LAPTOP, "description");
+
+		when(countStatistics.isReady()).thenReturn(true);
+		when(countStatistics.estimate(filter)).thenReturn(OptionalLong.of(42));
+		when(repository.findDtoSlice(any(Specification.class), eq(pageable)))
+				.thenReturn(new SliceImpl<>(List.of(p), pageable, true));
+
+		PagedResponse<ProductDto> result = service.getAllProducts(filter, pageable, CountMode.ESTIMATED);
+
+		assertEquals(42, result.getTotalElements());
+		assertEquals(42, result.getTotalPages());
+		assertTrue(result.isEstimated());
+		verify(repository, never()).findAllDtos(any(Specification.class), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("Get All Products - Estimated Count On Last Page - Exact Total")
+	void getAllProducts_EstimatedLastPage_ReturnsExactTotal() {
+		ProductFilterRequest filter = new ProductFilterRequest();
+		Pageable pageable = PageRequest.of(2, 10);
+
+		ProductDto p = new ProductDto(21L, "Laptop", 1000.0, 10, Categories.LAPTOP, "description");
+
+		when(countStatistics.isReady()).thenReturn(true);
+		when(repository.findDtoSlice(any(Specification.class), eq(pageable)))
+				.thenReturn(new SliceImpl<>(List.of(p), pageable, false));
+
+		PagedResponse<ProductDto> result = service.getAllProducts(filter, pageable, CountMode.ESTIMATED);
+
+		assertEquals(21, result.getTotalElements());
+		assertFalse(result.isEstimated());
+		verify(countStatistics, never()).estimate(any());
+	}
+
+	@Test
+	@DisplayName("Get Product Slice - No Count - Returns HasNext Only")
+	void getProductSlice_ReturnsSlice() {
+		Pageable pageable = PageRequest.of(0, 1);
+		ProductDto p = new ProductDto(1L, "Laptop", 1000.0, 10, Categories.LAPTOP, "description");
+
+		when(repository.findDtoSlice(any(Specification.class), eq(pageable)))
+				.thenReturn(new SliceImpl<>(List.of(p), pageable, true));
+
+		SliceResponse<ProductDto> result = service.getProductSlice(new ProductFilterRequest(), pageable);
+
+		assertTrue(result.isHasNext());
+		assertEquals(1, result.getItems().size());
+		verify(repository, never()).findAllDtos(any(Specification.class), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("Get All Products - Columnar Engine Ready - Served Without Query")
+	void getAllProducts_Columnar_ServedFromMemory() {
+		ProductFilterRequest filter = new ProductFilterRequest();
+		Pageable pageable = PageRequest.of(0, 2);
+		ProductDto p2 = new ProductDto(2L, "Laptop", 1000.0, 10, Categories.LAPTOP, "description");
+		ProductDto p1 = new ProductDto(1L, "Desktop", 2000.0, 5, Categories.DESKTOP, "description");
+
+		when(columnarEngine.isReady()).thenReturn(true);
+		when(columnarEngine.query(filter, pageable))
+				.thenReturn(Optional.of(new ProductColumnarEngine.Result(List.of(2L, 1L), 7)));
+		when(repository.findDtosByIdIn(any())).thenReturn(List.of(p1, p2));
+
+		PagedResponse<ProductDto> first = service.getAllProducts(filter, pageable, CountMode.EXACT);
+		PagedResponse<ProductDto> second = service.getAllProducts(filter, pageable, CountMode.EXACT);
+
+		assertEquals(List.of(2L, 1L), first.getItems().stream().map(ProductDto::getId).toList());
+		assertEquals(7, first.getTotalElements());
+		assertEquals(4, first.getTotalPages());
+		assertEquals(first.getItems(), second.getItems());
+		// Second page load is served from the product cache
+		verify(repository, times(1)).findDtosByIdIn(any());
+		verify(repository, never()).findAllDtos(any(Specification.class), any(Pageable.class));
+	}
+
+	@Test
+	@DisplayName("Get Facets - Index Not Loaded - Counts From Database Stream")
+	void getFacets_IndexNotLoaded_StreamsRepository() {
+		ProductFilterRequest filter = ProductFilterRequest.builder().category(Categories.LAPTOP).build();
+		when(facetIndex.facets(filter)).thenReturn(Optional.empty());
+		when(repository.streamAllStates()).thenReturn(Stream.of(
+				new ProductState(1L, "Laptop Dell", 600_000.0, 20, Categories.LAPTOP),
+				new ProductState(2L, "iPhone 14", 1_200_000.0, 8, Categories.SMARTPHONE)));
+
+		ProductFacetsResponse result = service.getFacets(filter);
+
+		assertEquals(1, result.getTotal());
+		assertEquals(1, result.getCategories().get(Categories.SMARTPHONE.ordinal()).getCount());
+		verify(repository).streamAllStates();
 	}
 }
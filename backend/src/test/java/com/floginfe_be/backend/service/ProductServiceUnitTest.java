@@ -2,18 +2,26 @@ package com.floginfe_be.backend.service;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.sql.SQLException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,23 +30,38 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
-
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.floginfe_be.backend.cache.ProductCache;
+import com.floginfe_be.backend.catalog.ProductColumnarEngine;
+import com.floginfe_be.backend.catalog.ProductCountStatistics;
+import com.floginfe_be.backend.catalog.ProductFacetIndex;
+import com.floginfe_be.backend.catalog.ProductNameFilter;
+import com.floginfe_be.backend.catalog.ProductNameIndex;
 import com.floginfe_be.backend.constants.Categories;
 import com.floginfe_be.backend.dto.request.ProductFilterRequest;
 import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.dto.response.CursorPagedResponse;
 import com.floginfe_be.backend.dto.response.PagedResponse;
 import com.floginfe_be.backend.dto.response.ProductDto;
 import com.floginfe_be.backend.entity.Product;
+import com.floginfe_be.backend.event.ProductChangedEvent;
+import com.floginfe_be.backend.exception.PreconditionFailedException;
 import com.floginfe_be.backend.exception.ResourceAlreadyExistsException;
 import com.floginfe_be.backend.exception.ResourceNotFoundException;
 import com.floginfe_be.backend.mapper.ProductMapper;
 import com.floginfe_be.backend.repository.ProductRepository;
 import com.floginfe_be.backend.service.impl.ProductServiceImpl;
+import com.floginfe_be.backend.util.ProductCursor;
 
 @DisplayName("Product Service Unit Testing")
 class ProductServiceUnitTest {
@@ -49,12 +72,34 @@ class ProductServiceUnitTest {
 	@Mock
 	private ProductMapper mapper;
 
+	@Spy
+	private ProductCache productCache = new ProductCache(100, Duration.ofMinutes(1), Duration.ofSeconds(10));
+
+	@Mock
+	private ProductCountStatistics countStatistics;
+
+	@Mock
+	private ProductNameIndex nameIndex;
+
+	@Mock
+	private ProductNameFilter nameFilter;
+
+	@Mock
+	private ProductColumnarEngine columnarEngine;
+
+	@Mock
+	private ProductFacetIndex facetIndex;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private ProductServiceImpl service;
 
 	@BeforeEach
 	void setup() {
 		MockitoAnnotations.openMocks(this);
+		when(nameFilter.mightExist(anyString())).thenReturn(true);
 	}
 
 	// -----------------------------------------------------------
@@ -93,14 +138,14 @@ class ProductServiceUnitTest {
 		Product saved = new Product(1L, "Laptop Dell", 1500.0, 10, Categories.LAPTOP, "description");
 		ProductDto dto = new ProductDto(1L, "Laptop Dell", 1500.0, 10, Categories.LAPTOP, "description");
 		when(mapper.toEntity(req)).thenReturn(entity);
-		when(repository.existsByNameIgnoreCase("Laptop Dell")).thenReturn(false);
-		when(repository.save(entity)).thenReturn(saved);
+		when(repository.existsByNameKey("laptop dell")).thenReturn(false);
+		when(repository.saveAndFlush(entity)).thenReturn(saved);
 		when(mapper.toDto(saved)).thenReturn(dto);
 
 		ProductDto result = service.createProduct(req);
 
 		assertEquals(1L, result.getId());
-		verify(repository).save(entity);
+		verify(repository).saveAndFlush(entity);
 	}
 
 	@Test
@@ -111,10 +156,10 @@ class ProductServiceUnitTest {
 		Product entity = new Product(null, "Laptop Dell", 1500.0, 10, Categories.LAPTOP, "description");
 
 		when(mapper.toEntity(req)).thenReturn(entity);
-		when(repository.existsByNameIgnoreCase("Laptop Dell")).thenReturn(true);
+		when(repository.existsByNameKey("laptop dell")).thenReturn(true);
 
 		assertThrows(ResourceAlreadyExistsException.class, () -> service.createProduct(req));
-		verify(repository, never()).save(any());
+		verify(repository, never()).saveAndFlush(any());
 	}
 
 	// -----------------------------------------------------------
@@ -124,11 +169,9 @@ class ProductServiceUnitTest {
 	@DisplayName("PS-TC005: Get Product By ID - Exists - Returns DTO")
 	void getProductById_Exists_ReturnsDto() {
 
-		Product product = new Product(1L, "Laptop", 1000.0, 3, Categories.LAPTOP, "description");
 		ProductDto dto = new ProductDto(1L, "Laptop", 1000.0, 3, Categories.LAPTOP, "description");
 
-		when(repository.findById(1L)).thenReturn(Optional.of(product));
-		when(mapper.toDto(product)).thenReturn(dto);
+		when(repository.findDtoById(1L)).thenReturn(Optional.of(dto));
 
 		ProductDto result = service.getProductById(1L);
 
@@ -139,7 +182,7 @@ class ProductServiceUnitTest {
 	@DisplayName("PS-TC006: Get Product By ID - Not Exists - Throws ResourceNotFoundException")
 	void getProductById_NotFound_Throws() {
 
-		when(repository.findById(99L)).thenReturn(Optional.empty());
+		when(repository.findDtoById(99L)).thenReturn(Optional.empty());
 
 		ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> service.getProductById(99L));
 
@@ -156,13 +199,11 @@ class ProductServiceUnitTest {
 		ProductFilterRequest filter = new ProductFilterRequest();
 		Pageable pageable = PageRequest.of(0, 10);
 
-		Product p = new Product(1L, "Laptop", 1000.0, 10, Categories.LAPTOP, "description");
 		ProductDto dto = new ProductDto(1L, "Laptop", 1000.0, 10, Categories.LAPTOP, "description");
 
-		Page<Product> page = new PageImpl<>(List.of(p));
+		Page<ProductDto> page = new PageImpl<>(List.of(dto));
 
-		when(repository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
-		when(mapper.toDto(p)).thenReturn(dto);
+		when(repository.findAllDtos(any(Specification.class), eq(pageable))).thenReturn(page);
 
 		PagedResponse<ProductDto> result = service.getAllProducts(filter, pageable);
 
@@ -179,19 +220,70 @@ class ProductServiceUnitTest {
 
 		Pageable pageable = PageRequest.of(0, 10);
 
-		Product p = new Product(1L, "Laptop", 1000.0, 10, Categories.LAPTOP, "description");
 		ProductDto dto = new ProductDto(1L, "Laptop", 1000.0, 10, Categories.LAPTOP, "description");
 
-		Page<Product> page = new PageImpl<>(List.of(p));
+		Page<ProductDto> page = new PageImpl<>(List.of(dto));
 
-		when(repository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
-		when(mapper.toDto(p)).thenReturn(dto);
+		when(repository.findAllDtos(any(Specification.class), eq(pageable))).thenReturn(page);
 
 		PagedResponse<ProductDto> result = service.getAllProducts(filter, pageable);
 
 		assertEquals("Laptop", result.getItems().get(0).getName());
 	}
 
+	@Test
+	@DisplayName("PS-TC008b: Cursor Page - More Rows Than Size - Returns Next Cursor")
+	void getProductsAfter_MoreRows_ReturnsNextCursor() {
+
+		ProductFilterRequest filter = new ProductFilterRequest();
+		Pageable pageable = PageRequest.of(0, 2, Sort.by("price"));
+
+		ProductDto p1 = new ProductDto(1L, "Mouse", 100.0, 10, Categories.ACCESSORY, "description");
+		ProductDto p2 = new ProductDto(2L, "Keyboard", 200.0, 10, Categories.ACCESSORY, "description");
+		ProductDto p3 = new ProductDto(3L, "Monitor", 300.0, 10, Categories.MONITOR, "description");
+
+		when(repository.findDtos(any(Specification.class), any(Sort.class), eq(3))).thenReturn(List.of(p1, p2, p3));
+
+		CursorPagedResponse<ProductDto> result = service.getProductsAfter(filter, "", pageable);
+
+		assertEquals(2, result.getItems().size());
+		assertTrue(result.isHasNext());
+		ProductCursor next = ProductCursor.decode(result.getNextCursor(), Sort.Order.asc("price"));
+		assertEquals(200.0, next.value());
+		assertEquals(2L, next.id());
+	}
+
+	@Test
+	@DisplayName("PS-TC008c: Cursor Page - Last Page - No Next Cursor")
+	void getProductsAfter_LastPage_NoNextCursor() {
+
+		ProductFilterRequest filter = new ProductFilterRequest();
+		Pageable pageable = PageRequest.of(0, 2, Sort.by("price"));
+		String after = new ProductCursor("price", Sort.Direction.ASC, 200.0, 2L).encode();
+
+		ProductDto p3 = new ProductDto(3L, "Monitor", 300.0, 10, Categories.MONITOR, "description");
+
+		when(repository.findDtos(any(Specification.class), any(Sort.class), eq(3))).thenReturn(List.of(p3));
+
+		CursorPagedResponse<ProductDto> result = service.getProductsAfter(filter, after, pageable);
+
+		assertEquals(1, result.getItems().size());
+		assertFalse(result.isHasNext());
+		assertNull(result.getNextCursor());
+	}
+
+	@Test
+	@DisplayName("PS-TC008d: Cursor Page - Cursor From Other Sort - Throws IllegalArgumentException")
+	void getProductsAfter_MismatchedCursor_Throws() {
+
+		String after = new ProductCursor("price", Sort.Direction.ASC, 200.0, 2L).encode();
+		Pageable pageable = PageRequest.of(0, 2, Sort.by("quantity"));
+
+		assertThrows(IllegalArgumentException.class,
+				() -> service.getProductsAfter(new ProductFilterRequest(), after, pageable));
+		verify(repository, never()).findDtos(any(Specification.class), any(Sort.class), anyInt());
+	}
+
 	// -----------------------------------------------------------
 	// PS-TC009…TC010 – Update
 	// -----------------------------------------------------------
@@ -202,28 +294,15 @@ class ProductServiceUnitTest {
 		Long id = 1L;
 		ProductRequest req = new ProductRequest("New Name", 2000.0, 5, Categories.LAPTOP, "description");
 
-		Product existing = new Product(1L, "Old", 1000.0, 3, Categories.LAPTOP, "description");
-		Product saved = new Product(1L, "New Name", 2000.0, 5, Categories.LAPTOP, "description");
-		ProductDto dto = new ProductDto(1L, "New Name", 2000.0, 5, Categories.LAPTOP, "description");
-		when(repository.findById(id)).thenReturn(Optional.of(existing));
-		when(repository.existsByNameIgnoreCaseAndIdNot("New Name", id)).thenReturn(false);
-
-		doAnswer(inv -> {
-			ProductRequest r = inv.getArgument(0);
-			Product p = inv.getArgument(1);
-			p.setName(r.getName());
-			p.setPrice(r.getPrice());
-			p.setQuantity(r.getQuantity());
-			p.setCategory(r.getCategory());
-			return null;
-		}).when(mapper).updateEntityFromDto(req, existing);
-
-		when(repository.save(existing)).thenReturn(saved);
-		when(mapper.toDto(saved)).thenReturn(dto);
+		when(repository.findDtoById(id))
+				.thenReturn(Optional.of(new ProductDto(1L, "Old", 1000.0, 3, Categories.LAPTOP, "description", 2L)));
+		when(repository.updateIfVersion(id, 2L, "New Name", "new name", 2000.0, 5, Categories.LAPTOP, "description"))
+				.thenReturn(1);
 
 		ProductDto result = service.updateProduct(id, req);
 
-		assertEquals("New Name", result.getName());
+		assertEquals(new ProductDto(1L, "New Name", 2000.0, 5, Categories.LAPTOP, "description", 3L), result);
+		verify(repository).existsByNameKeyAndIdNot("new name", id);
 	}
 
 	@Test
@@ -232,20 +311,105 @@ class ProductServiceUnitTest {
 
 		Long id = 1L;
 		ProductRequest req = new ProductRequest("DupName", 1200.0, 3, Categories.LAPTOP, "description");
-		Product existing = new Product(1L, "Old", 1000.0, 3, Categories.LAPTOP, "description");
 
-		when(repository.findById(id)).thenReturn(Optional.of(existing));
-		when(repository.existsByNameIgnoreCaseAndIdNot("DupName", id)).thenReturn(true);
+		when(repository.findDtoById(id))
+				.thenReturn(Optional.of(new ProductDto(1L, "Old", 1000.0, 3, Categories.LAPTOP, "description", 0L)));
+		when(repository.existsByNameKeyAndIdNot("dupname", id)).thenReturn(true);
 
 		assertThrows(ResourceAlreadyExistsException.class, () -> service.updateProduct(id, req));
-		verify(repository, never()).save(any());
+		verify(repository, never()).updateIfVersion(any(), any(), any(), any(), any(), any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("PS-TC009c: Update Product - Same Name In Other Case - Skips Name Query")
+	void updateProduct_SameNameKey_SkipsExistsQuery() {
+
+		Long id = 1L;
+		ProductRequest req = new ProductRequest("  LAPTOP   dell ", 1200.0, 3, Categories.LAPTOP, "description");
+
+		when(repository.findDtoById(id)).thenReturn(
+				Optional.of(new ProductDto(1L, "Laptop Dell", 1000.0, 3, Categories.LAPTOP, "description", 0L)));
+		when(repository.updateIfVersion(eq(id), eq(0L), any(), eq("laptop dell"), any(), any(), any(), any()))
+				.thenReturn(1);
+
+		service.updateProduct(id, req);
+
+		verify(repository, never()).existsByNameKeyAndIdNot(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("PS-TC009d: Update Product - Cached Entry Is Stale - Reloads And Retries Once")
+	void updateProduct_StaleCache_RetriesWithFreshState() {
+
+		Long id = 1L;
+		ProductRequest req = new ProductRequest("Laptop", 1200.0, 3, Categories.LAPTOP, "description");
+		ProductDto cached = new ProductDto(1L, "Laptop", 1000.0, 3, Categories.LAPTOP, "description", 1L);
+		ProductDto fresh = new ProductDto(1L, "Laptop", 1100.0, 3, Categories.LAPTOP, "description", 4L);
+
+		when(repository.findDtoById(id)).thenReturn(Optional.of(cached), Optional.of(fresh));
+		when(repository.updateIfVersion(eq(id), eq(4L), any(), any(), any(), any(), any(), any())).thenReturn(1);
+		service.getProductById(id);
+
+		ProductDto result = service.updateProduct(id, req);
+
+		assertEquals(5L, result.getVersion());
+		verify(repository).updateIfVersion(eq(id), eq(1L), any(), any(), any(), any(), any(), any());
+		verify(repository, times(2)).findDtoById(id);
+	}
+
+	@Test
+	@DisplayName("PS-TC009e: Update Product - Concurrent Write Wins - Throws Optimistic Locking Failure")
+	void updateProduct_ConcurrentWrite_Throws() {
+
+		Long id = 1L;
+		ProductRequest req = new ProductRequest("Laptop", 1200.0, 3, Categories.LAPTOP, "description");
+		when(repository.findDtoById(id))
+				.thenReturn(Optional.of(new ProductDto(1L, "Laptop", 1000.0, 3, Categories.LAPTOP, "description", 1L)));
+
+		assertThrows(ObjectOptimisticLockingFailureException.class, () -> service.updateProduct(id, req));
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	@DisplayName("PS-TC001c: Create Product - Name Not In Filter - Skips Name Query")
+	void createProduct_NameFilterMiss_SkipsExistsQuery() {
+
+		ProductRequest req = new ProductRequest("Laptop Dell", 1500.0, 10, Categories.LAPTOP, "description");
+		Product entity = new Product(null, "Laptop Dell", 1500.0, 10, Categories.LAPTOP, "description");
+		Product saved = new Product(1L, "Laptop Dell", 1500.0, 10, Categories.LAPTOP, "description");
+
+		when(mapper.toEntity(req)).thenReturn(entity);
+		when(nameFilter.mightExist("laptop dell")).thenReturn(false);
+		when(repository.saveAndFlush(entity)).thenReturn(saved);
+
+		service.createProduct(req);
+
+		verify(repository, never()).existsByNameKey(anyString());
+		verify(repository).saveAndFlush(entity);
+	}
+
+	@Test
+	@DisplayName("PS-TC001d: Create Product - Unique Index Rejects Name - Throws ResourceAlreadyExistsException")
+	void createProduct_UniqueViolation_Throws() {
+
+		ProductRequest req = new ProductRequest("Laptop Dell", 1500.0, 10, Categories.LAPTOP, "description");
+		Product entity = new Product(null, "Laptop Dell", 1500.0, 10, Categories.LAPTOP, "description");
+
+		when(mapper.toEntity(req)).thenReturn(entity);
+		when(nameFilter.mightExist("laptop dell")).thenReturn(false);
+		when(repository.saveAndFlush(entity)).thenThrow(new DataIntegrityViolationException("duplicate",
+				new ConstraintViolationException("duplicate", new SQLException("duplicate", "23505"), null,
+						ConstraintViolationException.ConstraintKind.UNIQUE, "uk_products_name_key")));
+
+		assertThrows(ResourceAlreadyExistsException.class, () -> service.createProduct(req));
+		verify(eventPublisher, never()).publishEvent(any());
 	}
 
 	@Test
 	@DisplayName("PS-TC010: Update Product - Not Found - Throws ResourceNotFoundException")
 	void updateProduct_NotFound_Throws() {
 
-		when(repository.findById(99L)).thenReturn(Optional.empty());
+		when(repository.findDtoById(99L)).thenReturn(Optional.empty());
 
 		ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class,
 				() -> service.updateProduct(99L, new ProductRequest()));
@@ -253,6 +417,19 @@ class ProductServiceUnitTest {
 		assertEquals("Product with id 99 not found!", ex.getMessage());
 	}
 
+	@Test
+	@DisplayName("PS-TC010b: Update Product - Stale If-Match Version - Throws PreconditionFailedException")
+	void updateProduct_StaleVersion_Throws() {
+
+		when(repository.findDtoById(1L))
+				.thenReturn(Optional.of(new ProductDto(1L, "Old", 1000.0, 3, Categories.LAPTOP, "description", 5L)));
+		ProductRequest req = new ProductRequest("New", 1200.0, 3, Categories.LAPTOP, "description");
+
+		assertThrows(PreconditionFailedException.class, () -> service.updateProduct(1L, req, 4L));
+		verify(repository, never()).updateIfVersion(any(), any(), any(), any(), any(), any(), any(), any());
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
 	// -----------------------------------------------------------
 	// PS-TC011…TC012 – Delete
 	// -----------------------------------------------------------
@@ -260,21 +437,41 @@ class ProductServiceUnitTest {
 	@DisplayName("PS-TC011: Delete Product - Exists - Success")
 	void deleteProduct_Exists_Deletes() {
 
-		when(repository.existsById(1L)).thenReturn(true);
+		when(repository.findDtoById(1L))
+				.thenReturn(Optional.of(new ProductDto(1L, "Laptop", 1000.0, 3, Categories.LAPTOP, "description", 0L)));
+		when(repository.deleteIfVersion(1L, 0L)).thenReturn(1);
+
 		service.deleteProduct(1L);
-		verify(repository).deleteById(1L);
+
+		verify(repository).deleteIfVersion(1L, 0L);
+		verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
 	}
 
 	@Test
 	@DisplayName("PS-TC012: Delete Product - Not Exists - Throws ResourceNotFoundException")
 	void deleteProduct_NotExists_Throws() {
 
-		when(repository.existsById(99L)).thenReturn(false);
+		when(repository.findDtoById(99L)).thenReturn(Optional.empty());
 
 		ResourceNotFoundException ex = assertThrows(ResourceNotFoundException.class, () -> service.deleteProduct(99L));
 
 		assertEquals("Product with id 99 not found!", ex.getMessage());
-		verify(repository, never()).deleteById(any());
+		verify(repository, never()).deleteIfVersion(any(), any());
+	}
+
+	@Test
+	@DisplayName("PS-TC012b: Delete Product - Stale If-Match Version - Throws PreconditionFailedException")
+	void deleteProduct_StaleVersion_Throws() {
+
+		when(repository.findDtoById(1L))
+				.thenReturn(Optional.of(new ProductDto(1L, "Laptop", 1000.0, 3, Categories.LAPTOP, "description", 2L)));
+		when(repository.deleteIfVersion(1L, 2L)).thenReturn(1);
+
+		assertThrows(PreconditionFailedException.class, () -> service.deleteProduct(1L, 1L));
+		verify(repository, never()).deleteIfVersion(any(), any());
+
+		service.deleteProduct(1L, 2L);
+		verify(repository).deleteIfVersion(1L, 2L);
 	}
 
 	// -----------------------------------------------------------
@@ -290,8 +487,8 @@ class ProductServiceUnitTest {
 		Product entity = new Product(null, name, 100.0, 1, Categories.LAPTOP, "description");
 
 		when(mapper.toEntity(req)).thenReturn(entity);
-		when(repository.existsByNameIgnoreCase(name)).thenReturn(false);
-		when(repository.save(entity)).thenReturn(new Product(1L, name, 100.0, 1, Categories.LAPTOP, "description"));
+		when(repository.existsByNameKey(name.toLowerCase())).thenReturn(false);
+		when(repository.saveAndFlush(entity)).thenReturn(new Product(1L, name, 100.0, 1, Categories.LAPTOP, "description"));
 		assertDoesNotThrow(() -> service.createProduct(req));
 	}
 
@@ -302,8 +499,8 @@ class ProductServiceUnitTest {
 		Product entity = new Product(null, "Valid", 0.01, 0, Categories.LAPTOP, "description");
 
 		when(mapper.toEntity(req)).thenReturn(entity);
-		when(repository.existsByNameIgnoreCase("Valid")).thenReturn(false);
-		when(repository.save(entity)).thenReturn(new Product(1L, "Valid", 0.01, 0, Categories.LAPTOP, "description"));
+		when(repository.existsByNameKey("valid")).thenReturn(false);
+		when(repository.saveAndFlush(entity)).thenReturn(new Product(1L, "Valid", 0.01, 0, Categories.LAPTOP, "description"));
 
 		assertDoesNotThrow(() -> service.createProduct(req));
 	}
@@ -0,0 +1,161 @@
+package com.floginfe_be.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.floginfe_be.backend.cache.ProductCache;
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+import com.floginfe_be.backend.dto.response.ProductDto;
+import com.floginfe_be.backend.entity.Product;
+import com.floginfe_be.backend.exception.PreconditionFailedException;
+import com.floginfe_be.backend.exception.ResourceAlreadyExistsException;
+import com.floginfe_be.backend.exception.ResourceNotFoundException;
+import com.floginfe_be.backend.repository.ProductRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Counts the JDBC statements each write prepares. Before the conditional
+ * UPDATE / DELETE a create took 2 (name check + INSERT), an update 3 (load,
+ * name check, UPDATE) and a delete 2 (load + DELETE).
+ */
+@SpringBootTest(properties = { "spring.jpa.properties.hibernate.generate_statistics=true",
+		"spring.jpa.show-sql=false" })
+@DisplayName("Product Service - Statements Per Write")
+class ProductWriteStatementsTest {
+
+	@Autowired
+	private ProductService service;
+
+	@Autowired
+	private ProductRepository repository;
+
+	@Autowired
+	private ProductCache productCache;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	private final List<Long> created = new ArrayList<>();
+
+	private ProductDto product;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		// Also reserves a block of ids, so the creates below do not touch product_seq
+		product = create("Statement Count Laptop");
+		productCache.clear();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		repository.deleteAllByIdInBatch(created);
+	}
+
+	private ProductDto create(String name) {
+		ProductDto dto = service.createProduct(request(name));
+		created.add(dto.getId());
+		return dto;
+	}
+
+	private static ProductRequest request(String name) {
+		return new ProductRequest(name, 1000.0, 5, Categories.LAPTOP, "description");
+	}
+
+	private long statements(Runnable write) {
+		statistics.clear();
+		write.run();
+		return statistics.getPrepareStatementCount();
+	}
+
+	@Test
+	@DisplayName("Create - New Name - INSERT Only")
+	void create_NewName_OneStatement() {
+		assertEquals(1, statements(() -> create("Statement Count Phone")));
+	}
+
+	@Test
+	@DisplayName("Create - Taken Name - Name Check Only")
+	void create_TakenName_OneStatement() {
+		assertEquals(1, statements(() -> assertThrows(ResourceAlreadyExistsException.class,
+				() -> service.createProduct(request("statement count LAPTOP")))));
+	}
+
+	@Test
+	@DisplayName("Update - Cached Product - Conditional UPDATE Only")
+	void update_Cached_OneStatement() {
+		service.getProductById(product.getId());
+
+		assertEquals(1, statements(() -> service.updateProduct(product.getId(), request("Statement Count Tablet"),
+				product.getVersion())));
+		assertEquals(product.getVersion() + 1, service.getProductById(product.getId()).getVersion());
+	}
+
+	@Test
+	@DisplayName("Update - Uncached Product - Projection Read And UPDATE")
+	void update_Uncached_TwoStatements() {
+		assertEquals(2, statements(() -> service.updateProduct(product.getId(), request("Statement Count Laptop"),
+				null)));
+	}
+
+	@Test
+	@DisplayName("Update - Stale If-Match - Projection Read Only")
+	void update_StaleVersion_NoWrite() {
+		assertEquals(1, statements(() -> assertThrows(PreconditionFailedException.class,
+				() -> service.updateProduct(product.getId(), request("Statement Count Laptop"), 99L))));
+	}
+
+	@Test
+	@DisplayName("Update - Name Taken Without The Name Filter Knowing - Rejected By Unique Index")
+	void update_NameTakenBehindFilter_AlreadyExists() {
+		// Saved through the repository, so no change event reaches the name filter
+		Product hidden = repository.saveAndFlush(
+				new Product(null, "Statement Count Hidden", 10.0, 1, Categories.LAPTOP, "description"));
+		created.add(hidden.getId());
+
+		assertThrows(ResourceAlreadyExistsException.class,
+				() -> service.updateProduct(product.getId(), request(" statement count  HIDDEN"), null));
+		assertEquals(product.getName(), service.getProductById(product.getId()).getName());
+	}
+
+	@Test
+	@DisplayName("Delete - Cached Product - Conditional DELETE Only")
+	void delete_Cached_OneStatement() {
+		service.getProductById(product.getId());
+
+		assertEquals(1, statements(() -> service.deleteProduct(product.getId(), null)));
+		assertFalse(repository.existsById(product.getId()));
+	}
+
+	@Test
+	@DisplayName("Delete - Uncached Product - Projection Read And DELETE")
+	void delete_Uncached_TwoStatements() {
+		assertEquals(2, statements(() -> service.deleteProduct(product.getId(), product.getVersion())));
+	}
+
+	@Test
+	@DisplayName("Delete - Missing Product - Single Read, None Once Cached As Missing")
+	void delete_Missing_ReadOnce() {
+		assertEquals(1, statements(() -> assertThrows(ResourceNotFoundException.class,
+				() -> service.deleteProduct(-1L, null))));
+		assertEquals(0, statements(() -> assertThrows(ResourceNotFoundException.class,
+				() -> service.deleteProduct(-1L, null))));
+	}
+}
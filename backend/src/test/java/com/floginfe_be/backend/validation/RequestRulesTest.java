@@ -0,0 +1,101 @@
+package com.floginfe_be.backend.validation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.floginfe_be.backend.constants.Categories;
+import com.floginfe_be.backend.dto.request.LoginRequest;
+import com.floginfe_be.backend.dto.request.ProductRequest;
+
+@DisplayName("Request Rules - Validation Message Tests")
+class RequestRulesTest {
+
+	private static ProductRequest product(String name, Double price, Integer quantity, Categories category,
+			String description) {
+		return new ProductRequest(name, price, quantity, category, description);
+	}
+
+	private static LoginRequest login(String username, String password) {
+		LoginRequest request = new LoginRequest();
+		request.setUsername(username);
+		request.setPassword(password);
+		return request;
+	}
+
+	@Test
+	@DisplayName("Product - First Failing Rule Reported In Order")
+	void product_FirstFailingRule() {
+		assertNull(RequestRules.PRODUCT.validate(product("Laptop", 100.0, 0, Categories.LAPTOP, null)));
+		assertEquals("Tên sản phẩm không được để trống",
+				RequestRules.PRODUCT.validate(product("   ", -1.0, -1, null, null)));
+		assertEquals("Tên sản phẩm phải từ 3 đến 100 ký tự",
+				RequestRules.PRODUCT.validate(product("TV", -1.0, 1, Categories.LAPTOP, null)));
+		assertEquals("Tên sản phẩm phải từ 3 đến 100 ký tự",
+				RequestRules.PRODUCT.validate(product("x".repeat(101), 1.0, 1, Categories.LAPTOP, null)));
+		assertEquals("Giá sản phẩm phải là số dương",
+				RequestRules.PRODUCT.validate(product("Laptop", null, 1, Categories.LAPTOP, null)));
+		assertEquals("Giá sản phẩm phải <= 999.999.999",
+				RequestRules.PRODUCT.validate(product("Laptop", 1_000_000_000.0, 1, Categories.LAPTOP, null)));
+		assertEquals("Số lượng phải là số không âm",
+				RequestRules.PRODUCT.validate(product("Laptop", 1.0, -1, Categories.LAPTOP, null)));
+		assertEquals("Số lượng phải <= 99999",
+				RequestRules.PRODUCT.validate(product("Laptop", 1.0, 100_000, Categories.LAPTOP, null)));
+		assertEquals("Danh mục phải nằm trong danh sách đã cho",
+				RequestRules.PRODUCT.validate(product("Laptop", 1.0, 1, null, null)));
+		assertEquals("Mô tả sản phẩm không được vượt quá 500 ký tự",
+				RequestRules.PRODUCT.validate(product("Laptop", 1.0, 1, Categories.LAPTOP, "x".repeat(501))));
+	}
+
+	@Test
+	@DisplayName("Check - Invalid Request - IllegalArgumentException With Message")
+	void check_Invalid_Throws() {
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+				() -> RequestRules.PRODUCT.check(product("Laptop", 1.0, 1, null, null)));
+
+		assertEquals("Danh mục phải nằm trong danh sách đã cho", e.getMessage());
+	}
+
+	@Test
+	@DisplayName("Login - Username Before Password")
+	void login_UsernameFirst() {
+		assertNull(RequestRules.LOGIN.validate(login("admin", "abc123")));
+		assertEquals("Username is required", RequestRules.LOGIN.validate(login(" \t", "")));
+		assertEquals("Username must be between 3 and 50 characters",
+				RequestRules.LOGIN.validate(login("ab", "abc123")));
+		assertEquals("Invalid username format", RequestRules.LOGIN.validate(login("ad_min", "abc123")));
+		assertEquals("Password is required", RequestRules.LOGIN.validate(login("admin", null)));
+		assertEquals("Password must be between 6 and 100 characters",
+				RequestRules.LOGIN.validate(login("admin", "ab1")));
+		assertEquals("Password must contain at least one letter and one number",
+				RequestRules.LOGIN.validate(login("admin", "abcdef")));
+	}
+
+	@Test
+	@DisplayName("Username And Password - Same Verdict As The Former Regular Expressions")
+	void credentials_MatchFormerPatterns() {
+		List<String> usernames = List.of("admin", "Admin99", "ad min", "ad-min", "adminé", "admin\n", "ａｄｍｉｎ",
+				"١٢٣admin");
+		for (String username : usernames) {
+			assertEquals(username.matches("^[a-zA-Z0-9]+$"), RequestRules.USERNAME.validate(username) == null,
+					username);
+		}
+		List<String> passwords = List.of("abc123", "abc 123", "ábc123", "abcdéf", "١٢٣abc", "abc123\n", "abc\r123",
+				"abc 123", "ABCDE1", "!@#$a1");
+		for (String password : passwords) {
+			assertEquals(password.matches("^(?=.*[a-zA-Z])(?=.*\\d).+$"),
+					RequestRules.PASSWORD.validate(password) == null, password);
+		}
+	}
+
+	@Test
+	@DisplayName("Char Class - Non-ASCII Range Rejected")
+	void charClass_NonAscii_Rejected() {
+		assertThrows(IllegalArgumentException.class, () -> CharClass.ranges('a', 'é'));
+	}
+}
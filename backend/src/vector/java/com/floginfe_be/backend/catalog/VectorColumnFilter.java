@@ -0,0 +1,71 @@
+package com.floginfe_be.backend.catalog;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link ColumnFilter} using the JDK Vector API. Each loop step compares a
+ * full vector of rows and ANDs the resulting lane mask into the row bitmap;
+ * the tail is handled by {@link ScalarColumnFilter}.
+ * <p>
+ * Compiled only by the {@code vector} Maven profile, so default builds carry
+ * no incubator warnings, and only loaded through {@link ColumnFilter#create},
+ * which checks that the incubator module is present first.
+ */
+final class VectorColumnFilter implements ColumnFilter {
+
+	private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+	private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+	private static final VectorSpecies<Byte> BYTES = ByteVector.SPECIES_PREFERRED;
+
+	private final ScalarColumnFilter tail = new ScalarColumnFilter();
+
+	@Override
+	public void priceBetween(double[] prices, int size, double min, double max, long[] mask) {
+		int lanes = DOUBLES.length();
+		int bound = DOUBLES.loopBound(size);
+		for (int i = 0; i < bound; i += lanes) {
+			DoubleVector v = DoubleVector.fromArray(DOUBLES, prices, i);
+			keep(mask, i, lanes, v.compare(VectorOperators.GE, min).and(v.compare(VectorOperators.LE, max)).toLong());
+		}
+		tail.priceBetween(prices, size, min, max, mask, bound);
+	}
+
+	@Override
+	public void quantityBetween(int[] quantities, int size, int min, int max, long[] mask) {
+		int lanes = INTS.length();
+		int bound = INTS.loopBound(size);
+		for (int i = 0; i < bound; i += lanes) {
+			IntVector v = IntVector.fromArray(INTS, quantities, i);
+			keep(mask, i, lanes, v.compare(VectorOperators.GE, min).and(v.compare(VectorOperators.LE, max)).toLong());
+		}
+		tail.quantityBetween(quantities, size, min, max, mask, bound);
+	}
+
+	@Override
+	public void categoryEquals(byte[] categories, int size, byte category, long[] mask) {
+		int lanes = BYTES.length();
+		int bound = BYTES.loopBound(size);
+		for (int i = 0; i < bound; i += lanes) {
+			ByteVector v = ByteVector.fromArray(BYTES, categories, i);
+			keep(mask, i, lanes, v.compare(VectorOperators.EQ, category).toLong());
+		}
+		tail.categoryEquals(categories, size, category, mask, bound);
+	}
+
+	/**
+	 * Clears the bits of rows {@code [row, row + lanes)} whose lane is not set
+	 * in {@code lanesKept}. Lane counts are powers of two no larger than 64 and
+	 * {@code row} is a multiple of the lane count, so the run never straddles
+	 * two words.
+	 */
+	private static void keep(long[] mask, int row, int lanes, long lanesKept) {
+		long all = lanes == 64 ? -1L : (1L << lanes) - 1;
+		mask[row >>> 6] &= ~((~lanesKept & all) << (row & 63));
+	}
+}
@@ -22,6 +22,9 @@ const ProductDashboard = () => {
     const [page, setPage] = useState(0);
     const [size] = useState(10);
     const [totalPages, setTotalPages] = useState(0);
+    // Estimated totals (count=estimated) may overshoot; then only hasNext is reliable
+    const [estimated, setEstimated] = useState(false);
+    const [hasNext, setHasNext] = useState(false);
 
 
 
@@ -47,6 +50,8 @@ const ProductDashboard = () => {
 
             setProducts(items);
             setTotalPages(paged.totalPages ?? 0);
+            setEstimated(Boolean(paged.estimated));
+            setHasNext(Boolean(paged.hasNext));
 
         } catch (err) {
             console.error("Error fetching products:", err);
@@ -207,12 +212,12 @@ const ProductDashboard = () => {
                         </button>
 
                         <span data-testid="pagination-status" style={{ margin: "0 1rem" }}>
-                            Page {page + 1} of {totalPages}
+                            Page {page + 1} of {estimated ? `~${totalPages}` : totalPages}
                         </span>
 
                         <button
                             data-testid="pagination-next"
-                            disabled={page >= totalPages - 1}
+                            disabled={estimated ? !hasNext : page >= totalPages - 1}
                             onClick={() => setPage(page + 1)}
                             className="btn"
                         >